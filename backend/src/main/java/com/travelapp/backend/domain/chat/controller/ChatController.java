@@ -0,0 +1,70 @@
+package com.travelapp.backend.domain.chat.controller;
+
+import com.travelapp.backend.domain.chat.dto.request.ChatMessageRequest;
+import com.travelapp.backend.domain.chat.dto.request.ChatTypingRequest;
+import com.travelapp.backend.domain.chat.service.ChatMessageService;
+import com.travelapp.backend.domain.chat.service.ChatTypingService;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.global.exception.dto.ErrorResponse;
+import jakarta.validation.Valid;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 채팅 STOMP 메시지 처리
+ * 핸드셰이크 시 인증된 사용자(JWT)가 세션의 Principal 이 되며, Principal 이름은 회원 ID
+ * 오류는 보낸 세션의 /user/queue/errors 로 전달
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChatController {
+
+    private static final String ERROR_QUEUE = "/queue/errors";
+
+    private final ChatMessageService chatMessageService;
+    private final ChatTypingService chatTypingService;
+
+    @MessageMapping("/chat.sendMessage")
+    public void sendMessage(@Valid @Payload ChatMessageRequest request, Principal principal) {
+        chatMessageService.send(memberIdOf(principal), request);
+    }
+
+    @MessageMapping("/chat.typing")
+    public void typing(@Valid @Payload ChatTypingRequest request, Principal principal) {
+        chatTypingService.typing(memberIdOf(principal), request.getChatRoomId(), request.isTyping());
+    }
+
+    @MessageExceptionHandler(BusinessException.class)
+    @SendToUser(destinations = ERROR_QUEUE, broadcast = false)
+    public ErrorResponse handleBusinessException(BusinessException e) {
+        log.warn("채팅 메시지 처리 실패: {}", e.getMessage());
+        return ErrorResponse.of(e.getErrorCode(), "/app/chat.sendMessage");
+    }
+
+    @MessageExceptionHandler(MethodArgumentNotValidException.class)
+    @SendToUser(destinations = ERROR_QUEUE, broadcast = false)
+    public ErrorResponse handleInvalidMessage(MethodArgumentNotValidException e) {
+        return ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, "/app/chat.sendMessage");
+    }
+
+    static Long memberIdOf(Principal principal) {
+        if (principal == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        try {
+            return Long.valueOf(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.travelapp.backend.domain.chat.controller;
+
+import com.travelapp.backend.domain.chat.dto.request.ChatReadRequest;
+import com.travelapp.backend.domain.chat.dto.response.ChatMessagePageResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatPresenceResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatReadStatusResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatRoomResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatWriteStatsResponse;
+import com.travelapp.backend.domain.chat.service.ChatHistoryService;
+import com.travelapp.backend.domain.chat.service.ChatMessageWriteBehind;
+import com.travelapp.backend.domain.chat.service.ChatPresenceService;
+import com.travelapp.backend.domain.chat.service.ChatReadReceiptService;
+import com.travelapp.backend.domain.chat.service.ChatRoomService;
+import com.travelapp.backend.global.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "채팅", description = "여행 채팅방과 메시지 이력 조회 API (메시지 전송은 STOMP /app/chat.sendMessage)")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/chat")
+public class ChatRestController {
+
+    private final ChatRoomService chatRoomService;
+    private final ChatHistoryService chatHistoryService;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatReadReceiptService chatReadReceiptService;
+    private final ChatPresenceService chatPresenceService;
+
+    @Operation(summary = "여행 채팅방 조회", description = "여행의 채팅방을 조회합니다. 채팅방이 없으면 생성합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "채팅방 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/rooms/trip/{tripId}")
+    public ResponseEntity<ChatRoomResponse> getChatRoom(
+        @Parameter(description = "여행 ID", example = "1") @PathVariable Long tripId
+    ) {
+        return ResponseEntity.ok(chatRoomService.getOrCreateChatRoom(tripId));
+    }
+
+    @Operation(
+        summary = "채팅 메시지 이력 조회",
+        description = "채팅방 메시지를 최신순으로 조회합니다. 이전 메시지는 응답의 nextCursor 를 before 로 전달하여 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "메시지 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/rooms/{roomId}/messages")
+    public ResponseEntity<ChatMessagePageResponse> getMessages(
+        @Parameter(description = "채팅방 ID", example = "1") @PathVariable Long roomId,
+        @Parameter(description = "이전 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String before,
+        @Parameter(description = "페이지 크기 (최대 50)", example = "30") @RequestParam(defaultValue = "30") int limit
+    ) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+
+        return ResponseEntity.ok(chatHistoryService.getMessages(memberId, roomId, before, limit));
+    }
+
+    @Operation(
+        summary = "채팅 메시지 읽음 처리",
+        description = "채팅방에서 마지막으로 읽은 메시지를 기록합니다. 이전에 읽은 메시지보다 최신일 때만 반영되며, "
+            + "반영되면 /topic/chat/{roomId}/read 로 전달됩니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "읽음 처리 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 메시지 ID"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping("/rooms/{roomId}/read")
+    public ResponseEntity<Void> markRead(
+        @Parameter(description = "채팅방 ID", example = "1") @PathVariable Long roomId,
+        @Valid @RequestBody ChatReadRequest request
+    ) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        chatReadReceiptService.markRead(memberId, roomId, request.getMessageId());
+
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(
+        summary = "채팅방 읽음 상태 조회",
+        description = "참여자별 마지막으로 읽은 메시지와 내가 읽지 않은 메시지 수(최대 999)를 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "읽음 상태 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/rooms/{roomId}/read-status")
+    public ResponseEntity<ChatReadStatusResponse> getReadStatus(
+        @Parameter(description = "채팅방 ID", example = "1") @PathVariable Long roomId
+    ) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+
+        return ResponseEntity.ok(chatReadReceiptService.getReadStatus(memberId, roomId));
+    }
+
+    @Operation(
+        summary = "채팅방 접속 상태 조회",
+        description = "채팅방에 접속 중인 회원을 조회합니다. 이후 변경은 /topic/chat/{roomId}/presence 로 전달됩니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "접속 상태 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/rooms/{roomId}/presence")
+    public ResponseEntity<ChatPresenceResponse> getPresence(
+        @Parameter(description = "채팅방 ID", example = "1") @PathVariable Long roomId
+    ) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+
+        return ResponseEntity.ok(chatPresenceService.getPresence(memberId, roomId));
+    }
+
+    @Operation(
+        summary = "채팅 메시지 저장 통계 조회",
+        description = "이 노드의 저장 대기 메시지 수, 초당 저장 수, 일괄 저장 소요 시간과 저장 지연 시간을 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/write-stats")
+    public ResponseEntity<ChatWriteStatsResponse> getWriteStats() {
+        return ResponseEntity.ok(chatMessageWriteBehind.getStats());
+    }
+
+}
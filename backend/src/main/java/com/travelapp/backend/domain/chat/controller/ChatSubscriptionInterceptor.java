@@ -0,0 +1,41 @@
+package com.travelapp.backend.domain.chat.controller;
+
+import com.travelapp.backend.domain.chat.service.ChatRoomService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 토픽 구독 권한 확인
+ * /topic/chat/{roomId} 와 그 하위 토픽(presence, typing, read 등) SUBSCRIBE 는 채팅방 참여자만 허용하고,
+ * 참여자가 아니면 예외로 구독을 거절 (브로커에 등록되지 않으므로 메시지를 받지 못하고 ERROR 프레임으로 응답)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/topic/chat/(\\d+)(/.*)?$");
+
+    private final ChatRoomService chatRoomService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.SUBSCRIBE || accessor.getDestination() == null) {
+            return message;
+        }
+
+        Matcher matcher = ROOM_DESTINATION.matcher(accessor.getDestination());
+        if (matcher.matches()) {
+            chatRoomService.validateParticipant(Long.valueOf(matcher.group(1)), ChatController.memberIdOf(accessor.getUser()));
+        }
+        return message;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.travelapp.backend.domain.chat.dto.projection;
+
+import com.travelapp.backend.domain.chat.entity.MessageType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅 메시지 이력 조회용 프로젝션
+ * ChatRoom/Member 엔티티를 로딩하지 않고 필요한 컬럼(보낸 사람 닉네임 포함)만 읽음
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageRow {
+
+    private Long id;
+    private Long chatRoomId;
+    private Long senderId;
+    private String senderNickname;
+    private MessageType messageType;
+    private String content;
+    private String imageUrl;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,41 @@
+package com.travelapp.backend.domain.chat.dto.request;
+
+import com.travelapp.backend.domain.chat.entity.MessageType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅 메시지 전송 요청 DTO (STOMP /app/chat.sendMessage)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageRequest {
+
+    @Schema(description = "채팅방 ID", example = "1", requiredMode = RequiredMode.REQUIRED)
+    @NotNull(message = "채팅방 ID는 필수입니다")
+    private Long chatRoomId;
+
+    @Schema(description = "메시지 타입 (기본값 TEXT)", example = "TEXT")
+    private MessageType messageType;
+
+    @Schema(description = "메시지 내용", example = "내일 9시에 만나요")
+    @Size(max = 2000, message = "메시지는 2000자 이하여야 합니다")
+    private String content;
+
+    @Schema(description = "이미지 URL (IMAGE 타입)", example = "https://bucket.s3.amazonaws.com/trips/1/image.jpg")
+    @Size(max = 500, message = "이미지 URL은 500자 이하여야 합니다")
+    private String imageUrl;
+
+    @Schema(description = "위도 (LOCATION 타입)", example = "33.4996")
+    private Double latitude;
+
+    @Schema(description = "경도 (LOCATION 타입)", example = "126.5312")
+    private Double longitude;
+
+}
@@ -0,0 +1,25 @@
+package com.travelapp.backend.domain.chat.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "읽음 표시 요청 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadRequest {
+
+    @Schema(description = "마지막으로 읽은 메시지 ID (문자열 허용)", example = "558146712345673728",
+        type = "string", requiredMode = RequiredMode.REQUIRED)
+    @NotNull(message = "메시지 ID는 필수입니다")
+    @Positive(message = "메시지 ID는 0보다 커야 합니다")
+    private Long messageId;
+
+}
@@ -0,0 +1,25 @@
+package com.travelapp.backend.domain.chat.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "입력 중 표시 요청 DTO (STOMP /app/chat.typing)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatTypingRequest {
+
+    @Schema(description = "채팅방 ID", example = "1", requiredMode = RequiredMode.REQUIRED)
+    @NotNull(message = "채팅방 ID는 필수입니다")
+    private Long chatRoomId;
+
+    @Schema(description = "입력 중 여부 (입력을 멈추거나 지우면 false)", example = "true")
+    private boolean typing;
+
+}
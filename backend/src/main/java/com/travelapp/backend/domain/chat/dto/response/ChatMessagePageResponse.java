@@ -0,0 +1,26 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅 메시지 이력 응답 DTO (커서 기반 페이지, 최신순)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageResponse {
+
+    @Schema(description = "메시지 목록 (최신순)")
+    private List<ChatMessageResponse> content;
+
+    @Schema(description = "이전 메시지 커서 (더 이전 메시지가 없으면 null)", example = "MjAyNS0wNi0wMVQxMjowMHw1NTgxNDY3MTIzNDU2NzM3Mjg")
+    private String nextCursor;
+
+    @Schema(description = "이전 메시지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+}
@@ -0,0 +1,94 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.travelapp.backend.domain.chat.dto.projection.ChatMessageRow;
+import com.travelapp.backend.domain.chat.entity.MessageType;
+import com.travelapp.backend.domain.chat.service.PendingChatMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅 메시지 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageResponse {
+
+    /**
+     * TSID 는 자바스크립트 Number 범위(2^53)를 넘으므로 문자열로 내려줌
+     */
+    @Schema(description = "메시지 ID (시간순 TSID, 문자열)", example = "558146712345673728", type = "string")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long id;
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+
+    @Schema(description = "보낸 사람 ID", example = "1")
+    private Long senderId;
+
+    @Schema(description = "보낸 사람 닉네임", example = "여행자")
+    private String senderNickname;
+
+    @Schema(description = "메시지 타입", example = "TEXT")
+    private MessageType messageType;
+
+    @Schema(description = "메시지 내용", example = "내일 9시에 만나요")
+    private String content;
+
+    @Schema(description = "이미지 URL (IMAGE 타입)")
+    private String imageUrl;
+
+    @Schema(description = "위도 (LOCATION 타입)", example = "33.4996")
+    private Double latitude;
+
+    @Schema(description = "경도 (LOCATION 타입)", example = "126.5312")
+    private Double longitude;
+
+    @Schema(description = "보낸 시간", example = "2024-12-25T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "보낸 사람을 제외하고 읽은 참여자 수 (읽음 워터마크로 계산)", example = "2")
+    private Integer readCount;
+
+    public static ChatMessageResponse of(PendingChatMessage message, String senderNickname) {
+        return ChatMessageResponse.builder()
+            .id(message.id())
+            .chatRoomId(message.chatRoomId())
+            .senderId(message.senderId())
+            .senderNickname(senderNickname)
+            .messageType(message.messageType())
+            .content(message.content())
+            .imageUrl(message.imageUrl())
+            .latitude(message.latitude())
+            .longitude(message.longitude())
+            .createdAt(message.createdAt())
+            .readCount(0)
+            .build();
+    }
+
+    public static ChatMessageResponse of(ChatMessageRow row) {
+        return ChatMessageResponse.builder()
+            .id(row.getId())
+            .chatRoomId(row.getChatRoomId())
+            .senderId(row.getSenderId())
+            .senderNickname(row.getSenderNickname())
+            .messageType(row.getMessageType())
+            .content(row.getContent())
+            .imageUrl(row.getImageUrl())
+            .latitude(row.getLatitude())
+            .longitude(row.getLongitude())
+            .createdAt(row.getCreatedAt())
+            .build();
+    }
+
+    public void updateReadCount(int readCount) {
+        this.readCount = readCount;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "접속 상태 변경 DTO (STOMP /topic/chat/{roomId}/presence)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatPresenceEventResponse {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "접속 여부 (false 면 채팅방의 마지막 세션이 끊기거나 만료됨)", example = "true")
+    private boolean online;
+
+}
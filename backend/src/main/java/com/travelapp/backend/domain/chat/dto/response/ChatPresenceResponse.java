@@ -0,0 +1,23 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅방 접속 상태 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatPresenceResponse {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+
+    @Schema(description = "채팅방에 접속 중인 회원 ID 목록", example = "[1, 2]")
+    private List<Long> onlineMemberIds;
+
+}
@@ -0,0 +1,33 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅방 읽음 상태 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadStatusResponse {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+
+    @Schema(description = "내가 마지막으로 읽은 메시지 ID (읽은 적 없으면 null)", example = "558146712345673728",
+        type = "string")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long lastReadMessageId;
+
+    @Schema(description = "읽지 않은 메시지 수 (최대 999)", example = "12")
+    private Integer unreadCount;
+
+    @Schema(description = "참여자별 읽음 워터마크 (메시지 ID 이하의 메시지는 읽음)")
+    private List<ChatReadWatermarkResponse> watermarks;
+
+}
@@ -0,0 +1,28 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "읽음 워터마크 응답 DTO (STOMP /topic/chat/{roomId}/read 로도 전달)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadWatermarkResponse {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "마지막으로 읽은 메시지 ID (문자열)", example = "558146712345673728", type = "string")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long lastReadMessageId;
+
+}
@@ -0,0 +1,43 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import com.travelapp.backend.domain.chat.entity.ChatRoom;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅방 정보 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomResponse {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "여행 ID", example = "1")
+    private Long tripId;
+
+    @Schema(description = "채팅방 이름", example = "제주도 3박 4일 여행")
+    private String name;
+
+    @Schema(description = "생성 일시", example = "2024-12-25T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "마지막 메시지 시간 (일괄 저장 주기만큼 늦게 반영될 수 있음)", example = "2024-12-25T10:30:00")
+    private LocalDateTime lastMessageAt;
+
+    public static ChatRoomResponse of(ChatRoom chatRoom, Long tripId) {
+        return ChatRoomResponse.builder()
+            .id(chatRoom.getId())
+            .tripId(tripId)
+            .name(chatRoom.getName())
+            .createdAt(chatRoom.getCreatedAt())
+            .lastMessageAt(chatRoom.getLastMessageAt())
+            .build();
+    }
+
+}
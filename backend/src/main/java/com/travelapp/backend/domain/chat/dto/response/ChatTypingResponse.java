@@ -0,0 +1,29 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "입력 중 표시 DTO (STOMP /topic/chat/{roomId}/typing, 저장되지 않음)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatTypingResponse {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+
+    @Schema(description = "입력을 시작했거나 계속 입력 중인 회원 ID 목록", example = "[2]")
+    private List<Long> typingMemberIds;
+
+    @Schema(description = "입력을 멈춘 회원 ID 목록", example = "[3]")
+    private List<Long> stoppedMemberIds;
+
+    @Schema(description = "다시 알림이 없으면 입력 중 표시를 지울 때까지의 시간 (ms)", example = "6000")
+    private long expiresInMillis;
+
+}
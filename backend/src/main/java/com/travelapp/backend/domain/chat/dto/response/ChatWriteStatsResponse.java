@@ -0,0 +1,61 @@
+package com.travelapp.backend.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅 메시지 일괄 저장 통계 응답 DTO (이 노드 기준)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatWriteStatsResponse {
+
+    @Schema(description = "저장 대기 중인 메시지 수", example = "42")
+    private Integer bufferedMessages;
+
+    @Schema(description = "저장 대기 버퍼 크기", example = "10000")
+    private Integer bufferCapacity;
+
+    @Schema(description = "버퍼에 추가된 메시지 수", example = "120345")
+    private Long enqueued;
+
+    @Schema(description = "저장된 메시지 수", example = "120303")
+    private Long persisted;
+
+    @Schema(description = "버퍼가 가득 차 거절된 메시지 수", example = "0")
+    private Long rejected;
+
+    @Schema(description = "반복 실패로 저장하지 못한 메시지 수", example = "0")
+    private Long dropped;
+
+    @Schema(description = "일괄 저장 횟수", example = "812")
+    private Long flushes;
+
+    @Schema(description = "실패한 일괄 저장 횟수", example = "1")
+    private Long failedFlushes;
+
+    @Schema(description = "채팅방 마지막 메시지 시간 갱신 횟수 (일괄 저장마다 채팅방당 1회)", example = "1530")
+    private Long roomUpdates;
+
+    @Schema(description = "일괄 저장당 평균 메시지 수", example = "148.2")
+    private Double averageBatchSize;
+
+    @Schema(description = "마지막 일괄 저장 소요 시간 (ms)", example = "4")
+    private Long lastFlushMillis;
+
+    @Schema(description = "최대 일괄 저장 소요 시간 (ms)", example = "37")
+    private Long maxFlushMillis;
+
+    @Schema(description = "평균 일괄 저장 소요 시간 (ms)", example = "3.7")
+    private Double averageFlushMillis;
+
+    @Schema(description = "버퍼 추가부터 저장 완료까지 최대 지연 시간 (ms)", example = "240")
+    private Long maxPersistDelayMillis;
+
+    @Schema(description = "기동 이후 초당 저장 메시지 수", example = "512.4")
+    private Double persistedPerSecond;
+
+}
@@ -6,14 +6,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import java.awt.TrayIcon.MessageType;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -28,12 +25,16 @@ import org.hibernate.annotations.CreationTimestamp;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "chat_message", indexes = {
-    @Index(name = "idx_chat_room_created", columnList = "chat_room_id, created_at")
+    // 이전 메시지 keyset 조회 (chat_room_id = ? ORDER BY created_at DESC, id DESC) 를 정렬 없이 인덱스 순서대로 읽음
+    @Index(name = "idx_chat_room_created", columnList = "chat_room_id, created_at DESC, id DESC")
 })
 public class ChatMessage {
 
+    /**
+     * 시간순 TSID (애플리케이션에서 발급)
+     * IDENTITY 는 Hibernate/JDBC 일괄 INSERT 를 막으므로 ChatMessageWriteBehind 가 다중 행 INSERT 로 저장할 수 있도록 미리 발급
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -77,7 +78,8 @@ public class ChatMessage {
     private LocalDateTime createdAt;
 
     /**
-     * 읽은 사람 수 (비정규화 - 성능 최적화)
+     * 읽은 사람 수 (사용하지 않음)
+     * 메시지마다 행을 갱신하지 않고 읽음 워터마크로 계산 (ChatReadReceiptService)
      */
     @Column(nullable = false)
     @Builder.Default
@@ -90,13 +92,6 @@ public class ChatMessage {
     @Builder.Default
     private Boolean deleted = false;
 
-    /**
-     * 읽은 사람 수 증가
-     */
-    public void incrementReadCount() {
-        this.readCount++;
-    }
-
     public void delete() {
         this.deleted = true;
         this.content = "삭제된 메시지입니다.";
@@ -0,0 +1,60 @@
+package com.travelapp.backend.domain.chat.entity;
+
+import com.travelapp.backend.domain.member.entity.Member;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방별 회원의 마지막 읽은 메시지 (읽음 워터마크) 스냅샷
+ * 최신 값은 Redis(chat:read:{roomId}) 에 있고, ChatReadReceiptService 가 주기적으로 이 테이블에 반영
+ * Redis 에 값이 없으면 (재시작, 만료) 이 테이블에서 다시 불러옴
+ */
+@Entity
+@Table(
+    name = "chat_read_watermark",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_read_watermark_room_member", columnNames = {"chat_room_id", "member_id"})
+    }
+)
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id", nullable = false)
+    private ChatRoom chatRoom;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    /**
+     * 마지막으로 읽은 메시지 ID (이 ID 이하의 메시지는 모두 읽음)
+     */
+    @Column(nullable = false)
+    private Long lastReadMessageId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,16 @@
+package com.travelapp.backend.domain.chat.exception;
+
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+
+public class ChatRoomAccessDeniedException extends BusinessException {
+
+    public ChatRoomAccessDeniedException() {
+        super(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
+    }
+
+    public ChatRoomAccessDeniedException(String message) {
+        super(ErrorCode.CHAT_ROOM_ACCESS_DENIED, message);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.travelapp.backend.domain.chat.exception;
+
+import com.travelapp.backend.global.exception.EntityNotFoundException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+
+public class ChatRoomNotFoundException extends EntityNotFoundException {
+
+    public ChatRoomNotFoundException() {
+        super(ErrorCode.CHAT_ROOM_NOT_FOUND);
+    }
+
+    public ChatRoomNotFoundException(String message) {
+        super(ErrorCode.CHAT_ROOM_NOT_FOUND, message);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.travelapp.backend.domain.chat.exception;
+
+import com.travelapp.backend.global.exception.InvalidValueException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+
+public class InvalidChatCursorException extends InvalidValueException {
+
+    public InvalidChatCursorException() {
+        super(ErrorCode.INVALID_CHAT_CURSOR);
+    }
+
+    public InvalidChatCursorException(String cursor) {
+        super(ErrorCode.INVALID_CHAT_CURSOR, "커서: " + cursor);
+    }
+
+}
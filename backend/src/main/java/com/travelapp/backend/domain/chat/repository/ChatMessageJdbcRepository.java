@@ -0,0 +1,109 @@
+package com.travelapp.backend.domain.chat.repository;
+
+import com.travelapp.backend.domain.chat.service.PendingChatMessage;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채팅 메시지 일괄 저장용 JDBC 저장소
+ * 메시지 ID 를 미리 발급하므로 JPA 를 거치지 않고 다중 행 INSERT 한 번으로 여러 메시지를 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    /**
+     * INSERT 문 하나에 넣는 최대 행 수 (행마다 PARAMETERS_PER_ROW(9)개, 문 하나에 바인딩 변수 2,250개)
+     */
+    static final int ROWS_PER_STATEMENT = 250;
+
+    private static final String INSERT_PREFIX = "INSERT INTO chat_message "
+        + "(id, chat_room_id, sender_id, message_type, content, image_url, latitude, longitude, "
+        + "created_at, read_count, deleted) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false)";
+    private static final int PARAMETERS_PER_ROW = 9;
+
+    private static final String UPDATE_LAST_MESSAGE_AT = "UPDATE chat_room SET last_message_at = ? "
+        + "WHERE id = ? AND (last_message_at IS NULL OR last_message_at < ?)";
+
+    private static final String COUNT_UNREAD = "SELECT COUNT(*) FROM (SELECT 1 FROM chat_message "
+        + "WHERE chat_room_id = ? AND created_at >= ? AND id > ? AND sender_id <> ? LIMIT ?) unread";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지를 다중 행 INSERT 로 저장 (ROWS_PER_STATEMENT 단위로 나누어 실행)
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<PendingChatMessage> messages) {
+        int inserted = 0;
+        for (int from = 0; from < messages.size(); from += ROWS_PER_STATEMENT) {
+            List<PendingChatMessage> chunk = messages.subList(from, Math.min(from + ROWS_PER_STATEMENT, messages.size()));
+            inserted += jdbcTemplate.update(insertSql(chunk.size()), parameters(chunk));
+        }
+        return inserted;
+    }
+
+    /**
+     * 채팅방별 마지막 메시지 시간 갱신 (채팅방당 한 번, 더 최신 값으로만 갱신)
+     */
+    public void updateLastMessageAt(Map<Long, LocalDateTime> lastMessageAtByRoom) {
+        if (lastMessageAtByRoom.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> arguments = new ArrayList<>(lastMessageAtByRoom.size());
+        lastMessageAtByRoom.forEach((chatRoomId, lastMessageAt) -> {
+            Timestamp timestamp = Timestamp.valueOf(lastMessageAt);
+            arguments.add(new Object[]{timestamp, chatRoomId, timestamp});
+        });
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_AT, arguments);
+    }
+
+    /**
+     * 워터마크 이후 다른 회원이 보낸 메시지 수 (최대 limit 건까지만 셈)
+     * @param createdAtFloor 워터마크 발급 시각보다 이른 하한 (chat_room_id, created_at 인덱스 범위로 읽기 위함)
+     */
+    public int countUnread(Long chatRoomId, Long memberId, long lastReadMessageId, LocalDateTime createdAtFloor,
+        int limit) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_UNREAD, Integer.class,
+            chatRoomId, Timestamp.valueOf(createdAtFloor), lastReadMessageId, memberId, limit);
+        return count != null ? count : 0;
+    }
+
+    private String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2))
+            .append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private Object[] parameters(List<PendingChatMessage> chunk) {
+        Object[] parameters = new Object[chunk.size() * PARAMETERS_PER_ROW];
+        int i = 0;
+        for (PendingChatMessage message : chunk) {
+            parameters[i++] = message.id();
+            parameters[i++] = message.chatRoomId();
+            parameters[i++] = message.senderId();
+            parameters[i++] = message.messageType().name();
+            parameters[i++] = message.content();
+            parameters[i++] = message.imageUrl();
+            parameters[i++] = message.latitude();
+            parameters[i++] = message.longitude();
+            parameters[i++] = Timestamp.valueOf(message.createdAt());
+        }
+        return parameters;
+    }
+
+}
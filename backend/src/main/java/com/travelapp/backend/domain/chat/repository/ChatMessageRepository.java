@@ -0,0 +1,41 @@
+package com.travelapp.backend.domain.chat.repository;
+
+import com.travelapp.backend.domain.chat.dto.projection.ChatMessageRow;
+import com.travelapp.backend.domain.chat.entity.ChatMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    /**
+     * 채팅방의 최신 메시지 조회 (최신순)
+     */
+    @Query("SELECT new com.travelapp.backend.domain.chat.dto.projection.ChatMessageRow("
+        + "m.id, m.chatRoom.id, m.member.id, mb.nickname, m.messageType, m.content, m.imageUrl, "
+        + "m.latitude, m.longitude, m.createdAt) "
+        + "FROM ChatMessage m JOIN m.member mb "
+        + "WHERE m.chatRoom.id = :chatRoomId "
+        + "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessageRow> findLatestRows(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+    /**
+     * 커서 (생성 시각, ID) 이전 메시지 조회 (최신순, keyset)
+     * created_at <= :createdAt 조건으로 인덱스 범위를 커서 위치부터 시작하므로 페이지 깊이와 관계없이 일정한 비용
+     */
+    @Query("SELECT new com.travelapp.backend.domain.chat.dto.projection.ChatMessageRow("
+        + "m.id, m.chatRoom.id, m.member.id, mb.nickname, m.messageType, m.content, m.imageUrl, "
+        + "m.latitude, m.longitude, m.createdAt) "
+        + "FROM ChatMessage m JOIN m.member mb "
+        + "WHERE m.chatRoom.id = :chatRoomId AND m.createdAt <= :createdAt "
+        + "AND (m.createdAt < :createdAt OR m.id < :id) "
+        + "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessageRow> findRowsBefore(@Param("chatRoomId") Long chatRoomId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+}
@@ -0,0 +1,29 @@
+package com.travelapp.backend.domain.chat.repository;
+
+import com.travelapp.backend.domain.chat.entity.ChatReadWatermark;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatReadWatermarkRepository extends JpaRepository<ChatReadWatermark, Long> {
+
+    List<ChatReadWatermark> findByChatRoomId(Long chatRoomId);
+
+    /**
+     * 워터마크 저장 (없으면 추가, 있으면 더 큰 값으로만 갱신)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_read_watermark (chat_room_id, member_id, last_read_message_id, updated_at) "
+        + "VALUES (:chatRoomId, :memberId, :lastReadMessageId, :now) "
+        + "ON DUPLICATE KEY UPDATE "
+        + "last_read_message_id = GREATEST(last_read_message_id, VALUES(last_read_message_id)), "
+        + "updated_at = VALUES(updated_at)", nativeQuery = true)
+    int upsert(@Param("chatRoomId") Long chatRoomId, @Param("memberId") Long memberId,
+        @Param("lastReadMessageId") Long lastReadMessageId, @Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,21 @@
+package com.travelapp.backend.domain.chat.repository;
+
+import com.travelapp.backend.domain.chat.entity.ChatRoom;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
+
+    Optional<ChatRoom> findByTripId(Long tripId);
+
+    /**
+     * 활성화된 채팅방의 여행 소유자 ID 조회 (채팅방 참여 권한 확인용, 엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT t.member.id FROM ChatRoom cr JOIN cr.trip t WHERE cr.id = :chatRoomId AND cr.active = true")
+    Optional<Long> findActiveOwnerIdById(@Param("chatRoomId") Long chatRoomId);
+
+}
@@ -0,0 +1,58 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.exception.InvalidChatCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅 메시지 이력 keyset 커서
+ * 마지막으로 내려준 메시지의 (생성 시각, ID) 를 불투명 문자열로 인코딩
+ */
+final class ChatHistoryCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private ChatHistoryCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    static ChatHistoryCursor after(ChatMessageResponse last) {
+        return new ChatHistoryCursor(last.getCreatedAt(), last.getId());
+    }
+
+    static ChatHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+
+            if (parts.length != 2) {
+                throw new InvalidChatCursorException(cursor);
+            }
+            return new ChatHistoryCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (InvalidChatCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidChatCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+}
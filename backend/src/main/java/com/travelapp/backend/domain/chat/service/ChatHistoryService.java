@@ -0,0 +1,104 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatMessagePageResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.repository.ChatMessageRepository;
+import com.travelapp.backend.domain.chat.service.ChatRecentMessageCache.RecentMessages;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅 메시지 이력 조회 (keyset 페이지네이션, 최신순)
+ * 첫 페이지는 Redis 최근 메시지 캐시에서 제공하고, 캐시가 부족하면 이어지는 메시지만 DB 에서 읽어 캐시를 채움
+ * (이 노드의 저장 버퍼에 채팅방 메시지가 남아 있으면 DB 에 빠진 구간이 있을 수 있으므로 캐시를 채우지 않음 -
+ *  다른 노드의 버퍼는 ChatRecentMessageCache 의 채우기 유예로 대비)
+ * 이전 페이지는 (created_at, id) 커서로 인덱스를 바로 찾아 읽으므로 페이지 깊이와 관계없이 일정한 비용
+ * 캐시만으로 응답할 때 DB 커넥션을 잡지 않도록 트랜잭션을 사용하지 않음 (조회 쿼리는 저장소의 읽기 전용 트랜잭션)
+ * 메시지별 읽은 수는 저장하지 않고 응답할 때 읽음 워터마크로 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryService {
+
+    static final int MAX_PAGE_SIZE = 50;
+
+    private final ChatRoomService chatRoomService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ChatReadReceiptService chatReadReceiptService;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+
+    /**
+     * 채팅 메시지 이력 조회
+     * @param before 이전 페이지 커서 (없으면 최신 메시지부터)
+     */
+    public ChatMessagePageResponse getMessages(Long memberId, Long chatRoomId, String before, int limit) {
+        chatRoomService.validateParticipant(chatRoomId, memberId);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        ChatMessagePageResponse page = findMessages(chatRoomId, before, pageSize);
+        chatReadReceiptService.applyReadCounts(chatRoomId, page.getContent());
+        return page;
+    }
+
+    private ChatMessagePageResponse findMessages(Long chatRoomId, String before, int pageSize) {
+        if (before != null && !before.isBlank()) {
+            return toResponse(findPage(chatRoomId, ChatHistoryCursor.decode(before), pageSize + 1), pageSize);
+        }
+
+        RecentMessages cached = chatRecentMessageCache.read(chatRoomId, pageSize + 1);
+        if (cached == null) {
+            return toResponse(findPage(chatRoomId, null, pageSize + 1), pageSize);
+        }
+        if (cached.complete() || cached.messages().size() > pageSize) {
+            return toResponse(cached.messages(), pageSize);
+        }
+
+        // 캐시된 구간에 이어지는 이전 메시지만 DB 에서 읽고 캐시를 채움
+        // DB 를 읽기 전에 확인해야 읽은 뒤 저장된 메시지를 빠뜨린 채로 채우지 않음
+        boolean settled = !chatMessageWriteBehind.hasUnflushed(chatRoomId);
+        List<ChatMessageResponse> messages = new ArrayList<>(cached.messages());
+        ChatHistoryCursor cursor = messages.isEmpty() ? null : ChatHistoryCursor.after(messages.get(messages.size() - 1));
+        int remaining = pageSize + 1 - messages.size();
+        List<ChatMessageResponse> older = findPage(chatRoomId, cursor, remaining);
+
+        if (settled) {
+            chatRecentMessageCache.backfill(chatRoomId, cached, older, older.size() < remaining);
+        }
+        messages.addAll(older);
+        return toResponse(messages, pageSize);
+    }
+
+    private List<ChatMessageResponse> findPage(Long chatRoomId, ChatHistoryCursor cursor, int limit) {
+        PageRequest page = PageRequest.ofSize(limit);
+
+        return (cursor == null
+            ? chatMessageRepository.findLatestRows(chatRoomId, page)
+            : chatMessageRepository.findRowsBefore(chatRoomId, cursor.getCreatedAt(), cursor.getId(), page))
+            .stream()
+            .map(ChatMessageResponse::of)
+            .toList();
+    }
+
+    /**
+     * pageSize + 1 건까지 담긴 목록을 응답으로 변환
+     */
+    private static ChatMessagePageResponse toResponse(List<ChatMessageResponse> items, int pageSize) {
+        boolean hasNext = items.size() > pageSize;
+        List<ChatMessageResponse> content = hasNext ? items.subList(0, pageSize) : items;
+
+        String nextCursor = hasNext
+            ? ChatHistoryCursor.after(content.get(content.size() - 1)).encode()
+            : null;
+
+        return ChatMessagePageResponse.builder()
+            .content(content)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+
+}
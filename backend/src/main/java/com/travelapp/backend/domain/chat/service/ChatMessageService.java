@@ -0,0 +1,118 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.request.ChatMessageRequest;
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.entity.MessageType;
+import com.travelapp.backend.domain.member.exception.MemberNotFoundException;
+import com.travelapp.backend.domain.member.repository.MemberRepository;
+import com.travelapp.backend.global.cache.LocalLruCache;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.global.util.TsidGenerator;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * 채팅 메시지 전송
+ * 권한 확인 후 메시지 ID 를 발급하여 저장 버퍼와 최근 메시지 캐시에 넣고 바로 브로드캐스트
+ * (DB 저장은 ChatMessageWriteBehind 가 일괄 처리)
+ */
+@Service
+public class ChatMessageService {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/chat/";
+
+    private final ChatRoomService chatRoomService;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final MemberRepository memberRepository;
+    private final RedisStompRelay redisStompRelay;
+    private final TsidGenerator tsidGenerator;
+    private final LocalLruCache<Long, String> nicknameCache;
+
+    public ChatMessageService(
+        ChatRoomService chatRoomService,
+        ChatMessageWriteBehind chatMessageWriteBehind,
+        ChatRecentMessageCache chatRecentMessageCache,
+        MemberRepository memberRepository,
+        RedisStompRelay redisStompRelay,
+        TsidGenerator tsidGenerator,
+        @Value("${chat.nickname-cache.max-size:10000}") int nicknameCacheMaxSize,
+        @Value("${chat.nickname-cache.ttl-seconds:300}") long nicknameCacheTtlSeconds
+    ) {
+        this.chatRoomService = chatRoomService;
+        this.chatMessageWriteBehind = chatMessageWriteBehind;
+        this.chatRecentMessageCache = chatRecentMessageCache;
+        this.memberRepository = memberRepository;
+        this.redisStompRelay = redisStompRelay;
+        this.tsidGenerator = tsidGenerator;
+        this.nicknameCache = new LocalLruCache<>(nicknameCacheMaxSize, Duration.ofSeconds(nicknameCacheTtlSeconds));
+    }
+
+    public static String roomTopic(Long chatRoomId) {
+        return ROOM_TOPIC_PREFIX + chatRoomId;
+    }
+
+    /**
+     * 메시지 전송 (저장 버퍼가 가득 차면 브로드캐스트하지 않고 SERVER_BUSY)
+     */
+    public ChatMessageResponse send(Long senderId, ChatMessageRequest request) {
+        chatRoomService.validateParticipant(request.getChatRoomId(), senderId);
+
+        MessageType messageType = request.getMessageType() != null ? request.getMessageType() : MessageType.TEXT;
+        validateContent(messageType, request);
+        String nickname = findNickname(senderId);
+
+        PendingChatMessage message = new PendingChatMessage(
+            tsidGenerator.next(),
+            request.getChatRoomId(),
+            senderId,
+            messageType,
+            request.getContent() != null ? request.getContent() : "",
+            request.getImageUrl(),
+            request.getLatitude(),
+            request.getLongitude(),
+            // DB 에 저장되는 정밀도(마이크로초)와 맞춰 캐시/브로드캐스트 값으로 만든 커서도 DB 와 같게 비교되도록 함
+            LocalDateTime.now().truncatedTo(ChronoUnit.MICROS),
+            System.nanoTime()
+        );
+        ChatMessageResponse response = ChatMessageResponse.of(message, nickname);
+
+        // 실패할 수 있는 작업은 모두 끝낸 뒤 버퍼에 추가 (추가 후 예외로 전송 실패를 응답하면 재전송 시 중복 저장됨)
+        chatMessageWriteBehind.append(message);
+
+        // 브로드캐스트를 받은 직후 이력을 다시 조회해도 포함되도록 캐시에 먼저 추가
+        chatRecentMessageCache.push(response);
+        redisStompRelay.publish(roomTopic(message.chatRoomId()), response);
+        return response;
+    }
+
+    private void validateContent(MessageType messageType, ChatMessageRequest request) {
+        boolean valid = switch (messageType) {
+            case IMAGE -> StringUtils.hasText(request.getImageUrl());
+            case LOCATION -> request.getLatitude() != null && request.getLongitude() != null;
+            case SYSTEM -> false;
+            default -> StringUtils.hasText(request.getContent());
+        };
+
+        if (!valid) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private String findNickname(Long memberId) {
+        String nickname = nicknameCache.get(memberId);
+        if (nickname == null) {
+            nickname = memberRepository.findNicknameById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
+            nicknameCache.put(memberId, nickname);
+        }
+        return nickname;
+    }
+
+}
@@ -0,0 +1,268 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatWriteStatsResponse;
+import com.travelapp.backend.domain.chat.repository.ChatMessageJdbcRepository;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.global.util.TsidGenerator;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 지연 일괄 저장 (write-behind)
+ * 메시지는 브로드캐스트와 동시에 고정 크기 버퍼에 넣고, flush-interval 마다 batch-size 단위로 꺼내
+ * 다중 행 INSERT 와 채팅방별 마지막 메시지 시간 갱신(채팅방당 1회)을 한 트랜잭션으로 저장
+ * - 버퍼가 가득 차면 메시지를 받지 않고 SERVER_BUSY 로 거절 (브로드캐스트 전에 거절되므로 저장되지 않는 메시지는 전달되지 않음)
+ * - 저장에 실패한 묶음은 버리지 않고 다음 주기에 먼저 다시 저장하고, max-attempts 번 실패하면 한 건씩 저장하여
+ *   제약 조건을 위반하는 메시지만 제외
+ * - 종료 시 남은 메시지를 모두 저장
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind {
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingChatMessage> buffer;
+    private final int capacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long startedAtNanos = System.nanoTime();
+
+    // 채팅방 ID → 버퍼에 추가했지만 아직 저장하지 않은 메시지 수 (0 이 되면 제거)
+    private final Map<Long, Integer> unflushedByRoom = new ConcurrentHashMap<>();
+
+    // flush() 에서만 접근 (synchronized)
+    private List<PendingChatMessage> retryBatch = List.of();
+    private int retryAttempts;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final LongAdder roomUpdates = new LongAdder();
+    private final LongAdder totalFlushNanos = new LongAdder();
+    private final LongAccumulator maxFlushNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxPersistDelayNanos = new LongAccumulator(Math::max, 0);
+    private volatile long lastFlushNanos;
+
+    public ChatMessageWriteBehind(
+        ChatMessageJdbcRepository chatMessageJdbcRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.write.buffer-capacity:10000}") int capacity,
+        @Value("${chat.write.batch-size:500}") int batchSize,
+        @Value("${chat.write.max-attempts:3}") int maxAttempts
+    ) {
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 저장 대기 버퍼에 추가 (버퍼가 가득 차면 SERVER_BUSY)
+     */
+    public void append(PendingChatMessage message) {
+        // flush 가 꺼내 저장한 뒤 줄이기 전에 늘려 두어야 음수가 되지 않음
+        addUnflushed(message.chatRoomId(), 1);
+        if (!buffer.offer(message)) {
+            addUnflushed(message.chatRoomId(), -1);
+            rejected.increment();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+        enqueued.increment();
+    }
+
+    /**
+     * 이 노드의 버퍼에 채팅방의 저장되지 않은 메시지가 있는지 여부 (재시도 대기 중인 묶음 포함)
+     */
+    public boolean hasUnflushed(Long chatRoomId) {
+        return unflushedByRoom.containsKey(chatRoomId);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.write.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("채팅 메시지 일괄 저장 실패 - 다음 주기에 재시도 ({} 건): {}", retryBatch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼가 빌 때까지 batch-size 단위로 저장
+     * @return 저장한 메시지 수
+     */
+    public synchronized int flush() {
+        int flushed = 0;
+
+        while (true) {
+            List<PendingChatMessage> batch = retryBatch.isEmpty() ? drain() : retryBatch;
+            if (batch.isEmpty()) {
+                return flushed;
+            }
+
+            if (retryAttempts >= maxAttempts) {
+                flushed += persistIndividually(batch);
+            } else {
+                retryBatch = batch;
+                persistBatch(batch);
+                flushed += batch.size();
+            }
+            retryBatch = List.of();
+            retryAttempts = 0;
+
+            // 가득 채우지 못한 묶음이면 버퍼가 비었으므로 다음 주기까지 대기
+            if (batch.size() < batchSize) {
+                return flushed;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            int flushed = flush();
+            if (flushed > 0) {
+                log.info("종료 전 채팅 메시지 {} 건 저장", flushed);
+            }
+        } catch (Exception e) {
+            log.error("종료 전 채팅 메시지 저장 실패 - {} 건 유실", retryBatch.size() + buffer.size(), e);
+        }
+    }
+
+    public ChatWriteStatsResponse getStats() {
+        long flushCount = flushes.sum();
+        long persistedCount = persisted.sum();
+        double elapsedSeconds = (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+
+        return ChatWriteStatsResponse.builder()
+            .bufferedMessages(buffer.size())
+            .bufferCapacity(capacity)
+            .enqueued(enqueued.sum())
+            .persisted(persistedCount)
+            .rejected(rejected.sum())
+            .dropped(dropped.sum())
+            .flushes(flushCount)
+            .failedFlushes(failedFlushes.sum())
+            .roomUpdates(roomUpdates.sum())
+            .averageBatchSize(flushCount == 0 ? 0.0 : (double) persistedCount / flushCount)
+            .lastFlushMillis(TimeUnit.NANOSECONDS.toMillis(lastFlushNanos))
+            .maxFlushMillis(TimeUnit.NANOSECONDS.toMillis(maxFlushNanos.get()))
+            .averageFlushMillis(flushCount == 0 ? 0.0 : totalFlushNanos.sum() / 1_000_000.0 / flushCount)
+            .maxPersistDelayMillis(TimeUnit.NANOSECONDS.toMillis(maxPersistDelayNanos.get()))
+            .persistedPerSecond(elapsedSeconds == 0 ? 0.0 : persistedCount / elapsedSeconds)
+            .build();
+    }
+
+    private List<PendingChatMessage> drain() {
+        List<PendingChatMessage> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+        buffer.drainTo(batch, batchSize);
+        return batch;
+    }
+
+    private void persistBatch(List<PendingChatMessage> batch) {
+        Map<Long, LocalDateTime> lastMessageAtByRoom = lastMessageAtByRoom(batch);
+        long start = System.nanoTime();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chatMessageJdbcRepository.insertAll(batch);
+                chatMessageJdbcRepository.updateLastMessageAt(lastMessageAtByRoom);
+            });
+        } catch (RuntimeException e) {
+            retryAttempts++;
+            failedFlushes.increment();
+            throw e;
+        }
+
+        recordFlush(batch, lastMessageAtByRoom.size(), start);
+    }
+
+    /**
+     * 반복 실패한 묶음을 한 건씩 저장하여 제약 조건을 위반하는 메시지(삭제된 채팅방 등)만 제외
+     * 그 밖의 오류(DB 연결 실패 등)는 남은 메시지를 다음 주기에 다시 저장하도록 보관
+     */
+    private int persistIndividually(List<PendingChatMessage> batch) {
+        int saved = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            PendingChatMessage message = batch.get(i);
+            try {
+                persistBatch(List.of(message));
+                saved++;
+            } catch (DuplicateKeyException e) {
+                // 이전 시도가 커밋된 뒤 실패로 보고되었거나, 다른 노드가 같은 메시지 ID 를 발급한 경우 (노드 ID 임대 확인 필요)
+                dropped.increment();
+                addUnflushed(message.chatRoomId(), -1);
+                log.error("채팅 메시지 ID 중복 - 제외: 메시지 ID {}, 채팅방 ID {}, 노드 ID {}",
+                    message.id(), message.chatRoomId(), TsidGenerator.nodeIdOf(message.id()));
+            } catch (DataIntegrityViolationException e) {
+                dropped.increment();
+                addUnflushed(message.chatRoomId(), -1);
+                log.error("채팅 메시지 저장 불가 - 제외: 메시지 ID {}, 채팅방 ID {}, 원인: {}",
+                    message.id(), message.chatRoomId(), e.getMessage());
+            } catch (RuntimeException e) {
+                retryBatch = List.copyOf(batch.subList(i, batch.size()));
+                throw e;
+            }
+        }
+        return saved;
+    }
+
+    private Map<Long, LocalDateTime> lastMessageAtByRoom(List<PendingChatMessage> batch) {
+        Map<Long, LocalDateTime> lastMessageAt = new HashMap<>();
+        for (PendingChatMessage message : batch) {
+            lastMessageAt.merge(message.chatRoomId(), message.createdAt(),
+                (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+        }
+        return lastMessageAt;
+    }
+
+    private void addUnflushed(Long chatRoomId, int delta) {
+        unflushedByRoom.merge(chatRoomId, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    private void recordFlush(List<PendingChatMessage> batch, int rooms, long start) {
+        for (PendingChatMessage message : batch) {
+            addUnflushed(message.chatRoomId(), -1);
+        }
+        long end = System.nanoTime();
+        long elapsed = end - start;
+
+        flushes.increment();
+        persisted.add(batch.size());
+        roomUpdates.add(rooms);
+        totalFlushNanos.add(elapsed);
+        maxFlushNanos.accumulate(elapsed);
+        lastFlushNanos = elapsed;
+
+        long oldestEnqueuedAt = batch.get(0).enqueuedAtNanos();
+        for (PendingChatMessage message : batch) {
+            oldestEnqueuedAt = Math.min(oldestEnqueuedAt, message.enqueuedAtNanos());
+        }
+        maxPersistDelayNanos.accumulate(end - oldestEnqueuedAt);
+    }
+
+}
@@ -0,0 +1,344 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatPresenceEventResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatPresenceResponse;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 채팅방 접속 상태 (Redis)
+ * /topic/chat/{roomId} 를 구독한 STOMP 세션을 chat:presence:{roomId} (ZSET, "회원 ID:노드 ID:세션 ID" → 만료 시각) 에 기록
+ * - 구독/구독 해제/연결 종료 이벤트로 바로 반영하고, 각 노드는 refresh-interval 마다 자기 노드의 살아 있는 세션 만료 시각을 연장
+ * - 세션이 있는 채팅방은 chat:presence:rooms (SET) 에 등록하고, 모든 노드가 sweep-interval 마다 등록된 채팅방의
+ *   만료된 세션을 정리하며 퇴장을 알림 (정리는 스크립트 안에서 원자적으로 수행되므로 퇴장은 한 노드만 알림)
+ *   노드가 죽어 연장이 멈추면 ttl 이 지나 만료되고, 그 채팅방에 세션이 있는 노드가 없어도 다른 노드의 정리로 퇴장을 알림
+ * - ZSET 자체의 만료 시간은 정리 전에 사라지지 않도록 ttl 의 2배로 두고, 세션이 모두 없어지면 등록을 해제
+ * - 응답이 없는 클라이언트는 STOMP heartbeat 로 연결이 끊겨 연결 종료 이벤트가 발생
+ * - 시각은 노드 시계 대신 Redis 시각을 사용하고, 회원의 첫 세션이 들어오거나 마지막 세션이 나갈 때만 /topic/chat/{roomId}/presence 로 알림
+ * 채팅방 참여자는 여행 일행 규모이므로 변경 시 채팅방 전체 세션을 한 번 읽어 접속 회원을 비교
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    private static final String KEY_PREFIX = "chat:presence:";
+    private static final String ROOMS_KEY = "chat:presence:rooms";
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/topic/chat/(\\d+)$");
+
+    /**
+     * 세션 추가/연장 후 제거, 만료된 세션 정리, 채팅방 등록/해제
+     * KEYS[1] = 접속 상태 ZSET, KEYS[2] = 채팅방 목록 SET
+     * ARGV: 채팅방 ID, ttl(ms), 추가할 세션 수 n, 추가할 세션 n 개, 제거할 세션...
+     * @return 접속한 회원 "+ID", 나간 회원 "-ID"
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> UPDATE_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "local function members(entries) "
+            + "  local result = {} "
+            + "  for _, entry in ipairs(entries) do result[string.match(entry, '^[^:]+')] = true end "
+            + "  return result "
+            + "end "
+            + "local before = members(redis.call('ZRANGE', KEYS[1], 0, -1)) "
+            + "local ttl = tonumber(ARGV[2]) "
+            + "local adds = tonumber(ARGV[3]) "
+            + "for i = 4, 3 + adds do redis.call('ZADD', KEYS[1], now + ttl, ARGV[i]) end "
+            + "for i = 4 + adds, #ARGV do redis.call('ZREM', KEYS[1], ARGV[i]) end "
+            + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) "
+            + "local after = members(redis.call('ZRANGE', KEYS[1], 0, -1)) "
+            + "if adds > 0 then "
+            + "  redis.call('PEXPIRE', KEYS[1], ttl * 2) "
+            + "  redis.call('SADD', KEYS[2], ARGV[1]) "
+            + "elseif redis.call('ZCARD', KEYS[1]) == 0 then "
+            + "  redis.call('SREM', KEYS[2], ARGV[1]) "
+            + "end "
+            + "local changes = {} "
+            + "for member in pairs(after) do if not before[member] then table.insert(changes, '+' .. member) end end "
+            + "for member in pairs(before) do if not after[member] then table.insert(changes, '-' .. member) end end "
+            + "return changes",
+        List.class
+    );
+
+    /**
+     * 만료되지 않은 세션 조회 (퇴장 알림은 정리하는 노드가 보내므로 여기서는 정리하지 않음)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "return redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. now, '+inf')",
+        List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatRoomService chatRoomService;
+    private final RedisStompRelay redisStompRelay;
+    private final long ttlMillis;
+
+    /**
+     * 이 노드에 연결된 세션 (세션 ID → 회원과 구독 ID 별 채팅방)
+     */
+    private final Map<String, LocalSession> sessions = new ConcurrentHashMap<>();
+
+    public ChatPresenceService(
+        RedisTemplate<String, String> redisTemplate,
+        ChatRoomService chatRoomService,
+        RedisStompRelay redisStompRelay,
+        @Value("${chat.presence.ttl-ms:45000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomService = chatRoomService;
+        this.redisStompRelay = redisStompRelay;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public static String presenceTopic(Long chatRoomId) {
+        return ChatMessageService.roomTopic(chatRoomId) + "/presence";
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long memberId = memberIdOf(event.getUser());
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (memberId != null && sessionId != null) {
+            connect(sessionId, memberId);
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long memberId = memberIdOf(event.getUser());
+        if (memberId != null && accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            subscribe(accessor.getSessionId(), memberId, accessor.getSubscriptionId(), accessor.getDestination());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void connect(String sessionId, Long memberId) {
+        sessions.putIfAbsent(sessionId, new LocalSession(memberId));
+    }
+
+    /**
+     * 채팅방 토픽 구독 시 접속 처리 (참여자가 아니면 기록하지 않음)
+     */
+    public void subscribe(String sessionId, Long memberId, String subscriptionId, String destination) {
+        Long chatRoomId = roomIdOf(destination);
+        if (chatRoomId == null) {
+            return;
+        }
+        try {
+            chatRoomService.validateParticipant(chatRoomId, memberId);
+        } catch (BusinessException e) {
+            return;
+        }
+
+        LocalSession session = sessions.computeIfAbsent(sessionId, id -> new LocalSession(memberId));
+        // 같은 세션의 구독/구독 해제가 동시에 처리되어도 첫 구독/마지막 구독 판단과 반영 순서가 어긋나지 않도록 세션 단위로 직렬화
+        synchronized (session) {
+            if (session.closed) {
+                return;
+            }
+            boolean firstInRoom = !session.subscriptions.containsValue(chatRoomId);
+            session.subscriptions.put(subscriptionId, chatRoomId);
+
+            if (firstInRoom) {
+                update(chatRoomId, List.of(entry(memberId, sessionId)), List.of());
+            }
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        LocalSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        synchronized (session) {
+            Long chatRoomId = session.subscriptions.remove(subscriptionId);
+            if (chatRoomId != null && !session.subscriptions.containsValue(chatRoomId)) {
+                update(chatRoomId, List.of(), List.of(entry(session.memberId, sessionId)));
+            }
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        LocalSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        synchronized (session) {
+            session.closed = true;
+            for (Long chatRoomId : Set.copyOf(session.subscriptions.values())) {
+                update(chatRoomId, List.of(), List.of(entry(session.memberId, sessionId)));
+            }
+            session.subscriptions.clear();
+        }
+    }
+
+    /**
+     * 이 노드의 세션 만료 시각 연장 (같은 채팅방의 만료된 다른 노드 세션도 함께 정리)
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-interval-ms:15000}")
+    public void refresh() {
+        Map<Long, List<String>> entriesByRoom = new HashMap<>();
+        sessions.forEach((sessionId, session) -> {
+            for (Long chatRoomId : Set.copyOf(session.subscriptions.values())) {
+                entriesByRoom.computeIfAbsent(chatRoomId, id -> new ArrayList<>()).add(entry(session.memberId, sessionId));
+            }
+        });
+
+        entriesByRoom.forEach((chatRoomId, entries) -> update(chatRoomId, entries, List.of()));
+    }
+
+    /**
+     * 세션이 등록된 모든 채팅방의 만료된 세션을 정리하고 퇴장을 알림
+     * 이 노드에 세션이 없는 채팅방도 정리하므로, 세션이 모두 죽은 노드에만 있던 채팅방의 퇴장도 알림
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.sweep-interval-ms:15000}")
+    public void sweep() {
+        Set<String> rooms;
+        try {
+            rooms = redisTemplate.opsForSet().members(ROOMS_KEY);
+        } catch (Exception e) {
+            log.warn("채팅방 접속 상태 정리 대상 조회 실패 - 원인: {}", e.getMessage());
+            return;
+        }
+        if (rooms == null) {
+            return;
+        }
+
+        for (String room : rooms) {
+            update(Long.valueOf(room), List.of(), List.of());
+        }
+    }
+
+    /**
+     * 채팅방에 접속 중인 회원 조회
+     */
+    public ChatPresenceResponse getPresence(Long memberId, Long chatRoomId) {
+        chatRoomService.validateParticipant(chatRoomId, memberId);
+
+        List<?> entries = redisTemplate.execute(READ_SCRIPT, List.of(key(chatRoomId)));
+        Set<Long> online = new TreeSet<>();
+        if (entries != null) {
+            for (Object entry : entries) {
+                String value = (String) entry;
+                online.add(Long.valueOf(value.substring(0, value.indexOf(':'))));
+            }
+        }
+
+        return ChatPresenceResponse.builder()
+            .chatRoomId(chatRoomId)
+            .onlineMemberIds(List.copyOf(online))
+            .build();
+    }
+
+    private void update(Long chatRoomId, List<String> adds, List<String> removes) {
+        List<String> args = new ArrayList<>(adds.size() + removes.size() + 3);
+        args.add(String.valueOf(chatRoomId));
+        args.add(String.valueOf(ttlMillis));
+        args.add(String.valueOf(adds.size()));
+        args.addAll(adds);
+        args.addAll(removes);
+
+        List<?> changes;
+        try {
+            changes = redisTemplate.execute(UPDATE_SCRIPT, List.of(key(chatRoomId), ROOMS_KEY), args.toArray());
+        } catch (Exception e) {
+            // 로컬 세션은 유지되므로 다음 연장 때 다시 반영
+            log.warn("채팅방 접속 상태 갱신 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+            return;
+        }
+        if (changes == null) {
+            return;
+        }
+
+        for (Object change : changes) {
+            String value = (String) change;
+            redisStompRelay.publish(presenceTopic(chatRoomId), ChatPresenceEventResponse.builder()
+                .chatRoomId(chatRoomId)
+                .memberId(Long.valueOf(value.substring(1)))
+                .online(value.charAt(0) == '+')
+                .build());
+        }
+    }
+
+    private static Long roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static Long memberIdOf(Principal principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(principal.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String entry(Long memberId, String sessionId) {
+        return memberId + ":" + redisStompRelay.getNodeId() + ":" + sessionId;
+    }
+
+    private static String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+
+    private static final class LocalSession {
+
+        private final Long memberId;
+        private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+        // 연결 종료 후 늦게 처리된 구독은 기록하지 않음 (세션 잠금 안에서만 접근)
+        private boolean closed;
+
+        private LocalSession(Long memberId) {
+            this.memberId = memberId;
+        }
+
+    }
+
+}
@@ -0,0 +1,328 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatReadStatusResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatReadWatermarkResponse;
+import com.travelapp.backend.domain.chat.entity.ChatReadWatermark;
+import com.travelapp.backend.domain.chat.repository.ChatMessageJdbcRepository;
+import com.travelapp.backend.domain.chat.repository.ChatReadWatermarkRepository;
+import com.travelapp.backend.domain.chat.service.ChatRecentMessageCache.RecentMessages;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.global.util.TsidGenerator;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 읽음 처리 (워터마크)
+ * 메시지마다 읽은 수를 갱신하지 않고, 채팅방별로 회원이 마지막으로 읽은 메시지 ID 하나만 보관
+ * - chat:read:{roomId} (HASH, 회원 ID → 메시지 ID) 에 더 큰 값으로만 갱신하고, 바뀐 채팅방은 chat:read:dirty 에 기록
+ * - snapshot-interval 마다 바뀐 채팅방의 워터마크를 chat_read_watermark 테이블에 반영 (Redis 에 없으면 테이블에서 복구)
+ * - 읽지 않은 수와 메시지별 읽은 수는 조회할 때 워터마크로 계산
+ * - 워터마크가 바뀌면 /topic/chat/{roomId}/read 로 전달
+ */
+@Slf4j
+@Service
+public class ChatReadReceiptService {
+
+    static final int MAX_UNREAD_COUNT = 999;
+
+    private static final String KEY_PREFIX = "chat:read:";
+    private static final String DIRTY_KEY = "chat:read:dirty";
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+    private static final Duration MAX_FUTURE_SKEW = Duration.ofSeconds(5);
+
+    /**
+     * 워터마크를 더 큰 값으로만 갱신 (1: 갱신, 0: 기존 값이 같거나 큼, -1: 채팅방 워터마크가 Redis 에 없음)
+     * 메시지 ID 는 Lua 숫자(double) 범위를 넘으므로 자릿수와 문자열로 비교
+     */
+    private static final RedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 and ARGV[5] == '0' then return -1 end "
+            + "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+            + "if current and (#current > #ARGV[2] or (#current == #ARGV[2] and current >= ARGV[2])) then return 0 end "
+            + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "redis.call('SADD', KEYS[2], ARGV[4]) "
+            + "return 1",
+        Long.class
+    );
+
+    /**
+     * DB 스냅샷을 Redis 로 복구 (그 사이 갱신된 값은 덮어쓰지 않음)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+        "for i = 2, #ARGV, 2 do redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+            + "return 1",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatRoomService chatRoomService;
+    private final ChatReadWatermarkRepository chatReadWatermarkRepository;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final RedisStompRelay redisStompRelay;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlSeconds;
+    private final int snapshotBatchSize;
+
+    public ChatReadReceiptService(
+        RedisTemplate<String, String> redisTemplate,
+        ChatRoomService chatRoomService,
+        ChatReadWatermarkRepository chatReadWatermarkRepository,
+        ChatMessageJdbcRepository chatMessageJdbcRepository,
+        ChatRecentMessageCache chatRecentMessageCache,
+        RedisStompRelay redisStompRelay,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.read.ttl-seconds:604800}") long ttlSeconds,
+        @Value("${chat.read.snapshot-batch-size:200}") int snapshotBatchSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomService = chatRoomService;
+        this.chatReadWatermarkRepository = chatReadWatermarkRepository;
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatRecentMessageCache = chatRecentMessageCache;
+        this.redisStompRelay = redisStompRelay;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlSeconds = ttlSeconds;
+        this.snapshotBatchSize = snapshotBatchSize;
+    }
+
+    public static String readTopic(Long chatRoomId) {
+        return ChatMessageService.roomTopic(chatRoomId) + "/read";
+    }
+
+    /**
+     * 마지막으로 읽은 메시지 갱신 (이전 값보다 클 때만 반영하고 채팅방에 전달)
+     */
+    public void markRead(Long memberId, Long chatRoomId, Long messageId) {
+        chatRoomService.validateParticipant(chatRoomId, memberId);
+
+        // 아직 발급될 수 없는 ID 로 이후 메시지를 모두 읽음 처리하지 못하도록 확인
+        long issuedAt = TsidGenerator.timestampOf(messageId);
+        if (issuedAt > System.currentTimeMillis() + MAX_FUTURE_SKEW.toMillis()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Long result = advance(chatRoomId, memberId, messageId, false);
+        if (result != null && result < 0) {
+            loadSnapshot(chatRoomId);
+            result = advance(chatRoomId, memberId, messageId, true);
+        }
+
+        if (result != null && result > 0) {
+            redisStompRelay.publish(readTopic(chatRoomId), ChatReadWatermarkResponse.builder()
+                .chatRoomId(chatRoomId)
+                .memberId(memberId)
+                .lastReadMessageId(messageId)
+                .build());
+        }
+    }
+
+    /**
+     * 읽음 상태 조회 (참여자별 워터마크와 내 읽지 않은 메시지 수)
+     */
+    public ChatReadStatusResponse getReadStatus(Long memberId, Long chatRoomId) {
+        chatRoomService.validateParticipant(chatRoomId, memberId);
+
+        Map<Long, Long> watermarks = getWatermarks(chatRoomId);
+        Long lastRead = watermarks.get(memberId);
+
+        return ChatReadStatusResponse.builder()
+            .chatRoomId(chatRoomId)
+            .lastReadMessageId(lastRead)
+            .unreadCount(countUnread(chatRoomId, memberId, lastRead != null ? lastRead : 0L))
+            .watermarks(watermarks.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> ChatReadWatermarkResponse.builder()
+                    .chatRoomId(chatRoomId)
+                    .memberId(entry.getKey())
+                    .lastReadMessageId(entry.getValue())
+                    .build())
+                .toList())
+            .build();
+    }
+
+    /**
+     * 메시지별 읽은 수 계산 (보낸 사람을 제외하고 워터마크가 메시지 ID 이상인 참여자 수)
+     * 워터마크를 조회하지 못하면 읽은 수 없이 이력만 제공
+     */
+    public void applyReadCounts(Long chatRoomId, List<ChatMessageResponse> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> watermarks;
+        try {
+            watermarks = getWatermarks(chatRoomId).entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .toList();
+        } catch (Exception e) {
+            log.warn("읽음 워터마크 조회 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+            return;
+        }
+
+        for (ChatMessageResponse message : messages) {
+            int readCount = 0;
+            for (Map.Entry<Long, Long> watermark : watermarks) {
+                if (watermark.getValue() < message.getId()) {
+                    break;
+                }
+                if (!watermark.getKey().equals(message.getSenderId())) {
+                    readCount++;
+                }
+            }
+            message.updateReadCount(readCount);
+        }
+    }
+
+    /**
+     * 바뀐 채팅방의 워터마크를 DB 에 반영 (여러 노드가 실행해도 SPOP 으로 채팅방을 나누어 처리)
+     */
+    @Scheduled(
+        initialDelayString = "${chat.read.snapshot-interval-ms:30000}",
+        fixedDelayString = "${chat.read.snapshot-interval-ms:30000}"
+    )
+    public void snapshot() {
+        try {
+            int saved = flushDirtyRooms();
+            if (saved > 0) {
+                log.debug("읽음 워터마크 스냅샷 - {} 건", saved);
+            }
+        } catch (Exception e) {
+            log.warn("읽음 워터마크 스냅샷 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return DB 에 반영한 워터마크 수
+     */
+    public int flushDirtyRooms() {
+        int saved = 0;
+
+        while (true) {
+            List<String> rooms = redisTemplate.opsForSet().pop(DIRTY_KEY, snapshotBatchSize);
+            if (rooms == null || rooms.isEmpty()) {
+                return saved;
+            }
+
+            for (String room : rooms) {
+                Long chatRoomId = Long.valueOf(room);
+                try {
+                    saved += saveSnapshot(chatRoomId, readWatermarks(chatRoomId));
+                } catch (Exception e) {
+                    // 다음 주기에 다시 반영
+                    redisTemplate.opsForSet().add(DIRTY_KEY, room);
+                    log.warn("읽음 워터마크 저장 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+                }
+            }
+
+            if (rooms.size() < snapshotBatchSize) {
+                return saved;
+            }
+        }
+    }
+
+    private Long advance(Long chatRoomId, Long memberId, Long messageId, boolean loaded) {
+        return redisTemplate.execute(ADVANCE_SCRIPT, List.of(key(chatRoomId), DIRTY_KEY),
+            String.valueOf(memberId), String.valueOf(messageId), String.valueOf(ttlSeconds),
+            String.valueOf(chatRoomId), loaded ? "1" : "0");
+    }
+
+    /**
+     * 채팅방 워터마크 조회 (Redis 에 없으면 DB 스냅샷에서 복구)
+     */
+    Map<Long, Long> getWatermarks(Long chatRoomId) {
+        Map<Long, Long> watermarks = readWatermarks(chatRoomId);
+        return watermarks.isEmpty() ? loadSnapshot(chatRoomId) : watermarks;
+    }
+
+    private Map<Long, Long> readWatermarks(Long chatRoomId) {
+        Map<Object, Object> raw = redisTemplate.opsForHash().entries(key(chatRoomId));
+
+        Map<Long, Long> watermarks = new HashMap<>(raw.size());
+        raw.forEach((memberId, messageId) ->
+            watermarks.put(Long.valueOf((String) memberId), Long.valueOf((String) messageId)));
+        return watermarks;
+    }
+
+    private Map<Long, Long> loadSnapshot(Long chatRoomId) {
+        Map<Long, Long> watermarks = new HashMap<>();
+        for (ChatReadWatermark watermark : chatReadWatermarkRepository.findByChatRoomId(chatRoomId)) {
+            watermarks.put(watermark.getMember().getId(), watermark.getLastReadMessageId());
+        }
+        if (watermarks.isEmpty()) {
+            return watermarks;
+        }
+
+        List<String> args = new ArrayList<>(watermarks.size() * 2 + 1);
+        args.add(String.valueOf(ttlSeconds));
+        watermarks.forEach((memberId, messageId) -> {
+            args.add(String.valueOf(memberId));
+            args.add(String.valueOf(messageId));
+        });
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key(chatRoomId)), args.toArray());
+        return watermarks;
+    }
+
+    private int saveSnapshot(Long chatRoomId, Map<Long, Long> watermarks) {
+        if (watermarks.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> watermarks.forEach((memberId, messageId) ->
+            chatReadWatermarkRepository.upsert(chatRoomId, memberId, messageId, now)));
+        return watermarks.size();
+    }
+
+    /**
+     * 워터마크 이후 다른 참여자가 보낸 메시지 수
+     * 워터마크가 최근 메시지 캐시 범위 안에 있으면 캐시로 세고, 아니면 DB 에서 최대 MAX_UNREAD_COUNT 건까지 셈
+     */
+    private int countUnread(Long chatRoomId, Long memberId, long lastReadMessageId) {
+        RecentMessages recent = chatRecentMessageCache.read(chatRoomId, MAX_UNREAD_COUNT);
+        if (recent != null && coversWatermark(recent, lastReadMessageId)) {
+            return (int) recent.messages().stream()
+                .filter(message -> message.getId() > lastReadMessageId && !memberId.equals(message.getSenderId()))
+                .count();
+        }
+
+        // ID 에 담긴 발급 시각보다 조금 이른 시각부터 읽어 (chat_room_id, created_at) 인덱스 범위로 셈
+        LocalDateTime createdAtFloor = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(TsidGenerator.timestampOf(lastReadMessageId)).minus(CLOCK_SKEW), ZoneId.systemDefault());
+        return chatMessageJdbcRepository.countUnread(chatRoomId, memberId, lastReadMessageId, createdAtFloor,
+            MAX_UNREAD_COUNT);
+    }
+
+    private boolean coversWatermark(RecentMessages recent, long lastReadMessageId) {
+        if (recent.complete()) {
+            return true;
+        }
+        List<ChatMessageResponse> messages = recent.messages();
+        return !messages.isEmpty() && messages.get(messages.size() - 1).getId() <= lastReadMessageId;
+    }
+
+    private String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+
+}
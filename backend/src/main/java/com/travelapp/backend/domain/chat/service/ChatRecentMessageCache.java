@@ -0,0 +1,208 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 최근 메시지 캐시 (Redis)
+ * chat:recent:{roomId} (LIST, 최신순) 에 최근 메시지를 최대 recent-size 개 보관하여 채팅방을 열 때 MySQL 을 조회하지 않음
+ * - 보낸 메시지는 저장 여부와 관계없이 바로 목록 앞에 추가되므로, 목록은 항상 채팅방 이력의 최신 구간과 이어짐
+ * - 목록이 짧으면 DB 에서 이어지는 이전 메시지를 읽어 뒤에 채우고, 채팅방 전체 이력을 담고 있으면 chat:recent-full:{roomId} 로 표시
+ * - 마지막 메시지 이후 recent-ttl 동안 활동이 없는 채팅방은 만료되어 Redis 에서 제거
+ * - 목록을 삭제하거나 새로 만들면 backfill-settle 동안 chat:recent-settling:{roomId} 로 표시하고 DB 에서 채우지 않음
+ *   (삭제 직전의 메시지가 아직 어느 노드의 저장 버퍼에 있으면 DB 에 없으므로, 채우면 이력 중간이 빠진 목록이 됨)
+ */
+@Slf4j
+@Component
+public class ChatRecentMessageCache {
+
+    private static final String LIST_KEY_PREFIX = "chat:recent:";
+    private static final String FULL_KEY_PREFIX = "chat:recent-full:";
+    private static final String SETTLING_KEY_PREFIX = "chat:recent-settling:";
+
+    /**
+     * 첫 번째 원소는 전체 이력 여부 ("1"/"0"), 이후는 최신순 메시지
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+        "local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) "
+            + "table.insert(items, 1, tostring(redis.call('EXISTS', KEYS[2]))) "
+            + "return items",
+        List.class
+    );
+
+    /**
+     * 만료된 목록에 새로 추가하면 전체 이력이 아니므로 표시를 지우고 채우기 유예를 표시, 최대 크기를 넘으면 오래된 메시지를 잘라냄
+     * ARGV: 메시지, 최대 크기, TTL, 채우기 유예(ms)
+     */
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then "
+            + "  redis.call('DEL', KEYS[2]) "
+            + "  if tonumber(ARGV[4]) > 0 then redis.call('SET', KEYS[3], '1', 'PX', ARGV[4]) end "
+            + "end "
+            + "local size = redis.call('LPUSH', KEYS[1], ARGV[1]) "
+            + "if size > tonumber(ARGV[2]) then "
+            + "  redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1) "
+            + "  redis.call('DEL', KEYS[2]) "
+            + "end "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "redis.call('EXPIRE', KEYS[2], ARGV[3]) "
+            + "return size",
+        Long.class
+    );
+
+    /**
+     * 목록 끝이 읽었던 시점과 같을 때만 (그 사이 만료/잘림이 없을 때만), 채우기 유예 중이 아닐 때만
+     * DB 에서 읽은 이전 메시지를 뒤에 추가
+     * 목록과 전체 이력 표시는 항상 같은 TTL 로 함께 갱신하여 표시만 남는 경우가 없도록 함
+     * ARGV: 읽었던 마지막 원소('' = 빈 목록), 최대 크기, TTL, 전체 이력 여부, 추가할 메시지...
+     */
+    private static final RedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[3]) == 1 then return 0 end "
+            + "if (redis.call('LINDEX', KEYS[1], -1) or '') ~= ARGV[1] then return 0 end "
+            + "for i = 5, #ARGV do redis.call('RPUSH', KEYS[1], ARGV[i]) end "
+            + "local size = tonumber(ARGV[2]) "
+            + "if redis.call('LLEN', KEYS[1]) > size then "
+            + "  redis.call('LTRIM', KEYS[1], 0, size - 1) "
+            + "elseif ARGV[4] == '1' then "
+            + "  redis.call('SET', KEYS[2], '1', 'EX', ARGV[3]) "
+            + "end "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "return 1",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = 목록, KEYS[2] = 전체 이력 표시, KEYS[3] = 채우기 유예 표시, ARGV[1] = 채우기 유예(ms)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1], KEYS[2]) "
+            + "if tonumber(ARGV[1]) > 0 then redis.call('SET', KEYS[3], '1', 'PX', ARGV[1]) end "
+            + "return 1",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int recentSize;
+    private final long ttlSeconds;
+    private final long backfillSettleMillis;
+
+    public ChatRecentMessageCache(
+        RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${chat.history.recent-size:100}") int recentSize,
+        @Value("${chat.history.recent-ttl-seconds:86400}") long ttlSeconds,
+        @Value("${chat.history.backfill-settle-ms:30000}") long backfillSettleMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        // 최대 페이지 크기 + 1 (다음 페이지 확인용) 이상을 보관해야 첫 페이지를 캐시만으로 채울 수 있음
+        this.recentSize = Math.max(recentSize, ChatHistoryService.MAX_PAGE_SIZE + 1);
+        this.ttlSeconds = ttlSeconds;
+        this.backfillSettleMillis = backfillSettleMillis;
+    }
+
+    /**
+     * 보낸 메시지를 목록 앞에 추가 (실패하면 이력에 빈 구간이 생기지 않도록 목록을 삭제)
+     */
+    public void push(ChatMessageResponse message) {
+        Long chatRoomId = message.getChatRoomId();
+        try {
+            redisTemplate.execute(PUSH_SCRIPT, keys(chatRoomId),
+                toJson(message), String.valueOf(recentSize), String.valueOf(ttlSeconds),
+                String.valueOf(backfillSettleMillis));
+        } catch (Exception e) {
+            log.warn("최근 메시지 캐시 추가 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+            evict(chatRoomId);
+        }
+    }
+
+    /**
+     * 최신 메시지를 최대 limit 개 조회 (Redis 를 사용할 수 없으면 null)
+     */
+    public RecentMessages read(Long chatRoomId, int limit) {
+        try {
+            List<?> result = redisTemplate.execute(READ_SCRIPT, keys(chatRoomId), String.valueOf(limit));
+            if (result == null || result.isEmpty()) {
+                return null;
+            }
+
+            List<String> raw = new ArrayList<>(result.size() - 1);
+            List<ChatMessageResponse> messages = new ArrayList<>(result.size() - 1);
+            for (Object item : result.subList(1, result.size())) {
+                raw.add((String) item);
+                messages.add(objectMapper.readValue((String) item, ChatMessageResponse.class));
+            }
+            return new RecentMessages(messages, "1".equals(result.get(0)), raw.isEmpty() ? "" : raw.get(raw.size() - 1));
+        } catch (Exception e) {
+            log.warn("최근 메시지 캐시 조회 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * DB 에서 읽은 이전 메시지를 목록 뒤에 추가
+     * @param cached 추가할 메시지를 읽기 전에 조회한 캐시 (목록 끝이 그대로일 때만 추가)
+     * @param complete 채팅방에 더 이전 메시지가 없는지 여부
+     */
+    public void backfill(Long chatRoomId, RecentMessages cached, List<ChatMessageResponse> older, boolean complete) {
+        int room = recentSize - cached.messages().size();
+        List<ChatMessageResponse> items = older.size() > room ? older.subList(0, Math.max(room, 0)) : older;
+
+        List<String> args = new ArrayList<>(items.size() + 4);
+        args.add(cached.tail());
+        args.add(String.valueOf(recentSize));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(complete && items.size() == older.size() ? "1" : "0");
+        items.forEach(item -> args.add(toJson(item)));
+
+        try {
+            redisTemplate.execute(BACKFILL_SCRIPT, keys(chatRoomId), args.toArray());
+        } catch (Exception e) {
+            log.warn("최근 메시지 캐시 채우기 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 목록 삭제 (backfill-settle 동안은 DB 에서 다시 채우지 않음)
+     */
+    public void evict(Long chatRoomId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, keys(chatRoomId), String.valueOf(backfillSettleMillis));
+        } catch (Exception e) {
+            log.warn("최근 메시지 캐시 삭제 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private List<String> keys(Long chatRoomId) {
+        return List.of(LIST_KEY_PREFIX + chatRoomId, FULL_KEY_PREFIX + chatRoomId, SETTLING_KEY_PREFIX + chatRoomId);
+    }
+
+    private String toJson(ChatMessageResponse message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("채팅 메시지 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 캐시된 최근 메시지
+     * @param messages 최신순 메시지
+     * @param complete 채팅방 전체 이력을 담고 있는지 여부
+     * @param tail 목록의 마지막 원소 (빈 목록이면 "")
+     */
+    public record RecentMessages(List<ChatMessageResponse> messages, boolean complete, String tail) {
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatRoomResponse;
+import com.travelapp.backend.domain.chat.entity.ChatRoom;
+import com.travelapp.backend.domain.chat.exception.ChatRoomAccessDeniedException;
+import com.travelapp.backend.domain.chat.exception.ChatRoomNotFoundException;
+import com.travelapp.backend.domain.chat.repository.ChatRoomRepository;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.trip.service.TripService;
+import com.travelapp.backend.global.cache.LocalLruCache;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅방 조회/생성과 참여 권한 확인
+ * 채팅방 참여자는 여행 소유자이며, 메시지마다 권한을 확인하므로 채팅방별 소유자 ID 를 로컬 캐시에 보관
+ * (캐시 적중 시 DB 커넥션을 잡지 않도록 권한 확인은 트랜잭션 없이 실행)
+ */
+@Service
+public class ChatRoomService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final TripService tripService;
+    private final LocalLruCache<Long, Long> ownerCache;
+
+    public ChatRoomService(
+        ChatRoomRepository chatRoomRepository,
+        TripService tripService,
+        @Value("${chat.room.owner-cache.max-size:10000}") int ownerCacheMaxSize,
+        @Value("${chat.room.owner-cache.ttl-seconds:300}") long ownerCacheTtlSeconds
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.tripService = tripService;
+        this.ownerCache = new LocalLruCache<>(ownerCacheMaxSize, Duration.ofSeconds(ownerCacheTtlSeconds));
+    }
+
+    /**
+     * 여행의 채팅방 조회 (없으면 생성, 여행 소유자만 가능)
+     */
+    @Transactional
+    public ChatRoomResponse getOrCreateChatRoom(Long tripId) {
+        Trip trip = tripService.findTripWithOwnerValidation(tripId);
+
+        ChatRoom chatRoom = chatRoomRepository.findByTripId(tripId)
+            .orElseGet(() -> chatRoomRepository.save(ChatRoom.builder()
+                .trip(trip)
+                .name(trip.getTitle())
+                .build()));
+
+        return ChatRoomResponse.of(chatRoom, tripId);
+    }
+
+    /**
+     * 채팅방 참여 권한 확인
+     * @throws ChatRoomNotFoundException 채팅방이 없거나 비활성화된 경우
+     * @throws ChatRoomAccessDeniedException 여행 소유자가 아닌 경우
+     */
+    public void validateParticipant(Long chatRoomId, Long memberId) {
+        Long ownerId = ownerCache.get(chatRoomId);
+        if (ownerId == null) {
+            ownerId = chatRoomRepository.findActiveOwnerIdById(chatRoomId)
+                .orElseThrow(ChatRoomNotFoundException::new);
+            ownerCache.put(chatRoomId, ownerId);
+        }
+
+        if (!ownerId.equals(memberId)) {
+            throw new ChatRoomAccessDeniedException();
+        }
+    }
+
+}
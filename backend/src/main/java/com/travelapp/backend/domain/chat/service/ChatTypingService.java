@@ -0,0 +1,174 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatTypingResponse;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅 입력 중 표시 (저장하지 않는 일회성 이벤트)
+ * 클라이언트가 키 입력마다 보내도 회원별로 min-interval 에 한 번만 반영하고,
+ * flush-interval 동안 모인 채팅방별 변경을 하나의 이벤트로 묶어 /topic/chat/{roomId}/typing 으로 전달
+ * - 입력 중 표시는 expiresInMillis 동안만 유효하므로, 입력을 멈춤 알림이 유실되어도 클라이언트에서 사라짐
+ * - 회원의 세션은 한 노드에 연결되므로 제한과 묶음은 노드마다 메모리에서 처리하고, 전달만 RedisStompRelay 로 모든 노드에 함
+ */
+@Slf4j
+@Service
+public class ChatTypingService {
+
+    private final ChatRoomService chatRoomService;
+    private final RedisStompRelay redisStompRelay;
+    private final long minIntervalMillis;
+    private final long expireMillis;
+    private final LongSupplier clock;
+
+    /**
+     * 입력 중으로 전달한 회원과 마지막 전달 시각 ((채팅방 ID, 회원 ID) → ms)
+     */
+    private final Map<TypingKey, Long> lastForwarded = new ConcurrentHashMap<>();
+
+    /**
+     * 다음 flush 에 전달할 채팅방별 변경
+     */
+    private final Map<Long, PendingTyping> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChatTypingService(
+        ChatRoomService chatRoomService,
+        RedisStompRelay redisStompRelay,
+        @Value("${chat.typing.min-interval-ms:3000}") long minIntervalMillis,
+        @Value("${chat.typing.expire-ms:6000}") long expireMillis
+    ) {
+        this(chatRoomService, redisStompRelay, minIntervalMillis, expireMillis, System::currentTimeMillis);
+    }
+
+    ChatTypingService(
+        ChatRoomService chatRoomService,
+        RedisStompRelay redisStompRelay,
+        long minIntervalMillis,
+        long expireMillis,
+        LongSupplier clock
+    ) {
+        this.chatRoomService = chatRoomService;
+        this.redisStompRelay = redisStompRelay;
+        this.minIntervalMillis = minIntervalMillis;
+        // 다음 알림(min-interval 후)이 도착하기 전에 표시가 사라지지 않도록 함
+        this.expireMillis = Math.max(expireMillis, minIntervalMillis * 2);
+        this.clock = clock;
+    }
+
+    public static String typingTopic(Long chatRoomId) {
+        return ChatMessageService.roomTopic(chatRoomId) + "/typing";
+    }
+
+    /**
+     * 입력 중 / 입력 멈춤 알림 (제한에 걸리거나 바뀐 것이 없으면 무시)
+     */
+    public void typing(Long memberId, Long chatRoomId, boolean typing) {
+        TypingKey key = new TypingKey(chatRoomId, memberId);
+        long now = clock.getAsLong();
+
+        if (!typing) {
+            if (lastForwarded.remove(key) != null) {
+                record(chatRoomId, memberId, false);
+            }
+            return;
+        }
+
+        Long last = lastForwarded.get(key);
+        if (last != null && now - last < minIntervalMillis) {
+            return;
+        }
+        if (last == null) {
+            chatRoomService.validateParticipant(chatRoomId, memberId);
+        }
+
+        lastForwarded.put(key, now);
+        record(chatRoomId, memberId, true);
+    }
+
+    /**
+     * 모인 변경을 채팅방별 이벤트 하나로 전달하고, 만료된 입력 중 기록을 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.typing.flush-interval-ms:300}")
+    public void flush() {
+        for (Long chatRoomId : List.copyOf(pending.keySet())) {
+            PendingTyping changes = pending.remove(chatRoomId);
+            if (changes == null || changes.isEmpty()) {
+                continue;
+            }
+
+            try {
+                redisStompRelay.publish(typingTopic(chatRoomId), changes.toResponse(chatRoomId, expireMillis));
+            } catch (Exception e) {
+                log.debug("입력 중 표시 전달 실패 - 채팅방 ID: {}, 원인: {}", chatRoomId, e.getMessage());
+            }
+        }
+
+        long expiredBefore = clock.getAsLong() - expireMillis;
+        lastForwarded.values().removeIf(forwardedAt -> forwardedAt < expiredBefore);
+    }
+
+    /**
+     * 변경을 채팅방의 대기 목록에 기록
+     * flush 의 remove 와 같은 키에 대해 원자적으로 실행되므로, 꺼내 간 목록에 기록되어 유실되는 경우가 없음
+     */
+    private void record(Long chatRoomId, Long memberId, boolean typing) {
+        pending.compute(chatRoomId, (id, changes) -> {
+            PendingTyping updated = changes != null ? changes : new PendingTyping();
+            if (typing) {
+                updated.start(memberId);
+            } else {
+                updated.stop(memberId);
+            }
+            return updated;
+        });
+    }
+
+    private record TypingKey(Long chatRoomId, Long memberId) {
+    }
+
+    /**
+     * 채팅방별 변경 목록 (pending.compute 안에서만 변경하고, flush 가 맵에서 꺼낸 뒤에만 읽음)
+     */
+    private static final class PendingTyping {
+
+        private final Set<Long> started = new LinkedHashSet<>();
+        private final Set<Long> stopped = new LinkedHashSet<>();
+
+        void start(Long memberId) {
+            stopped.remove(memberId);
+            started.add(memberId);
+        }
+
+        void stop(Long memberId) {
+            started.remove(memberId);
+            stopped.add(memberId);
+        }
+
+        boolean isEmpty() {
+            return started.isEmpty() && stopped.isEmpty();
+        }
+
+        ChatTypingResponse toResponse(Long chatRoomId, long expireMillis) {
+            return ChatTypingResponse.builder()
+                .chatRoomId(chatRoomId)
+                .typingMemberIds(new ArrayList<>(started))
+                .stoppedMemberIds(new ArrayList<>(stopped))
+                .expiresInMillis(expireMillis)
+                .build();
+        }
+
+    }
+
+}
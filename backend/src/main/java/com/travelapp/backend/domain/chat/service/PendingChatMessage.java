@@ -0,0 +1,22 @@
+package com.travelapp.backend.domain.chat.service;
+
+import com.travelapp.backend.domain.chat.entity.MessageType;
+import java.time.LocalDateTime;
+
+/**
+ * 브로드캐스트 후 저장을 기다리는 채팅 메시지
+ * @param enqueuedAtNanos 버퍼에 추가된 시각 (System.nanoTime, 저장 지연 측정용)
+ */
+public record PendingChatMessage(
+    long id,
+    long chatRoomId,
+    long senderId,
+    MessageType messageType,
+    String content,
+    String imageUrl,
+    Double latitude,
+    Double longitude,
+    LocalDateTime createdAt,
+    long enqueuedAtNanos
+) {
+}
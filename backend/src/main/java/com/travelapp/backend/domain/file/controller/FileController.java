@@ -1,11 +1,16 @@
 package com.travelapp.backend.domain.file.controller;
 
+import com.travelapp.backend.domain.file.dto.request.BatchPresignedUrlRequest;
+import com.travelapp.backend.domain.file.dto.request.BatchUploadCompleteRequest;
 import com.travelapp.backend.domain.file.dto.request.PresignedUrlRequest;
 import com.travelapp.backend.domain.file.dto.request.UploadCompleteRequest;
 import com.travelapp.backend.domain.file.dto.response.FileUploadResponse;
 import com.travelapp.backend.domain.file.dto.response.PresignedUrlResponse;
+import com.travelapp.backend.domain.file.dto.response.ThumbnailJobStatsResponse;
 import com.travelapp.backend.domain.file.dto.response.TripImageResponse;
 import com.travelapp.backend.domain.file.service.FileService;
+import com.travelapp.backend.domain.file.service.ThumbnailJobDispatcher;
+import com.travelapp.backend.domain.file.service.UploadCompletionService;
 import com.travelapp.backend.global.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,6 +45,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class FileController {
 
     private final FileService fileService;
+    private final ThumbnailJobDispatcher thumbnailJobDispatcher;
+    private final UploadCompletionService uploadCompletionService;
 
     /**
      * 일반 파일 업로드용 Pre-signed URL 발급
@@ -98,6 +105,36 @@ public class FileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 여행 이미지 업로드용 Pre-signed URL 일괄 발급
+     */
+    @Operation(
+        summary = "여행 이미지 Pre-signed URL 일괄 발급",
+        description = "여러 장의 여행 이미지 업로드를 위한 Pre-signed URL을 한 번에 발급합니다. (최대 50개, 요청 순서대로 응답)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Pre-signed URL 일괄 발급 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일 정보, 크기 초과 또는 커버 이미지 중복 지정"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "권한 없음"),
+        @ApiResponse(responseCode = "404", description = "존재하지 않는 여행")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping("/trips/presigned-url/batch")
+    public ResponseEntity<List<PresignedUrlResponse>> generateTripImagePresignedUrls(
+        @Parameter(description = "여행 이미지 Pre-signed URL 일괄 발급 요청 정보")
+        @Valid @RequestBody BatchPresignedUrlRequest request
+    ) {
+        log.info("여행 이미지 Pre-signed URL 일괄 발급 요청 - 여행: {}, {}건",
+            request.getTripId(), request.getFiles().size());
+
+        Long userId = SecurityUtil.getCurrentMemberId();
+        List<PresignedUrlResponse> responses = fileService.generateTripImagePresignedUrls(request, userId);
+
+        log.info("여행 이미지 Pre-signed URL 일괄 발급 성공 - {}건", responses.size());
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 업로드 완료 통지
      */
@@ -128,6 +165,35 @@ public class FileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 업로드 완료 일괄 통지
+     */
+    @Operation(
+        summary = "업로드 완료 일괄 통지",
+        description = "여러 파일의 업로드 결과를 한 번에 통지합니다. (최대 100개, 요청 순서대로 응답)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "업로드 완료 일괄 처리 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 중복된 파일 ID"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "404", description = "존재하지 않는 파일 포함"),
+        @ApiResponse(responseCode = "503", description = "S3 확인 요청 과다")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping("/upload-complete/batch")
+    public ResponseEntity<List<FileUploadResponse>> completeUploads(
+        @Parameter(description = "업로드 완료 일괄 통지 정보")
+        @Valid @RequestBody BatchUploadCompleteRequest request
+    ) {
+        log.info("업로드 완료 일괄 통지 - {}건", request.getFiles().size());
+
+        Long userId = SecurityUtil.getCurrentMemberId();
+        List<FileUploadResponse> responses = uploadCompletionService.completeUploads(request, userId);
+
+        log.info("업로드 완료 일괄 처리 성공 - {}건", responses.size());
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 내 파일 목록 조회
      */
@@ -270,30 +336,21 @@ public class FileController {
         return ResponseEntity.ok("이미지 순서가 성공적으로 변경되었습니다.");
     }
 
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+    /**
+     * 썸네일 작업 큐 통계 조회
+     */
+    @Operation(
+        summary = "썸네일 작업 큐 통계 조회",
+        description = "상태별 썸네일 작업 수와 이 노드의 워커 사용량, 완료/재시도/실패 수를 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/thumbnails/jobs/stats")
+    public ResponseEntity<ThumbnailJobStatsResponse> getThumbnailJobStats() {
+        return ResponseEntity.ok(thumbnailJobDispatcher.getStats());
+    }
 
 }
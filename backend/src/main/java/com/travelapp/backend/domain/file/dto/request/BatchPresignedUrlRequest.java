@@ -0,0 +1,34 @@
+package com.travelapp.backend.domain.file.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "여행 이미지 Pre-signed URL 일괄 발급 요청 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPresignedUrlRequest {
+
+    public static final int MAX_FILES = 50;
+
+    @Schema(description = "여행 ID", example = "1", requiredMode = RequiredMode.REQUIRED)
+    @NotNull(message = "여행 ID는 필수입니다")
+    private Long tripId;
+
+    @Schema(description = "업로드할 파일 목록 (요청 순서대로 기존 이미지 뒤에 추가되며, 항목의 tripId/displayOrder 는 무시)",
+        requiredMode = RequiredMode.REQUIRED)
+    @NotEmpty(message = "파일 목록은 필수입니다")
+    @Size(max = MAX_FILES, message = "한 번에 최대 50개까지 요청할 수 있습니다")
+    @Valid
+    private List<PresignedUrlRequest> files;
+}
@@ -0,0 +1,28 @@
+package com.travelapp.backend.domain.file.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "업로드 완료 일괄 통지 요청 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUploadCompleteRequest {
+
+    public static final int MAX_FILES = 100;
+
+    @Schema(description = "파일별 업로드 결과 목록", requiredMode = RequiredMode.REQUIRED)
+    @NotEmpty(message = "파일 목록은 필수입니다")
+    @Size(max = MAX_FILES, message = "한 번에 최대 100개까지 통지할 수 있습니다")
+    @Valid
+    private List<UploadCompleteRequest> files;
+}
@@ -32,6 +32,12 @@ public class FileUploadResponse {
     @Schema(description = "썸네일 URL", example = "https://bucket.s3.amazonaws.com/thumbnails/...")
     private String thumbnailUrl;
 
+    @Schema(description = "작은 썸네일 URL", example = "https://bucket.s3.amazonaws.com/thumbnails/...")
+    private String thumbnailSmallUrl;
+
+    @Schema(description = "큰 썸네일 URL", example = "https://bucket.s3.amazonaws.com/thumbnails/...")
+    private String thumbnailLargeUrl;
+
     @Schema(description = "파일 크기 (바이트)", example = "2048576")
     private Long fileSize;
 
@@ -57,6 +63,8 @@ public class FileUploadResponse {
             .s3Key(fileInfo.getS3Key())
             .fileUrl(fileInfo.getS3Url())
             .thumbnailUrl(fileInfo.getThumbnailUrl())
+            .thumbnailSmallUrl(fileInfo.getThumbnailSmallUrl())
+            .thumbnailLargeUrl(fileInfo.getThumbnailLargeUrl())
             .fileSize(fileInfo.getFileSize())
             .fileType(fileInfo.getFileType())
             .contentType(fileInfo.getContentType())
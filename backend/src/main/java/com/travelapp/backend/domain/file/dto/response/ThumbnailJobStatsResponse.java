@@ -0,0 +1,43 @@
+package com.travelapp.backend.domain.file.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "썸네일 작업 큐 통계 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThumbnailJobStatsResponse {
+
+    @Schema(description = "대기 중인 작업 수 (재시도 대기 포함)", example = "12")
+    private Long pendingJobs;
+
+    @Schema(description = "처리 중인 작업 수 (전체 노드)", example = "4")
+    private Long processingJobs;
+
+    @Schema(description = "최종 실패한 작업 수", example = "1")
+    private Long failedJobs;
+
+    @Schema(description = "이 노드의 워커 수", example = "4")
+    private Integer concurrency;
+
+    @Schema(description = "이 노드에서 실행 중인 워커 수", example = "4")
+    private Integer activeWorkers;
+
+    @Schema(description = "이 노드에서 완료한 작업 수", example = "1024")
+    private Long completed;
+
+    @Schema(description = "이 노드에서 재시도 예약한 작업 수", example = "3")
+    private Long retried;
+
+    @Schema(description = "이 노드에서 최종 실패 처리한 작업 수", example = "1")
+    private Long failed;
+
+    @Schema(description = "워커가 모두 바빠 폴링을 미룬 횟수", example = "57")
+    private Long backPressureSkips;
+
+}
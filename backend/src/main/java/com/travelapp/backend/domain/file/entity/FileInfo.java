@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -16,7 +17,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "file_info")
+@Table(
+    name = "file_info",
+    indexes = @Index(name = "idx_file_info_thumbnail_job", columnList = "thumbnail_status, thumbnail_next_attempt_at")
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -42,6 +46,27 @@ public class FileInfo {
     @Column(name = "thumbnail_url", length = 1000)
     private String thumbnailUrl;
 
+    @Column(name = "thumbnail_small_url", length = 1000)
+    private String thumbnailSmallUrl;
+
+    @Column(name = "thumbnail_large_url", length = 1000)
+    private String thumbnailLargeUrl;
+
+    // 썸네일 작업 상태 (이미지가 아니거나 작업 큐 도입 전 파일은 null)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status")
+    private ThumbnailStatus thumbnailStatus;
+
+    @Column(name = "thumbnail_attempts", nullable = false)
+    @Builder.Default
+    private Integer thumbnailAttempts = 0;
+
+    @Column(name = "thumbnail_next_attempt_at")
+    private LocalDateTime thumbnailNextAttemptAt;
+
+    @Column(name = "thumbnail_claimed_at")
+    private LocalDateTime thumbnailClaimedAt;
+
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
@@ -88,9 +113,31 @@ public class FileInfo {
         this.deletedAt = LocalDateTime.now();
     }
 
-    public void updateThumbnailInfo(String thumbnailS3Key, String thumbnailUrl) {
+    public void updateThumbnailInfo(String thumbnailS3Key, String thumbnailUrl,
+        String thumbnailSmallUrl, String thumbnailLargeUrl) {
         this.thumbnailS3Key = thumbnailS3Key;
         this.thumbnailUrl = thumbnailUrl;
+        this.thumbnailSmallUrl = thumbnailSmallUrl;
+        this.thumbnailLargeUrl = thumbnailLargeUrl;
+        this.thumbnailStatus = ThumbnailStatus.COMPLETED;
+    }
+
+    /**
+     * 썸네일 생성 작업 등록 (같은 트랜잭션으로 커밋되어야 작업 큐에 보임)
+     */
+    public void requestThumbnail() {
+        this.thumbnailStatus = ThumbnailStatus.PENDING;
+        this.thumbnailAttempts = 0;
+        this.thumbnailNextAttemptAt = LocalDateTime.now();
+    }
+
+    public void scheduleThumbnailRetry(LocalDateTime nextAttemptAt) {
+        this.thumbnailStatus = ThumbnailStatus.PENDING;
+        this.thumbnailNextAttemptAt = nextAttemptAt;
+    }
+
+    public void markThumbnailFailed() {
+        this.thumbnailStatus = ThumbnailStatus.FAILED;
     }
 
     public boolean isImage() {
@@ -0,0 +1,16 @@
+package com.travelapp.backend.domain.file.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailStatus {
+
+    PENDING("썸네일 생성 대기중"),
+    PROCESSING("썸네일 생성중"),
+    COMPLETED("썸네일 생성 완료"),
+    FAILED("썸네일 생성 실패");
+
+    private final String description;
+}
@@ -2,6 +2,7 @@ package com.travelapp.backend.domain.file.repository;
 
 import com.travelapp.backend.domain.file.entity.FileInfo;
 import com.travelapp.backend.domain.file.entity.FileType;
+import com.travelapp.backend.domain.file.entity.ThumbnailStatus;
 import com.travelapp.backend.domain.file.entity.UploadStatus;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -82,4 +84,94 @@ public interface FileInfoRepository extends JpaRepository<FileInfo, Long> {
      * 특정 사용자의 업로드 상태별 파일 개수 조회
      */
     long countByUploadedByAndUploadStatusAndIsDeletedFalse(Long uploadedBy, UploadStatus status);
+
+    /**
+     * 실행 시각이 된 썸네일 작업 ID 조회 (오래 기다린 순)
+     */
+    @Query("SELECT f.id FROM FileInfo f WHERE f.thumbnailStatus = :status AND f.thumbnailNextAttemptAt <= :now " +
+        "AND f.isDeleted = false ORDER BY f.thumbnailNextAttemptAt ASC")
+    List<Long> findDueThumbnailJobIds(@Param("status") ThumbnailStatus status, @Param("now") LocalDateTime now,
+        Pageable pageable);
+
+    /**
+     * 썸네일 작업 선점 (대기 상태일 때만 처리 중으로 변경하므로 여러 노드가 같은 작업을 가져가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE FileInfo f SET f.thumbnailStatus = :processing, f.thumbnailClaimedAt = :now, " +
+        "f.thumbnailAttempts = f.thumbnailAttempts + 1 " +
+        "WHERE f.id = :id AND f.thumbnailStatus = :pending")
+    int claimThumbnailJob(@Param("id") Long id, @Param("now") LocalDateTime now,
+        @Param("pending") ThumbnailStatus pending, @Param("processing") ThumbnailStatus processing);
+
+    /**
+     * 선점 후 실행하지 못한 썸네일 작업을 시도 횟수를 되돌려 대기 상태로 반환
+     */
+    @Modifying
+    @Query("UPDATE FileInfo f SET f.thumbnailStatus = :pending, f.thumbnailAttempts = f.thumbnailAttempts - 1 " +
+        "WHERE f.id = :id AND f.thumbnailStatus = :processing")
+    int releaseThumbnailJob(@Param("id") Long id,
+        @Param("pending") ThumbnailStatus pending, @Param("processing") ThumbnailStatus processing);
+
+    /**
+     * 처리 중인 채로 오래된 썸네일 작업(노드 중단 등) 중 시도 횟수가 남은 작업을 다시 대기 상태로 변경
+     */
+    @Modifying
+    @Query("UPDATE FileInfo f SET f.thumbnailStatus = :pending, f.thumbnailNextAttemptAt = :now " +
+        "WHERE f.thumbnailStatus = :processing AND f.thumbnailClaimedAt < :claimedBefore " +
+        "AND f.thumbnailAttempts < :maxAttempts")
+    int releaseStaleThumbnailJobs(@Param("claimedBefore") LocalDateTime claimedBefore, @Param("now") LocalDateTime now,
+        @Param("maxAttempts") int maxAttempts,
+        @Param("pending") ThumbnailStatus pending, @Param("processing") ThumbnailStatus processing);
+
+    /**
+     * 처리 중인 채로 오래된 썸네일 작업 중 최대 시도 횟수에 도달한 작업을 실패로 종료
+     * (작업이 매번 노드를 중단시키는 경우 무한히 재시도하지 않도록 함)
+     */
+    @Modifying
+    @Query("UPDATE FileInfo f SET f.thumbnailStatus = :failed " +
+        "WHERE f.thumbnailStatus = :processing AND f.thumbnailClaimedAt < :claimedBefore " +
+        "AND f.thumbnailAttempts >= :maxAttempts")
+    int failStaleThumbnailJobs(@Param("claimedBefore") LocalDateTime claimedBefore,
+        @Param("maxAttempts") int maxAttempts,
+        @Param("processing") ThumbnailStatus processing, @Param("failed") ThumbnailStatus failed);
+
+    /**
+     * 업로드가 완료되었지만 썸네일 작업이 없는 이미지를 작업 큐에 등록 (작업 큐 도입 전 유실된 작업 복구)
+     */
+    @Modifying
+    @Query("UPDATE FileInfo f SET f.thumbnailStatus = :pending, f.thumbnailAttempts = 0, f.thumbnailNextAttemptAt = :now " +
+        "WHERE f.uploadStatus = 'COMPLETED' AND f.fileType = 'IMAGE' AND f.isDeleted = false " +
+        "AND f.thumbnailS3Key IS NULL AND f.thumbnailStatus IS NULL")
+    int enqueueMissingThumbnailJobs(@Param("now") LocalDateTime now, @Param("pending") ThumbnailStatus pending);
+
+    /**
+     * 업로드 대기 중인 파일들을 한 번에 완료 처리 (업로더 본인의 PENDING 파일만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FileInfo f SET f.uploadStatus = 'COMPLETED', f.uploadedAt = :now " +
+        "WHERE f.id IN :ids AND f.uploadedBy = :uploadedBy AND f.uploadStatus = 'PENDING'")
+    int completePendingUploads(@Param("ids") List<Long> ids, @Param("uploadedBy") Long uploadedBy,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * 업로드 대기 중인 파일들을 한 번에 실패 처리 (업로더 본인의 PENDING 파일만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FileInfo f SET f.uploadStatus = 'FAILED' " +
+        "WHERE f.id IN :ids AND f.uploadedBy = :uploadedBy AND f.uploadStatus = 'PENDING'")
+    int failPendingUploads(@Param("ids") List<Long> ids, @Param("uploadedBy") Long uploadedBy);
+
+    /**
+     * 업로드가 완료된 이미지들의 썸네일 작업을 한 번에 등록
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FileInfo f SET f.thumbnailStatus = :pending, f.thumbnailAttempts = 0, f.thumbnailNextAttemptAt = :now " +
+        "WHERE f.id IN :ids AND f.uploadStatus = 'COMPLETED' AND f.fileType = 'IMAGE' AND f.thumbnailStatus IS NULL")
+    int enqueueThumbnailJobs(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now,
+        @Param("pending") ThumbnailStatus pending);
+
+    /**
+     * 썸네일 작업 상태별 개수 조회
+     */
+    long countByThumbnailStatusAndIsDeletedFalse(ThumbnailStatus thumbnailStatus);
 }
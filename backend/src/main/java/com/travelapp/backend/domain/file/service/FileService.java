@@ -1,11 +1,13 @@
 package com.travelapp.backend.domain.file.service;
 
+import com.travelapp.backend.domain.file.dto.request.BatchPresignedUrlRequest;
 import com.travelapp.backend.domain.file.dto.request.PresignedUrlRequest;
 import com.travelapp.backend.domain.file.dto.request.UploadCompleteRequest;
 import com.travelapp.backend.domain.file.dto.response.FileUploadResponse;
 import com.travelapp.backend.domain.file.dto.response.PresignedUrlResponse;
 import com.travelapp.backend.domain.file.dto.response.TripImageResponse;
 import com.travelapp.backend.domain.file.entity.FileInfo;
+import com.travelapp.backend.domain.file.entity.ThumbnailStatus;
 import com.travelapp.backend.domain.file.entity.TripImage;
 import com.travelapp.backend.domain.file.entity.UploadStatus;
 import com.travelapp.backend.domain.file.repository.FileInfoRepository;
@@ -15,7 +17,12 @@ import com.travelapp.backend.domain.trip.service.TripService;
 import com.travelapp.backend.global.exception.BusinessException;
 import com.travelapp.backend.global.exception.dto.ErrorCode;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -32,7 +39,7 @@ public class FileService {
     private final FileInfoRepository fileInfoRepository;
     private final TripImageRepository tripImageRepository;
     private final S3PresignedUrlService s3PresignedUrlService;
-    private final ThumbnailService thumbnailService;
+    private final ThumbnailJobDispatcher thumbnailJobDispatcher;
     private final TripService tripService;
 
     /**
@@ -74,6 +81,50 @@ public class FileService {
         return response;
     }
 
+    /**
+     * 여행 이미지 업로드용 Pre-signed URL 일괄 발급
+     * FileInfo/TripImage 를 한 번에 저장하고, 표시 순서는 최대값을 한 번만 조회해 요청 순서대로 이어서 부여
+     */
+    public List<PresignedUrlResponse> generateTripImagePresignedUrls(BatchPresignedUrlRequest request, Long uploadedBy) {
+        List<PresignedUrlRequest> files = request.getFiles();
+        log.info("여행 이미지 Pre-signed URL 일괄 발급 요청 - 여행: {}, {}건, 사용자: {}",
+            request.getTripId(), files.size(), uploadedBy);
+
+        // 커버 이미지는 한 장만 지정 가능
+        long coverCount = files.stream().filter(file -> Boolean.TRUE.equals(file.getIsCoverImage())).count();
+        if (coverCount > 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 여행 존재 및 권한 확인
+        Trip trip = tripService.findTripWithOwnerValidation(request.getTripId());
+
+        // Pre-signed URL 일괄 생성 (S3PresignedUrlService에서 FileInfo 저장까지 처리)
+        List<PresignedUrlResponse> responses = s3PresignedUrlService.generatePresignedUrls(files, uploadedBy);
+
+        if (coverCount > 0) {
+            tripImageRepository.clearCoverImages(trip.getId());
+        }
+
+        // 여행 이미지 메타데이터도 미리 생성 (PENDING 상태)
+        int displayOrder = tripImageRepository.getMaxDisplayOrder(trip.getId());
+        List<TripImage> tripImages = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            PresignedUrlRequest file = files.get(i);
+            tripImages.add(TripImage.builder()
+                .trip(trip)
+                .fileInfo(fileInfoRepository.getReferenceById(responses.get(i).getFileId()))
+                .isCoverImage(Boolean.TRUE.equals(file.getIsCoverImage()))
+                .displayOrder(++displayOrder)
+                .caption(file.getCaption())
+                .build());
+        }
+        tripImageRepository.saveAll(tripImages);
+
+        log.info("여행 이미지 Pre-signed URL 일괄 발급 완료 - 여행: {}, {}건", trip.getId(), responses.size());
+        return responses;
+    }
+
     /**
      * 업로드 완료 처리
      */
@@ -103,6 +154,37 @@ public class FileService {
         return FileUploadResponse.from(updatedFileInfo);
     }
 
+    /**
+     * 업로드 결과 일괄 반영
+     * S3 확인은 호출 측(UploadCompletionService)에서 트랜잭션 밖에서 마친 뒤 결과만 받아
+     * 상태 변경과 썸네일 작업 등록을 파일 수와 무관한 bulk UPDATE 로 처리 (업로더 본인의 PENDING 파일만 변경)
+     */
+    public List<FileUploadResponse> applyUploadResults(Long uploadedBy, List<Long> fileIds,
+        List<Long> completedIds, List<Long> failedIds) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int completed = completedIds.isEmpty() ? 0
+            : fileInfoRepository.completePendingUploads(completedIds, uploadedBy, now);
+        int failed = failedIds.isEmpty() ? 0
+            : fileInfoRepository.failPendingUploads(failedIds, uploadedBy);
+
+        // 이미지인 경우 썸네일 작업 일괄 등록 (같은 트랜잭션으로 저장되고, 커밋 이후 워커가 처리)
+        int thumbnailJobs = completedIds.isEmpty() ? 0
+            : fileInfoRepository.enqueueThumbnailJobs(completedIds, now, ThumbnailStatus.PENDING);
+        if (thumbnailJobs > 0) {
+            thumbnailJobDispatcher.signalAfterCommit();
+        }
+
+        Map<Long, FileInfo> fileInfos = fileInfoRepository.findAllById(fileIds).stream()
+            .collect(Collectors.toMap(FileInfo::getId, Function.identity()));
+
+        log.info("업로드 완료 일괄 처리 완료 - 완료: {}, 실패: {}, 썸네일 작업: {}", completed, failed, thumbnailJobs);
+        return fileIds.stream()
+            .map(fileInfos::get)
+            .map(FileUploadResponse::from)
+            .toList();
+    }
+
     /**
      * 사용자 파일 목록 조회 (완료된 파일만)
      */
@@ -260,9 +342,10 @@ public class FileService {
         // 업로드 완료 상태로 변경
         fileInfo.markAsCompleted();
 
-        // 이미지인 경우 썸네일 생성 (비동기)
+        // 이미지인 경우 썸네일 작업 등록 (업로드 완료와 같은 트랜잭션으로 저장되고, 커밋 이후 워커가 처리)
         if (fileInfo.isImage()) {
-            thumbnailService.createThumbnailAsync(fileInfo);
+            fileInfo.requestThumbnail();
+            thumbnailJobDispatcher.signalAfterCommit();
         }
     }
 
@@ -5,6 +5,7 @@ import com.travelapp.backend.domain.file.dto.response.PresignedUrlResponse;
 import com.travelapp.backend.domain.file.entity.FileInfo;
 import com.travelapp.backend.domain.file.entity.FileType;
 import com.travelapp.backend.domain.file.repository.FileInfoRepository;
+import com.travelapp.backend.global.concurrent.ConcurrencyLimiter;
 import com.travelapp.backend.global.exception.BusinessException;
 import com.travelapp.backend.global.exception.dto.ErrorCode;
 import java.time.Duration;
@@ -29,7 +30,9 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 public class S3PresignedUrlService {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
     private final FileInfoRepository fileInfoRepository;
+    private final ConcurrencyLimiter s3IoLimiter;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
@@ -60,20 +63,51 @@ public class S3PresignedUrlService {
         FileInfo savedFileInfo = fileInfoRepository.save(fileInfo);
 
         // Pre-signed URL 생성
-        String presignedUrl = createPresignedUrl(s3key, request.getContentType());
+        PresignedUrlResponse response = toPresignedUrlResponse(savedFileInfo);
+
+        log.info("Pre-signed URL 생성 완료 - 파일 ID: {}, S3 키 : {}", savedFileInfo.getId(), s3key);
+        return response;
+    }
+
+    /**
+     * Pre-signed URL 일괄 생성
+     * 모든 요청을 먼저 검증한 뒤 FileInfo 를 한 번에 저장하고, 요청 순서대로 URL 을 발급
+     */
+    public List<PresignedUrlResponse> generatePresignedUrls(List<PresignedUrlRequest> requests, Long uploadedBy) {
+        log.info("Pre-signed URL 일괄 생성 요청 - {}건, 사용자: {}", requests.size(), uploadedBy);
+
+        // 하나라도 유효하지 않으면 아무것도 저장하지 않음
+        requests.forEach(this::validateUploadRequest);
+
+        List<FileInfo> fileInfos = requests.stream()
+            .map(request -> createPendingFileInfo(request, generateS3Key(request.getFileName()), uploadedBy))
+            .toList();
+        List<FileInfo> savedFileInfos = fileInfoRepository.saveAll(fileInfos);
+
+        List<PresignedUrlResponse> responses = savedFileInfos.stream()
+            .map(this::toPresignedUrlResponse)
+            .toList();
+
+        log.info("Pre-signed URL 일괄 생성 완료 - {}건", responses.size());
+        return responses;
+    }
+
+    /**
+     * 저장된 FileInfo 로 Pre-signed URL 응답 생성
+     */
+    private PresignedUrlResponse toPresignedUrlResponse(FileInfo fileInfo) {
+        String presignedUrl = createPresignedUrl(fileInfo.getS3Key(), fileInfo.getContentType());
 
         // 만료 시간 계산
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(presignedUrlExpiration);
 
-        log.info("Pre-signed URL 생성 완료 - 파일 ID: {}, S3 키 : {}", savedFileInfo.getId(), s3key);
-
         return PresignedUrlResponse.builder()
-            .fileId(savedFileInfo.getId())
+            .fileId(fileInfo.getId())
             .presignedUrl(presignedUrl)
-            .s3Key(s3key)
+            .s3Key(fileInfo.getS3Key())
             .headers(PresignedUrlResponse.UploadHeaders.builder()
-                .contentType(request.getContentType())
-                .contentLength(request.getFileSize())
+                .contentType(fileInfo.getContentType())
+                .contentLength(fileInfo.getFileSize())
                 .build())
             .expiresAt(expiresAt)
             .guide(PresignedUrlResponse.UploadGuide.builder()
@@ -203,8 +237,7 @@ public class S3PresignedUrlService {
      * Pre-signed PUT URL 생성
      */
     private String createPresignedUrl(String s3Key, String contentType) {
-        try (S3Presigner presigner = S3Presigner.create()) {
-
+        try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(s3Key)
@@ -216,7 +249,7 @@ public class S3PresignedUrlService {
                 .putObjectRequest(putObjectRequest)
                 .build();
 
-            PresignedPutObjectRequest presignedRequest = presigner.presignPutObject(presignRequest);
+            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
 
             return presignedRequest.url().toString();
         } catch (Exception e) {
@@ -229,14 +262,17 @@ public class S3PresignedUrlService {
      * S3에서 파일 존재 여부 확인
      */
     public boolean existsInS3(String s3Key) {
-        try {
-            s3Client.headObject(builder -> builder
-                .bucket(bucketName)
-                .key(s3Key));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        // 동시 호출 한도 초과(SERVER_BUSY)는 파일이 없는 것으로 처리하지 않도록 try 밖에서 대기
+        return s3IoLimiter.call(() -> {
+            try {
+                s3Client.headObject(builder -> builder
+                    .bucket(bucketName)
+                    .key(s3Key));
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
 
     /**
@@ -244,9 +280,9 @@ public class S3PresignedUrlService {
      */
     public void deleteFileFromS3(String s3Key) {
         try {
-            s3Client.deleteObject(builder -> builder
+            s3IoLimiter.call(() -> s3Client.deleteObject(builder -> builder
                 .bucket(bucketName)
-                .key(s3Key));
+                .key(s3Key)));
 
             log.info("S3 파일 삭제 완료 - {}", s3Key);
         } catch (Exception e) {
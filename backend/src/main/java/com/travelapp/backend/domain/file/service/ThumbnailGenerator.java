@@ -0,0 +1,177 @@
+package com.travelapp.backend.domain.file.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트리밍 썸네일 생성기
+ * 원본을 한 번에 메모리로 읽지 않고 스트림에서 바로 디코딩하며,
+ * 가장 큰 렌디션에 필요한 해상도까지만 서브샘플링 디코딩한 뒤 큰 렌디션부터 차례로 줄여 모든 크기를 한 번의 디코딩으로 생성
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final float quality;
+    private final long maxSourcePixels;
+
+    public ThumbnailGenerator(
+        @Value("${file.upload.thumbnail.quality}") double quality,
+        @Value("${file.upload.thumbnail.max-source-pixels:100000000}") long maxSourcePixels
+    ) {
+        this.quality = (float) quality;
+        this.maxSourcePixels = maxSourcePixels;
+    }
+
+    /**
+     * 렌디션 규격 (가로/세로 최대 크기, 비율 유지)
+     */
+    public record Spec(ThumbnailSize size, int width, int height) {
+    }
+
+    /**
+     * 인코딩된 렌디션 처리 (버퍼는 다음 렌디션에서 재사용되므로 호출 안에서 소비해야 함)
+     */
+    @FunctionalInterface
+    public interface RenditionHandler {
+
+        void handle(Spec spec, RenditionBuffer jpeg) throws IOException;
+    }
+
+    /**
+     * 복사 없이 입력 스트림으로 다시 읽을 수 있는 재사용 버퍼
+     */
+    public static class RenditionBuffer extends ByteArrayOutputStream {
+
+        RenditionBuffer(int size) {
+            super(size);
+        }
+
+        public InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+
+    /**
+     * 원본 이미지 스트림에서 모든 렌디션을 생성하여 큰 크기부터 순서대로 handler 에 전달
+     */
+    public void generate(InputStream source, List<Spec> specs, RenditionHandler handler) throws IOException {
+        List<Spec> ordered = specs.stream()
+            .sorted(Comparator.comparingLong((Spec spec) -> (long) spec.width() * spec.height()).reversed())
+            .toList();
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                throw new IOException("이미지 스트림을 열 수 없습니다");
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                BufferedImage current = decode(reader, ordered.get(0));
+
+                RenditionBuffer buffer = new RenditionBuffer(INITIAL_BUFFER_SIZE);
+                for (Spec spec : ordered) {
+                    current = resize(current, spec);
+                    buffer.reset();
+                    writeJpeg(current, buffer);
+                    handler.handle(spec, buffer);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가장 큰 렌디션보다 작아지지 않는 최대 정수 배율로 서브샘플링하여 디코딩
+     */
+    private BufferedImage decode(ImageReader reader, Spec largest) throws IOException {
+        int sourceWidth = reader.getWidth(0);
+        int sourceHeight = reader.getHeight(0);
+        if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+            throw new IOException("이미지 해상도가 너무 큽니다: " + sourceWidth + "x" + sourceHeight);
+        }
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        int factor = subsamplingFactor(sourceWidth, sourceHeight, largest);
+        if (factor > 1) {
+            param.setSourceSubsampling(factor, factor, 0, 0);
+        }
+        return reader.read(0, param);
+    }
+
+    static int subsamplingFactor(int sourceWidth, int sourceHeight, Spec largest) {
+        double scale = Math.min((double) largest.width() / sourceWidth, (double) largest.height() / sourceHeight);
+        if (scale >= 1.0) {
+            return 1;
+        }
+        return Math.max(1, (int) Math.floor(1.0 / scale));
+    }
+
+    // 규격보다 큰 경우에만 축소 (확대하지 않음)
+    private BufferedImage resize(BufferedImage image, Spec spec) throws IOException {
+        if (image.getWidth() <= spec.width() && image.getHeight() <= spec.height()) {
+            return image;
+        }
+        return Thumbnails.of(image)
+            .size(spec.width(), spec.height())
+            .asBufferedImage();
+    }
+
+    private void writeJpeg(BufferedImage image, RenditionBuffer buffer) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(toRgb(image), null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // JPEG 는 알파 채널을 지원하지 않으므로 흰 배경 위에 그려 RGB 로 변환
+    private BufferedImage toRgb(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.travelapp.backend.domain.file.service;
+
+import com.travelapp.backend.domain.file.dto.response.ThumbnailJobStatsResponse;
+import com.travelapp.backend.domain.file.entity.FileInfo;
+import com.travelapp.backend.domain.file.entity.ThumbnailStatus;
+import com.travelapp.backend.domain.file.service.ThumbnailService.ThumbnailUploadResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 썸네일 작업 큐 디스패처
+ * DB 에 저장된 대기 작업을 비어 있는 워커 수만큼만 선점하여 실행 (워커가 모두 바쁘면 작업은 DB 에 남아 다음 폴링에서 처리)
+ * 커밋 이후 신호를 받으면 다음 틱에 바로 폴링하고, 신호가 없으면 poll-interval 마다 폴링
+ */
+@Slf4j
+@Component
+public class ThumbnailJobDispatcher {
+
+    private final ThumbnailJobService thumbnailJobService;
+    private final ThumbnailService thumbnailService;
+    private final Executor thumbnailExecutor;
+    private final int concurrency;
+    private final long pollIntervalNanos;
+    private final Duration processingTimeout;
+
+    private final Semaphore workers;
+    private final AtomicBoolean wakeUp = new AtomicBoolean(true);
+    private volatile long nextPollAt;
+
+    private final LongAdder completedJobs = new LongAdder();
+    private final LongAdder retriedJobs = new LongAdder();
+    private final LongAdder failedJobs = new LongAdder();
+    private final LongAdder backPressureSkips = new LongAdder();
+
+    public ThumbnailJobDispatcher(
+        ThumbnailJobService thumbnailJobService,
+        ThumbnailService thumbnailService,
+        @Qualifier("thumbnailExecutor") Executor thumbnailExecutor,
+        @Value("${thumbnail.job.concurrency:4}") int concurrency,
+        @Value("${thumbnail.job.poll-interval-ms:5000}") long pollIntervalMillis,
+        @Value("${thumbnail.job.processing-timeout-ms:600000}") long processingTimeoutMillis
+    ) {
+        this.thumbnailJobService = thumbnailJobService;
+        this.thumbnailService = thumbnailService;
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.concurrency = concurrency;
+        this.pollIntervalNanos = Duration.ofMillis(pollIntervalMillis).toNanos();
+        this.processingTimeout = Duration.ofMillis(processingTimeoutMillis);
+        this.workers = new Semaphore(concurrency);
+    }
+
+    /**
+     * 새 작업이 커밋된 뒤 바로 폴링하도록 신호 (트랜잭션 밖이면 즉시)
+     */
+    public void signalAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp.set(true);
+                }
+            });
+            return;
+        }
+
+        wakeUp.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${thumbnail.job.tick-ms:200}")
+    public void tick() {
+        long now = System.nanoTime();
+        if (!wakeUp.getAndSet(false) && now - nextPollAt < 0) {
+            return;
+        }
+        nextPollAt = now + pollIntervalNanos;
+
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.warn("썸네일 작업 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비어 있는 워커 수만큼 대기 작업을 선점하여 실행
+     */
+    void dispatch() {
+        int idleWorkers = workers.availablePermits();
+        if (idleWorkers == 0) {
+            backPressureSkips.increment();
+            return;
+        }
+
+        List<Long> jobIds = thumbnailJobService.findDueJobIds(idleWorkers);
+        for (Long jobId : jobIds) {
+            if (!workers.tryAcquire()) {
+                break;
+            }
+            if (!thumbnailJobService.claim(jobId)) {
+                workers.release();
+                continue;
+            }
+
+            try {
+                thumbnailExecutor.execute(() -> {
+                    try {
+                        process(jobId);
+                    } finally {
+                        workers.release();
+                        wakeUp.set(true);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                workers.release();
+                thumbnailJobService.release(jobId);
+                backPressureSkips.increment();
+                return;
+            }
+        }
+
+        // 가져온 만큼 모두 실행했으면 더 남아 있을 수 있으므로 다음 틱에 다시 폴링
+        if (jobIds.size() == idleWorkers) {
+            wakeUp.set(true);
+        }
+    }
+
+    /**
+     * 오래 처리 중인 작업과 썸네일 없이 완료된 이미지를 작업 큐로 복구
+     */
+    @Scheduled(
+        initialDelayString = "${thumbnail.job.recovery-initial-delay-ms:10000}",
+        fixedDelayString = "${thumbnail.job.recovery-interval-ms:600000}"
+    )
+    public void recover() {
+        try {
+            int released = thumbnailJobService.releaseStaleJobs(processingTimeout);
+            int enqueued = thumbnailJobService.enqueueMissingThumbnails();
+            if (released > 0 || enqueued > 0) {
+                log.info("썸네일 작업 복구 - 중단된 작업 {} 건, 누락된 작업 {} 건", released, enqueued);
+                wakeUp.set(true);
+            }
+        } catch (Exception e) {
+            log.warn("썸네일 작업 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    public ThumbnailJobStatsResponse getStats() {
+        return ThumbnailJobStatsResponse.builder()
+            .pendingJobs(thumbnailJobService.countByStatus(ThumbnailStatus.PENDING))
+            .processingJobs(thumbnailJobService.countByStatus(ThumbnailStatus.PROCESSING))
+            .failedJobs(thumbnailJobService.countByStatus(ThumbnailStatus.FAILED))
+            .concurrency(concurrency)
+            .activeWorkers(concurrency - workers.availablePermits())
+            .completed(completedJobs.sum())
+            .retried(retriedJobs.sum())
+            .failed(failedJobs.sum())
+            .backPressureSkips(backPressureSkips.sum())
+            .build();
+    }
+
+    private void process(Long jobId) {
+        Optional<FileInfo> job;
+        try {
+            job = thumbnailJobService.findJob(jobId);
+        } catch (Exception e) {
+            // 조회조차 못하면 선점만 풀어 두고 다음 폴링에 맡김
+            log.warn("썸네일 작업 조회 실패 - 파일 ID: {}, 원인: {}", jobId, e.getMessage());
+            thumbnailJobService.release(jobId);
+            return;
+        }
+
+        if (job.isEmpty()) {
+            thumbnailJobService.fail(jobId, "삭제된 파일", false);
+            failedJobs.increment();
+            return;
+        }
+
+        try {
+            ThumbnailUploadResult result = thumbnailService.createThumbnails(job.get());
+            thumbnailJobService.complete(jobId, result);
+            completedJobs.increment();
+        } catch (Exception e) {
+            if (thumbnailJobService.fail(jobId, e.getMessage(), true)) {
+                retriedJobs.increment();
+            } else {
+                failedJobs.increment();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.travelapp.backend.domain.file.service;
+
+import com.travelapp.backend.domain.file.entity.FileInfo;
+import com.travelapp.backend.domain.file.entity.ThumbnailStatus;
+import com.travelapp.backend.domain.file.repository.FileInfoRepository;
+import com.travelapp.backend.domain.file.service.ThumbnailService.ThumbnailUploadResult;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 썸네일 작업 큐 상태 변경
+ * 작업은 FileInfo 의 썸네일 상태 컬럼으로 DB 에 저장되므로 재시작해도 유실되지 않으며,
+ * 조건부 UPDATE 로 선점하여 여러 노드가 같은 작업을 동시에 처리하지 않음
+ */
+@Slf4j
+@Service
+@Transactional
+public class ThumbnailJobService {
+
+    private final FileInfoRepository fileInfoRepository;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+
+    public ThumbnailJobService(
+        FileInfoRepository fileInfoRepository,
+        @Value("${thumbnail.job.max-attempts:5}") int maxAttempts,
+        @Value("${thumbnail.job.backoff-base-ms:5000}") long backoffBaseMillis,
+        @Value("${thumbnail.job.backoff-max-ms:600000}") long backoffMaxMillis
+    ) {
+        this.fileInfoRepository = fileInfoRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+    }
+
+    /**
+     * 실행 시각이 된 작업 ID 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueJobIds(int limit) {
+        return fileInfoRepository.findDueThumbnailJobIds(
+            ThumbnailStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit)
+        );
+    }
+
+    /**
+     * 작업 선점 (다른 노드가 먼저 가져갔으면 false)
+     */
+    public boolean claim(Long fileId) {
+        return fileInfoRepository.claimThumbnailJob(
+            fileId, LocalDateTime.now(), ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING
+        ) == 1;
+    }
+
+    /**
+     * 선점했지만 실행하지 못한 작업을 대기 상태로 반환
+     */
+    public void release(Long fileId) {
+        fileInfoRepository.releaseThumbnailJob(fileId, ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<FileInfo> findJob(Long fileId) {
+        return fileInfoRepository.findById(fileId)
+            .filter(fileInfo -> !fileInfo.getIsDeleted());
+    }
+
+    public void complete(Long fileId, ThumbnailUploadResult result) {
+        fileInfoRepository.findById(fileId).ifPresent(fileInfo -> fileInfo.updateThumbnailInfo(
+            result.thumbnailS3Key(),
+            result.thumbnailUrl(),
+            result.thumbnailSmallUrl(),
+            result.thumbnailLargeUrl()
+        ));
+    }
+
+    /**
+     * 작업 실패 처리 - 시도 횟수가 남았으면 지수 백오프 후 재시도, 아니면 실패로 종료
+     *
+     * @return 재시도 예정이면 true
+     */
+    public boolean fail(Long fileId, String reason, boolean retryable) {
+        FileInfo fileInfo = fileInfoRepository.findById(fileId).orElse(null);
+        if (fileInfo == null) {
+            return false;
+        }
+
+        int attempts = fileInfo.getThumbnailAttempts();
+        if (!retryable || attempts >= maxAttempts) {
+            fileInfo.markThumbnailFailed();
+            log.error("썸네일 작업 실패 - 파일 ID: {}, 시도: {}회, 원인: {}", fileId, attempts, reason);
+            return false;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(attempts)));
+        fileInfo.scheduleThumbnailRetry(nextAttemptAt);
+        log.warn("썸네일 작업 재시도 예정 - 파일 ID: {}, 시도: {}회, 다음 시도: {}, 원인: {}",
+            fileId, attempts, nextAttemptAt, reason);
+        return true;
+    }
+
+    /**
+     * 처리 중인 채로 timeout 이상 지난 작업(노드 중단 등)을 다시 대기 상태로 변경
+     * 최대 시도 횟수에 도달한 작업은 다시 대기시키지 않고 실패로 종료
+     *
+     * @return 다시 대기 상태로 변경한 작업 수
+     */
+    public int releaseStaleJobs(Duration timeout) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedBefore = now.minus(timeout);
+
+        int failed = fileInfoRepository.failStaleThumbnailJobs(
+            claimedBefore, maxAttempts, ThumbnailStatus.PROCESSING, ThumbnailStatus.FAILED
+        );
+        if (failed > 0) {
+            log.error("썸네일 작업 실패 - 처리 중 중단된 작업 {} 건이 최대 시도 횟수({}회)에 도달", failed, maxAttempts);
+        }
+
+        return fileInfoRepository.releaseStaleThumbnailJobs(
+            claimedBefore, now, maxAttempts, ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING
+        );
+    }
+
+    /**
+     * 업로드가 완료되었지만 썸네일이 없고 작업도 없는 이미지를 작업 큐에 등록
+     */
+    public int enqueueMissingThumbnails() {
+        return fileInfoRepository.enqueueMissingThumbnailJobs(LocalDateTime.now(), ThumbnailStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public long countByStatus(ThumbnailStatus status) {
+        return fileInfoRepository.countByThumbnailStatusAndIsDeletedFalse(status);
+    }
+
+    /**
+     * attempts 번째 실패 후 대기 시간 (기본값 × 2^(attempts-1), 최대값 제한, ±20% 지터)
+     */
+    long backoffMillis(int attempts) {
+        long exponential = backoffBaseMillis << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(exponential, backoffMaxMillis);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (capped * jitter);
+    }
+
+}
@@ -1,24 +1,25 @@
 package com.travelapp.backend.domain.file.service;
 
 import com.travelapp.backend.domain.file.entity.FileInfo;
-import com.travelapp.backend.domain.file.repository.FileInfoRepository;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import com.travelapp.backend.domain.file.service.ThumbnailGenerator.RenditionBuffer;
+import com.travelapp.backend.domain.file.service.ThumbnailGenerator.Spec;
+import com.travelapp.backend.global.concurrent.ConcurrencyLimiter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import javax.imageio.ImageIO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Service
@@ -26,8 +27,11 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 @RequiredArgsConstructor
 public class ThumbnailService {
 
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
     private final S3Client s3Client;
-    private final FileInfoRepository fileInfoRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ConcurrencyLimiter s3IoLimiter;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
@@ -38,120 +42,111 @@ public class ThumbnailService {
     @Value("${file.upload.thumbnail.height}")
     private int thumbnailHeight;
 
-    @Value("${file.upload.thumbnail.quality}")
-    private double thumbnailQuality;
+    @Value("${file.upload.thumbnail.small-size:150}")
+    private int smallThumbnailSize;
+
+    @Value("${file.upload.thumbnail.large-size:1080}")
+    private int largeThumbnailSize;
 
     /**
-     * 비동기 썸네일 생성
+     * 썸네일 생성 결과 (기존 썸네일 필드는 중간 크기)
      */
-    @Async
-    public void createThumbnailAsync(FileInfo fileInfo) {
-        log.info("썸네일 생성 시작 - 파일 ID: {}, S3 키: {}", fileInfo.getId(), fileInfo.getS3Key());
-
-        try {
-            // S3에서 원본 이미지 다운로드
-            byte[] originalImageData = downloadImageFromS3(fileInfo.getS3Key());
-
-            // 썸네일 생성
-            byte[] thumbnailData = createThumbnail(originalImageData);
-
-            // 썸네일 S3 키 생성
-            String thumbnailS3Key = generateThumbnailS3Key(fileInfo.getS3Key());
-
-            // 썸네일을 S3에 업로드
-            uploadThumbnailToS3(thumbnailS3Key, thumbnailData, "image/jpeg");
-
-            // 썸네일 URL 생성
-            String thumbnailUrl = generateS3Url(thumbnailS3Key);
-
-            // FileInfo에 썸네일 정보 업데이트
-            fileInfo.updateThumbnailInfo(thumbnailS3Key, thumbnailUrl);
-            fileInfoRepository.save(fileInfo);
-
-
-        } catch (Exception e) {
-            log.error("썸네일 생성 실패 - 파일 ID: {}, S3 키: {}", fileInfo.getId(), fileInfo.getS3Key(), e);
-            // 썸네일 생성 실패는 전체 업로드를 실패시키지 않음
-        }
+    public record ThumbnailUploadResult(
+        String thumbnailS3Key,
+        String thumbnailUrl,
+        String thumbnailSmallUrl,
+        String thumbnailLargeUrl
+    ) {
     }
 
     /**
-     * S3(AWS)에서 이미지 다운로드
+     * 썸네일 생성
+     * S3 원본을 스트림으로 읽어 한 번의 디코딩으로 작은/중간/큰 썸네일을 만들고 차례로 업로드
+     * (DB 반영과 재시도는 썸네일 작업 큐에서 처리)
      */
-    private byte[] downloadImageFromS3(String s3Key) throws IOException {
-        try {
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucketName)
-                .key(s3Key)
-                .build();
+    public ThumbnailUploadResult createThumbnails(FileInfo fileInfo) throws IOException {
+        log.info("썸네일 생성 시작 - 파일 ID: {}, S3 키: {}", fileInfo.getId(), fileInfo.getS3Key());
 
-            return s3Client.getObject(getObjectRequest).readAllBytes();
-        } catch (Exception e) {
-            log.error("S3에서 이미지 다운로드 실패 - S3 키: {}", s3Key, e);
-            throw new IOException("S3 이미지 다운로드 실패", e);
-        }
+        // 원본 다운로드와 썸네일 업로드를 하나의 S3 작업으로 보고 허용량 하나만 사용 (중첩 대기로 인한 교착 방지)
+        Map<ThumbnailSize, String> thumbnailS3Keys = s3IoLimiter.call(() -> uploadThumbnails(fileInfo.getS3Key()));
+
+        String thumbnailS3Key = thumbnailS3Keys.get(ThumbnailSize.MEDIUM);
+        return new ThumbnailUploadResult(
+            thumbnailS3Key,
+            generateS3Url(thumbnailS3Key),
+            generateS3Url(thumbnailS3Keys.get(ThumbnailSize.SMALL)),
+            generateS3Url(thumbnailS3Keys.get(ThumbnailSize.LARGE))
+        );
     }
 
     /**
-     * 지정된 크기 품질로 수정 및 썸네일 생성후 반환
+     * S3 원본 스트림에서 모든 크기의 썸네일을 생성하여 업로드
+     *
+     * @return 크기별 썸네일 S3 키
      */
-    private byte[] createThumbnail(byte[] originalImageData) throws IOException {
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(originalImageData);
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-
-            // BufferedImage로 읽기
-            BufferedImage originalImage = ImageIO.read(inputStream);
-            if (originalImage == null) {
-                throw new IOException("이미지 파일을 읽을 수 없습니다");
-            }
-
-            // 썸네일 생성 (비율 유지하면서 크기 조정)
-            Thumbnails.of(originalImage)
-                .size(thumbnailWidth, thumbnailHeight)
-                .outputQuality(thumbnailQuality)
-                .outputFormat("jpg")
-                .toOutputStream(outputStream);
-
-            return outputStream.toByteArray();
-        } catch (Exception e) {
-            log.error("썸네일 생성 실패", e);
-            throw new IOException("썸네일 생성 실패", e);
+    private Map<ThumbnailSize, String> uploadThumbnails(String originalS3Key) throws IOException {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+            .bucket(bucketName)
+            .key(originalS3Key)
+            .build();
+
+        // 예상과 다른 경로 구조일 때 모든 크기가 같은 이름을 쓰도록 한 번만 생성
+        String fallbackName = UUID.randomUUID().toString().substring(0, 8) + ".jpg";
+        Map<ThumbnailSize, String> thumbnailS3Keys = new EnumMap<>(ThumbnailSize.class);
+
+        try (ResponseInputStream<GetObjectResponse> original = s3Client.getObject(getObjectRequest)) {
+            thumbnailGenerator.generate(original, thumbnailSpecs(), (spec, jpeg) -> {
+                String thumbnailS3Key = generateThumbnailS3Key(originalS3Key, spec.size(), fallbackName);
+                uploadThumbnailToS3(thumbnailS3Key, jpeg);
+                thumbnailS3Keys.put(spec.size(), thumbnailS3Key);
+            });
         }
+        return thumbnailS3Keys;
+    }
+
+    private List<Spec> thumbnailSpecs() {
+        return List.of(
+            new Spec(ThumbnailSize.SMALL, smallThumbnailSize, smallThumbnailSize),
+            new Spec(ThumbnailSize.MEDIUM, thumbnailWidth, thumbnailHeight),
+            new Spec(ThumbnailSize.LARGE, largeThumbnailSize, largeThumbnailSize)
+        );
     }
 
     /**
      *  썸네일 S3 키 생성
      */
-    private String generateThumbnailS3Key(String originalS3Key) {
-        // uploads/2024/12/01/uuid_filename.jpg -> thumbnails/2024/12/01/thumb_uuid_filename.jpg
+    private String generateThumbnailS3Key(String originalS3Key, ThumbnailSize size, String fallbackName) {
+        // uploads/2024/12/01/uuid_filename.jpg -> thumbnails/2024/12/01/thumb_uuid_filename.jpg (작은/큰 썸네일은 thumb_s_, thumb_l_)
         String[] parts = originalS3Key.split("/");
         if (parts.length >= 4) {
             String fileName = parts[parts.length - 1];
             String datePath = String.join("/", parts[1], parts[2], parts[3]);
-            return String.format("thumbnails/%s/thumb_%s", datePath, fileName);
+            return String.format("thumbnails/%s/%s%s", datePath, size.getKeyPrefix(), fileName);
         } else {
             // 예상과 다른 경로 구조인 경우 기본 방식 사용
-            String uuid = UUID.randomUUID().toString().substring(0, 8);
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-            return String.format("thumbnails/%s/thumb_%s.jpg", timestamp, uuid);
+            return String.format("thumbnails/%s/%s%s", timestamp, size.getKeyPrefix(), fallbackName);
         }
     }
 
     /**
      * 썸네일을 S3에 업로드
+     * 인코딩 버퍼를 복사하지 않고 스트림 본문으로 전송 (재시도 시 버퍼를 처음부터 다시 읽음)
      */
-    private void uploadThumbnailToS3(String thumbnailS3Key, byte[] thumbnailData, String contentType) {
+    private void uploadThumbnailToS3(String thumbnailS3Key, RenditionBuffer jpeg) {
         try {
+            long contentLength = jpeg.size();
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(thumbnailS3Key)
-                .contentType(contentType)
-                .contentLength((long) thumbnailData.length)
+                .contentType(THUMBNAIL_CONTENT_TYPE)
+                .contentLength(contentLength)
                 .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(thumbnailData));
+            s3Client.putObject(putObjectRequest,
+                RequestBody.fromContentProvider(jpeg::toInputStream, contentLength, THUMBNAIL_CONTENT_TYPE));
 
-            log.debug("썸네일 S3 업로드 완료 - 키: {}, 크기: {}bytes", thumbnailS3Key, thumbnailData.length);
+            log.debug("썸네일 S3 업로드 완료 - 키: {}, 크기: {}bytes", thumbnailS3Key, contentLength);
         } catch (Exception e) {
             log.error("썸네일 S3 업로드 실패 - 키: {}", thumbnailS3Key, e);
             throw new RuntimeException("썸네일 S3 업로드 실패");
@@ -165,33 +160,4 @@ public class ThumbnailService {
         return String.format("https://%s.s3.amazonaws.com/%s", bucketName, s3Key);
     }
 
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 }
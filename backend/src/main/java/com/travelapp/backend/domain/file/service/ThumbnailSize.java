@@ -0,0 +1,19 @@
+package com.travelapp.backend.domain.file.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 썸네일 크기별 렌디션
+ * MEDIUM 은 기존 썸네일(thumbnailS3Key/thumbnailUrl)과 같은 키 규칙을 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailSize {
+
+    SMALL("thumb_s_"),
+    MEDIUM("thumb_"),
+    LARGE("thumb_l_");
+
+    private final String keyPrefix;
+}
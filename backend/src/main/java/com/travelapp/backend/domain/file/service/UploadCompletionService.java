@@ -0,0 +1,148 @@
+package com.travelapp.backend.domain.file.service;
+
+import com.travelapp.backend.domain.file.dto.request.BatchUploadCompleteRequest;
+import com.travelapp.backend.domain.file.dto.request.UploadCompleteRequest;
+import com.travelapp.backend.domain.file.dto.response.FileUploadResponse;
+import com.travelapp.backend.domain.file.entity.FileInfo;
+import com.travelapp.backend.domain.file.entity.UploadStatus;
+import com.travelapp.backend.domain.file.repository.FileInfoRepository;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 업로드 완료 일괄 처리
+ * S3 HEAD 확인과 실패 파일 삭제 같은 네트워크 I/O 는 트랜잭션 밖에서 병렬로 수행하고,
+ * 상태 변경은 FileService.applyUploadResults 의 짧은 트랜잭션 하나로 반영하여 DB 커넥션을 I/O 동안 점유하지 않음
+ */
+@Slf4j
+@Service
+public class UploadCompletionService {
+
+    private final FileInfoRepository fileInfoRepository;
+    private final FileService fileService;
+    private final S3PresignedUrlService s3PresignedUrlService;
+    private final Executor uploadCheckExecutor;
+
+    public UploadCompletionService(
+        FileInfoRepository fileInfoRepository,
+        FileService fileService,
+        S3PresignedUrlService s3PresignedUrlService,
+        @Qualifier("uploadCheckExecutor") Executor uploadCheckExecutor
+    ) {
+        this.fileInfoRepository = fileInfoRepository;
+        this.fileService = fileService;
+        this.s3PresignedUrlService = s3PresignedUrlService;
+        this.uploadCheckExecutor = uploadCheckExecutor;
+    }
+
+    /**
+     * 업로드 완료 일괄 처리 (요청 순서대로 응답)
+     */
+    public List<FileUploadResponse> completeUploads(BatchUploadCompleteRequest request, Long uploadedBy) {
+        Map<Long, UploadCompleteRequest> requests = new LinkedHashMap<>();
+        for (UploadCompleteRequest file : request.getFiles()) {
+            if (requests.putIfAbsent(file.getFileId(), file) != null) {
+                log.warn("업로드 완료 일괄 통지에 중복된 파일 ID - {}", file.getFileId());
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+        List<Long> fileIds = new ArrayList<>(requests.keySet());
+        log.info("업로드 완료 일괄 처리 - {}건, 사용자: {}", fileIds.size(), uploadedBy);
+
+        // 파일 조회 (리포지토리의 읽기 트랜잭션만 사용하고 바로 커넥션 반환)
+        List<FileInfo> fileInfos = fileInfoRepository.findAllById(fileIds);
+        if (fileInfos.size() != fileIds.size()
+            || fileInfos.stream().anyMatch(fileInfo -> !fileInfo.getUploadedBy().equals(uploadedBy))) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+
+        // 업로드 성공으로 통지된 대기 파일의 S3 존재 여부를 병렬로 확인
+        Map<Long, CompletableFuture<Boolean>> checks = new HashMap<>();
+        for (FileInfo fileInfo : fileInfos) {
+            if (isPending(fileInfo) && Boolean.TRUE.equals(requests.get(fileInfo.getId()).getSuccess())) {
+                checks.put(fileInfo.getId(), checkExists(fileInfo.getS3Key()));
+            }
+        }
+
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        Map<Long, String> partialUploads = new HashMap<>();
+        for (FileInfo fileInfo : fileInfos) {
+            if (!isPending(fileInfo)) {
+                continue;
+            }
+
+            UploadCompleteRequest file = requests.get(fileInfo.getId());
+            if (!Boolean.TRUE.equals(file.getSuccess())) {
+                log.warn("파일 업로드 실패 - 파일 ID: {}, 오류: {}", fileInfo.getId(), file.getErrorMessage());
+                failedIds.add(fileInfo.getId());
+                partialUploads.put(fileInfo.getId(), fileInfo.getS3Key());
+            } else if (await(checks.get(fileInfo.getId()))) {
+                completedIds.add(fileInfo.getId());
+            } else {
+                log.warn("S3에 파일이 존재하지 않음 - {}", fileInfo.getS3Key());
+                failedIds.add(fileInfo.getId());
+            }
+        }
+
+        // 상태 변경과 썸네일 작업 등록은 한 번의 짧은 트랜잭션으로 반영
+        List<FileUploadResponse> responses = fileService.applyUploadResults(uploadedBy, fileIds, completedIds, failedIds);
+
+        // 업로드가 부분적으로 진행되었을 수 있으므로 커밋 이후 S3에서 삭제 (실패해도 로그만 기록)
+        // 조회 이후 다른 요청이 먼저 완료 처리한 파일은 PENDING 이 아니어서 실패로 바뀌지 않으므로,
+        // 상태 변경 후 다시 읽은 상태가 FAILED 인 파일만 삭제
+        for (FileUploadResponse response : responses) {
+            String s3Key = partialUploads.get(response.getId());
+            if (s3Key != null && response.getUploadStatus() == UploadStatus.FAILED) {
+                deleteAsync(s3Key);
+            }
+        }
+
+        return responses;
+    }
+
+    private boolean isPending(FileInfo fileInfo) {
+        return fileInfo.getUploadStatus() == UploadStatus.PENDING;
+    }
+
+    private CompletableFuture<Boolean> checkExists(String s3Key) {
+        try {
+            return CompletableFuture.supplyAsync(() -> s3PresignedUrlService.existsInS3(s3Key), uploadCheckExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(s3PresignedUrlService.existsInS3(s3Key));
+        }
+    }
+
+    private void deleteAsync(String s3Key) {
+        try {
+            uploadCheckExecutor.execute(() -> s3PresignedUrlService.deleteFileFromS3(s3Key));
+        } catch (RejectedExecutionException e) {
+            s3PresignedUrlService.deleteFileFromS3(s3Key);
+        }
+    }
+
+    // S3 동시 호출 한도 초과(SERVER_BUSY) 등은 원래 예외 그대로 전달
+    private boolean await(CompletableFuture<Boolean> check) {
+        try {
+            return check.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
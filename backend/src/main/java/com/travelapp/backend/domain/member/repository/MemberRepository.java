@@ -3,10 +3,15 @@ package com.travelapp.backend.domain.member.repository;
 import com.travelapp.backend.domain.member.entity.Member;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT m.nickname FROM Member m WHERE m.id = :memberId")
+    Optional<String> findNicknameById(@Param("memberId") Long memberId);
 }
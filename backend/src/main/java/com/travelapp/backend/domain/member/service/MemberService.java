@@ -14,10 +14,12 @@ import com.travelapp.backend.global.exception.InvalidValueException;
 import com.travelapp.backend.global.exception.dto.ErrorCode;
 import com.travelapp.backend.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
@@ -59,6 +61,7 @@ public class MemberService {
 
         // Refresh Token을 Redis에 저장
         refreshTokenService.saveRefreshToken(refreshToken, member.getId());
+        refreshTokenService.cacheMemberEmail(member.getId(), member.getEmail());
 
         return MemberLoginResponse.of(member, accessToken, refreshToken);
     }
@@ -72,46 +75,54 @@ public class MemberService {
         return MemberResponse.of(member);
     }
 
-    @Transactional
+    /**
+     * 토큰 갱신 - Refresh Token 회전
+     * 검증/소비/교체는 Redis 스크립트 한 번으로 처리하고, 이메일은 캐시에서 가져오므로
+     * 일반적인 경우 DB 를 조회하지 않음 (트랜잭션 불필요)
+     */
     public TokenRefreshResponse refreshToken(String refreshToken) {
 
-        // 리프레시 토큰 유효성 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
+        // 서명/만료/토큰 타입 검증과 사용자 ID 추출을 한 번의 파싱으로 처리
+        Long memberId = jwtUtil.parseRefreshToken(refreshToken);
+        if (memberId == null) {
             throw new InvalidValueException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 리프레시 토큰인지 확인
-        if (!jwtUtil.isRefreshToken(refreshToken)) {
-            throw new InvalidValueException(ErrorCode.INVALID_TOKEN);
-        }
+        String newRefreshToken = jwtUtil.generateRefreshToken(memberId);
+        RefreshTokenRotation rotation =
+            refreshTokenService.rotateRefreshToken(refreshToken, newRefreshToken, memberId);
 
-        // Redis에서 Refresh Token 존재 여부 확인
-        if (!refreshTokenService.existsRefreshToken(refreshToken)) {
-            throw new InvalidValueException(ErrorCode.INVALID_TOKEN);
+        // 이미 회전된 토큰의 재사용 - 탈취로 간주하고 해당 사용자의 모든 토큰 무효화
+        if (rotation.isReused()) {
+            log.warn("Refresh Token 재사용 탐지 - 사용자 ID: {}, 모든 토큰을 무효화합니다.", memberId);
+            refreshTokenService.deleteAllRefreshTokensByMemberId(memberId);
+            throw new InvalidValueException(ErrorCode.REFRESH_TOKEN_REUSED);
         }
 
-        // Redis에서 사용자 ID 추출
-        Long memberId = refreshTokenService.getMemberIdByToken(refreshToken);
-        if (memberId == null) {
+        if (!rotation.isRotated()) {
             throw new InvalidValueException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 사용자 존재 여부 확인
-        Member member = memberRepository.findById(memberId).orElseThrow(
-            MemberNotFoundException::new
-        );
+        String email = rotation.email() != null ? rotation.email() : loadMemberEmail(memberId, newRefreshToken);
+        String newAccessToken = jwtUtil.generateToken(memberId, email);
 
-        // 기존 Refresh Token 삭제
-        refreshTokenService.deleteRefreshToken(refreshToken);
+        return TokenRefreshResponse.of(newAccessToken, newRefreshToken);
+    }
 
-        // 새로운 토큰 생성
-        String newAccessToken = jwtUtil.generateToken(member.getId(), member.getEmail());
-        String newRefreshToken = jwtUtil.generateRefreshToken(member.getId());
+    /**
+     * 이메일 캐시 미스 시 DB 에서 조회 후 캐시
+     * 회원이 존재하지 않으면 방금 발급한 Refresh Token 을 폐기
+     */
+    private String loadMemberEmail(Long memberId, String newRefreshToken) {
+        Member member = memberRepository.findById(memberId).orElse(null);
 
-        // 새로운 Refresh Token을 Redis에 저장
-        refreshTokenService.saveRefreshToken(newRefreshToken, member.getId());
+        if (member == null) {
+            refreshTokenService.deleteRefreshToken(newRefreshToken);
+            throw new MemberNotFoundException();
+        }
 
-        return TokenRefreshResponse.of(newAccessToken, newRefreshToken);
+        refreshTokenService.cacheMemberEmail(memberId, member.getEmail());
+        return member.getEmail();
     }
 
     /**
@@ -119,7 +130,8 @@ public class MemberService {
      */
     @Transactional
     public void logout(String refreshToken) {
-        if (refreshToken != null && refreshTokenService.existsRefreshToken(refreshToken)) {
+        // 존재하지 않는 토큰이면 삭제 스크립트가 아무 작업도 하지 않음
+        if (refreshToken != null) {
             refreshTokenService.deleteRefreshToken(refreshToken);
         }
     }
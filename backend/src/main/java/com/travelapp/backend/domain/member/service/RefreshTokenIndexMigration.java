@@ -0,0 +1,132 @@
+package com.travelapp.backend.domain.member.service;
+
+import static com.travelapp.backend.domain.member.service.RefreshTokenService.MEMBER_TOKENS_PREFIX;
+import static com.travelapp.backend.domain.member.service.RefreshTokenService.REFRESH_TOKEN_PREFIX;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 Refresh Token 인덱스(member_tokens:{memberId}) 마이그레이션
+ * 인덱스 도입 이전에 발급된 refresh_token:* 키를 한 번 SCAN 하여 인덱스에 등록
+ * 실행 중 잠금 키(TTL)로 여러 노드에서 동시에 기동되어도 한 번만 실행하고, 성공한 뒤에만 완료 표시 키를 기록
+ * 실행 중인 노드가 죽으면 잠금이 만료되어 다음 기동 시 다시 실행 (SADD 만 하므로 겹쳐 실행되어도 결과는 같음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenIndexMigration {
+
+    private static final String MIGRATION_DONE_KEY = "migration:member_tokens_index";
+    private static final String MIGRATION_LOCK_KEY = "migration:member_tokens_index:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int BATCH_SIZE = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(MIGRATION_DONE_KEY))) {
+                return;
+            }
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(MIGRATION_LOCK_KEY, "running", LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Refresh Token 회원별 인덱스 마이그레이션을 건너뜁니다: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            int migrated = migrate();
+            redisTemplate.opsForValue().set(MIGRATION_DONE_KEY, "done");
+            log.info("Refresh Token 회원별 인덱스 마이그레이션 완료 - {}개", migrated);
+        } catch (Exception e) {
+            log.error("Refresh Token 회원별 인덱스 마이그레이션 실패: {}", e.getMessage(), e);
+        } finally {
+            // 실패하면 다음 기동 시 재시도할 수 있도록 잠금 해제
+            try {
+                redisTemplate.delete(MIGRATION_LOCK_KEY);
+            } catch (Exception e) {
+                log.warn("Refresh Token 회원별 인덱스 마이그레이션 잠금 해제 실패 (만료 후 해제됨): {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 기존 refresh_token:* 키를 회원별 인덱스에 등록
+     *
+     * @return 등록한 토큰 수
+     */
+    public int migrate() {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+            .match(REFRESH_TOKEN_PREFIX + "*")
+            .count(BATCH_SIZE)
+            .build();
+
+        int migrated = 0;
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == BATCH_SIZE) {
+                    migrated += migrateBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            migrated += migrateBatch(batch);
+        }
+        return migrated;
+    }
+
+    /**
+     * 배치 단위로 memberId 를 MGET 한 뒤 SADD/EXPIRE 를 파이프라인으로 전송
+     */
+    private int migrateBatch(List<String> keys) {
+        List<String> memberIds = redisTemplate.opsForValue().multiGet(keys);
+        if (memberIds == null) {
+            return 0;
+        }
+
+        int count = 0;
+        List<String[]> entries = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            String memberId = memberIds.get(i);
+            if (memberId != null) {
+                entries.add(new String[]{memberId, keys.get(i).substring(REFRESH_TOKEN_PREFIX.length())});
+                count++;
+            }
+        }
+
+        long ttlSeconds = TimeUnit.DAYS.toSeconds(RefreshTokenService.REFRESH_TOKEN_EXPIRATION_DAYS);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String[] entry : entries) {
+                byte[] indexKey = (MEMBER_TOKENS_PREFIX + entry[0]).getBytes(StandardCharsets.UTF_8);
+                connection.setCommands().sAdd(indexKey, entry[1].getBytes(StandardCharsets.UTF_8));
+                connection.keyCommands().expire(indexKey, ttlSeconds);
+            }
+            return null;
+        });
+
+        return count;
+    }
+
+}
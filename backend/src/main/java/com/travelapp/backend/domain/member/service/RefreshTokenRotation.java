@@ -0,0 +1,40 @@
+package com.travelapp.backend.domain.member.service;
+
+import java.util.List;
+
+/**
+ * Refresh Token 회전 결과
+ *
+ * @param status 회전 결과 상태
+ * @param email  캐시된 회원 이메일 (회전 성공 시에만, 캐시에 없으면 null)
+ */
+public record RefreshTokenRotation(Status status, String email) {
+
+    public enum Status {
+        /** 기존 토큰을 소비하고 새 토큰으로 교체함 */
+        ROTATED,
+        /** 유예 시간이 지난 뒤 이미 회전된(사용된) 토큰이 다시 제출됨 - 탈취 의심 */
+        REUSED,
+        /** 존재하지 않거나 다른 회원의 토큰 */
+        INVALID
+    }
+
+    static RefreshTokenRotation from(List<?> result) {
+        if (result == null || result.isEmpty() || result.get(0) == null) {
+            return new RefreshTokenRotation(Status.INVALID, null);
+        }
+
+        Status status = Status.valueOf(result.get(0).toString());
+        String email = result.size() > 1 && result.get(1) != null ? result.get(1).toString() : null;
+        return new RefreshTokenRotation(status, email);
+    }
+
+    public boolean isRotated() {
+        return status == Status.ROTATED;
+    }
+
+    public boolean isReused() {
+        return status == Status.REUSED;
+    }
+
+}
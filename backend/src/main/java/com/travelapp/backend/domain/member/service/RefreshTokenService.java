@@ -1,13 +1,23 @@
 package com.travelapp.backend.domain.member.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+/**
+ * Refresh Token 저장소 (Redis)
+ * refresh_token:{token} → memberId 와 함께, 회원별 토큰 인덱스 member_tokens:{memberId} (SET) 를 유지
+ * 토큰과 인덱스를 함께 변경하는 연산은 Lua 스크립트로 원자적으로 처리하며, 스크립트가 접근하는 키는 모두 KEYS 로 전달
+ * 회전된 토큰은 refresh_token_used:{token} 으로 표시해 재사용을 탐지하고,
+ * 토큰 갱신 시 MySQL 조회를 피하기 위해 회원 이메일을 member_email:{memberId} 에 캐시
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -15,59 +25,210 @@ public class RefreshTokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-    private static final long REFRESH_TOKEN_EXPIRATION_DAYS = 7;
+    static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    static final String MEMBER_TOKENS_PREFIX = "member_tokens:";
+    static final String USED_REFRESH_TOKEN_PREFIX = "refresh_token_used:";
+    static final String MEMBER_EMAIL_PREFIX = "member_email:";
+    static final long REFRESH_TOKEN_EXPIRATION_DAYS = 7;
+    private static final long REFRESH_TOKEN_EXPIRATION_SECONDS = TimeUnit.DAYS.toSeconds(REFRESH_TOKEN_EXPIRATION_DAYS);
+
+    // 인덱스 크기가 이 값을 넘으면 저장 시 만료된 토큰을 인덱스에서 정리
+    private static final int MEMBER_TOKENS_PRUNE_THRESHOLD = 20;
+
+    // 스크립트 한 번에 전달하는 토큰 키 수
+    private static final int SCRIPT_BATCH_SIZE = 500;
+
+    // 회전된 토큰이 한 번 더 제출되어도 재사용(탈취)으로 보지 않는 시간 (동시 갱신, 재시도 허용)
+    static final long REUSE_GRACE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    // 모든 기기 로그아웃 중 새로 발급된 토큰을 다시 삭제하는 최대 횟수
+    private static final int DELETE_ALL_MAX_ATTEMPTS = 3;
 
     /**
-     * Refresh Token을 Redis에 저장
+     * KEYS[1] = refresh_token:{token}, KEYS[2] = member_tokens:{memberId}
+     * ARGV[1] = memberId, ARGV[2] = token, ARGV[3] = TTL(초)
+     * 인덱스 크기 반환 (정리 기준을 넘으면 pruneMemberTokens 로 정리)
      */
-    public void saveRefreshToken(String token, Long memberId) {
-        String key = REFRESH_TOKEN_PREFIX + token;
-        String value = String.valueOf(memberId);
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) "
+            + "redis.call('SADD', KEYS[2], ARGV[2]) "
+            + "redis.call('EXPIRE', KEYS[2], ARGV[3]) "
+            + "return redis.call('SCARD', KEYS[2])",
+        Long.class
+    );
 
-        redisTemplate.opsForValue().set(
-            key,
-            value,
-            REFRESH_TOKEN_EXPIRATION_DAYS,
-            TimeUnit.DAYS
+    /**
+     * KEYS[1] = member_tokens:{memberId}, KEYS[2..n] = refresh_token:{token}
+     * ARGV[1..n-1] = KEYS[2..n] 에 대응하는 token
+     * 만료된 토큰을 인덱스에서 제거하고 제거한 수 반환
+     */
+    private static final RedisScript<Long> PRUNE_SCRIPT = new DefaultRedisScript<>(
+        "local pruned = 0 "
+            + "for i = 2, #KEYS do "
+            + "  if redis.call('EXISTS', KEYS[i]) == 0 then "
+            + "    pruned = pruned + redis.call('SREM', KEYS[1], ARGV[i - 1]) "
+            + "  end "
+            + "end "
+            + "return pruned",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = refresh_token:{token}, KEYS[2] = member_tokens:{memberId}
+     * ARGV[1] = token, ARGV[2] = memberId (인덱스 키를 정할 때 읽은 값)
+     * 토큰 소유자가 그대로일 때만 삭제하고 1 반환 (없거나 바뀌었으면 0)
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) ~= ARGV[2] then return 0 end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('SREM', KEYS[2], ARGV[1]) "
+            + "return 1",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = member_tokens:{memberId}, KEYS[2..n] = refresh_token:{token}
+     * ARGV[1..n-1] = KEYS[2..n] 에 대응하는 token
+     * 토큰을 삭제하고 인덱스에 남은 토큰 수 반환 (그 사이 추가된 토큰이 없으면 인덱스도 삭제)
+     */
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>(
+        "for i = 2, #KEYS do "
+            + "  redis.call('DEL', KEYS[i]) "
+            + "  redis.call('SREM', KEYS[1], ARGV[i - 1]) "
+            + "end "
+            + "local remaining = redis.call('SCARD', KEYS[1]) "
+            + "if remaining == 0 then redis.call('DEL', KEYS[1]) end "
+            + "return remaining",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = refresh_token:{old}, KEYS[2] = refresh_token:{new}, KEYS[3] = refresh_token_used:{old},
+     * KEYS[4] = member_tokens:{memberId}, KEYS[5] = member_email:{memberId}
+     * ARGV[1] = memberId, ARGV[2] = old token, ARGV[3] = new token, ARGV[4] = TTL(초), ARGV[5] = 재사용 유예 시간(ms)
+     * 회전된 토큰은 "memberId:회전 시각(ms):유예 발급 여부(0/1)" 로 표시하고, 유예 시간 안에 처음 다시 제출되면
+     * 새 토큰을 한 번만 더 발급 (다른 탭의 동시 갱신, 네트워크 오류 후 재시도)
+     * 유예 발급 뒤의 재제출이나 유예 시간이 지난 뒤의 재제출은 재사용으로 판정 (탈취한 토큰으로 토큰을 계속 발급받지 못하도록)
+     * {ROTATED, email} / {REUSED} / {INVALID} 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "local function issue(owner) "
+            + "  redis.call('SET', KEYS[2], owner, 'EX', ARGV[4]) "
+            + "  redis.call('SADD', KEYS[4], ARGV[3]) "
+            + "  redis.call('EXPIRE', KEYS[4], ARGV[4]) "
+            + "  return {'ROTATED', redis.call('GET', KEYS[5])} "
+            + "end "
+            + "local owner = redis.call('GET', KEYS[1]) "
+            + "if not owner then "
+            + "  local used = redis.call('GET', KEYS[3]) "
+            + "  if not used then return {'INVALID'} end "
+            + "  local usedOwner, rotatedAt, graceIssued = string.match(used, '^(%d+):(%d+):?(%d*)$') "
+            + "  if usedOwner == ARGV[1] and graceIssued ~= '1' and now - tonumber(rotatedAt) <= tonumber(ARGV[5]) then "
+            + "    redis.call('SET', KEYS[3], usedOwner .. ':' .. rotatedAt .. ':1', 'EX', ARGV[4]) "
+            + "    return issue(usedOwner) "
+            + "  end "
+            + "  return {'REUSED'} "
+            + "end "
+            + "if owner ~= ARGV[1] then return {'INVALID'} end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('SREM', KEYS[4], ARGV[2]) "
+            + "redis.call('SET', KEYS[3], owner .. ':' .. now .. ':0', 'EX', ARGV[4]) "
+            + "return issue(owner)",
+        List.class
+    );
+
+    /**
+     * Refresh Token을 Redis에 저장 (회원별 인덱스 포함)
+     */
+    public void saveRefreshToken(String token, Long memberId) {
+        Long indexSize = redisTemplate.execute(
+            SAVE_SCRIPT,
+            List.of(REFRESH_TOKEN_PREFIX + token, MEMBER_TOKENS_PREFIX + memberId),
+            String.valueOf(memberId),
+            token,
+            String.valueOf(REFRESH_TOKEN_EXPIRATION_SECONDS)
         );
 
+        if (indexSize != null && indexSize > MEMBER_TOKENS_PRUNE_THRESHOLD) {
+            pruneMemberTokens(memberId);
+        }
+
         log.info("Refresh Token 저장 완료 - 사용자 ID: {}, 만료시간: {}일", memberId,
             REFRESH_TOKEN_EXPIRATION_DAYS);
     }
 
     /**
-     * Refresh Token으로 사용자 ID 조회
+     * Refresh Token 회전 - 검증, 기존 토큰 소비, 새 토큰 저장을 한 번의 왕복에 원자적으로 처리
+     * 같은 토큰으로 동시에 요청하거나 재시도해도 유예 시간 안의 첫 재제출은 새 토큰을 한 번 더 받고,
+     * 그 뒤의 재제출이나 유예 시간이 지난 뒤의 재제출은 재사용(REUSED)으로 판정됨
+     *
+     * @param memberId 기존 토큰의 서명된 subject 에서 추출한 사용자 ID
+     */
+    @SuppressWarnings("unchecked")
+    public RefreshTokenRotation rotateRefreshToken(String oldToken, String newToken, Long memberId) {
+        List<Object> result = redisTemplate.execute(
+            ROTATE_SCRIPT,
+            List.of(
+                REFRESH_TOKEN_PREFIX + oldToken,
+                REFRESH_TOKEN_PREFIX + newToken,
+                USED_REFRESH_TOKEN_PREFIX + oldToken,
+                MEMBER_TOKENS_PREFIX + memberId,
+                MEMBER_EMAIL_PREFIX + memberId
+            ),
+            String.valueOf(memberId),
+            oldToken,
+            newToken,
+            String.valueOf(REFRESH_TOKEN_EXPIRATION_SECONDS),
+            String.valueOf(REUSE_GRACE_MILLIS)
+        );
+
+        RefreshTokenRotation rotation = RefreshTokenRotation.from(result);
+        log.info("Refresh Token 회전 - 사용자 ID: {}, 결과: {}", memberId, rotation.status());
+        return rotation;
+    }
+
+    /**
+     * 토큰 갱신 시 사용할 회원 이메일 캐시 (Refresh Token 과 같은 만료 시간)
+     */
+    public void cacheMemberEmail(Long memberId, String email) {
+        redisTemplate.opsForValue().set(
+            MEMBER_EMAIL_PREFIX + memberId,
+            email,
+            REFRESH_TOKEN_EXPIRATION_SECONDS,
+            TimeUnit.SECONDS
+        );
+    }
+
+    /**
+     * Refresh Token으로 사용자 ID 조회 (존재 확인과 조회를 한 번의 GET 으로 처리)
+     *
+     * @return 사용자 ID (토큰이 없거나 만료되었으면 null)
      */
     public Long getMemberIdByToken(String token) {
-        String key = REFRESH_TOKEN_PREFIX + token;
-        String memberIdStr = redisTemplate.opsForValue().get(key);
+        if (token == null || token.trim().isEmpty()) {
+            log.warn("빈 토큰으로 사용자 ID 조회 시도");
+            return null;
+        }
+
+        String memberIdStr = redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + token);
 
         if (memberIdStr == null) {
             log.warn("유효하지 않은 Refresh Token: {}", token);
             return null;
         }
 
-        try {
-            return Long.parseLong(memberIdStr);
-        } catch (NumberFormatException e) {
-            log.error("Refresh Token에서 사용자 ID 파싱 실패: {}", memberIdStr);
-            return null;
-        }
+        return parseMemberId(memberIdStr);
     }
 
     /**
      * Refresh Token 존재 여부 확인
      */
     public boolean existsRefreshToken(String token) {
-        if (token == null || token.trim().isEmpty()) {
-            log.warn("빈 토큰으로 존재 여부 확인 시도");
-            return false;
-        }
-
         try {
-            String key = REFRESH_TOKEN_PREFIX + token;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            return getMemberIdByToken(token) != null;
         } catch (Exception e) {
             log.error("Redis 연결 오류로 토큰 존재 확인 실패: {}", e.getMessage());
             return false;
@@ -75,13 +236,20 @@ public class RefreshTokenService {
     }
 
     /**
-     * Refresh Token 삭제 (로그아웃 시)
+     * Refresh Token 삭제 (로그아웃 시) - 토큰과 회원별 인덱스를 함께 정리
      */
     public void deleteRefreshToken(String token) {
-        String key = REFRESH_TOKEN_PREFIX + token;
-        Boolean deleted = redisTemplate.delete(key);
+        String tokenKey = REFRESH_TOKEN_PREFIX + token;
+        String memberId = redisTemplate.opsForValue().get(tokenKey);
 
-        if (Boolean.TRUE.equals(deleted)) {
+        Long deleted = memberId == null ? null : redisTemplate.execute(
+            DELETE_SCRIPT,
+            List.of(tokenKey, MEMBER_TOKENS_PREFIX + memberId),
+            token,
+            memberId
+        );
+
+        if (deleted != null && deleted > 0) {
             log.info("Refresh Token 삭제 완료: {}", token);
         } else {
             log.warn("삭제할 Refresh Token을 찾을 수 없음: {}", token);
@@ -90,40 +258,65 @@ public class RefreshTokenService {
 
     /**
      * 사용자의 모든 Refresh Token 삭제
-     * 성능 최적화: SCAN 명령어 사용으로 블로킹 방지
+     * 회원별 인덱스를 이용해 전체 키 공간을 SCAN 하지 않고 삭제
+     * 인덱스를 읽은 뒤 발급된 토큰이 남아 있으면 인덱스가 빌 때까지 반복
      */
     public void deleteAllRefreshTokensByMemberId(Long memberId) {
-        String pattern = REFRESH_TOKEN_PREFIX + "*";
+        String indexKey = MEMBER_TOKENS_PREFIX + memberId;
         int deletedCount = 0;
 
-        // SCAN 옵션 설정: 패턴 매칭, 배치 크기 100
-        ScanOptions scanOptions = ScanOptions.scanOptions()
-            .match(pattern)
-            .count(100)
-            .build();
-
-        // SCAN을 사용하여 논블로킹 방식으로 키 순회
-        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
-            while (cursor.hasNext()) {
-                String key = cursor.next();
-                String storedMemberId = redisTemplate.opsForValue().get(key);
-
-                if (String.valueOf(memberId).equals(storedMemberId)) {
-                    Boolean deleted = redisTemplate.delete(key);
-                    if (Boolean.TRUE.equals(deleted)) {
-                        deletedCount++;
-                        log.debug("사용자 {}의 Refresh Token 삭제: {}", memberId, key);
-                    }
-                }
+        for (int attempt = 0; attempt < DELETE_ALL_MAX_ATTEMPTS; attempt++) {
+            Set<String> tokens = redisTemplate.opsForSet().members(indexKey);
+            if (tokens == null || tokens.isEmpty()) {
+                break;
+            }
+
+            Long remaining = 0L;
+            for (List<String> batch : partition(List.copyOf(tokens))) {
+                remaining = redisTemplate.execute(DELETE_ALL_SCRIPT, tokenKeys(indexKey, batch), batch.toArray());
+                deletedCount += batch.size();
+            }
+            if (remaining == null || remaining == 0) {
+                break;
             }
-        } catch (Exception e) {
-            log.error("SCAN 명령어 실행 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("Refresh Token 삭제 중 오류 발생", e);
         }
 
         log.info("사용자 {}의 Refresh Token {} 개 삭제 완료", memberId, deletedCount);
     }
 
+    /**
+     * 회원별 인덱스에서 만료된 토큰 제거
+     */
+    private void pruneMemberTokens(Long memberId) {
+        String indexKey = MEMBER_TOKENS_PREFIX + memberId;
+        Set<String> tokens = redisTemplate.opsForSet().members(indexKey);
+        if (tokens == null || tokens.isEmpty()) {
+            return;
+        }
+
+        for (List<String> batch : partition(List.copyOf(tokens))) {
+            redisTemplate.execute(PRUNE_SCRIPT, tokenKeys(indexKey, batch), batch.toArray());
+        }
+    }
+
+    /**
+     * 스크립트가 접근하는 모든 키를 KEYS 로 전달 (인덱스 키, 토큰 키...)
+     */
+    private static List<String> tokenKeys(String indexKey, List<String> tokens) {
+        List<String> keys = new ArrayList<>(tokens.size() + 1);
+        keys.add(indexKey);
+        tokens.forEach(token -> keys.add(REFRESH_TOKEN_PREFIX + token));
+        return keys;
+    }
+
+    private static List<List<String>> partition(List<String> tokens) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += SCRIPT_BATCH_SIZE) {
+            batches.add(tokens.subList(from, Math.min(from + SCRIPT_BATCH_SIZE, tokens.size())));
+        }
+        return batches;
+    }
+
 
     /**
      * Refresh Token의 남은 만료 시간 조회 (초 단위)
@@ -133,4 +326,13 @@ public class RefreshTokenService {
         return redisTemplate.getExpire(key, TimeUnit.SECONDS);
     }
 
+    private Long parseMemberId(String memberIdStr) {
+        try {
+            return Long.parseLong(memberIdStr);
+        } catch (NumberFormatException e) {
+            log.error("Refresh Token에서 사용자 ID 파싱 실패: {}", memberIdStr);
+            return null;
+        }
+    }
+
 }
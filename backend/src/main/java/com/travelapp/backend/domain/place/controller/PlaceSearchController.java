@@ -1,15 +1,21 @@
 package com.travelapp.backend.domain.place.controller;
 
 import com.travelapp.backend.domain.place.dto.request.PlaceToTripPlaceRequest;
+import com.travelapp.backend.domain.place.dto.response.PlaceSearchCacheStatsResponse;
+import com.travelapp.backend.domain.place.dto.response.PlaceSuggestionResponse;
 import com.travelapp.backend.domain.place.service.PlaceSearchService;
+import com.travelapp.backend.domain.place.service.PlaceSuggestIndex;
 import com.travelapp.backend.domain.tripplace.dto.response.TripPlaceResponse;
 import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import com.travelapp.backend.infra.kakao.dto.KakaoResilienceStatsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,17 +32,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class PlaceSearchController {
 
     private final PlaceSearchService placeSearchService;
+    private final PlaceSuggestIndex placeSuggestIndex;
 
-    @Operation(summary = "장소 검색", description = "키워드와 좌표를 기반으로 카카오 API를 통해 장소를 검색합니다.")
+    @Operation(summary = "장소 검색", description = "키워드와 좌표를 기반으로 카카오 API를 통해 장소를 검색합니다. "
+        + "카카오 응답을 기다리는 동안 요청 스레드를 반환하는 비동기 방식으로 처리됩니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "장소 검색 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
         @ApiResponse(responseCode = "401", description = "인증 필요"),
-        @ApiResponse(responseCode = "500", description = "카카오 API 오류")
+        @ApiResponse(responseCode = "408", description = "카카오 API 응답 시간 초과"),
+        @ApiResponse(responseCode = "429", description = "카카오 API 호출 한도 초과"),
+        @ApiResponse(responseCode = "500", description = "카카오 API 오류"),
+        @ApiResponse(responseCode = "503", description = "카카오 API 일시적 사용 불가 (서킷 브레이커 OPEN)")
     })
     @SecurityRequirement(name = "jwtAuth")
     @GetMapping("/places")
-    public ResponseEntity<KakaoPlaceSearchResponse> searchPlaces(
+    public CompletableFuture<ResponseEntity<KakaoPlaceSearchResponse>> searchPlaces(
         @Parameter(description = "검색 키워드") @RequestParam String keyword,
         @Parameter(description = "위도") @RequestParam double lat,
         @Parameter(description = "경도") @RequestParam double lng,
@@ -45,9 +56,72 @@ public class PlaceSearchController {
     )
 
     {
-        KakaoPlaceSearchResponse response = placeSearchService.search(keyword, lat, lng, page, size);
+        return placeSearchService.search(keyword, lat, lng, page, size)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "여행 지역 근처 장소 검색", description = "여행 지역 좌표 근처에서 키워드로 시작하는 장소를 가까운 순으로 검색합니다. "
+        + "최근 검색 결과로 확인된 로컬 장소 카탈로그로 한 페이지를 채울 수 있으면 카카오 API 를 호출하지 않고, "
+        + "채울 수 없으면 일반 장소 검색과 같이 카카오 API 로 검색합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "장소 검색 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "408", description = "카카오 API 응답 시간 초과"),
+        @ApiResponse(responseCode = "429", description = "카카오 API 호출 한도 초과"),
+        @ApiResponse(responseCode = "500", description = "카카오 API 오류"),
+        @ApiResponse(responseCode = "503", description = "카카오 API 일시적 사용 불가 (서킷 브레이커 OPEN)")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/places/nearby")
+    public CompletableFuture<ResponseEntity<KakaoPlaceSearchResponse>> searchNearbyPlaces(
+        @Parameter(description = "검색 키워드") @RequestParam String keyword,
+        @Parameter(description = "여행 지역 위도") @RequestParam double lat,
+        @Parameter(description = "여행 지역 경도") @RequestParam double lng,
+        @Parameter(description = "페이지 번호 (1~45)") @RequestParam(defaultValue = "1") int page,
+        @Parameter(description = "페이지 크기 (1~15)") @RequestParam(defaultValue = "15") int size
+    ) {
+        return placeSearchService.searchNearTrip(keyword, lat, lng, page, size)
+            .thenApply(ResponseEntity::ok);
+    }
 
-        return ResponseEntity.ok(response);
+    @Operation(summary = "장소 이름 자동완성", description = "입력 중인 검색어로 시작하는 장소 이름을 인기도 순으로 조회합니다. "
+        + "여행지로 저장된 장소와 검색 결과에 노출된 장소로 만든 메모리 인덱스에서 응답하며 카카오 API 를 호출하지 않습니다. "
+        + "마지막 글자는 자모 단위로 비교하므로 입력 중인 글자(예: '제주ㄷ')도 일치합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/places/suggest")
+    public ResponseEntity<List<PlaceSuggestionResponse>> suggestPlaces(
+        @Parameter(description = "입력 중인 검색어") @RequestParam String keyword,
+        @Parameter(description = "최대 결과 수 (1~10)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(placeSuggestIndex.suggest(keyword, limit));
+    }
+
+    @Operation(summary = "장소 검색 캐시 통계 조회", description = "장소 검색 캐시의 단계별 적중 수, 적중률, 절약한 카카오 API 호출 수와 "
+        + "동일 요청 병합으로 생략된 호출 수를 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/places/cache/stats")
+    public ResponseEntity<PlaceSearchCacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(placeSearchService.getStats());
+    }
+
+    @Operation(summary = "카카오 API 장애 대응 통계 조회", description = "서킷 브레이커 상태와 전환 횟수, 속도 제한/벌크헤드에 의한 거부 수를 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/places/resilience/stats")
+    public ResponseEntity<KakaoResilienceStatsResponse> getResilienceStats() {
+        return ResponseEntity.ok(placeSearchService.getResilienceStats());
     }
 
     @Operation(summary = "검색 결과를 여행지로 추가", description = "카카오 검색 결과를 여행 일정에 여행지로 추가합니다.")
@@ -0,0 +1,18 @@
+package com.travelapp.backend.domain.place.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동완성 인덱스 초기 적재용 프로젝션
+ * 장소 이름과 (있으면) 카카오 장소 ID, 해당 이름이 저장된 횟수
+ */
+@Getter
+@AllArgsConstructor
+public class PlaceNameCount {
+
+    private String placeName;
+    private String placeId;
+    private Long count;
+
+}
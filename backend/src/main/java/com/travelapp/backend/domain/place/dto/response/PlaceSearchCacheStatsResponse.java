@@ -0,0 +1,55 @@
+package com.travelapp.backend.domain.place.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "장소 검색 캐시 통계 응답 DTO")
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceSearchCacheStatsResponse {
+
+    @Schema(description = "로컬(L1) 캐시 적중 수", example = "700")
+    private Long localHits;
+
+    @Schema(description = "Redis(L2) 캐시 적중 수", example = "200")
+    private Long redisHits;
+
+    @Schema(description = "캐시 미스 수", example = "100")
+    private Long misses;
+
+    @Schema(description = "전체 적중률 (0.0 ~ 1.0)", example = "0.9")
+    private Double hitRate;
+
+    @Schema(description = "카카오 API 호출 수", example = "100")
+    private Long upstreamCalls;
+
+    @Schema(description = "캐시로 절약한 카카오 API 호출 수", example = "900")
+    private Long savedUpstreamCalls;
+
+    @Schema(description = "로컬 캐시 항목 수", example = "512")
+    private Integer localSize;
+
+    @Schema(description = "카카오 장애로 만료된 결과를 응답한 수", example = "12")
+    private Long staleHits;
+
+    @Schema(description = "진행 중인 같은 요청에 합류하여 생략된 카카오 API 호출 수", example = "40")
+    private Long coalescedUpstreamCalls;
+
+    @Schema(description = "현재 진행 중인 카카오 API 호출 수", example = "3")
+    private Integer inFlightUpstreamCalls;
+
+    @Schema(description = "미리 가져온 다음 페이지 수", example = "80")
+    private Long prefetchedPages;
+
+    @Schema(description = "사용자별 한도 초과, 실행기 포화 등으로 생략된 미리 가져오기 수", example = "5")
+    private Long prefetchSkipped;
+
+    @Schema(description = "카카오 검색 실패 시 로컬 장소 카탈로그에서 대신 응답한 수", example = "3")
+    private Long catalogHits;
+
+}
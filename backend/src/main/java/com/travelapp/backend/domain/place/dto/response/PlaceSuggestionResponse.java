@@ -0,0 +1,25 @@
+package com.travelapp.backend.domain.place.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "장소 이름 자동완성 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceSuggestionResponse {
+
+    @Schema(description = "장소 이름", example = "성산일출봉")
+    private String placeName;
+
+    @Schema(description = "카카오 장소 ID (알 수 없으면 null)", example = "8158997")
+    private String placeId;
+
+    @Schema(description = "인기도 점수 (여행지 저장 및 검색 결과 노출 횟수 기반)", example = "42")
+    private Long score;
+
+}
@@ -0,0 +1,72 @@
+package com.travelapp.backend.domain.place.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로컬 장소 카탈로그 - 카카오 검색 결과 문서를 카카오 장소 ID 기준으로 보관
+ * name_key(정규화된 이름) 접두사 검색과 geo_cell(격자 셀) 근처 검색을 위한 인덱스를 가짐
+ */
+@Entity
+@Table(
+    name = "place",
+    indexes = {
+        @Index(name = "idx_place_name_key", columnList = "name_key"),
+        @Index(name = "idx_place_geo_cell_name_key", columnList = "geo_cell, name_key")
+    }
+)
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class Place {
+
+    // 카카오 장소 ID
+    @Id
+    @Column(length = 32)
+    private String id;
+
+    @Column(name = "place_name", nullable = false)
+    private String placeName;
+
+    // 접두사 검색용 정규화된 이름 (NFC, 소문자, 공백 제거)
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "address_name")
+    private String addressName;
+
+    @Column(name = "road_address_name")
+    private String roadAddressName;
+
+    private String phone;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Column(name = "place_url")
+    private String placeUrl;
+
+    // 근처 검색용 격자 셀 ("위도셀:경도셀")
+    @Column(name = "geo_cell", nullable = false, length = 32)
+    private String geoCell;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,49 @@
+package com.travelapp.backend.domain.place.repository;
+
+import com.travelapp.backend.domain.place.dto.projection.PlaceNameCount;
+import com.travelapp.backend.domain.place.entity.Place;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PlaceRepository extends JpaRepository<Place, String>, PlaceRepositoryCustom {
+
+    /**
+     * 격자 셀 목록 안에서 updatedAfter 이후 갱신된 장소를 이름 접두사로 검색하여 기준 좌표에서 가까운 순으로 정렬
+     * (idx_place_geo_cell_name_key 사용, lngScale = cos²(위도) 로 경도 차이를 보정한 거리 제곱 기준)
+     * prefix 의 LIKE 특수문자는 '!' 로 이스케이프되어 있어야 함
+     */
+    @Query("SELECT p FROM Place p "
+        + "WHERE p.geoCell IN :geoCells AND p.nameKey LIKE CONCAT(:prefix, '%') ESCAPE '!' "
+        + "AND p.updatedAt >= :updatedAfter "
+        + "ORDER BY (p.latitude - :lat) * (p.latitude - :lat) "
+        + "+ (p.longitude - :lng) * (p.longitude - :lng) * :lngScale ASC, p.id ASC")
+    List<Place> findNearbyByNamePrefix(
+        @Param("geoCells") Collection<String> geoCells,
+        @Param("prefix") String prefix,
+        @Param("updatedAfter") LocalDateTime updatedAfter,
+        @Param("lat") double lat,
+        @Param("lng") double lng,
+        @Param("lngScale") double lngScale,
+        Pageable pageable
+    );
+
+    /**
+     * 이름 접두사로 검색 (idx_place_name_key 사용)
+     */
+    @Query("SELECT p FROM Place p "
+        + "WHERE p.nameKey LIKE CONCAT(:prefix, '%') ESCAPE '!' "
+        + "ORDER BY p.nameKey ASC, p.id ASC")
+    List<Place> findByNamePrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    /**
+     * 최근 갱신된 장소 이름 (자동완성 인덱스 초기 적재용)
+     */
+    @Query("SELECT new com.travelapp.backend.domain.place.dto.projection.PlaceNameCount(p.placeName, p.id, 1L) "
+        + "FROM Place p ORDER BY p.updatedAt DESC")
+    List<PlaceNameCount> findRecentPlaceNames(Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.travelapp.backend.domain.place.repository;
+
+import com.travelapp.backend.domain.place.entity.Place;
+import java.util.Collection;
+
+public interface PlaceRepositoryCustom {
+
+    /**
+     * 카카오 장소 ID 기준 일괄 upsert (없으면 추가, 있으면 최신 정보로 갱신)
+     *
+     * @return 영향받은 행 수
+     */
+    int upsertAll(Collection<Place> places);
+}
@@ -0,0 +1,75 @@
+package com.travelapp.backend.domain.place.repository;
+
+import com.travelapp.backend.domain.place.entity.Place;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+
+public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
+
+    // 한 번의 INSERT 문에 담는 최대 행 수
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO place (id, place_name, name_key, category_name, address_name, road_address_name, "
+            + "phone, latitude, longitude, place_url, geo_cell, updated_at) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_SUFFIX =
+        " ON DUPLICATE KEY UPDATE place_name = VALUES(place_name), name_key = VALUES(name_key), "
+            + "category_name = VALUES(category_name), address_name = VALUES(address_name), "
+            + "road_address_name = VALUES(road_address_name), phone = VALUES(phone), "
+            + "latitude = VALUES(latitude), longitude = VALUES(longitude), place_url = VALUES(place_url), "
+            + "geo_cell = VALUES(geo_cell), updated_at = VALUES(updated_at)";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public int upsertAll(Collection<Place> places) {
+        List<Place> rows = new ArrayList<>(places);
+        int affected = 0;
+
+        // INSERT ... VALUES (...), (...) ON DUPLICATE KEY UPDATE ... 를 BATCH_SIZE 행 단위로 실행
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Place> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            affected += executeUpsert(chunk);
+        }
+
+        return affected;
+    }
+
+    private int executeUpsert(List<Place> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        Query query = em.createNativeQuery(sql.toString());
+        int position = 1;
+        for (Place place : chunk) {
+            query.setParameter(position++, place.getId());
+            query.setParameter(position++, place.getPlaceName());
+            query.setParameter(position++, place.getNameKey());
+            query.setParameter(position++, place.getCategoryName());
+            query.setParameter(position++, place.getAddressName());
+            query.setParameter(position++, place.getRoadAddressName());
+            query.setParameter(position++, place.getPhone());
+            query.setParameter(position++, place.getLatitude());
+            query.setParameter(position++, place.getLongitude());
+            query.setParameter(position++, place.getPlaceUrl());
+            query.setParameter(position++, place.getGeoCell());
+            query.setParameter(position++, place.getUpdatedAt());
+        }
+
+        return query.executeUpdate();
+    }
+
+}
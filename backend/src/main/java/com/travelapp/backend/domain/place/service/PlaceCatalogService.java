@@ -0,0 +1,282 @@
+package com.travelapp.backend.domain.place.service;
+
+import com.travelapp.backend.domain.place.entity.Place;
+import com.travelapp.backend.domain.place.repository.PlaceRepository;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse.Document;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로컬 장소 카탈로그
+ * 카카오 검색 결과 문서를 메모리에 모아 두었다가 주기적으로 카카오 장소 ID 기준 일괄 upsert 하고,
+ * 카카오 검색이 실패했는데 보관 중인 캐시 결과도 없을 때 근처 장소로 대신 응답
+ * - 카카오의 정확도 순위를 재현할 수 없으므로 일반 검색 경로에서는 사용하지 않고,
+ *   거리순 결과를 원하는 여행 지역 근처 검색(searchFullPage)에서만 카카오보다 먼저 사용
+ * - max-age 안에 카카오 검색 결과로 다시 확인된 장소만 사용하고, 요청 좌표에서 가까운 순으로 응답
+ */
+@Slf4j
+@Service
+public class PlaceCatalogService {
+
+    private final PlaceRepository placeRepository;
+    private final PlaceSuggestIndex placeSuggestIndex;
+    private final double gridSize;
+    private final int maxPending;
+    private final int flushBatchSize;
+    private final Duration maxAge;
+
+    // 카카오 장소 ID → 저장 대기 중인 장소 (같은 장소는 최신 정보 하나만 유지)
+    private final Map<String, Place> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder droppedDocuments = new LongAdder();
+
+    public PlaceCatalogService(
+        PlaceRepository placeRepository,
+        PlaceSuggestIndex placeSuggestIndex,
+        @Value("${place-catalog.grid-size-degrees:0.1}") double gridSize,
+        @Value("${place-catalog.max-pending:10000}") int maxPending,
+        @Value("${place-catalog.flush-batch-size:1000}") int flushBatchSize,
+        @Value("${place-catalog.max-age-hours:168}") long maxAgeHours
+    ) {
+        this.placeRepository = placeRepository;
+        this.placeSuggestIndex = placeSuggestIndex;
+        this.gridSize = gridSize;
+        this.maxPending = maxPending;
+        this.flushBatchSize = flushBatchSize;
+        this.maxAge = Duration.ofHours(maxAgeHours);
+    }
+
+    /**
+     * 카카오 검색 결과 문서를 저장 대기열에 추가 (DB 저장은 flush 에서 일괄 처리)
+     * 자동완성 인덱스에는 바로 반영
+     */
+    public void ingest(KakaoPlaceSearchResponse response) {
+        if (response == null || response.getDocuments() == null) {
+            return;
+        }
+        placeSuggestIndex.recordSearchResult(response);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Document document : response.getDocuments()) {
+            Place place = toPlace(document, now);
+            if (place == null) {
+                continue;
+            }
+            // 대기열이 가득 차면 새 장소는 버림 (이미 대기 중인 장소의 갱신은 허용)
+            if (pending.size() >= maxPending && !pending.containsKey(place.getId())) {
+                droppedDocuments.increment();
+                continue;
+            }
+            pending.put(place.getId(), place);
+        }
+    }
+
+    /**
+     * 저장 대기 중인 장소를 일괄 upsert
+     */
+    @Scheduled(fixedDelayString = "${place-catalog.flush-interval-ms:5000}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<Place> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                placeRepository.upsertAll(batch);
+                log.debug("장소 카탈로그 {} 건 저장", batch.size());
+            } catch (Exception e) {
+                // 카탈로그는 보조 저장소이므로 실패한 배치는 다시 시도하지 않음 (다음 검색에서 다시 수집됨)
+                log.warn("장소 카탈로그 저장 실패 - {} 건, 원인: {}", batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 근처(주변 3x3 격자 셀)에서 최근 max-age 안에 확인된 장소 중 이름이 검색어로 시작하는 장소를 가까운 순으로 응답
+     * 카카오 장애 시의 대체 응답이므로 요청한 페이지를 모두 채우지 못해도 찾은 만큼 응답
+     *
+     * @return 카탈로그 검색 결과 (해당 페이지에 장소가 없으면 empty)
+     */
+    public Optional<KakaoPlaceSearchResponse> searchNearby(String keyword, double lat, double lng, int page, int size) {
+        return findNearby(keyword, lat, lng, page, size, 1);
+    }
+
+    /**
+     * 여행 지역 근처 검색용 로컬 우선 조회
+     * searchNearby 와 같은 조건으로 찾되, 요청한 페이지를 모두 채울 수 있을 때만 응답 (채우지 못하면 카카오로 검색)
+     *
+     * @return 카탈로그 검색 결과 (해당 페이지를 채우지 못하면 empty)
+     */
+    public Optional<KakaoPlaceSearchResponse> searchFullPage(String keyword, double lat, double lng, int page, int size) {
+        return findNearby(keyword, lat, lng, page, size, size);
+    }
+
+    private Optional<KakaoPlaceSearchResponse> findNearby(
+        String keyword, double lat, double lng, int page, int size, int minDocuments
+    ) {
+        String prefix = toNameKey(keyword);
+        if (prefix.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int offset = (page - 1) * size;
+        List<Place> places;
+        try {
+            // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+            places = placeRepository.findNearbyByNamePrefix(
+                neighborCells(lat, lng), escapeLike(prefix), LocalDateTime.now().minus(maxAge),
+                lat, lng, longitudeScale(lat), PageRequest.of(0, offset + size + 1)
+            );
+        } catch (Exception e) {
+            log.warn("장소 카탈로그 조회 실패 - 검색어: {}, 원인: {}", keyword, e.getMessage());
+            return Optional.empty();
+        }
+
+        if (places.size() < offset + minDocuments) {
+            return Optional.empty();
+        }
+
+        localHits.increment();
+        int end = Math.min(places.size(), offset + size);
+        List<Document> documents = places.subList(offset, end).stream()
+            .map(this::toDocument)
+            .toList();
+
+        return Optional.of(KakaoPlaceSearchResponse.builder()
+            .documents(documents)
+            .meta(KakaoPlaceSearchResponse.Meta.builder()
+                .total_count(places.size())
+                .pageable_count(places.size())
+                .is_end(places.size() <= offset + size)
+                .build())
+            .build());
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getDroppedDocuments() {
+        return droppedDocuments.sum();
+    }
+
+    /**
+     * 접두사 검색용 정규화된 이름 (NFC, 소문자, 공백 제거)
+     */
+    public static String toNameKey(String name) {
+        if (name == null) {
+            return "";
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFC)
+            .replaceAll("\\s+", "")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    String toGeoCell(double lat, double lng) {
+        return (long) Math.floor(lat / gridSize) + ":" + (long) Math.floor(lng / gridSize);
+    }
+
+    // 경도 1도의 거리는 위도에 따라 cos(위도) 배로 줄어듦 (거리 제곱 비교용 보정값)
+    private static double longitudeScale(double lat) {
+        double cos = Math.cos(Math.toRadians(lat));
+        return cos * cos;
+    }
+
+    private List<String> neighborCells(double lat, double lng) {
+        long latCell = (long) Math.floor(lat / gridSize);
+        long lngCell = (long) Math.floor(lng / gridSize);
+
+        List<String> cells = new ArrayList<>(9);
+        for (long dLat = -1; dLat <= 1; dLat++) {
+            for (long dLng = -1; dLng <= 1; dLng++) {
+                cells.add((latCell + dLat) + ":" + (lngCell + dLng));
+            }
+        }
+        return cells;
+    }
+
+    private List<Place> drain() {
+        List<Place> batch = new ArrayList<>(Math.min(flushBatchSize, pending.size()));
+        Iterator<Map.Entry<String, Place>> iterator = pending.entrySet().iterator();
+
+        while (iterator.hasNext() && batch.size() < flushBatchSize) {
+            Map.Entry<String, Place> entry = iterator.next();
+            // 읽은 뒤 ingest 가 최신 정보로 교체했으면 남겨 두어 다음 배치에서 저장
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    private Place toPlace(Document document, LocalDateTime now) {
+        if (document.getId() == null || document.getPlace_name() == null
+            || document.getX() == null || document.getY() == null) {
+            return null;
+        }
+
+        try {
+            double longitude = Double.parseDouble(document.getX());
+            double latitude = Double.parseDouble(document.getY());
+
+            return Place.builder()
+                .id(document.getId())
+                .placeName(document.getPlace_name())
+                .nameKey(toNameKey(document.getPlace_name()))
+                .categoryName(document.getCategory_name())
+                .addressName(document.getAddress_name())
+                .roadAddressName(document.getRoad_address_name())
+                .phone(document.getPhone())
+                .latitude(latitude)
+                .longitude(longitude)
+                .placeUrl(document.getPlace_url())
+                .geoCell(toGeoCell(latitude, longitude))
+                .updatedAt(now)
+                .build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Document toDocument(Place place) {
+        return Document.builder()
+            .id(place.getId())
+            .place_name(place.getPlaceName())
+            .category_name(place.getCategoryName())
+            .address_name(place.getAddressName())
+            .road_address_name(place.getRoadAddressName())
+            .phone(place.getPhone())
+            .x(String.valueOf(place.getLongitude()))
+            .y(String.valueOf(place.getLatitude()))
+            .place_url(place.getPlaceUrl())
+            .build();
+    }
+
+    // LIKE 특수문자(%, _) 와 이스케이프 문자(!) 를 '!' 로 이스케이프
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+}
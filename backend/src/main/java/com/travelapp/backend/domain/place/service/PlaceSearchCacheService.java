@@ -0,0 +1,185 @@
+package com.travelapp.backend.domain.place.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.backend.domain.place.dto.response.PlaceSearchCacheStatsResponse;
+import com.travelapp.backend.global.cache.LocalLruCache;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장소 검색 결과 2단계 캐시
+ * L1: 프로세스 내 LRU (크기 + TTL 제한), L2: Redis (place_search:{key}, TTL)
+ * Redis 장애 시에는 L2 미스로 처리하여 카카오 API 호출로 대체
+ * 카카오 장애 시 응답할 수 있도록 만료된 결과도 별도의 stale 저장소에 더 오래 보관
+ */
+@Slf4j
+@Service
+public class PlaceSearchCacheService {
+
+    private static final String PLACE_SEARCH_CACHE_PREFIX = "place_search:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LocalLruCache<PlaceSearchKey, KakaoPlaceSearchResponse> localCache;
+    private final LocalLruCache<PlaceSearchKey, KakaoPlaceSearchResponse> staleCache;
+    private final Duration redisTtl;
+    private final double gridSize;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    @Autowired
+    public PlaceSearchCacheService(
+        RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${place-search.cache.local-max-size:1000}") int localMaxSize,
+        @Value("${place-search.cache.local-ttl-seconds:60}") long localTtlSeconds,
+        @Value("${place-search.cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+        @Value("${place-search.cache.grid-size-degrees:0.01}") double gridSize,
+        @Value("${place-search.cache.stale-max-size:5000}") int staleMaxSize,
+        @Value("${place-search.cache.stale-ttl-seconds:86400}") long staleTtlSeconds
+    ) {
+        this(redisTemplate, objectMapper, localMaxSize, Duration.ofSeconds(localTtlSeconds),
+            Duration.ofSeconds(redisTtlSeconds), gridSize, staleMaxSize, Duration.ofSeconds(staleTtlSeconds),
+            Clock.systemUTC());
+    }
+
+    PlaceSearchCacheService(
+        RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper,
+        int localMaxSize,
+        Duration localTtl,
+        Duration redisTtl,
+        double gridSize,
+        int staleMaxSize,
+        Duration staleTtl,
+        Clock clock
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = new LocalLruCache<>(localMaxSize, localTtl, clock);
+        this.staleCache = new LocalLruCache<>(staleMaxSize, staleTtl, clock);
+        this.redisTtl = redisTtl;
+        this.gridSize = gridSize;
+    }
+
+    /**
+     * 검색 파라미터로 캐시 키 생성 (좌표는 설정된 격자 크기로 스냅)
+     */
+    public PlaceSearchKey keyOf(String keyword, double lat, double lng, int page, int size) {
+        return PlaceSearchKey.of(keyword, lat, lng, page, size, gridSize);
+    }
+
+    /**
+     * L1 → L2 순서로 조회, L2 적중 시 L1 에 채움
+     *
+     * @return 캐시된 검색 결과 (없으면 null)
+     */
+    public KakaoPlaceSearchResponse get(PlaceSearchKey key) {
+        KakaoPlaceSearchResponse local = localCache.get(key);
+        if (local != null) {
+            localHits.increment();
+            return local;
+        }
+
+        KakaoPlaceSearchResponse remote = getFromRedis(key);
+        if (remote != null) {
+            redisHits.increment();
+            localCache.put(key, remote);
+            return remote;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 캐시에 있는지만 확인 (통계에 반영하지 않음)
+     */
+    public boolean contains(PlaceSearchKey key) {
+        if (localCache.get(key) != null) {
+            return true;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(PLACE_SEARCH_CACHE_PREFIX + key.asString()));
+        } catch (Exception e) {
+            log.warn("장소 검색 캐시 확인 실패 - 키: {}, 원인: {}", key.asString(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * L1, L2 모두에 저장
+     */
+    public void put(PlaceSearchKey key, KakaoPlaceSearchResponse response) {
+        localCache.put(key, response);
+        staleCache.put(key, response);
+
+        try {
+            redisTemplate.opsForValue().set(
+                PLACE_SEARCH_CACHE_PREFIX + key.asString(),
+                objectMapper.writeValueAsString(response),
+                redisTtl
+            );
+        } catch (Exception e) {
+            log.warn("장소 검색 캐시 저장 실패 - 키: {}, 원인: {}", key.asString(), e.getMessage());
+        }
+    }
+
+    /**
+     * 카카오 장애(서킷 OPEN, 속도 제한, 시간 초과 등) 시 응답할 만료된 검색 결과
+     *
+     * @return 보관 중인 검색 결과 (없으면 null)
+     */
+    public KakaoPlaceSearchResponse getStale(PlaceSearchKey key) {
+        KakaoPlaceSearchResponse stale = staleCache.get(key);
+        if (stale != null) {
+            staleHits.increment();
+        }
+        return stale;
+    }
+
+    public void recordUpstreamCall() {
+        upstreamCalls.increment();
+    }
+
+    public PlaceSearchCacheStatsResponse getStats() {
+        long local = localHits.sum();
+        long redis = redisHits.sum();
+        long miss = misses.sum();
+        long total = local + redis + miss;
+
+        return PlaceSearchCacheStatsResponse.builder()
+            .localHits(local)
+            .redisHits(redis)
+            .misses(miss)
+            .hitRate(total == 0 ? 0.0 : (double) (local + redis) / total)
+            .upstreamCalls(upstreamCalls.sum())
+            .savedUpstreamCalls(local + redis)
+            .localSize(localCache.size())
+            .staleHits(staleHits.sum())
+            .build();
+    }
+
+    private KakaoPlaceSearchResponse getFromRedis(PlaceSearchKey key) {
+        try {
+            String cached = redisTemplate.opsForValue().get(PLACE_SEARCH_CACHE_PREFIX + key.asString());
+            return cached == null ? null : objectMapper.readValue(cached, KakaoPlaceSearchResponse.class);
+        } catch (Exception e) {
+            log.warn("장소 검색 캐시 조회 실패 - 키: {}, 원인: {}", key.asString(), e.getMessage());
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.travelapp.backend.domain.place.service;
+
+import com.travelapp.backend.infra.kakao.KakaoPlaceSearchClient;
+
+/**
+ * 장소 검색 캐시 키
+ * 검색어는 정규화하고, 좌표는 격자(grid) 셀 단위로 스냅하여 가까운 위치의 같은 검색이 같은 키를 갖도록 함
+ *
+ * @param keyword 정규화된 검색어 (KakaoPlaceSearchClient.normalizeKeyword)
+ * @param latCell 위도 격자 인덱스
+ * @param lngCell 경도 격자 인덱스
+ * @param page 페이지 번호 (1~45)
+ * @param size 페이지 크기 (1~15)
+ * @param gridSize 격자 한 변의 크기 (도 단위)
+ */
+public record PlaceSearchKey(String keyword, long latCell, long lngCell, int page, int size, double gridSize) {
+
+    public static PlaceSearchKey of(String keyword, double lat, double lng, int page, int size, double gridSize) {
+        return new PlaceSearchKey(
+            KakaoPlaceSearchClient.normalizeKeyword(keyword),
+            (long) Math.floor(lat / gridSize),
+            (long) Math.floor(lng / gridSize),
+            KakaoPlaceSearchClient.normalizePage(page),
+            KakaoPlaceSearchClient.normalizeSize(size),
+            gridSize
+        );
+    }
+
+    /**
+     * 같은 검색 조건의 다음 페이지 키
+     */
+    public PlaceSearchKey nextPage() {
+        return new PlaceSearchKey(keyword, latCell, lngCell, page + 1, size, gridSize);
+    }
+
+    public String asString() {
+        return keyword + ":" + latCell + ":" + lngCell + ":" + page + ":" + size;
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.travelapp.backend.domain.place.service;
+
+import com.travelapp.backend.global.cache.LocalLruCache;
+import com.travelapp.backend.infra.kakao.KakaoPlaceSearchClient;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소 검색 다음 페이지 미리 가져오기
+ * N 페이지를 응답한 뒤 다음 페이지가 있으면 백그라운드에서 N+1 페이지를 검색 캐시에 채워 둠
+ * 작은 전용 실행기와 사용자별 분당 한도로 미리 가져오기가 카카오 호출량을 키우지 않도록 제한
+ */
+@Slf4j
+@Component
+public class PlaceSearchPrefetcher {
+
+    // 카카오 키워드 검색이 허용하는 최대 페이지
+    private static final int MAX_PAGE = 45;
+
+    private final KakaoPlaceSearchClient kakaoPlaceSearchClient;
+    private final PlaceSearchCacheService placeSearchCacheService;
+    private final PlaceCatalogService placeCatalogService;
+    private final Executor placePrefetchExecutor;
+    private final int budgetPerMinute;
+
+    // 사용자 ID → 최근 1분간 미리 가져오기 횟수
+    private final LocalLruCache<Long, AtomicInteger> budgets;
+
+    private final LongAdder prefetchedPages = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public PlaceSearchPrefetcher(
+        KakaoPlaceSearchClient kakaoPlaceSearchClient,
+        PlaceSearchCacheService placeSearchCacheService,
+        PlaceCatalogService placeCatalogService,
+        @Qualifier("placePrefetchExecutor") Executor placePrefetchExecutor,
+        @Value("${place-search.prefetch.budget-per-minute:20}") int budgetPerMinute
+    ) {
+        this.kakaoPlaceSearchClient = kakaoPlaceSearchClient;
+        this.placeSearchCacheService = placeSearchCacheService;
+        this.placeCatalogService = placeCatalogService;
+        this.placePrefetchExecutor = placePrefetchExecutor;
+        this.budgetPerMinute = budgetPerMinute;
+        this.budgets = new LocalLruCache<>(10_000, Duration.ofMinutes(1));
+    }
+
+    /**
+     * 응답한 페이지 다음 페이지를 백그라운드에서 캐시에 채움
+     *
+     * @param key 응답한 페이지의 캐시 키
+     * @param lat 요청한 위도 (응답한 페이지와 같은 위치로 검색)
+     * @param lng 요청한 경도
+     * @param served 응답한 검색 결과
+     * @param memberId 요청 사용자 ID (없으면 미리 가져오지 않음)
+     */
+    public void prefetchNextPage(PlaceSearchKey key, double lat, double lng, KakaoPlaceSearchResponse served, Long memberId) {
+        if (memberId == null || !served.hasNextPage() || key.page() >= MAX_PAGE) {
+            return;
+        }
+
+        PlaceSearchKey nextKey = key.nextPage();
+
+        try {
+            placePrefetchExecutor.execute(() -> prefetch(nextKey, lat, lng, memberId));
+        } catch (RejectedExecutionException e) {
+            skipped.increment();
+            log.debug("미리 가져오기 실행기 포화로 생략 - 키: {}", nextKey.asString());
+        }
+    }
+
+    public long getPrefetchedPages() {
+        return prefetchedPages.sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    private void prefetch(PlaceSearchKey nextKey, double lat, double lng, Long memberId) {
+        if (placeSearchCacheService.contains(nextKey)) {
+            return;
+        }
+
+        if (!tryConsumeBudget(memberId)) {
+            skipped.increment();
+            log.debug("사용자 {} 의 미리 가져오기 한도 초과 - 키: {}", memberId, nextKey.asString());
+            return;
+        }
+
+        try {
+            placeSearchCacheService.recordUpstreamCall();
+            KakaoPlaceSearchResponse response = kakaoPlaceSearchClient.searchPlaces(
+                nextKey.asString(), nextKey.keyword(), lat, lng, nextKey.page(), nextKey.size()
+            );
+            placeSearchCacheService.put(nextKey, response);
+            placeCatalogService.ingest(response);
+            prefetchedPages.increment();
+        } catch (Exception e) {
+            // 미리 가져오기 실패는 사용자 요청에 영향을 주지 않음
+            skipped.increment();
+            log.debug("다음 페이지 미리 가져오기 실패 - 키: {}, 원인: {}", nextKey.asString(), e.getMessage());
+        }
+    }
+
+    private boolean tryConsumeBudget(Long memberId) {
+        synchronized (budgets) {
+            AtomicInteger used = budgets.get(memberId);
+            if (used == null) {
+                used = new AtomicInteger();
+                budgets.put(memberId, used);
+            }
+            return used.incrementAndGet() <= budgetPerMinute;
+        }
+    }
+
+}
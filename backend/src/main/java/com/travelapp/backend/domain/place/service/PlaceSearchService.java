@@ -1,25 +1,118 @@
 package com.travelapp.backend.domain.place.service;
 
 import com.travelapp.backend.domain.place.dto.request.PlaceToTripPlaceRequest;
+import com.travelapp.backend.domain.place.dto.response.PlaceSearchCacheStatsResponse;
 import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceCreateRequest;
 import com.travelapp.backend.domain.tripplace.dto.response.TripPlaceResponse;
 import com.travelapp.backend.domain.tripplace.service.TripPlaceService;
+import com.travelapp.backend.global.exception.ExternalApiException;
+import com.travelapp.backend.global.util.SecurityUtil;
 import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import com.travelapp.backend.infra.kakao.dto.KakaoResilienceStatsResponse;
 import com.travelapp.backend.infra.kakao.KakaoPlaceSearchClient;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlaceSearchService {
 
     private final KakaoPlaceSearchClient kakaoPlaceSearchClient;
+    private final PlaceSearchCacheService placeSearchCacheService;
+    private final PlaceSearchPrefetcher placeSearchPrefetcher;
+    private final PlaceCatalogService placeCatalogService;
     private final TripPlaceService tripPlaceService;
 
-    public KakaoPlaceSearchResponse search(String keyword, double lat, double lng, int page, int size) {
-        // 전달받은 좌표를 기준으로 검색 (지역 제한 없음)
-        return kakaoPlaceSearchClient.searchPlaces(keyword, lat, lng, page, size);
+    /**
+     * 장소 검색 (논블로킹)
+     * 캐시(L1 → Redis)에 있으면 바로 반환하고, 없으면 카카오 응답을 기다리는 동안
+     * 요청 스레드를 점유하지 않도록 CompletableFuture 로 반환
+     * 카카오 호출이 실패(서킷 OPEN, 속도 제한, 시간 초과 등)하면 보관 중인 만료된 결과로,
+     * 그것도 없으면 로컬 장소 카탈로그의 근처 장소로 응답
+     * 다음 페이지가 있으면 백그라운드에서 미리 가져와 캐시에 채움
+     */
+    public CompletableFuture<KakaoPlaceSearchResponse> search(String keyword, double lat, double lng, int page, int size) {
+        PlaceSearchKey key = placeSearchCacheService.keyOf(keyword, lat, lng, page, size);
+        // 비동기 콜백에서는 SecurityContext 를 사용할 수 없으므로 요청 스레드에서 미리 확인
+        Long memberId = SecurityUtil.getCurrentMemberIdOrNull();
+
+        KakaoPlaceSearchResponse cached = placeSearchCacheService.get(key);
+        if (cached != null) {
+            placeSearchPrefetcher.prefetchNextPage(key, lat, lng, cached, memberId);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        placeSearchCacheService.recordUpstreamCall();
+
+        // 요청한 위치 기준으로 검색하고, 결과는 같은 격자 셀(검색 반경 20km 보다 훨씬 작음)의 검색이 공유
+        // 진행 중인 업스트림 요청도 같은 캐시 키 단위로 병합
+        return kakaoPlaceSearchClient
+            .searchPlacesAsync(key.asString(), key.keyword(), lat, lng, key.page(), key.size())
+            // Redis 저장은 블로킹 호출이므로 네트워크 이벤트 루프 밖에서 수행
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(response -> {
+                placeSearchCacheService.put(key, response);
+                placeCatalogService.ingest(response);
+                placeSearchPrefetcher.prefetchNextPage(key, lat, lng, response, memberId);
+            })
+            .onErrorResume(ExternalApiException.class, e -> {
+                KakaoPlaceSearchResponse stale = placeSearchCacheService.getStale(key);
+                if (stale != null) {
+                    log.warn("카카오 장소 검색 실패로 만료된 캐시 결과 응답 - 키: {}, 원인: {}", key.asString(), e.getErrorCode());
+                    return Mono.just(stale);
+                }
+                Optional<KakaoPlaceSearchResponse> local =
+                    placeCatalogService.searchNearby(keyword, lat, lng, key.page(), key.size());
+                if (local.isEmpty()) {
+                    return Mono.error(e);
+                }
+                log.warn("카카오 장소 검색 실패로 로컬 카탈로그 결과 응답 - 키: {}, 원인: {}", key.asString(), e.getErrorCode());
+                return Mono.just(local.get());
+            })
+            .toFuture();
+    }
+
+    /**
+     * 여행 지역 근처 장소 검색 (로컬 우선)
+     * 최근 max-age 안에 확인된 카탈로그 장소로 요청한 페이지를 모두 채울 수 있으면 카카오를 호출하지 않고 가까운 순으로 응답하고,
+     * 채우지 못하면 일반 검색(캐시 → 카카오)으로 처리
+     */
+    public CompletableFuture<KakaoPlaceSearchResponse> searchNearTrip(String keyword, double lat, double lng, int page, int size) {
+        PlaceSearchKey key = placeSearchCacheService.keyOf(keyword, lat, lng, page, size);
+
+        Optional<KakaoPlaceSearchResponse> local =
+            placeCatalogService.searchFullPage(keyword, lat, lng, key.page(), key.size());
+        if (local.isPresent()) {
+            return CompletableFuture.completedFuture(local.get());
+        }
+        return search(keyword, lat, lng, page, size);
+    }
+
+    /**
+     * 캐시 통계와 업스트림 요청 병합(single-flight), 미리 가져오기, 로컬 카탈로그 통계
+     */
+    public PlaceSearchCacheStatsResponse getStats() {
+        return placeSearchCacheService.getStats().toBuilder()
+            .coalescedUpstreamCalls(kakaoPlaceSearchClient.getCoalescedCount())
+            .inFlightUpstreamCalls(kakaoPlaceSearchClient.getInFlightCount())
+            .prefetchedPages(placeSearchPrefetcher.getPrefetchedPages())
+            .prefetchSkipped(placeSearchPrefetcher.getSkipped())
+            .catalogHits(placeCatalogService.getLocalHits())
+            .build();
+    }
+
+    /**
+     * 카카오 API 장애 대응 계층(서킷 브레이커, 속도 제한, 벌크헤드) 통계
+     */
+    public KakaoResilienceStatsResponse getResilienceStats() {
+        return kakaoPlaceSearchClient.getResilienceStats();
     }
 
     @Transactional
@@ -0,0 +1,351 @@
+package com.travelapp.backend.domain.place.service;
+
+import com.travelapp.backend.domain.place.dto.projection.PlaceNameCount;
+import com.travelapp.backend.domain.place.dto.response.PlaceSuggestionResponse;
+import com.travelapp.backend.domain.place.repository.PlaceRepository;
+import com.travelapp.backend.domain.tripplace.repository.TripPlaceRepository;
+import com.travelapp.backend.global.util.HangulJamo;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse.Document;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 장소 이름 자동완성 인덱스
+ * 정규화한 이름(PlaceCatalogService.toNameKey)을 한글 자모로 분해해 트라이에 저장하고,
+ * 얕은 노드(자모 TOP_K_MAX_DEPTH 개 이하)에는 상위 TOP_K 개 후보를 미리 계산해 두어
+ * 카카오/MySQL 조회 없이 메모리에서만 응답
+ *
+ * 점수는 여행지 저장(TRIP_PLACE_WEIGHT)과 카카오 검색 결과 노출(SEARCH_RESULT_WEIGHT) 횟수로 누적되며 감소하지 않음
+ */
+@Slf4j
+@Component
+public class PlaceSuggestIndex {
+
+    public static final int TOP_K = 10;
+    static final long TRIP_PLACE_WEIGHT = 10;
+    static final long SEARCH_RESULT_WEIGHT = 1;
+
+    // 자모 6개(한글 약 2글자)까지는 상위 후보를 노드에 저장, 더 깊은 노드는 하위 트리를 직접 탐색 (하위 트리가 작음)
+    private static final int TOP_K_MAX_DEPTH = 6;
+    private static final int WARM_UP_PAGE_SIZE = 1000;
+
+    // 점수 내림차순 → 짧은 이름 우선 → 이름 오름차순
+    private static final Comparator<Entry> RANKING = Comparator
+        .comparingLong((Entry entry) -> entry.score).reversed()
+        .thenComparingInt(entry -> entry.nameKey.length())
+        .thenComparing(entry -> entry.nameKey);
+
+    private final TripPlaceRepository tripPlaceRepository;
+    private final PlaceRepository placeRepository;
+    private final int maxEntries;
+    private final int warmUpCatalogSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    // 정규화한 이름 → 항목 (lock 으로 보호)
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final LongAdder droppedEntries = new LongAdder();
+
+    public PlaceSuggestIndex(
+        TripPlaceRepository tripPlaceRepository,
+        PlaceRepository placeRepository,
+        @Value("${place-suggest.max-entries:200000}") int maxEntries,
+        @Value("${place-suggest.warm-up-catalog-size:50000}") int warmUpCatalogSize
+    ) {
+        this.tripPlaceRepository = tripPlaceRepository;
+        this.placeRepository = placeRepository;
+        this.maxEntries = maxEntries;
+        this.warmUpCatalogSize = warmUpCatalogSize;
+    }
+
+    /**
+     * 기동 시 저장된 여행지와 장소 카탈로그로 인덱스 적재 (DB 를 사용할 수 없으면 빈 인덱스로 시작)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<PlaceNameCount> tripPlaces = tripPlaceRepository.countByPlaceName();
+            for (PlaceNameCount row : tripPlaces) {
+                add(row.getPlaceName(), row.getPlaceId(), row.getCount() * TRIP_PLACE_WEIGHT);
+            }
+
+            int loaded = 0;
+            for (int page = 0; loaded < warmUpCatalogSize && size() < maxEntries; page++) {
+                List<PlaceNameCount> places = placeRepository.findRecentPlaceNames(PageRequest.of(page, WARM_UP_PAGE_SIZE));
+                for (PlaceNameCount row : places) {
+                    add(row.getPlaceName(), row.getPlaceId(), SEARCH_RESULT_WEIGHT);
+                }
+                loaded += places.size();
+                if (places.size() < WARM_UP_PAGE_SIZE) {
+                    break;
+                }
+            }
+
+            log.info("장소 자동완성 인덱스 적재 완료 - 여행지 이름 {} 개, 카탈로그 장소 {} 개, 인덱스 크기 {}",
+                tripPlaces.size(), loaded, size());
+        } catch (Exception e) {
+            log.warn("장소 자동완성 인덱스 초기 적재 실패 - 이후 저장/검색되는 장소부터 반영됩니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 여행지로 저장된 장소 반영 (트랜잭션 중이면 커밋 이후에 반영)
+     */
+    public void recordTripPlace(String placeName, String placeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(placeName, placeId, TRIP_PLACE_WEIGHT);
+                }
+            });
+            return;
+        }
+
+        add(placeName, placeId, TRIP_PLACE_WEIGHT);
+    }
+
+    /**
+     * 카카오 검색 결과에 노출된 장소 반영
+     */
+    public void recordSearchResult(KakaoPlaceSearchResponse response) {
+        if (response == null || response.getDocuments() == null) {
+            return;
+        }
+
+        for (Document document : response.getDocuments()) {
+            add(document.getPlace_name(), document.getId(), SEARCH_RESULT_WEIGHT);
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 장소 이름을 점수 순으로 조회
+     * 마지막 글자는 입력 중일 수 있으므로 자모 단위로 일치 여부를 판단 ("제주ㄷ", "제주도" → "제주도립미술관")
+     */
+    public List<PlaceSuggestionResponse> suggest(String prefix, int limit) {
+        String jamo = HangulJamo.decompose(PlaceCatalogService.toNameKey(prefix));
+        if (jamo.isEmpty()) {
+            return List.of();
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, TOP_K));
+
+        lock.readLock().lock();
+        try {
+            Node node = find(jamo);
+            if (node == null) {
+                return List.of();
+            }
+
+            List<Entry> ranked = jamo.length() <= TOP_K_MAX_DEPTH
+                ? Arrays.asList(node.top).subList(0, Math.min(boundedLimit, node.topCount))
+                : collectTop(node, boundedLimit);
+
+            return ranked.stream()
+                .map(entry -> PlaceSuggestionResponse.builder()
+                    .placeName(entry.placeName)
+                    .placeId(entry.placeId)
+                    .score(entry.score)
+                    .build())
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getDroppedEntries() {
+        return droppedEntries.sum();
+    }
+
+    /**
+     * 장소 이름을 인덱스에 추가하거나 이미 있으면 점수를 올림
+     */
+    void add(String placeName, String placeId, long weight) {
+        String nameKey = PlaceCatalogService.toNameKey(placeName);
+        if (nameKey.isEmpty()) {
+            return;
+        }
+        String jamo = HangulJamo.decompose(nameKey);
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(nameKey);
+            if (entry == null) {
+                if (entries.size() >= maxEntries) {
+                    droppedEntries.increment();
+                    return;
+                }
+                entry = new Entry(nameKey, placeName.strip(), placeId);
+                entries.put(nameKey, entry);
+            } else if (entry.placeId == null) {
+                entry.placeId = placeId;
+            }
+            entry.score += weight;
+
+            Node node = root;
+            for (int depth = 1; depth <= jamo.length(); depth++) {
+                node = node.getOrCreateChild(jamo.charAt(depth - 1));
+                if (depth <= TOP_K_MAX_DEPTH) {
+                    node.offer(entry);
+                }
+            }
+            node.entry = entry;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Node find(String jamo) {
+        Node node = root;
+        for (int i = 0; i < jamo.length() && node != null; i++) {
+            node = node.child(jamo.charAt(i));
+        }
+        return node;
+    }
+
+    // 깊은 노드는 하위 트리의 항목 중 상위 limit 개를 고름
+    private List<Entry> collectTop(Node start, int limit) {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.entry != null) {
+                heap.offer(node.entry);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                stack.push(node.children[i]);
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(RANKING);
+        return result;
+    }
+
+    private static final class Entry {
+
+        private final String nameKey;
+        private final String placeName;
+        private String placeId;
+        private long score;
+
+        private Entry(String nameKey, String placeName, String placeId) {
+            this.nameKey = nameKey;
+            this.placeName = placeName;
+            this.placeId = placeId;
+        }
+    }
+
+    /**
+     * 트라이 노드 - 자식은 자모 순으로 정렬된 배열로 보관해 노드당 메모리를 줄임
+     */
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+
+        // 이 노드에서 끝나는 장소 이름
+        private Entry entry;
+
+        // 이 접두사의 상위 후보 (점수 순, 얕은 노드만 사용)
+        private Entry[] top = NO_ENTRIES;
+        private int topCount;
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrCreateChild(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+
+            Node created = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = created;
+            childCount++;
+            return created;
+        }
+
+        // 점수는 증가만 하므로 새 위치에서 앞으로만 이동하면 순서가 유지됨
+        private void offer(Entry candidate) {
+            int index = -1;
+            for (int i = 0; i < topCount; i++) {
+                if (top[i] == candidate) {
+                    index = i;
+                    break;
+                }
+            }
+
+            if (index < 0) {
+                if (topCount < TOP_K) {
+                    if (top.length == topCount) {
+                        top = Arrays.copyOf(top, Math.min(TOP_K, Math.max(2, topCount * 2)));
+                    }
+                    index = topCount++;
+                } else if (RANKING.compare(candidate, top[TOP_K - 1]) < 0) {
+                    index = TOP_K - 1;
+                } else {
+                    return;
+                }
+                top[index] = candidate;
+            }
+
+            while (index > 0 && RANKING.compare(top[index], top[index - 1]) < 0) {
+                Entry swap = top[index - 1];
+                top[index - 1] = top[index];
+                top[index] = swap;
+                index--;
+            }
+        }
+    }
+
+}
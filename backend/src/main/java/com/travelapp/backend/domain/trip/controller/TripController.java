@@ -2,6 +2,7 @@ package com.travelapp.backend.domain.trip.controller;
 
 import com.travelapp.backend.domain.trip.dto.request.TripCreateRequest;
 import com.travelapp.backend.domain.trip.dto.request.TripModifyRequest;
+import com.travelapp.backend.domain.trip.dto.response.TripItineraryResponse;
 import com.travelapp.backend.domain.trip.dto.response.TripResponse;
 import com.travelapp.backend.domain.trip.service.TripService;
 import com.travelapp.backend.global.util.SecurityUtil;
@@ -78,6 +79,21 @@ public class TripController {
         return ResponseEntity.ok(tripService.getTrip(tripId));
     }
 
+    @Operation(summary = "여행 전체 일정 조회", description = "여행 정보, 커버 이미지, 일자별 여행지 목록을 한 번에 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "일정 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "엑세스 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "해당 여행을 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/{tripId}/itinerary")
+    public ResponseEntity<TripItineraryResponse> getItinerary(
+        @Parameter(description = "여행 ID") @PathVariable Long tripId
+    ) {
+        return ResponseEntity.ok(tripService.getItinerary(tripId));
+    }
+
     @Operation(summary = "여행 수정", description = "여행의 정보를 수정합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "여행 수정 성공"),
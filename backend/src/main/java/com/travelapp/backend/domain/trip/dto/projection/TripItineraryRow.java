@@ -0,0 +1,35 @@
+package com.travelapp.backend.domain.trip.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여행 일정 조회용 평면(flat) 프로젝션
+ * TripDay 와 TripPlace 를 한 번의 LEFT JOIN 으로 읽어오기 위한 행 단위 DTO
+ * (장소가 없는 일자는 장소 관련 필드가 모두 null)
+ */
+@Getter
+@AllArgsConstructor
+public class TripItineraryRow {
+
+    private Long dayId;
+    private Integer day;
+    private LocalDate date;
+
+    private Long placeId;
+    private String kakaoPlaceId;
+    private String placeName;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private String memo;
+    private LocalTime visitTime;
+    private Integer visitOrder;
+
+    public boolean hasPlace() {
+        return placeId != null;
+    }
+
+}
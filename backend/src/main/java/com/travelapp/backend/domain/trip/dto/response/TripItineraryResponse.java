@@ -0,0 +1,92 @@
+package com.travelapp.backend.domain.trip.dto.response;
+
+import com.travelapp.backend.domain.file.dto.response.TripImageResponse;
+import com.travelapp.backend.domain.trip.dto.projection.TripItineraryRow;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.tripplace.dto.response.TripPlaceResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "여행 전체 일정 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripItineraryResponse {
+
+    @Schema(description = "여행 정보")
+    private TripResponse trip;
+
+    @Schema(description = "커버 이미지 (없으면 null)")
+    private TripImageResponse coverImage;
+
+    @Schema(description = "일자별 일정 목록")
+    private List<DayItinerary> days;
+
+    @Schema(description = "일자별 일정")
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayItinerary {
+
+        @Schema(description = "여행 일자 ID", example = "1")
+        private Long tripDayId;
+
+        @Schema(description = "여행 일차", example = "1")
+        private Integer day;
+
+        @Schema(description = "날짜", example = "2024-12-25")
+        private LocalDate date;
+
+        @Schema(description = "방문 순서대로 정렬된 여행지 목록")
+        private List<TripPlaceResponse> places;
+
+    }
+
+    /**
+     * 평면 행 목록을 일자별 일정으로 조립
+     * (행은 일자, 방문 순서대로 정렬되어 있어야 함)
+     */
+    public static TripItineraryResponse of(Trip trip, TripImageResponse coverImage, List<TripItineraryRow> rows) {
+        Map<Long, DayItinerary> days = new LinkedHashMap<>();
+
+        for (TripItineraryRow row : rows) {
+            DayItinerary dayItinerary = days.computeIfAbsent(row.getDayId(), id -> DayItinerary.builder()
+                .tripDayId(id)
+                .day(row.getDay())
+                .date(row.getDate())
+                .places(new ArrayList<>())
+                .build());
+
+            if (row.hasPlace()) {
+                dayItinerary.getPlaces().add(TripPlaceResponse.builder()
+                    .id(row.getPlaceId())
+                    .placeId(row.getKakaoPlaceId())
+                    .placeName(row.getPlaceName())
+                    .address(row.getAddress())
+                    .latitude(row.getLatitude())
+                    .longitude(row.getLongitude())
+                    .memo(row.getMemo())
+                    .visitTime(row.getVisitTime())
+                    .visitOrder(row.getVisitOrder())
+                    .build());
+            }
+        }
+
+        return TripItineraryResponse.builder()
+            .trip(TripResponse.of(trip))
+            .coverImage(coverImage)
+            .days(new ArrayList<>(days.values()))
+            .build();
+    }
+
+}
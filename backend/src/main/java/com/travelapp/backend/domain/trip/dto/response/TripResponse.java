@@ -3,12 +3,16 @@ package com.travelapp.backend.domain.trip.dto.response;
 import com.travelapp.backend.domain.trip.entity.Trip;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Schema(description = "여행 계획 정보 응답 DTO")
 @Builder
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class TripResponse {
 
     @Schema(description = "여행 계획 ID", example = "1")
@@ -1,11 +1,44 @@
 package com.travelapp.backend.domain.trip.repository;
 
+import com.travelapp.backend.domain.file.entity.TripImage;
+import com.travelapp.backend.domain.trip.dto.projection.TripItineraryRow;
 import com.travelapp.backend.domain.trip.entity.Trip;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TripRepository extends JpaRepository<Trip, Long> {
 
     List<Trip> findByMember_Id(Long memberId);
 
+    /**
+     * 여행과 소유자(Member)를 함께 조회 (소유자 검증 시 추가 쿼리 방지)
+     */
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT t FROM Trip t WHERE t.id = :tripId")
+    Optional<Trip> findWithMemberById(@Param("tripId") Long tripId);
+
+    /**
+     * 여행의 전체 일정(일자 + 장소)을 한 번의 쿼리로 조회
+     * 일자 순서, 방문 순서대로 정렬된 평면 행 목록을 반환
+     */
+    @Query("SELECT new com.travelapp.backend.domain.trip.dto.projection.TripItineraryRow("
+        + "d.id, d.day, d.date, "
+        + "p.id, p.placeId, p.placeName, p.address, p.latitude, p.longitude, p.memo, p.visitTime, p.visitOrder) "
+        + "FROM TripDay d LEFT JOIN d.tripPlaces p "
+        + "WHERE d.trip.id = :tripId "
+        + "ORDER BY d.day ASC, p.visitOrder ASC")
+    List<TripItineraryRow> findItineraryRowsByTripId(@Param("tripId") Long tripId);
+
+    /**
+     * 여행 커버 이미지를 파일 정보와 함께 조회
+     */
+    @Query("SELECT ti FROM TripImage ti JOIN FETCH ti.fileInfo fi "
+        + "WHERE ti.trip.id = :tripId AND ti.isCoverImage = true "
+        + "AND fi.uploadStatus = 'COMPLETED' AND fi.isDeleted = false")
+    Optional<TripImage> findCoverImageWithFileInfoByTripId(@Param("tripId") Long tripId);
+
 }
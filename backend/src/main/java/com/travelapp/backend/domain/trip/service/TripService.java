@@ -1,15 +1,19 @@
 package com.travelapp.backend.domain.trip.service;
 
+import com.travelapp.backend.domain.file.dto.response.TripImageResponse;
 import com.travelapp.backend.domain.member.entity.Member;
 import com.travelapp.backend.domain.member.exception.MemberNotFoundException;
 import com.travelapp.backend.domain.member.repository.MemberRepository;
 import com.travelapp.backend.domain.trip.dto.request.TripCreateRequest;
 import com.travelapp.backend.domain.trip.dto.request.TripModifyRequest;
+import com.travelapp.backend.domain.trip.dto.projection.TripItineraryRow;
+import com.travelapp.backend.domain.trip.dto.response.TripItineraryResponse;
 import com.travelapp.backend.domain.trip.dto.response.TripResponse;
 import com.travelapp.backend.domain.trip.entity.Trip;
 import com.travelapp.backend.domain.trip.exception.TripAccessDeniedException;
 import com.travelapp.backend.domain.trip.exception.TripNotFoundException;
 import com.travelapp.backend.domain.trip.repository.TripRepository;
+import com.travelapp.backend.domain.tripshare.service.TripShareCacheService;
 import com.travelapp.backend.global.util.SecurityUtil;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +26,7 @@ public class TripService {
 
     private final TripRepository tripRepository;
     private final MemberRepository memberRepository;
+    private final TripShareCacheService tripShareCacheService;
 
     @Transactional
     public void createTrip(Long memberId, TripCreateRequest request) {
@@ -58,6 +63,25 @@ public class TripService {
         return TripResponse.of(trip);
     }
 
+    /**
+     * 여행 전체 일정 조회
+     * 여행(소유자 포함) / 일자+장소 / 커버 이미지 3개의 쿼리로 일자 수와 무관하게 조회
+     */
+    @Transactional(readOnly = true)
+    public TripItineraryResponse getItinerary(Long tripId) {
+        Trip trip = tripRepository.findWithMemberById(tripId).orElseThrow(
+            () -> new TripNotFoundException(tripId)
+        );
+        validateTripOwner(trip);
+
+        List<TripItineraryRow> rows = tripRepository.findItineraryRowsByTripId(tripId);
+        TripImageResponse coverImage = tripRepository.findCoverImageWithFileInfoByTripId(tripId)
+            .map(TripImageResponse::from)
+            .orElse(null);
+
+        return TripItineraryResponse.of(trip, coverImage, rows);
+    }
+
     @Transactional
     public void modifyTrip(Long tripId, TripModifyRequest request) {
 
@@ -66,6 +90,7 @@ public class TripService {
         trip.modifyTrip(request);
 
         tripRepository.save(trip);
+        evictSharedTripCache(trip);
     }
 
     @Transactional
@@ -73,6 +98,7 @@ public class TripService {
 
         Trip trip = findTripWithOwnerValidation(tripId);
 
+        evictSharedTripCache(trip);
         tripRepository.delete(trip);
     }
 
@@ -95,6 +121,13 @@ public class TripService {
         }
     }
 
+    /**
+     * 여행 정보가 포함된 공유 캐시 삭제
+     */
+    private void evictSharedTripCache(Trip trip) {
+        trip.getShares().forEach(share -> tripShareCacheService.evict(share.getShareToken()));
+    }
+
     /**
      * Trip 존재 및 소유자 확인 (다른 서비스에서 사용할 수 있도록 public)
      */
@@ -1,6 +1,7 @@
 package com.travelapp.backend.domain.tripplace.controller;
 
 import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceCreateRequest;
+import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceReorderRequest;
 import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceUpdateRequest;
 import com.travelapp.backend.domain.tripplace.dto.request.VisitOrderUpdateRequest;
 import com.travelapp.backend.domain.tripplace.dto.response.TripPlaceResponse;
@@ -107,6 +108,25 @@ public class TripPlaceController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "여행지 순서 일괄 변경", description = "여행 일자의 전체 여행지 순서를 한 번에 변경합니다. 해당 일자의 모든 여행지 ID를 새 순서대로 전달해야 합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "여행지 순서 일괄 변경 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 순서 (누락, 중복 또는 다른 일자의 여행지 포함)"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "엑세스 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "여행 일자를 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @PutMapping("/order")
+    public ResponseEntity<List<TripPlaceResponse>> reorderTripPlaces(
+        @Parameter(description = "여행 일자 ID") @PathVariable Long tripDayId,
+        @Parameter(description = "순서 일괄 변경 요청 정보") @Valid @RequestBody TripPlaceReorderRequest request
+    ) {
+        List<TripPlaceResponse> response = tripPlaceService.reorderTripPlaces(tripDayId, request);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "여행지 삭제", description = "여행지를 삭제합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "여행지 삭제 성공"),
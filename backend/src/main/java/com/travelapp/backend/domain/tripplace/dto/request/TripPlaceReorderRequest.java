@@ -0,0 +1,21 @@
+package com.travelapp.backend.domain.tripplace.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "여행지 순서 일괄 변경 요청 DTO")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripPlaceReorderRequest {
+
+    @Schema(description = "새 방문 순서대로 나열한 여행지 ID 목록 (해당 일자의 모든 여행지를 포함해야 함)", example = "[3, 1, 2]")
+    @NotEmpty(message = "여행지 ID 목록은 필수입니다")
+    private List<@NotNull(message = "여행지 ID는 null일 수 없습니다") Long> placeIds;
+
+}
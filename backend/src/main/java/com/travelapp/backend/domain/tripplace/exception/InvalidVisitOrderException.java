@@ -0,0 +1,16 @@
+package com.travelapp.backend.domain.tripplace.exception;
+
+import com.travelapp.backend.global.exception.InvalidValueException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+
+public class InvalidVisitOrderException extends InvalidValueException {
+
+    public InvalidVisitOrderException() {
+        super(ErrorCode.INVALID_VISIT_ORDER);
+    }
+
+    public InvalidVisitOrderException(String message) {
+        super(ErrorCode.INVALID_VISIT_ORDER, message);
+    }
+
+}
@@ -1,11 +1,29 @@
 package com.travelapp.backend.domain.tripplace.repository;
 
+import com.travelapp.backend.domain.place.dto.projection.PlaceNameCount;
 import com.travelapp.backend.domain.tripplace.entity.TripPlace;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TripPlaceRepository extends JpaRepository<TripPlace, Long> {
+public interface TripPlaceRepository extends JpaRepository<TripPlace, Long>, TripPlaceRepositoryCustom {
 
     List<TripPlace> findByTripDay_Id(Long tripDayId);
 
+    /**
+     * 여행 일자의 모든 방문 순서를 offset 만큼 이동 (순서 재설정 전 유니크 제약 충돌 방지용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TripPlace p SET p.visitOrder = p.visitOrder + :offset WHERE p.tripDay.id = :tripDayId")
+    int shiftVisitOrders(@Param("tripDayId") Long tripDayId, @Param("offset") int offset);
+
+    /**
+     * 장소 이름별 저장 횟수 (자동완성 인덱스 초기 적재용)
+     */
+    @Query("SELECT new com.travelapp.backend.domain.place.dto.projection.PlaceNameCount(p.placeName, MAX(p.placeId), COUNT(p)) "
+        + "FROM TripPlace p WHERE p.placeName IS NOT NULL GROUP BY p.placeName")
+    List<PlaceNameCount> countByPlaceName();
+
 }
@@ -0,0 +1,13 @@
+package com.travelapp.backend.domain.tripplace.repository;
+
+import java.util.List;
+
+public interface TripPlaceRepositoryCustom {
+
+    /**
+     * 여행 일자의 방문 순서를 주어진 ID 순서(1부터)로 한 번의 UPDATE 로 재설정
+     * 유니크 제약 충돌을 피하려면 먼저 shiftVisitOrders 로 기존 순서를 비켜둬야 함
+     */
+    int updateVisitOrders(Long tripDayId, List<Long> orderedPlaceIds);
+
+}
@@ -0,0 +1,40 @@
+package com.travelapp.backend.domain.tripplace.repository;
+
+import com.travelapp.backend.domain.tripplace.entity.TripPlace;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+
+public class TripPlaceRepositoryCustomImpl implements TripPlaceRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public int updateVisitOrders(Long tripDayId, List<Long> orderedPlaceIds) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaUpdate<TripPlace> update = cb.createCriteriaUpdate(TripPlace.class);
+        Root<TripPlace> root = update.from(TripPlace.class);
+
+        // UPDATE trip_place SET visit_order = CASE id WHEN ? THEN 1 WHEN ? THEN 2 ... END
+        CriteriaBuilder.SimpleCase<Long, Integer> newOrder = cb.selectCase(root.<Long>get("id"));
+        for (int i = 0; i < orderedPlaceIds.size(); i++) {
+            newOrder.when(orderedPlaceIds.get(i), i + 1);
+        }
+
+        Path<Integer> visitOrder = root.get("visitOrder");
+        update.set(visitOrder, newOrder.otherwise(visitOrder));
+        update.where(cb.equal(root.get("tripDay").get("id"), tripDayId));
+
+        em.flush();
+        int updated = em.createQuery(update).executeUpdate();
+        em.clear();
+
+        return updated;
+    }
+
+}
@@ -1,17 +1,27 @@
 package com.travelapp.backend.domain.tripplace.service;
 
+import com.travelapp.backend.domain.place.service.PlaceSuggestIndex;
 import com.travelapp.backend.domain.trip.service.TripService;
 import com.travelapp.backend.domain.tripday.entity.TripDay;
 import com.travelapp.backend.domain.tripday.exception.TripDayNotFoundException;
 import com.travelapp.backend.domain.tripday.repository.TripDayRepository;
 import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceCreateRequest;
+import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceReorderRequest;
 import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceUpdateRequest;
 import com.travelapp.backend.domain.tripplace.dto.request.VisitOrderUpdateRequest;
 import com.travelapp.backend.domain.tripplace.dto.response.TripPlaceResponse;
 import com.travelapp.backend.domain.tripplace.entity.TripPlace;
+import com.travelapp.backend.domain.tripplace.exception.InvalidVisitOrderException;
 import com.travelapp.backend.domain.tripplace.exception.TripPlaceNotFoundException;
 import com.travelapp.backend.domain.tripplace.repository.TripPlaceRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +33,7 @@ public class TripPlaceService {
     private final TripPlaceRepository tripPlaceRepository;
     private final TripDayRepository tripDayRepository;
     private final TripService tripService;
+    private final PlaceSuggestIndex placeSuggestIndex;
 
     @Transactional
     public TripPlaceResponse createTripPlace(Long tripDayId, TripPlaceCreateRequest request) {
@@ -46,7 +57,10 @@ public class TripPlaceService {
             .visitOrder(request.getVisitOrder())
             .build();
 
-        return TripPlaceResponse.of(tripPlaceRepository.save(tripPlace));
+        TripPlace savedTripPlace = tripPlaceRepository.save(tripPlace);
+        placeSuggestIndex.recordTripPlace(savedTripPlace.getPlaceName(), savedTripPlace.getPlaceId());
+
+        return TripPlaceResponse.of(savedTripPlace);
     }
 
     @Transactional(readOnly = true)
@@ -87,39 +101,44 @@ public class TripPlaceService {
             return TripPlaceResponse.of(tripPlace);
         }
 
-        // 같은 날짜에 속한 다른 장소들의 순서도 함께 조정
-        List<TripPlace> placesInSameDay = tripPlaceRepository.findByTripDay_Id(tripPlace.getTripDay().getId());
+        Long tripDayId = tripPlace.getTripDay().getId();
+        List<TripPlace> placesInSameDay = tripPlaceRepository.findByTripDay_Id(tripDayId);
 
-        if (oldOrder < newOrder) {
-            // 아래로 이동: 기존 위치와 새 위치 사이의 항목들은 한 칸씩 위로
-            for (TripPlace place : placesInSameDay) {
-                if (place.getId().equals(placeId)) continue;
+        if (newOrder > placesInSameDay.size()) {
+            throw new InvalidVisitOrderException("방문 순서는 " + placesInSameDay.size() + " 이하여야 합니다.");
+        }
 
-                Integer currentOrder = place.getVisitOrder();
-                if (currentOrder > oldOrder && currentOrder <= newOrder) {
-                    place.visitOrderUpdate(new VisitOrderUpdateRequest(currentOrder - 1));
-                    tripPlaceRepository.save(place);
-                }
-            }
-        } else {
-            // 위로 이동: 새 위치와 기존 위치 사이의 항목들은 한칸씩 아래로
-            for (TripPlace place : placesInSameDay) {
-                if (place.getId().equals(placeId)) continue;
+        // 이동 대상을 뺀 현재 순서에 새 위치로 끼워 넣어 전체 순서를 계산
+        List<Long> orderedPlaceIds = placesInSameDay.stream()
+            .sorted(Comparator.comparing(TripPlace::getVisitOrder))
+            .map(TripPlace::getId)
+            .filter(id -> !id.equals(placeId))
+            .collect(Collectors.toCollection(ArrayList::new));
+        orderedPlaceIds.add(newOrder - 1, placeId);
+
+        return applyVisitOrders(tripDayId, placesInSameDay, orderedPlaceIds).stream()
+            .filter(response -> response.getId().equals(placeId))
+            .findFirst()
+            .orElseThrow(() -> new TripPlaceNotFoundException(placeId));
+    }
 
-                Integer currentOrder = place.getVisitOrder();
-                if (currentOrder >= newOrder && currentOrder < oldOrder) {
-                    place.visitOrderUpdate(new VisitOrderUpdateRequest(currentOrder + 1));
-                    tripPlaceRepository.save(place);
-                }
+    /**
+     * 여행 일자의 방문 순서 일괄 변경
+     * 여행지 수와 무관하게 조회 3회 + UPDATE 2회로 처리
+     */
+    @Transactional
+    public List<TripPlaceResponse> reorderTripPlaces(Long tripDayId, TripPlaceReorderRequest request) {
 
-            }
+        TripDay tripDay = tripDayRepository.findById(tripDayId).orElseThrow(
+            () -> new TripDayNotFoundException(tripDayId)
+        );
 
-        }
+        tripService.findTripWithOwnerValidation(tripDay.getTrip().getId());
 
-        tripPlace.visitOrderUpdate(request);
-        tripPlaceRepository.save(tripPlace);
+        List<TripPlace> places = tripPlaceRepository.findByTripDay_Id(tripDayId);
+        validateReorder(places, request.getPlaceIds());
 
-        return TripPlaceResponse.of(tripPlace);
+        return applyVisitOrders(tripDayId, places, request.getPlaceIds());
     }
 
     @Transactional
@@ -129,6 +148,65 @@ public class TripPlaceService {
     }
 
 
+    /**
+     * 새 순서가 해당 일자 여행지들의 순열인지 검증
+     */
+    private void validateReorder(List<TripPlace> places, List<Long> orderedPlaceIds) {
+        Set<Long> placeIds = places.stream()
+            .map(TripPlace::getId)
+            .collect(Collectors.toSet());
+
+        if (orderedPlaceIds.size() != placeIds.size()) {
+            throw new InvalidVisitOrderException("해당 일자의 모든 여행지를 포함해야 합니다.");
+        }
+
+        Set<Long> seen = new HashSet<>();
+        for (Long id : orderedPlaceIds) {
+            if (!seen.add(id)) {
+                throw new InvalidVisitOrderException("중복된 여행지 ID가 있습니다. ID: " + id);
+            }
+            if (!placeIds.contains(id)) {
+                throw new InvalidVisitOrderException("해당 일자에 속하지 않은 여행지입니다. ID: " + id);
+            }
+        }
+    }
+
+    /**
+     * 방문 순서를 일괄 반영 (offset 이동 후 CASE UPDATE 로 1..N 정규화)
+     * 두 번의 UPDATE 로 끝나며 중간 단계에서도 유니크 제약이 충돌하지 않음
+     */
+    private List<TripPlaceResponse> applyVisitOrders(Long tripDayId, List<TripPlace> places, List<Long> orderedPlaceIds) {
+        Map<Long, TripPlace> placeById = places.stream()
+            .collect(Collectors.toMap(TripPlace::getId, Function.identity()));
+
+        boolean unchanged = true;
+        for (int i = 0; i < orderedPlaceIds.size(); i++) {
+            if (placeById.get(orderedPlaceIds.get(i)).getVisitOrder() != i + 1) {
+                unchanged = false;
+                break;
+            }
+        }
+
+        if (!unchanged) {
+            int offset = places.stream()
+                .mapToInt(TripPlace::getVisitOrder)
+                .max()
+                .orElse(0) + 1;
+
+            tripPlaceRepository.shiftVisitOrders(tripDayId, offset);
+            tripPlaceRepository.updateVisitOrders(tripDayId, orderedPlaceIds);
+        }
+
+        // 벌크 UPDATE 이후 영속성 컨텍스트가 비워졌으므로 조회해 둔 엔티티에 값만 맞춰 응답 생성
+        List<TripPlaceResponse> responses = new ArrayList<>(orderedPlaceIds.size());
+        for (int i = 0; i < orderedPlaceIds.size(); i++) {
+            TripPlace place = placeById.get(orderedPlaceIds.get(i));
+            place.visitOrderUpdate(new VisitOrderUpdateRequest(i + 1));
+            responses.add(TripPlaceResponse.of(place));
+        }
+        return responses;
+    }
+
     private TripPlace findTripPlaceWithOwnerValidation(Long placeId) {
         TripPlace tripPlace = tripPlaceRepository.findById(placeId).orElseThrow(
             () -> new TripPlaceNotFoundException(placeId)
@@ -1,8 +1,12 @@
 package com.travelapp.backend.domain.tripshare.controller;
 
 import com.travelapp.backend.domain.tripshare.dto.request.TripShareCreateRequest;
+import com.travelapp.backend.domain.tripshare.dto.response.PublicTripFeedResponse;
 import com.travelapp.backend.domain.tripshare.dto.response.TripShareResponse;
+import com.travelapp.backend.domain.tripshare.service.PublicTripFeedService;
+import com.travelapp.backend.domain.tripshare.service.TripShareCacheService;
 import com.travelapp.backend.domain.tripshare.service.TripShareService;
+import com.travelapp.backend.global.cache.dto.CacheStatsResponse;
 import com.travelapp.backend.global.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,10 +18,6 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,6 +37,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class TripShareController {
 
     private final TripShareService tripShareService;
+    private final TripShareCacheService tripShareCacheService;
+    private final PublicTripFeedService publicTripFeedService;
 
     /**
      * 여행 공유 링크 생성
@@ -127,34 +129,55 @@ public class TripShareController {
     }
 
     /**
-     * 공개 공유 여행 목록 조회 (페이징)
+     * 공개 공유 여행 목록 조회 (커서 페이징)
      *
-     * @param pageable 페이징 정보
-     * @param sortBy   정렬 기준 (latest: 최신순, popular: 인기순)
-     * @return 공개된 공유 여행 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기 (최대 50)
+     * @param sortBy 정렬 기준 (latest: 최신순, popular: 인기순)
+     * @return 공개된 공유 여행 목록과 다음 페이지 커서
      */
     @Operation(
         summary = "공개 공유 여행 목록 조회",
-        description = "공개된 모든 공유 여행 목록을 페이징하여 조회합니다. 최신순 또는 인기순으로 정렬 가능합니다."
+        description = "공개된 공유 여행 목록을 커서 기반으로 조회합니다. 최신순 또는 인기순으로 정렬 가능하며, 다음 페이지는 응답의 nextCursor 로 조회합니다."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "공개 공유 여행 목록 조회 성공"),
-        @ApiResponse(responseCode = "400", description = "잘못된 정렬 기준")
+        @ApiResponse(responseCode = "400", description = "잘못된 커서")
     })
     @GetMapping("/public")
-    public ResponseEntity<Page<TripShareResponse>> getPublicSharedTrips(
-        @Parameter(description = "페이징 정보")
-        @PageableDefault(size = 20, sort = "createdAt", direction = Direction.DESC)
-        Pageable pageable,
+    public ResponseEntity<PublicTripFeedResponse> getPublicSharedTrips(
+        @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기", example = "20")
+        @RequestParam(defaultValue = "20") int size,
         @Parameter(description = "정렬 기준", example = "latest")
         @RequestParam(defaultValue = "latest") String sortBy
     ) {
-        log.info("공개 공유 여행 목록 조회 요청 - 정렬: {}, 페이지: {}", sortBy, pageable.getPageNumber());
+        log.info("공개 공유 여행 목록 조회 요청 - 정렬: {}, 커서: {}", sortBy, cursor);
 
-        Page<TripShareResponse> responses = tripShareService.getPublicSharedTrips(pageable, sortBy);
+        PublicTripFeedResponse response = publicTripFeedService.getFeed(sortBy, cursor, size);
 
-        log.info("공개 공유 여행 목록 조회 성공 - 총 개수: {}", responses.getTotalElements());
-        return ResponseEntity.ok(responses);
+        log.info("공개 공유 여행 목록 조회 성공 - 개수: {}, 다음 페이지: {}", response.getContent().size(), response.getHasNext());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 공유 여행 캐시 통계 조회
+     *
+     * @return 캐시 적중/미스 수
+     */
+    @Operation(
+        summary = "공유 여행 캐시 통계 조회",
+        description = "공유 토큰 조회 캐시의 적중/미스 수와 적중률을 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(tripShareCacheService.getStats());
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.travelapp.backend.domain.tripshare.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "공개 여행 피드 응답 DTO (커서 기반 페이지)")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicTripFeedResponse {
+
+    @Schema(description = "공개 공유 여행 목록")
+    private List<TripShareResponse> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "UE9QVUxBUnwxNTB8MjU")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,13 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "trip_share")
+@Table(
+    name = "trip_share",
+    indexes = {
+        @Index(name = "idx_trip_share_public_view_count", columnList = "is_public, view_count, id"),
+        @Index(name = "idx_trip_share_public_created_at", columnList = "is_public, created_at, id")
+    }
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
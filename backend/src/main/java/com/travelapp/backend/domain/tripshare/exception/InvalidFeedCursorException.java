@@ -0,0 +1,16 @@
+package com.travelapp.backend.domain.tripshare.exception;
+
+import com.travelapp.backend.global.exception.InvalidValueException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+
+public class InvalidFeedCursorException extends InvalidValueException {
+
+    public InvalidFeedCursorException() {
+        super(ErrorCode.INVALID_FEED_CURSOR);
+    }
+
+    public InvalidFeedCursorException(String cursor) {
+        super(ErrorCode.INVALID_FEED_CURSOR, "커서: " + cursor);
+    }
+
+}
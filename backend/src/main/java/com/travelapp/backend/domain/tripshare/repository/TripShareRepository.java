@@ -1,9 +1,9 @@
 package com.travelapp.backend.domain.tripshare.repository;
 
 import com.travelapp.backend.domain.tripshare.entity.TripShare;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,7 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TripShareRepository extends JpaRepository<TripShare, Long> {
+public interface TripShareRepository extends JpaRepository<TripShare, Long>, TripShareRepositoryCustom {
 
     /**
      * 공유 토큰으로 공유 정보 조회
@@ -30,22 +30,44 @@ public interface TripShareRepository extends JpaRepository<TripShare, Long> {
     List<TripShare> findByTripOwnerId(@Param("memberId") Long memberId);
 
     /**
-     * 공개된 TripShare 정보들을 조회순으로 조회 (페이징)
+     * 공개 피드 첫 페이지 - 조회순 (Trip fetch join, COUNT 쿼리 없음)
      */
     @Query("SELECT ts "
-        + "FROM TripShare ts "
-        + "WHERE ts.isPublic = true AND (ts.expiryDate IS NULL OR ts.expiryDate > CURRENT_TIMESTAMP) "
-        + "ORDER BY ts.viewCount DESC")
-    Page<TripShare> findPublicTripShareByViewCount(Pageable pageable);
+        + "FROM TripShare ts JOIN FETCH ts.trip "
+        + "WHERE ts.isPublic = true AND (ts.expiryDate IS NULL OR ts.expiryDate > :now) "
+        + "ORDER BY ts.viewCount DESC, ts.id DESC")
+    List<TripShare> findPublicFeedByViewCount(@Param("now") LocalDateTime now, Pageable pageable);
 
     /**
-     *  공개된 TripShare 정보들을 최신순으로 조회 (페이징)
+     * 공개 피드 다음 페이지 - 조회순 keyset (viewCount, id) 커서 이후
      */
     @Query("SELECT ts "
-        + "FROM TripShare ts "
-        + "WHERE ts.isPublic = true AND (ts.expiryDate IS NULL OR ts.expiryDate > CURRENT_TIMESTAMP) "
-        + "ORDER BY ts.createdAt DESC")
-    Page<TripShare> findPublicTripShareByCreatedAt(Pageable pageable);
+        + "FROM TripShare ts JOIN FETCH ts.trip "
+        + "WHERE ts.isPublic = true AND (ts.expiryDate IS NULL OR ts.expiryDate > :now) "
+        + "AND (ts.viewCount < :viewCount OR (ts.viewCount = :viewCount AND ts.id < :id)) "
+        + "ORDER BY ts.viewCount DESC, ts.id DESC")
+    List<TripShare> findPublicFeedByViewCountAfter(@Param("now") LocalDateTime now,
+        @Param("viewCount") Integer viewCount, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 공개 피드 첫 페이지 - 최신순 (Trip fetch join, COUNT 쿼리 없음)
+     */
+    @Query("SELECT ts "
+        + "FROM TripShare ts JOIN FETCH ts.trip "
+        + "WHERE ts.isPublic = true AND (ts.expiryDate IS NULL OR ts.expiryDate > :now) "
+        + "ORDER BY ts.createdAt DESC, ts.id DESC")
+    List<TripShare> findPublicFeedByCreatedAt(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 공개 피드 다음 페이지 - 최신순 keyset (createdAt, id) 커서 이후
+     */
+    @Query("SELECT ts "
+        + "FROM TripShare ts JOIN FETCH ts.trip "
+        + "WHERE ts.isPublic = true AND (ts.expiryDate IS NULL OR ts.expiryDate > :now) "
+        + "AND (ts.createdAt < :createdAt OR (ts.createdAt = :createdAt AND ts.id < :id)) "
+        + "ORDER BY ts.createdAt DESC, ts.id DESC")
+    List<TripShare> findPublicFeedByCreatedAtAfter(@Param("now") LocalDateTime now,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     /**
      *  만료되지 않은 공유 토큰인지 확인
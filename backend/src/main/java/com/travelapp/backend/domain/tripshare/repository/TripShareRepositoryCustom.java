@@ -0,0 +1,12 @@
+package com.travelapp.backend.domain.tripshare.repository;
+
+import java.util.Map;
+
+public interface TripShareRepositoryCustom {
+
+    /**
+     * 공유 ID별 누적 조회수를 한 번의 UPDATE 로 반영
+     */
+    int addViewCounts(Map<Long, Integer> viewCountDeltas);
+
+}
@@ -0,0 +1,40 @@
+package com.travelapp.backend.domain.tripshare.repository;
+
+import com.travelapp.backend.domain.tripshare.entity.TripShare;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.util.Map;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TripShareRepositoryCustomImpl implements TripShareRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public int addViewCounts(Map<Long, Integer> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) {
+            return 0;
+        }
+
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaUpdate<TripShare> update = cb.createCriteriaUpdate(TripShare.class);
+        Root<TripShare> root = update.from(TripShare.class);
+
+        // UPDATE trip_share SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+        CriteriaBuilder.SimpleCase<Long, Integer> delta = cb.selectCase(root.<Long>get("id"));
+        viewCountDeltas.forEach(delta::when);
+
+        Path<Integer> viewCount = root.get("viewCount");
+        update.set(viewCount, cb.sum(viewCount, delta.otherwise(0)));
+        update.where(root.get("id").in(viewCountDeltas.keySet()));
+
+        return em.createQuery(update).executeUpdate();
+    }
+
+}
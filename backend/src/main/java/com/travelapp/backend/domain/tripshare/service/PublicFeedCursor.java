@@ -0,0 +1,84 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+import com.travelapp.backend.domain.tripshare.dto.response.TripShareResponse;
+import com.travelapp.backend.domain.tripshare.exception.InvalidFeedCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 공개 여행 피드 keyset 커서
+ * 마지막으로 내려준 항목의 정렬 키 (조회수 또는 생성 시각, ID)를 불투명 문자열로 인코딩
+ */
+final class PublicFeedCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final PublicFeedSort sort;
+    private final Integer viewCount;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private PublicFeedCursor(PublicFeedSort sort, Integer viewCount, LocalDateTime createdAt, Long id) {
+        this.sort = sort;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    static PublicFeedCursor after(PublicFeedSort sort, TripShareResponse last) {
+        return new PublicFeedCursor(sort, last.getViewCount(), last.getCreatedAt(), last.getId());
+    }
+
+    static PublicFeedCursor decode(PublicFeedSort sort, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new InvalidFeedCursorException(cursor);
+            }
+
+            Long id = Long.valueOf(parts[2]);
+            return sort == PublicFeedSort.POPULAR
+                ? new PublicFeedCursor(sort, Integer.valueOf(parts[1]), null, id)
+                : new PublicFeedCursor(sort, null, LocalDateTime.parse(parts[1]), id);
+        } catch (InvalidFeedCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidFeedCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        String key = sort == PublicFeedSort.POPULAR ? String.valueOf(viewCount) : createdAt.toString();
+        String raw = sort.name() + DELIMITER + key + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 순서상 항목이 커서 이후에 위치하는지 확인
+     */
+    boolean isBefore(TripShareResponse item) {
+        int compare = sort == PublicFeedSort.POPULAR
+            ? Integer.compare(viewCount, item.getViewCount())
+            : createdAt.compareTo(item.getCreatedAt());
+
+        // 내림차순 정렬이므로 커서 키가 더 크면 항목이 뒤에 위치
+        return compare > 0 || (compare == 0 && id > item.getId());
+    }
+
+    Integer getViewCount() {
+        return viewCount;
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+}
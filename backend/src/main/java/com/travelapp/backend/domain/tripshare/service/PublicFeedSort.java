@@ -0,0 +1,15 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+/**
+ * 공개 여행 피드 정렬 기준
+ */
+public enum PublicFeedSort {
+
+    LATEST,   // created_at DESC, id DESC
+    POPULAR;  // view_count DESC, id DESC
+
+    public static PublicFeedSort from(String sortBy) {
+        return "popular".equals(sortBy) ? POPULAR : LATEST;
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+import com.travelapp.backend.domain.tripshare.dto.response.PublicTripFeedResponse;
+import com.travelapp.backend.domain.tripshare.dto.response.TripShareResponse;
+import com.travelapp.backend.domain.tripshare.entity.TripShare;
+import com.travelapp.backend.domain.tripshare.repository.TripShareRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공개 여행 피드 (keyset 페이지네이션)
+ * 앞쪽 페이지는 주기적으로 갱신되는 인메모리 스냅샷에서 제공하고, 그 이후는 DB에서 커서 기반으로 조회
+ * COUNT 쿼리는 실행하지 않으며 다음 페이지 존재 여부는 한 건을 더 조회해 판단
+ * 스냅샷은 노드마다 따로 가지며 무효화는 변경을 처리한 노드에만 적용되므로,
+ * 다른 노드는 공개 여부/만료일 변경, 공유 삭제 후 최대 한 번의 갱신 주기(refresh-interval-ms) 동안 이전 스냅샷으로 응답할 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublicTripFeedService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final TripShareRepository tripShareRepository;
+
+    private final Map<PublicFeedSort, FeedSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Value("${app.base-url:http://localhost:3000}")
+    private String baseUrl;
+
+    @Value("${trip-share.public-feed.snapshot-size:100}")
+    private int snapshotSize;
+
+    /**
+     * 공개 여행 피드 조회
+     */
+    @Transactional(readOnly = true)
+    public PublicTripFeedResponse getFeed(String sortBy, String cursor, int size) {
+        PublicFeedSort sort = PublicFeedSort.from(sortBy);
+        PublicFeedCursor feedCursor = cursor == null || cursor.isBlank() ? null : PublicFeedCursor.decode(sort, cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        FeedSnapshot snapshot = snapshots.get(sort);
+        if (snapshot != null) {
+            PublicTripFeedResponse response = snapshot.page(sort, feedCursor, pageSize);
+            if (response != null) {
+                return response;
+            }
+        }
+
+        List<TripShareResponse> items = findPage(sort, feedCursor, pageSize + 1);
+        return toResponse(sort, items, pageSize);
+    }
+
+    /**
+     * 앞쪽 페이지 스냅샷 갱신
+     */
+    @Scheduled(fixedDelayString = "${trip-share.public-feed.refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void refreshSnapshots() {
+        for (PublicFeedSort sort : PublicFeedSort.values()) {
+            try {
+                List<TripShareResponse> items = findPage(sort, null, snapshotSize + 1);
+                boolean complete = items.size() <= snapshotSize;
+
+                snapshots.put(sort, new FeedSnapshot(
+                    complete ? items : items.subList(0, snapshotSize),
+                    complete
+                ));
+            } catch (Exception e) {
+                log.warn("공개 여행 피드 스냅샷 갱신 실패 - 정렬: {}, 원인: {}", sort, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 무효화 (공개 여부/만료일 변경, 공유 삭제 시)
+     * 다음 갱신 전까지는 DB에서 직접 조회
+     * 트랜잭션 중이면 커밋 이후에 한 번 더 비워, 커밋 전에 갱신된 스냅샷이 변경 전 데이터를 계속 제공하는 것을 방지
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.clear();
+                }
+            });
+        }
+
+        snapshots.clear();
+    }
+
+    private List<TripShareResponse> findPage(PublicFeedSort sort, PublicFeedCursor cursor, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.ofSize(limit);
+
+        List<TripShare> tripShares;
+        if (sort == PublicFeedSort.POPULAR) {
+            tripShares = cursor == null
+                ? tripShareRepository.findPublicFeedByViewCount(now, page)
+                : tripShareRepository.findPublicFeedByViewCountAfter(now, cursor.getViewCount(), cursor.getId(), page);
+        } else {
+            tripShares = cursor == null
+                ? tripShareRepository.findPublicFeedByCreatedAt(now, page)
+                : tripShareRepository.findPublicFeedByCreatedAtAfter(now, cursor.getCreatedAt(), cursor.getId(), page);
+        }
+
+        return tripShares.stream()
+            .map(tripShare -> TripShareResponse.of(tripShare, baseUrl))
+            .toList();
+    }
+
+    /**
+     * pageSize + 1 건까지 담긴 목록을 응답으로 변환
+     */
+    private static PublicTripFeedResponse toResponse(PublicFeedSort sort, List<TripShareResponse> items, int pageSize) {
+        boolean hasNext = items.size() > pageSize;
+        List<TripShareResponse> content = hasNext ? items.subList(0, pageSize) : items;
+
+        String nextCursor = hasNext
+            ? PublicFeedCursor.after(sort, content.get(content.size() - 1)).encode()
+            : null;
+
+        return PublicTripFeedResponse.builder()
+            .content(content)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    /**
+     * 정렬된 앞쪽 항목 스냅샷
+     *
+     * @param complete 스냅샷이 전체 공개 여행을 담고 있는지 여부
+     */
+    private record FeedSnapshot(List<TripShareResponse> items, boolean complete) {
+
+        /**
+         * 스냅샷으로 요청 페이지를 채울 수 있으면 응답을, 아니면 null 반환
+         */
+        PublicTripFeedResponse page(PublicFeedSort sort, PublicFeedCursor cursor, int pageSize) {
+            LocalDateTime now = LocalDateTime.now();
+
+            List<TripShareResponse> visible = items.stream()
+                .filter(item -> item.getExpiryDate() == null || item.getExpiryDate().isAfter(now))
+                .filter(item -> cursor == null || cursor.isBefore(item))
+                .toList();
+
+            // 다음 페이지 여부까지 판단하려면 pageSize + 1 건이 필요
+            if (visible.size() <= pageSize && !complete) {
+                return null;
+            }
+
+            return toResponse(sort, visible.subList(0, Math.min(visible.size(), pageSize + 1)), pageSize);
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.backend.domain.tripshare.dto.response.TripShareResponse;
+import com.travelapp.backend.global.cache.CacheStats;
+import com.travelapp.backend.global.cache.dto.CacheStatsResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공유 토큰별 TripShareResponse Redis 캐시 (read-through)
+ * Redis 장애 시에는 캐시 미스로 처리하여 DB 조회로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TripShareCacheService {
+
+    private static final String TRIP_SHARE_CACHE_PREFIX = "trip_share:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final CacheStats cacheStats = new CacheStats("trip-share");
+
+    @Value("${trip-share.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * 캐시된 공유 여행 조회
+     */
+    public Optional<TripShareResponse> get(String shareToken) {
+        try {
+            String cached = redisTemplate.opsForValue().get(TRIP_SHARE_CACHE_PREFIX + shareToken);
+
+            if (cached == null) {
+                cacheStats.recordMiss();
+                return Optional.empty();
+            }
+
+            cacheStats.recordHit();
+            return Optional.of(objectMapper.readValue(cached, TripShareResponse.class));
+        } catch (Exception e) {
+            log.warn("공유 여행 캐시 조회 실패 - 토큰: {}, 원인: {}", shareToken, e.getMessage());
+            cacheStats.recordMiss();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 공유 여행 캐시 저장 (TTL은 공유 만료 시각을 넘지 않음)
+     */
+    public void put(TripShareResponse response) {
+        Duration ttl = resolveTtl(response.getExpiryDate());
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(
+                TRIP_SHARE_CACHE_PREFIX + response.getShareToken(),
+                objectMapper.writeValueAsString(response),
+                ttl
+            );
+        } catch (JsonProcessingException e) {
+            log.error("공유 여행 캐시 직렬화 실패 - 토큰: {}", response.getShareToken(), e);
+        } catch (Exception e) {
+            log.warn("공유 여행 캐시 저장 실패 - 토큰: {}, 원인: {}", response.getShareToken(), e.getMessage());
+        }
+    }
+
+    /**
+     * 공유 여행 캐시 삭제
+     * 트랜잭션 중이면 커밋 이후에 한 번 더 삭제하여 커밋 전 데이터가 다시 캐싱되는 것을 방지
+     */
+    public void evict(String shareToken) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(shareToken);
+                }
+            });
+        }
+
+        delete(shareToken);
+    }
+
+    public CacheStatsResponse getStats() {
+        return cacheStats.snapshot();
+    }
+
+    private void delete(String shareToken) {
+        try {
+            redisTemplate.delete(TRIP_SHARE_CACHE_PREFIX + shareToken);
+            log.debug("공유 여행 캐시 삭제 - 토큰: {}", shareToken);
+        } catch (Exception e) {
+            log.warn("공유 여행 캐시 삭제 실패 - 토큰: {}, 원인: {}", shareToken, e.getMessage());
+        }
+    }
+
+    private Duration resolveTtl(LocalDateTime expiryDate) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+
+        if (expiryDate == null) {
+            return ttl;
+        }
+
+        Duration untilExpiry = Duration.between(LocalDateTime.now(), expiryDate);
+        return untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+    }
+
+}
@@ -11,12 +11,11 @@ import com.travelapp.backend.domain.tripshare.repository.TripShareRepository;
 import com.travelapp.backend.global.exception.BusinessException;
 import com.travelapp.backend.global.exception.dto.ErrorCode;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +26,9 @@ public class TripShareService {
 
     private final TripShareRepository tripShareRepository;
     private final TripService tripService;
+    private final TripShareCacheService tripShareCacheService;
+    private final TripShareViewCountService tripShareViewCountService;
+    private final PublicTripFeedService publicTripFeedService;
 
     @Value("${app.base-url:http://localhost:3000}")
     private String baseUrl;
@@ -60,6 +62,7 @@ public class TripShareService {
             .build();
 
         TripShare savedTripShare = tripShareRepository.save(tripShare);
+        publicTripFeedService.invalidate();
 
         log.info("여행 공유 링크 생성 완료 - 공유 ID: {}, 토큰: {}", savedTripShare.getId(), shareToken);
 
@@ -68,11 +71,18 @@ public class TripShareService {
 
     /**
      * 공유 토큰으로 여행 조회
+     * 조회수는 Redis 에 누적 후 주기적으로 반영되므로 읽기 전용으로 처리 (응답의 조회수는 반영/캐싱 시점 기준)
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public TripShareResponse getSharedTrip(String shareToken) {
         log.info("공유된 여행 조회 요청 - 토큰: {}", shareToken);
 
+        Optional<TripShareResponse> cached = tripShareCacheService.get(shareToken);
+        if (cached.isPresent()) {
+            tripShareViewCountService.increment(cached.get().getId());
+            return cached.get();
+        }
+
         TripShare tripShare = tripShareRepository.findByShareToken(shareToken)
             .orElseThrow(() -> {
                 log.warn("존재하지 않는 공유 토큰 - 토큰: {}", shareToken);
@@ -83,12 +93,14 @@ public class TripShareService {
         validateTripShareAccess(tripShare);
 
         // 조회수 증가
-        tripShare.incrementViewCount();
-        tripShareRepository.save(tripShare);
+        tripShareViewCountService.increment(tripShare.getId());
 
         log.info("공유된 여행 조회 완료 - 여행 ID: {}, 조회수: {}", tripShare.getId(), tripShare.getViewCount());
 
-        return TripShareResponse.of(tripShare, baseUrl);
+        TripShareResponse response = TripShareResponse.of(tripShare, baseUrl);
+        tripShareCacheService.put(response);
+
+        return response;
     }
 
     /**
@@ -105,24 +117,6 @@ public class TripShareService {
             .toList();
     }
 
-    /**
-     * 공개된 여행 목록 조회 (페이징)
-     */
-    @Transactional(readOnly = true)
-    public Page<TripShareResponse> getPublicSharedTrips(Pageable pageable, String sortBy) {
-        log.info("공개 여행 목록 조회 - 정렬: {}, 페이지: {}", sortBy, pageable.getPageNumber());
-
-        Page<TripShare> tripShares;
-
-        if ("popular".equals(sortBy)) {
-            tripShares = tripShareRepository.findPublicTripShareByViewCount(pageable);
-        } else {
-            tripShares = tripShareRepository.findPublicTripShareByCreatedAt(pageable);
-        }
-
-        return tripShares.map(tripShare -> TripShareResponse.of(tripShare, baseUrl));
-    }
-
     /**
      * 여행 공유 설정 수정
      */
@@ -141,6 +135,8 @@ public class TripShareService {
         tripShare.updateExpiryDate(request.getExpiryDate());
 
         TripShare updatedTripShare = tripShareRepository.save(tripShare);
+        tripShareCacheService.evict(updatedTripShare.getShareToken());
+        publicTripFeedService.invalidate();
 
         log.info("여행 공유 설정 수정 완료 - 공유 ID: {}", updatedTripShare.getId());
 
@@ -161,6 +157,8 @@ public class TripShareService {
             .orElseThrow(() -> new TripShareNotFoundException());
 
         tripShareRepository.delete(tripShare);
+        tripShareCacheService.evict(tripShare.getShareToken());
+        publicTripFeedService.invalidate();
 
         log.info("여행 공유 삭제 완료 - 공유 ID: {}", tripShare.getId());
     }
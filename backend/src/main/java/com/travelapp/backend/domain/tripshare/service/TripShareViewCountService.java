@@ -0,0 +1,212 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+import com.travelapp.backend.domain.tripshare.repository.TripShareRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 공유 여행 조회수 write-behind 카운터
+ * 조회 시 Redis 해시에 원자적으로 누적하고, 주기적으로 한 번의 벌크 UPDATE 로 DB에 반영
+ * 반영 중인 해시는 trip_share:view_count:flushing (ZSET, 키 → 선점 시각) 에 기록하여,
+ * 반영 도중 노드가 죽어 남은 해시를 orphan-after 이후 다른 노드가 누적 해시로 되돌림
+ */
+@Slf4j
+@Service
+public class TripShareViewCountService {
+
+    private static final String PENDING_VIEW_COUNT_KEY = "trip_share:view_count:pending";
+    private static final String FLUSHING_VIEW_COUNT_PREFIX = "trip_share:view_count:flushing:";
+    private static final String FLUSHING_INDEX_KEY = "trip_share:view_count:flushing";
+
+    /**
+     * KEYS[1] = 누적 해시, KEYS[2] = 반영 중 해시, KEYS[3] = 반영 중 인덱스
+     * 누적 해시를 반영 중 해시로 옮기고 선점 시각(Redis 시각) 기록 (누적 해시가 없으면 0)
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+            + "local time = redis.call('TIME') "
+            + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+            + "redis.call('ZADD', KEYS[3], tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000), KEYS[2]) "
+            + "return 1",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = 반영 중 해시, KEYS[2] = 반영 중 인덱스
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('ZREM', KEYS[2], KEYS[1]) "
+            + "return redis.call('DEL', KEYS[1])",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = 반영 중 해시, KEYS[2] = 누적 해시, KEYS[3] = 반영 중 인덱스
+     * 반영하지 못한 증분을 누적 해시에 더하고 반영 중 해시 삭제 (이미 처리되었으면 0)
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('ZREM', KEYS[3], KEYS[1]) "
+            + "local entries = redis.call('HGETALL', KEYS[1]) "
+            + "if #entries == 0 then return 0 end "
+            + "for i = 1, #entries, 2 do redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1]) end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "return 1",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = 반영 중 인덱스, ARGV[1] = orphan-after(ms)
+     * 선점 후 orphan-after 가 지난 반영 중 해시 키 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_ORPHANS_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "return redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now - tonumber(ARGV[1]))",
+        List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TripShareRepository tripShareRepository;
+    private final long orphanAfterMillis;
+
+    /**
+     * DB 에 반영했지만 Redis 에서 정리하지 못한 반영 중 해시 (복구 대상이 되기 전에 다음 주기에 다시 정리)
+     */
+    private final Set<String> uncleanedKeys = ConcurrentHashMap.newKeySet();
+
+    public TripShareViewCountService(
+        RedisTemplate<String, String> redisTemplate,
+        TripShareRepository tripShareRepository,
+        @Value("${trip-share.view-count.orphan-after-ms:600000}") long orphanAfterMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.tripShareRepository = tripShareRepository;
+        this.orphanAfterMillis = orphanAfterMillis;
+    }
+
+    /**
+     * 조회수 1 증가 (Redis HINCRBY)
+     */
+    public void increment(Long tripShareId) {
+        try {
+            redisTemplate.opsForHash().increment(PENDING_VIEW_COUNT_KEY, String.valueOf(tripShareId), 1);
+        } catch (Exception e) {
+            log.warn("조회수 누적 실패 - 공유 ID: {}, 원인: {}", tripShareId, e.getMessage());
+        }
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 누적 해시를 노드별 고유 키로 RENAME 하여 가져가므로, 여러 노드가 동시에 실행해도 같은 증분을 중복 반영하지 않음
+     * 증분은 DB 반영이 실패했을 때만 되돌리고, 반영 후 키 정리에 실패하면 되돌리지 않고 다음 주기에 다시 정리
+     * (반영 직후 노드가 죽어 키가 남는 경우만 orphan-after 이후 다시 반영될 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${trip-share.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        uncleanedKeys.removeIf(this::complete);
+        recoverOrphans();
+
+        String flushingKey = FLUSHING_VIEW_COUNT_PREFIX + UUID.randomUUID();
+
+        if (!claimPendingCounts(flushingKey)) {
+            return;
+        }
+
+        Map<Long, Integer> deltas = readDeltas(flushingKey);
+
+        int updated;
+        try {
+            // addViewCounts 는 자체 트랜잭션으로 커밋된 뒤 반환됨
+            updated = tripShareRepository.addViewCounts(deltas);
+        } catch (Exception e) {
+            // 반영 실패 시 증분을 다시 누적 해시로 되돌려 다음 주기에 재시도
+            log.error("조회수 반영 실패 - 대상: {}건, 원인: {}", deltas.size(), e.getMessage());
+            restore(flushingKey);
+            throw e;
+        }
+
+        if (!complete(flushingKey)) {
+            uncleanedKeys.add(flushingKey);
+        }
+        log.debug("조회수 반영 완료 - 대상: {}건, 반영: {}건", deltas.size(), updated);
+    }
+
+    /**
+     * 반영 도중 노드가 죽어 남은 증분을 누적 해시로 되돌림
+     */
+    void recoverOrphans() {
+        try {
+            List<?> orphans = redisTemplate.execute(FIND_ORPHANS_SCRIPT, List.of(FLUSHING_INDEX_KEY),
+                String.valueOf(orphanAfterMillis));
+            if (orphans == null) {
+                return;
+            }
+            for (Object orphan : orphans) {
+                Long restored = redisTemplate.execute(RESTORE_SCRIPT,
+                    List.of((String) orphan, PENDING_VIEW_COUNT_KEY, FLUSHING_INDEX_KEY));
+                if (restored != null && restored > 0) {
+                    log.warn("반영되지 않은 조회수 증분 복구 - 키: {}", orphan);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("반영되지 않은 조회수 증분 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean claimPendingCounts(String flushingKey) {
+        try {
+            Long claimed = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(PENDING_VIEW_COUNT_KEY, flushingKey, FLUSHING_INDEX_KEY));
+            return claimed != null && claimed > 0;
+        } catch (Exception e) {
+            log.debug("조회수 누적 해시 선점 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<Long, Integer> readDeltas(String flushingKey) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+        Map<Long, Integer> deltas = new HashMap<>(entries.size());
+
+        entries.forEach((id, count) -> deltas.put(
+            Long.valueOf(id.toString()),
+            Integer.valueOf(count.toString())
+        ));
+        return deltas;
+    }
+
+    /**
+     * @return 정리 여부 (이미 DB 에 반영되었으므로 실패해도 증분을 되돌리지 않음)
+     */
+    private boolean complete(String flushingKey) {
+        try {
+            redisTemplate.execute(COMPLETE_SCRIPT, List.of(flushingKey, FLUSHING_INDEX_KEY));
+            return true;
+        } catch (Exception e) {
+            log.error("반영 완료된 조회수 키 정리 실패 - 키: {}, 원인: {}", flushingKey, e.getMessage());
+            return false;
+        }
+    }
+
+    private void restore(String flushingKey) {
+        try {
+            redisTemplate.execute(RESTORE_SCRIPT, List.of(flushingKey, PENDING_VIEW_COUNT_KEY, FLUSHING_INDEX_KEY));
+        } catch (Exception e) {
+            // 반영 중 인덱스에 남아 있으므로 orphan-after 이후 다시 복구됨
+            log.error("조회수 증분 복구 실패 - 키: {}, 원인: {}", flushingKey, e.getMessage());
+        }
+    }
+
+}
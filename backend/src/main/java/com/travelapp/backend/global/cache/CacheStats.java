@@ -0,0 +1,39 @@
+package com.travelapp.backend.global.cache;
+
+import com.travelapp.backend.global.cache.dto.CacheStatsResponse;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 적중/미스 카운터 (스레드 안전)
+ */
+public class CacheStats {
+
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CacheStats(String name) {
+        this.name = name;
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public CacheStatsResponse snapshot() {
+        return CacheStatsResponse.of(name, hits.sum(), misses.sum());
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.travelapp.backend.global.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 + TTL 을 갖는 프로세스 내 LRU 캐시 (스레드 안전)
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 만료된 항목은 조회 시 제거
+ * 만료 시각은 기본 TTL 로 정하거나 항목마다 지정 (예: 토큰 만료 시각)
+ */
+public class LocalLruCache<K, V> {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+
+    public LocalLruCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public LocalLruCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        // accessOrder = true : 조회할 때마다 가장 최근 항목으로 이동 (LRU)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalLruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값 조회 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Instant now = clock.instant();
+
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, clock.instant().plus(ttl));
+    }
+
+    /**
+     * 만료 시각을 지정하여 저장 (이미 만료된 값은 저장하지 않음)
+     */
+    public void put(K key, V value, Instant expiresAt) {
+        if (maxSize <= 0 || value == null || !clock.instant().isBefore(expiresAt)) {
+            return;
+        }
+
+        Entry<V> entry = new Entry<>(value, expiresAt);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.travelapp.backend.global.cache.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "캐시 통계 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    @Schema(description = "캐시 이름", example = "trip-share")
+    private String name;
+
+    @Schema(description = "적중 수", example = "950")
+    private Long hits;
+
+    @Schema(description = "미스 수", example = "50")
+    private Long misses;
+
+    @Schema(description = "적중률 (0.0 ~ 1.0)", example = "0.95")
+    private Double hitRate;
+
+    public static CacheStatsResponse of(String name, long hits, long misses) {
+        long total = hits + misses;
+
+        return CacheStatsResponse.builder()
+            .name(name)
+            .hits(hits)
+            .misses(misses)
+            .hitRate(total == 0 ? 0.0 : (double) hits / total)
+            .build();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.travelapp.backend.global.concurrent;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 작업마다 가상 스레드를 만드는 실행기
+ * ThreadPoolTaskExecutor 의 (최대 스레드 수, 대기열 크기) 와 같은 의미를 유지하도록
+ * 동시에 실행되는 작업은 maxConcurrency 개, 실행 대기 중인 작업까지 포함해 maxPending 개로 제한 (초과 시 거부)
+ */
+public class BoundedVirtualThreadExecutor implements Executor {
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore running;
+    private final Semaphore admitted;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, int maxPending) {
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.running = new Semaphore(maxConcurrency);
+        this.admitted = new Semaphore(Math.max(maxPending, maxConcurrency));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!admitted.tryAcquire()) {
+            throw new RejectedExecutionException("가상 스레드 실행기 대기 한도 초과");
+        }
+
+        try {
+            threadFactory.newThread(() -> runBounded(task)).start();
+        } catch (RuntimeException e) {
+            admitted.release();
+            throw new RejectedExecutionException("가상 스레드 생성 실패", e);
+        }
+    }
+
+    private void runBounded(Runnable task) {
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            admitted.release();
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            task.run();
+        } finally {
+            running.release();
+            admitted.release();
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.travelapp.backend.global.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 사용 중인 스레드 수를 커넥션 풀 크기로 제한하는 DataSource
+ * 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 풀 앞에서 공정한 세마포어로 줄을 세워
+ * 커넥션 풀 내부 경합과 대기 시간 초과 대신 순서대로 커넥션을 얻도록 함 (커넥션을 닫으면 허용량 반환)
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrency, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new SQLTransientConnectionException("DB 커넥션 대기 시간 초과 (" + acquireTimeout.toMillis() + "ms)");
+    }
+
+    // close() 가 처음 호출될 때 한 번만 허용량을 반환하는 커넥션 프록시
+    // unwrap(Connection.class) 등 프록시가 구현한 타입을 요청하면 프록시 자신을 돌려주어,
+    // 꺼낸 커넥션을 닫아도 허용량이 반환되도록 함 (그 밖의 타입은 원본 커넥션에 위임)
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "unwrap" -> {
+                        if (((Class<?>) args[0]).isInstance(proxy)) {
+                            return proxy;
+                        }
+                    }
+                    case "isWrapperFor" -> {
+                        if (((Class<?>) args[0]).isInstance(proxy)) {
+                            return true;
+                        }
+                    }
+                    case "equals" -> {
+                        return proxy == args[0];
+                    }
+                    case "hashCode" -> {
+                        return System.identityHashCode(proxy);
+                    }
+                    case "close" -> {
+                        if (released.compareAndSet(false, true)) {
+                            try {
+                                return invoke(connection, method, args);
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                return invoke(connection, method, args);
+            }
+        );
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.travelapp.backend.global.concurrent;
+
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 블로킹 I/O 동시 실행 수 제한
+ * 가상 스레드는 개수 제한이 없으므로 외부 자원(S3 등)의 허용량은 스레드 풀 크기가 아닌 세마포어로 제한
+ * 허용량을 기다리는 동안 가상 스레드는 캐리어 스레드를 점유하지 않음
+ */
+public class ConcurrencyLimiter {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+    private final Semaphore semaphore;
+
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimiter(String name, int maxConcurrency, Duration acquireTimeout) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+        this.semaphore = new Semaphore(maxConcurrency, true);
+    }
+
+    @FunctionalInterface
+    public interface Task<T, E extends Exception> {
+
+        T run() throws E;
+    }
+
+    /**
+     * 허용량을 얻은 뒤 작업 실행 (acquireTimeout 안에 얻지 못하면 SERVER_BUSY)
+     */
+    public <T, E extends Exception> T call(Task<T, E> task) throws E {
+        acquire();
+        try {
+            return task.run();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getInUse() {
+        return maxConcurrency - semaphore.availablePermits();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void acquire() {
+        try {
+            if (semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        rejected.increment();
+        throw new BusinessException(ErrorCode.SERVER_BUSY, name + " 동시 실행 한도를 초과했습니다.");
+    }
+
+}
@@ -1,27 +1,66 @@
 package com.travelapp.backend.global.config;
 
+import com.travelapp.backend.global.concurrent.BoundedVirtualThreadExecutor;
 import java.util.concurrent.Executor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-@Slf4j
+/**
+ * 비동기 실행기 설정
+ * spring.threads.virtual.enabled=true 이면 플랫폼 스레드 풀 대신 작업마다 가상 스레드를 사용하되,
+ * 같은 동시 실행 수/대기 한도를 유지하여 하위 자원(S3, 카카오)에 주는 부하는 바뀌지 않도록 함
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private final boolean virtualThreads;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * 썸네일 작업 큐 워커
+     * 대기열 없이 워커 수만큼만 실행하며, 대기 작업은 DB 에 남겨 두고 ThumbnailJobDispatcher 가 빈 워커만큼 가져옴
+     * (거부 시 예외를 던져 디스패처가 선점을 되돌리도록 함)
+     */
     @Bean(name = "thumbnailExecutor")
-    public Executor thumbnailExecutor() {
+    public Executor thumbnailExecutor(@Value("${thumbnail.job.concurrency:4}") int concurrency) {
+        return boundedExecutor("Thumbnail-", concurrency, 0);
+    }
+
+    /**
+     * 장소 검색 다음 페이지 미리 가져오기용 실행기
+     * 스레드와 대기열을 작게 제한하여 미리 가져오기가 카카오 호출량을 키우지 않도록 함 (초과 시 거부)
+     */
+    @Bean(name = "placePrefetchExecutor")
+    public Executor placePrefetchExecutor() {
+        return boundedExecutor("PlacePrefetch-", 2, 50);
+    }
+
+    /**
+     * 업로드 완료 일괄 통지의 S3 HEAD 확인용 실행기
+     * 실제 S3 동시 호출 수는 s3IoLimiter 가 제한하며, 대기열 초과 시 거부되면 호출 스레드에서 직접 확인
+     */
+    @Bean(name = "uploadCheckExecutor")
+    public Executor uploadCheckExecutor(@Value("${file.upload.complete.check-concurrency:16}") int concurrency) {
+        return boundedExecutor("UploadCheck-", concurrency, 200);
+    }
+
+    private Executor boundedExecutor(String threadNamePrefix, int concurrency, int queueCapacity) {
+        if (virtualThreads) {
+            return new BoundedVirtualThreadExecutor(threadNamePrefix, concurrency, concurrency + queueCapacity);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Thumbnail-");
-        executor.setRejectedExecutionHandler((r, exe) -> {
-            log.warn("썸네일 생성 작업이 거부되었습니다. 큐가 가득 참.");
-        });
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
         executor.initialize();
         return executor;
     }
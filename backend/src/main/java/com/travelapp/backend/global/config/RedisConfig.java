@@ -7,7 +7,9 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class RedisConfig {
@@ -51,7 +53,30 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * Redis Pub/Sub 구독 컨테이너 (노드 간 STOMP 메시지 중계용)
+     * 기본 실행기(SimpleAsyncTaskExecutor)는 메시지마다 새 스레드를 만들어 같은 채널의 메시지 순서가 뒤바뀔 수 있으므로,
+     * 단일 스레드 실행기로 수신한 순서대로 전달
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.setTaskExecutor(redisListenerExecutor());
+        return container;
+    }
 
-
+    /**
+     * Pub/Sub 메시지 전달용 단일 스레드 실행기 (대기열 제한 없음 - 메시지를 버리지 않음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("RedisListener-");
+        executor.initialize();
+        return executor;
+    }
 
 }
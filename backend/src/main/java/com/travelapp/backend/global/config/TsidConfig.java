@@ -0,0 +1,41 @@
+package com.travelapp.backend.global.config;
+
+import com.travelapp.backend.global.util.TsidGenerator;
+import com.travelapp.backend.global.util.TsidNodeLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * TSID 발급기 설정
+ * 노드 ID 는 tsid.node-id 로 고정할 수 있고, 지정하지 않으면 기동할 때 Redis 에서 노드 ID 를 임대 (TsidNodeLease)
+ * (임대할 수 없으면 기동 실패 - 임의 값은 다른 노드와 겹쳐 같은 메시지 ID 를 발급할 수 있음)
+ */
+@Slf4j
+@Configuration
+public class TsidConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tsid.node-id", havingValue = "-1", matchIfMissing = true)
+    public TsidNodeLease tsidNodeLease(
+        RedisTemplate<String, String> redisTemplate,
+        @Value("${tsid.node-lease.ttl-ms:60000}") long ttlMillis
+    ) {
+        return new TsidNodeLease(redisTemplate, ttlMillis);
+    }
+
+    @Bean
+    public TsidGenerator tsidGenerator(
+        ObjectProvider<TsidNodeLease> tsidNodeLease,
+        @Value("${tsid.node-id:-1}") int configuredNodeId
+    ) {
+        int nodeId = configuredNodeId >= 0 ? configuredNodeId : tsidNodeLease.getObject().getNodeId();
+        log.info("TSID 노드 ID - {}", nodeId);
+        return new TsidGenerator(nodeId);
+    }
+
+}
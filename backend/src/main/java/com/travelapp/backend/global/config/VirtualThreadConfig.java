@@ -0,0 +1,53 @@
+package com.travelapp.backend.global.config;
+
+import com.travelapp.backend.global.concurrent.ConcurrencyLimitedDataSource;
+import com.travelapp.backend.global.concurrent.ConcurrencyLimiter;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 가상 스레드 모드 설정
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 @Scheduled 는 Spring Boot 가, @Async 실행기는 AsyncConfig 가 가상 스레드로 전환
+ * 스레드 수가 더 이상 동시성을 제한하지 않으므로 블로킹 자원은 세마포어로 제한
+ * - DB: 커넥션 풀 크기만큼만 커넥션을 사용하도록 DataSource 앞에 세마포어 (가상 스레드 모드에서만)
+ * - S3: s3IoLimiter 로 동시 호출 수 제한 (두 모드 공통)
+ * - 카카오: WebClient 는 논블로킹이며 KakaoResilience 의 벌크헤드/속도 제한으로 호출량 제한
+ */
+@Slf4j
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean
+    public ConcurrencyLimiter s3IoLimiter(Environment environment) {
+        int maxConcurrency = environment.getProperty("s3.io.max-concurrency", Integer.class, 64);
+        long acquireTimeoutMs = environment.getProperty("s3.io.acquire-timeout-ms", Long.class, 5000L);
+        return new ConcurrencyLimiter("S3", maxConcurrency, Duration.ofMillis(acquireTimeoutMs));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+        int maxConcurrency = environment.getProperty("db.max-concurrency", Integer.class,
+            environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long acquireTimeoutMs = environment.getProperty("db.acquire-timeout-ms", Long.class,
+            environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    log.info("가상 스레드 모드 - DataSource({}) 동시 사용 {} 개로 제한", beanName, maxConcurrency);
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, Duration.ofMillis(acquireTimeoutMs));
+                }
+                return bean;
+            }
+        };
+    }
+
+}
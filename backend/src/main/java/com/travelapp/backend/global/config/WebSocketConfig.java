@@ -1,7 +1,12 @@
 package com.travelapp.backend.global.config;
 
+import com.travelapp.backend.domain.chat.controller.ChatSubscriptionInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -9,11 +14,29 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 /**
  * WebSocket 설정
  * STOMP 프로토콜을 사용한 실시간 채팅 구현
+ * 브로커는 노드마다 메모리에 있으므로, 서버가 보내는 메시지는 RedisStompRelay 로 발행하여 모든 노드의 세션에 전달
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /**
+     * 클라이언트와 서버가 주고받는 heartbeat 주기 (ms)
+     * 응답이 없는 연결은 브로커가 닫아 연결 종료 이벤트로 접속 상태에서 빠지도록 함
+     */
+    private static final long[] HEARTBEAT = {10_000, 10_000};
+
+    private final TaskScheduler messageBrokerTaskScheduler;
+    private final ChatSubscriptionInterceptor chatSubscriptionInterceptor;
+
+    public WebSocketConfig(
+        @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler,
+        ChatSubscriptionInterceptor chatSubscriptionInterceptor
+    ) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+        this.chatSubscriptionInterceptor = chatSubscriptionInterceptor;
+    }
+
     /**
      * 메시지 브로커 설정
      * -/topic: 1:N (브로드캐스트)
@@ -21,8 +44,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 클라이언트로 메시지를 보낼 때 prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        // 클라이언트로 메시지를 보낼 때 prefix (각 노드의 로컬 세션 전달용, 노드 간 전달은 RedisStompRelay)
+        config.enableSimpleBroker("/topic", "/queue")
+            .setHeartbeatValue(HEARTBEAT)
+            .setTaskScheduler(messageBrokerTaskScheduler);
 
         // 클라이언트에서 메시지를 보낼 때 prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -31,6 +56,15 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setUserDestinationPrefix("/user");
     }
 
+    /**
+     * 클라이언트 → 서버 채널 설정
+     * 채팅방 토픽은 참여자만 구독할 수 있도록 SUBSCRIBE 프레임을 확인
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatSubscriptionInterceptor);
+    }
+
     /**
      * WebSocket 엔드포인트 등록
      * 클라이언트가 연결할 URL
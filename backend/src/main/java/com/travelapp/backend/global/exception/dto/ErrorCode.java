@@ -14,6 +14,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(1003, "서버 내부 오류가 발생했습니다.", 500),
     INVALID_TYPE_VALUE(1004, "잘못된 타입의 값입니다.", 400),
     HANDLE_ACCESS_DENIED(1005, "접근이 거부되었습니다.", 403),
+    SERVER_BUSY(1006, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", 503),
 
     // Member Errors (2000번대)
     MEMBER_NOT_FOUND(2000, "존재하지 않는 회원입니다.", 404),
@@ -39,17 +40,21 @@ public enum ErrorCode {
     // External API Errors (6000번대)
     KAKAO_API_ERROR(6000, "카카오 API 호출 중 오류가 발생했습니다.", 500),
     EXTERNAL_API_TIMEOUT(6001, "외부 API 호출 시간이 초과되었습니다.", 408),
+    KAKAO_API_UNAVAILABLE(6002, "카카오 API를 일시적으로 사용할 수 없습니다.", 503),
+    KAKAO_API_RATE_LIMITED(6003, "카카오 API 호출 한도를 초과했습니다. 잠시 후 다시 시도해 주세요.", 429),
 
     // TripShare Errors (6500번대)
     TRIP_SHARE_NOT_FOUND(6500, "공유된 여행을 찾을 수 없습니다.", 404),
     TRIP_SHARE_ACCESS_DENIED(6501, "공유된 여행에 접근할 권한이 없습니다.", 403),
     TRIP_SHARE_EXPIRED(6502, "공유 링크가 만료되었습니다.", 410),
     TRIP_SHARE_ALREADY_EXISTS(6503, "이미 공유된 여행입니다.", 409),
+    INVALID_FEED_CURSOR(6504, "올바르지 않은 피드 커서입니다.", 400),
 
     // Authentication Errors (7000번대)
     UNAUTHORIZED(7000, "인증이 필요합니다.", 401),
     INVALID_TOKEN(7001, "유효하지 않은 토큰입니다.", 401),
     TOKEN_EXPIRED(7002, "토큰이 만료되었습니다.", 401),
+    REFRESH_TOKEN_REUSED(7003, "이미 사용된 토큰입니다. 다시 로그인해 주세요.", 401),
 
     // Validation Errors (8000번대)
     MISSING_REQUEST_PARAMETER(8000, "필수 요청 파라미터가 누락되었습니다.", 400),
@@ -63,7 +68,12 @@ public enum ErrorCode {
     FILE_UPLOAD_FAILED(9003, "파일 업로드에 실패했습니다.", 500),
     THUMBNAIL_CREATION_FAILED(9004, "썸네일 생성에 실패했습니다.", 500),
     PRESIGNED_URL_GENERATION_FAILED(9005, "Pre-signed URL 생성에 실패했습니다.", 500),
-    S3_UPLOAD_FAILED(9006, "S3 업로드에 실패했습니다.", 500);
+    S3_UPLOAD_FAILED(9006, "S3 업로드에 실패했습니다.", 500),
+
+    // Chat Errors (9500번대)
+    CHAT_ROOM_NOT_FOUND(9500, "채팅방을 찾을 수 없습니다.", 404),
+    CHAT_ROOM_ACCESS_DENIED(9501, "채팅방에 접근할 권한이 없습니다.", 403),
+    INVALID_CHAT_CURSOR(9502, "올바르지 않은 채팅 메시지 커서입니다.", 400);
 
     private final int code;
     private final String message;
@@ -0,0 +1,45 @@
+package com.travelapp.backend.global.filter;
+
+import com.travelapp.backend.global.cache.LocalLruCache;
+import com.travelapp.backend.global.util.JwtPrincipal;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 Access Token → 인증 정보 LRU 캐시
+ * 같은 토큰으로 반복되는 요청에서 HMAC 서명 검증을 생략하며, 항목은 토큰 만료 시각까지만 유효
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final LocalLruCache<String, JwtPrincipal> cache;
+
+    @Autowired
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    JwtAuthenticationCache(int maxSize, Clock clock) {
+        // 항목마다 토큰 만료 시각을 지정하므로 기본 TTL 은 사용하지 않음
+        this.cache = new LocalLruCache<>(maxSize, Duration.ZERO, clock);
+    }
+
+    /**
+     * 캐시된 인증 정보 조회 (만료된 항목은 제거 후 null 반환)
+     */
+    public JwtPrincipal get(String token) {
+        return cache.get(token);
+    }
+
+    public void put(String token, JwtPrincipal principal) {
+        cache.put(token, principal, principal.expiresAt());
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.travelapp.backend.global.filter;
 
 import com.travelapp.backend.global.util.CookieUtil;
+import com.travelapp.backend.global.util.JwtPrincipal;
 import com.travelapp.backend.global.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,6 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -36,9 +38,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = resolveToken(request);
+            JwtPrincipal principal = token != null ? resolvePrincipal(token) : null;
 
-            if (token != null && jwtUtil.validateToken(token)) {
-                Authentication authentication = getAuthentication(token);
+            if (principal != null) {
+                Authentication authentication = getAuthentication(principal);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("Security Context에 사용자 ID '{}' 인증 정보를 저장했습니다.",
                     authentication.getPrincipal());
@@ -77,25 +80,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * JWT 토큰에서 인증 정보 추출
+     * 토큰 검증 및 인증 정보 추출 (요청당 최대 1회 파싱, 캐시 적중 시 파싱 생략)
      */
-    private Authentication getAuthentication(String token) {
-        try {
-            Long memberId = jwtUtil.getMemberIdFromToken(token);
-            String email = jwtUtil.getEmailFromToken(token);
-
-            log.debug("JWT 토큰에서 사용자 정보 추출 성공 - ID: {}, Email: {}", memberId, email);
+    private JwtPrincipal resolvePrincipal(String token) {
+        JwtPrincipal principal = jwtAuthenticationCache.get(token);
+        if (principal != null) {
+            return principal;
+        }
 
-            // 사용자 권한 설정 (현재는 기본 권한만 부여)
-            return new UsernamePasswordAuthenticationToken(
-                memberId, // principal
-                null, // credentials
-                AuthorityUtils.createAuthorityList("ROLE_USER") // authorities
-            );
-        } catch (Exception e) {
-            log.error("JWT 토큰에서 인증 정보 추출 실패: {}", e.getMessage());
-            throw e;
+        principal = jwtUtil.parseAccessToken(token);
+        if (principal != null) {
+            jwtAuthenticationCache.put(token, principal);
         }
+        return principal;
+    }
+
+    /**
+     * 인증 정보로 Authentication 생성
+     */
+    private Authentication getAuthentication(JwtPrincipal principal) {
+        log.debug("JWT 토큰에서 사용자 정보 추출 성공 - ID: {}, Email: {}", principal.memberId(), principal.email());
+
+        // 사용자 권한 설정 (현재는 기본 권한만 부여)
+        return new UsernamePasswordAuthenticationToken(
+            principal.memberId(), // principal
+            null, // credentials
+            AuthorityUtils.createAuthorityList("ROLE_USER") // authorities
+        );
     }
 
 
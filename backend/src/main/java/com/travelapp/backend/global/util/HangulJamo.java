@@ -0,0 +1,75 @@
+package com.travelapp.backend.global.util;
+
+/**
+ * 한글 음절 → 자모 분해 유틸
+ * 입력 중인 마지막 글자("서" → "성산")도 접두사로 일치하도록 음절을 초성/중성/종성 호환 자모로 풀고,
+ * 겹받침(ㄺ → ㄹㄱ)과 겹모음(ㅘ → ㅗㅏ)은 입력 순서대로 다시 나눔
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 인덱스 0 은 받침 없음
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 문자열을 자모 단위로 분해 (한글 음절이 아닌 문자는 그대로 유지)
+     */
+    public static String decompose(CharSequence text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) {
+                appendJamo(sb, c);
+                continue;
+            }
+
+            int offset = c - SYLLABLE_BEGIN;
+            int jongseong = offset % JONGSEONG_COUNT;
+            int jungseong = (offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+            int choseong = offset / (JONGSEONG_COUNT * JUNGSEONG_COUNT);
+
+            sb.append(CHOSEONG.charAt(choseong));
+            appendJamo(sb, JUNGSEONG.charAt(jungseong));
+            if (jongseong != 0) {
+                appendJamo(sb, JONGSEONG.charAt(jongseong));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 겹자모는 구성 자모로 나누어 추가
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        switch (jamo) {
+            case 'ㄳ' -> sb.append("ㄱㅅ");
+            case 'ㄵ' -> sb.append("ㄴㅈ");
+            case 'ㄶ' -> sb.append("ㄴㅎ");
+            case 'ㄺ' -> sb.append("ㄹㄱ");
+            case 'ㄻ' -> sb.append("ㄹㅁ");
+            case 'ㄼ' -> sb.append("ㄹㅂ");
+            case 'ㄽ' -> sb.append("ㄹㅅ");
+            case 'ㄾ' -> sb.append("ㄹㅌ");
+            case 'ㄿ' -> sb.append("ㄹㅍ");
+            case 'ㅀ' -> sb.append("ㄹㅎ");
+            case 'ㅄ' -> sb.append("ㅂㅅ");
+            case 'ㅘ' -> sb.append("ㅗㅏ");
+            case 'ㅙ' -> sb.append("ㅗㅐ");
+            case 'ㅚ' -> sb.append("ㅗㅣ");
+            case 'ㅝ' -> sb.append("ㅜㅓ");
+            case 'ㅞ' -> sb.append("ㅜㅔ");
+            case 'ㅟ' -> sb.append("ㅜㅣ");
+            case 'ㅢ' -> sb.append("ㅡㅣ");
+            default -> sb.append(jamo);
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.travelapp.backend.global.util;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 Access Token 에서 추출한 인증 정보
+ *
+ * @param memberId  사용자 ID (subject)
+ * @param email     사용자 이메일
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtPrincipal(Long memberId, String email, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+}
@@ -4,11 +4,15 @@ import com.travelapp.backend.domain.auth.exception.InvalidTokenException;
 import com.travelapp.backend.global.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import java.util.Date;
+import java.util.UUID;
+import java.util.function.Function;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,8 +25,28 @@ public class JwtUtil {
 
     private final JwtProperties jwtProperties;
 
+    // 서명 키와 파서는 불변이므로 최초 사용 시 한 번만 생성 (동시에 생성되어도 결과는 동일)
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                .verifyWith(getSigningKey())
+                .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 
     /**
@@ -43,12 +67,14 @@ public class JwtUtil {
 
     /**
      * 리프레시 토큰 생성 (7일간 유효)
+     * 같은 초에 발급되어도 토큰이 겹치지 않도록 고유 ID(jti)를 포함
      */
     public String generateRefreshToken(Long memberId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + (7 * 24 * 60 * 60 * 1000L)); // 7일
 
         return Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .subject(String.valueOf(memberId))
             .claim("type", "refresh")
             .issuedAt(now)
@@ -69,6 +95,23 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Refresh Token 을 한 번만 파싱하여 memberId 추출
+     * 서명/만료 검증, 토큰 타입 확인, memberId 추출을 한 번의 파싱으로 처리
+     *
+     * @return 사용자 ID (유효한 Refresh Token 이 아니면 null)
+     */
+    public Long parseRefreshToken(String token) {
+        return parseOrNull(token, claims -> {
+            if (!"refresh".equals(claims.get("type", String.class))) {
+                log.debug("Refresh Token 이 아닌 토큰으로 갱신 시도");
+                return null;
+            }
+
+            return Long.parseLong(claims.getSubject());
+        });
+    }
+
     /**
      * JWT 토큰에서 memberId 추출
      */
@@ -103,6 +146,51 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Access Token 을 한 번만 파싱하여 인증 정보 추출
+     * 서명/만료 검증과 memberId, email 추출을 한 번의 파싱으로 처리
+     *
+     * @return 인증 정보 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal parseAccessToken(String token) {
+        return parseOrNull(token, claims -> {
+            String email = claims.get("email", String.class);
+
+            if (email == null) {
+                log.debug("이메일 정보가 없는 토큰은 Access Token 으로 사용할 수 없습니다.");
+                return null;
+            }
+
+            return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                email,
+                claims.getExpiration().toInstant()
+            );
+        });
+    }
+
+    /**
+     * 토큰을 한 번 파싱하여 값 추출 (서명/만료/형식 오류는 로그를 남기고 null 반환)
+     */
+    private <T> T parseOrNull(String token, Function<Claims, T> extractor) {
+        try {
+            return extractor.apply(getClaims(token));
+        } catch (SecurityException | MalformedJwtException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("Expired JWT token: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            log.error("Invalid JWT claims: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+        }
+
+        return null;
+    }
+
     /**
      * JWT 토큰 유효성 검증
      */
@@ -127,9 +215,7 @@ public class JwtUtil {
      * JWT 토큰에서 Claims 추출
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
+        return getParser()
             .parseSignedClaims(token)
             .getPayload();
     }
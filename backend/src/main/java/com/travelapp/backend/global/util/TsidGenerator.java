@@ -0,0 +1,73 @@
+package com.travelapp.backend.global.util;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 정렬되는 64비트 ID 발급기 (TSID)
+ * [타임스탬프 42비트 (2024-01-01 기준 밀리초)][노드 10비트][시퀀스 12비트]
+ * 노드당 밀리초마다 4096 개까지 발급하며, 초과하거나 시계가 뒤로 가면 다음 밀리초를 미리 사용하여 항상 증가하는 값을 보장
+ * 노드 ID 는 노드마다 달라야 함 (TsidConfig 에서 Redis 로 임대)
+ */
+public class TsidGenerator {
+
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastMillis = -1;
+    private long sequence;
+
+    public TsidGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TsidGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public synchronized long next() {
+        long now = Math.max(clock.getAsLong(), lastMillis);
+
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * ID 를 발급한 노드 ID
+     */
+    public static int nodeIdOf(long tsid) {
+        return (int) ((tsid >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    /**
+     * ID 에 포함된 발급 시각 (밀리초)
+     */
+    public static long timestampOf(long tsid) {
+        return (tsid >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.travelapp.backend.global.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * TSID 노드 ID 임대
+ * tsid:node:{노드 ID} 키를 SET NX PX 로 선점하여 살아 있는 노드끼리 같은 노드 ID 를 사용하지 않도록 하고,
+ * 주기적으로 만료 시간을 연장하며 종료할 때 반납 (노드가 죽으면 ttl 이후 다른 노드가 재사용)
+ * 빈 노드 ID 가 없거나 Redis 를 사용할 수 없으면 임의 값을 쓰지 않고 예외를 던져 기동을 중단
+ */
+@Slf4j
+public class TsidNodeLease implements DisposableBean {
+
+    private static final String NODE_KEY_PREFIX = "tsid:node:";
+    private static final String NODE_SEQUENCE_KEY = "tsid:node-seq";
+
+    /**
+     * KEYS[1] = 노드 ID 키, ARGV[1] = 임대 토큰, ARGV[2] = ttl(ms)
+     * 내 임대이면 연장하고, 만료되었으면 다시 선점 (다른 노드가 가져갔으면 0)
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "local owner = redis.call('GET', KEYS[1]) "
+            + "if owner == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end "
+            + "if not owner then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end "
+            + "return 0",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] = 노드 ID 키, ARGV[1] = 임대 토큰 (내 임대일 때만 삭제)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlMillis;
+    private final String token = UUID.randomUUID().toString();
+    private final int nodeId;
+
+    public TsidNodeLease(RedisTemplate<String, String> redisTemplate, long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+        this.nodeId = acquire();
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 임대 연장 (연장 주기는 ttl 보다 충분히 짧아야 함)
+     */
+    @Scheduled(fixedDelayString = "${tsid.node-lease.renew-interval-ms:10000}")
+    public void renew() {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(nodeKey(nodeId)), token, String.valueOf(ttlMillis));
+            if (renewed == null || renewed == 0) {
+                log.error("TSID 노드 ID 임대를 다른 노드가 가져감 - 노드 ID: {} (ID 가 중복될 수 있음)", nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("TSID 노드 ID 임대 연장 실패 - 노드 ID: {}, 원인: {}", nodeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(nodeKey(nodeId)), token);
+        } catch (Exception e) {
+            log.warn("TSID 노드 ID 반납 실패 - 노드 ID: {}, 원인: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 노드마다 다른 위치(Redis 카운터)에서 시작하여 비어 있는 노드 ID 를 차례로 선점
+     */
+    private int acquire() {
+        int nodeCount = TsidGenerator.MAX_NODE_ID + 1;
+        Long sequence = redisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY);
+        int start = sequence != null ? (int) Math.floorMod(sequence, (long) nodeCount) : 0;
+
+        for (int i = 0; i < nodeCount; i++) {
+            int candidate = (start + i) % nodeCount;
+            Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(nodeKey(candidate), token, Duration.ofMillis(ttlMillis));
+            if (Boolean.TRUE.equals(acquired)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 TSID 노드 ID 가 없습니다 (" + nodeCount + "개 모두 사용 중)");
+    }
+
+    private static String nodeKey(int nodeId) {
+        return NODE_KEY_PREFIX + nodeId;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.travelapp.backend.global.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Redis Pub/Sub 기반 STOMP 메시지 중계
+ * 각 노드의 SimpleBroker 는 자기 노드에 연결된 세션에만 전달하므로, 서버가 보내는 메시지는 모두 Redis 채널로 발행하고
+ * 모든 노드(발행한 노드 포함)가 채널을 구독하여 받은 메시지를 로컬 브로커로 전달
+ * - 발행 노드도 Redis 를 거쳐 전달받으므로 노드와 관계없이 같은 순서로 전달됨
+ * - Redis 발행에 실패하면 최소한 같은 노드의 세션에는 전달되도록 로컬 브로커로 바로 전달
+ * - 사용자 대상 메시지는 각 노드에서 /user/{name} 목적지로 전달하여 해당 사용자가 연결된 노드에서만 세션을 찾음
+ */
+@Slf4j
+@Component
+public class RedisStompRelay implements MessageListener {
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder publishFailures = new LongAdder();
+    private final LongAdder localDeliveries = new LongAdder();
+    private final LongAdder remoteDeliveries = new LongAdder();
+
+    public RedisStompRelay(
+        RedisTemplate<String, String> redisTemplate,
+        SimpMessagingTemplate messagingTemplate,
+        ObjectMapper objectMapper,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        @Value("${chat.relay.channel:stomp:relay}") String channel
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * 목적지를 구독 중인 모든 노드의 세션에 전달 (예: /topic/chat/{roomId})
+     */
+    public void publish(String destination, Object payload) {
+        relay(new RelayEnvelope(nodeId, null, destination, toJson(payload)));
+    }
+
+    /**
+     * 특정 사용자의 세션에 전달 (사용자가 어느 노드에 연결되어 있어도 전달)
+     */
+    public void publishToUser(String user, String destination, Object payload) {
+        relay(new RelayEnvelope(nodeId, user, destination, toJson(payload)));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayEnvelope envelope = objectMapper.readValue(message.getBody(), RelayEnvelope.class);
+            deliver(envelope);
+
+            if (nodeId.equals(envelope.origin())) {
+                localDeliveries.increment();
+            } else {
+                remoteDeliveries.increment();
+            }
+        } catch (Exception e) {
+            log.warn("STOMP 중계 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    public long getPublishFailures() {
+        return publishFailures.sum();
+    }
+
+    public long getLocalDeliveries() {
+        return localDeliveries.sum();
+    }
+
+    public long getRemoteDeliveries() {
+        return remoteDeliveries.sum();
+    }
+
+    private void relay(RelayEnvelope envelope) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+            published.increment();
+        } catch (Exception e) {
+            // Redis 장애 시 다른 노드에는 전달되지 않지만 같은 노드의 세션에는 전달
+            publishFailures.increment();
+            log.warn("STOMP 중계 발행 실패 - 로컬 세션에만 전달: {} ({})", envelope.destination(), e.getMessage());
+            deliver(envelope);
+        }
+    }
+
+    // 이미 직렬화된 JSON 을 다시 변환하지 않도록 바이트 그대로 로컬 브로커에 전달
+    private void deliver(RelayEnvelope envelope) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        String destination = envelope.isUserDestination()
+            ? "/user/" + envelope.user().replace("/", "%2F") + envelope.destination()
+            : envelope.destination();
+
+        messagingTemplate.send(destination, MessageBuilder.createMessage(
+            envelope.payload().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("STOMP 메시지 직렬화 실패", e);
+        }
+    }
+
+}
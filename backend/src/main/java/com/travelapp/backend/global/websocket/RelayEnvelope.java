@@ -0,0 +1,16 @@
+package com.travelapp.backend.global.websocket;
+
+/**
+ * Redis 채널로 노드 간에 전달되는 STOMP 메시지
+ *
+ * @param origin      발행한 노드 ID
+ * @param user        사용자 대상 메시지인 경우 수신 사용자 이름 (브로드캐스트는 null)
+ * @param destination STOMP 목적지 (예: /topic/chat/1, 사용자 대상이면 /queue/...)
+ * @param payload     JSON 으로 직렬화된 본문
+ */
+public record RelayEnvelope(String origin, String user, String destination, String payload) {
+
+    public boolean isUserDestination() {
+        return user != null;
+    }
+}
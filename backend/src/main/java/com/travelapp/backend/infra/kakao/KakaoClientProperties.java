@@ -0,0 +1,37 @@
+package com.travelapp.backend.infra.kakao;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 API 호출용 커넥션 풀 / 타임아웃 설정 (kakao.client.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kakao.client")
+public class KakaoClientProperties {
+
+    // 카카오 API 기본 주소 (테스트에서는 로컬 스텁 서버로 교체)
+    private String baseUrl = "https://dapi.kakao.com";
+
+    // 연결 수립 타임아웃
+    private int connectTimeoutMs = 1000;
+
+    // 요청 전송 후 응답을 기다리는 최대 시간
+    private long responseTimeoutMs = 3000;
+
+    // 풀에서 유지하는 최대 커넥션 수
+    private int maxConnections = 50;
+
+    // 커넥션 획득 대기열의 최대 길이 (초과 시 즉시 실패)
+    private int pendingAcquireMaxCount = 200;
+
+    // 커넥션 획득 대기 최대 시간
+    private long pendingAcquireTimeoutMs = 1000;
+
+    // 유휴 커넥션을 정리하기까지의 시간
+    private long maxIdleTimeMs = 30000;
+}
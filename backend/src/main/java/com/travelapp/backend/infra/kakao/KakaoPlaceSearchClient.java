@@ -3,87 +3,191 @@ package com.travelapp.backend.infra.kakao;
 import com.travelapp.backend.global.exception.ExternalApiException;
 import com.travelapp.backend.global.exception.dto.ErrorCode;
 import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
-import java.time.Duration;
+import com.travelapp.backend.infra.kakao.dto.KakaoResilienceStatsResponse;
+import com.travelapp.backend.infra.kakao.resilience.KakaoResilience;
+import io.netty.channel.ConnectTimeoutException;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KakaoPlaceSearchClient {
 
-    // 카카오 로컬 API에서 키워드 검색을 요청할 때 사용하는 기본 URL
-    private static final String KAKAO_LOCAL_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
+    // 카카오 로컬 API에서 키워드 검색을 요청할 때 사용하는 경로 (기본 주소는 KakaoClientProperties)
+    private static final String KAKAO_LOCAL_SEARCH_PATH = "/v2/local/search/keyword.json";
 
-    // WebClient 객체를 직접 builder로 생성함
-    // baseUrl을 KAKAO_LOCAL_SEARCH_URL로 지정하여 이후 GET 요청 시 자동으로 해당 URL 사용
-    private final WebClient webClient = WebClient.builder().baseUrl(KAKAO_LOCAL_SEARCH_URL).build();
+    // 커넥션 풀, 타임아웃, 인증 헤더가 설정된 공유 WebClient (KakaoWebClientConfig)
+    private final WebClient kakaoWebClient;
 
-    // application.yml 또는 .env에서 "kakao.rest-api-key" 값을 주입받음
-    @Value("${kakao.rest-api-key}")
-    private String kakaoRestApiKey;
+    // 서킷 브레이커 / 속도 제한 / 벌크헤드
+    private final KakaoResilience kakaoResilience;
 
-//    @PostConstruct
-//    public void init() {
-//        log.info("사용 중인 카카오 API 키: {}", kakaoRestApiKey);
-//    }
+    // 진행 중인 업스트림 요청 (정규화된 검색 파라미터 → 공유 Mono)
+    private final ConcurrentMap<String, Mono<KakaoPlaceSearchResponse>> inFlightRequests = new ConcurrentHashMap<>();
+    private final LongAdder coalescedRequests = new LongAdder();
 
     /**
-     * 카카오 장소 검색 요청 (페이지네이션 지원)
+     * 카카오 장소 검색 요청 (논블로킹)
+     * 같은 검색어/좌표/페이지의 요청끼리만 병합 (검색 캐시 키 단위로 병합하려면 requestKey 를 받는 메서드 사용)
+     */
+    public Mono<KakaoPlaceSearchResponse> searchPlacesAsync(String keyword, double latitude, double longitude, int page, int size) {
+        String requestKey = normalizeKeyword(keyword) + "|" + latitude + "|" + longitude
+            + "|" + normalizePage(page) + "|" + normalizeSize(size);
+        return searchPlacesAsync(requestKey, keyword, latitude, longitude, page, size);
+    }
+
+    /**
+     * 카카오 장소 검색 요청 (논블로킹)
+     * 호출 스레드를 점유하지 않으며, 구독 시점에 요청이 전송됨
+     * 같은 requestKey 의 요청이 진행 중이면 새 요청을 보내지 않고 그 결과를 함께 받음 (single-flight)
+     * 검색 캐시는 같은 격자 셀의 검색이 결과를 공유하므로 PlaceSearchKey 를 requestKey 로 넘겨
+     * 셀 안의 조금씩 다른 좌표로 동시에 들어온 같은 검색도 하나의 업스트림 요청으로 병합
+     *
+     * @param requestKey 병합 기준 키 (예: PlaceSearchKey.asString())
      * @param keyword 검색어(예: "카페")
-     * @param longitude 경도 (x)
      * @param latitude 위도 (y)
+     * @param longitude 경도 (x)
      * @param page 페이지 번호 (1~45)
      * @param size 한 페이지에 보여질 문서의 개수 (1~15)
-     * @return Kakao API로 부터 받은 JSON 문자열 응답
+     * @return 검색 결과 Mono (실패 시 ExternalApiException)
      */
-    public KakaoPlaceSearchResponse searchPlaces(String keyword, double latitude, double longitude, int page, int size) {
+    public Mono<KakaoPlaceSearchResponse> searchPlacesAsync(
+        String requestKey, String keyword, double latitude, double longitude, int page, int size
+    ) {
 
-        // 파라미터 유효성 검사 및 final 변수로 재할당
-        final int validPage = (page < 1 || page > 45) ? 1 : page;
-        final int validSize = (size < 1 || size > 15) ? 15 : size;
-
-        log.info("카카오 장소 검색 API 호출: keyword={}, lat={}, lng={}, page={}, size={}", keyword, latitude, longitude, validPage, validSize);
-
-        try {
-            return webClient.get() // GET 방식 요청 시작
-                .uri(uriBuilder -> uriBuilder
-                    .queryParam("query", keyword)
-                    .queryParam("x", longitude)
-                    .queryParam("y", latitude)
-                    .queryParam("radius", 20000) // 20km 반경으로 늘려서 더 많은 검색 결과 제공
-                    .queryParam("page", validPage)
-                    .queryParam("size", validSize)
-                    .build())
-                .header("Authorization", "KakaoAK " + kakaoRestApiKey) // 인증용 헤더. KakaoAK 띄어쓰기 필수!
-                .retrieve() // 요청을 보내고 응답 수신 대기
-                .bodyToMono(KakaoPlaceSearchResponse.class) // 응답 JSON을 KakaoPlaceSearchResponse 객체로 변환하여 비동기(Mono) 스트림으로 처리
-                .timeout(Duration.ofSeconds(10))// 10초 타임아웃 설정
-                .onErrorMap(WebClientException.class, e -> {
-                    log.error("카카오 API 호출 중 WebClient 오류 발생", e);
-                    return new ExternalApiException(ErrorCode.KAKAO_API_ERROR, "카카오 장소 검색 API 호출 실패", e);
-                })
-                .onErrorMap(Exception.class, e -> {
-                    if (e instanceof ExternalApiException) {
-                        return e;
-                    }
-                    log.error("카카오 API 호출 중 예상치 못한 오류 발생", e);
-                    return new ExternalApiException(ErrorCode.EXTERNAL_API_TIMEOUT, "외부 API 호출 시간 초과 또는 오류", e);
-                })
-                .block(); // block()을 통해 응답을 동기적으로 받음 (간단한 요청 처리 시 유용)
-
-        } catch (Exception e) {
-            log.error("카카오 API 호출 실패", e);
-            if (e instanceof ExternalApiException) {
-                throw e;
+        final String validKeyword = normalizeKeyword(keyword);
+        final int validPage = normalizePage(page);
+        final int validSize = normalizeSize(size);
+
+        return Mono.defer(() -> {
+            Mono<KakaoPlaceSearchResponse> existing = inFlightRequests.get(requestKey);
+            if (existing != null) {
+                coalescedRequests.increment();
+                return existing;
+            }
+
+            // 결과를 전달하기 전에 맵에서 제거되므로 이후 요청은 새로 전송되고, 실패도 진행 중인 호출자에게만 공유됨
+            Mono<KakaoPlaceSearchResponse> created = requestPlaces(validKeyword, latitude, longitude, validPage, validSize)
+                .doOnTerminate(() -> inFlightRequests.remove(requestKey))
+                .cache();
+
+            Mono<KakaoPlaceSearchResponse> raced = inFlightRequests.putIfAbsent(requestKey, created);
+            if (raced != null) {
+                coalescedRequests.increment();
+                return raced;
             }
-            throw new ExternalApiException(ErrorCode.KAKAO_API_ERROR, "카카오 장소 검색 API 호출 중 오류가 발생했습니다.", e);
+            return created;
+        });
+    }
+
+    /**
+     * 카카오 장소 검색 요청 (블로킹)
+     * 논블로킹 흐름을 쓸 수 없는 호출부를 위한 동기 버전
+     */
+    public KakaoPlaceSearchResponse searchPlaces(String keyword, double latitude, double longitude, int page, int size) {
+        return searchPlacesAsync(keyword, latitude, longitude, page, size).block();
+    }
+
+    /**
+     * 카카오 장소 검색 요청 (블로킹, requestKey 단위로 진행 중인 요청과 병합)
+     */
+    public KakaoPlaceSearchResponse searchPlaces(
+        String requestKey, String keyword, double latitude, double longitude, int page, int size
+    ) {
+        return searchPlacesAsync(requestKey, keyword, latitude, longitude, page, size).block();
+    }
+
+    /**
+     * 현재 진행 중인 업스트림 요청 수
+     */
+    public int getInFlightCount() {
+        return inFlightRequests.size();
+    }
+
+    /**
+     * 진행 중인 요청에 합류하여 생략된 업스트림 요청 수
+     */
+    public long getCoalescedCount() {
+        return coalescedRequests.sum();
+    }
+
+    public KakaoResilienceStatsResponse getResilienceStats() {
+        return kakaoResilience.getStats();
+    }
+
+    public static int normalizePage(int page) {
+        return (page < 1 || page > 45) ? 1 : page;
+    }
+
+    public static int normalizeSize(int size) {
+        return (size < 1 || size > 15) ? 15 : size;
+    }
+
+    /**
+     * 검색어 정규화 (NFC, 앞뒤 공백 제거, 연속 공백 하나로, 소문자)
+     * 검색 캐시 키(PlaceSearchKey)와 업스트림 요청이 같은 검색어를 쓰도록 이 메서드만 사용
+     */
+    public static String normalizeKeyword(String keyword) {
+        if (keyword == null) {
+            return "";
         }
+        return Normalizer.normalize(keyword, Normalizer.Form.NFC)
+            .trim()
+            .replaceAll("\\s+", " ")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private Mono<KakaoPlaceSearchResponse> requestPlaces(String keyword, double latitude, double longitude, int page, int size) {
+
+        log.info("카카오 장소 검색 API 호출: keyword={}, lat={}, lng={}, page={}, size={}", keyword, latitude, longitude, page, size);
+
+        Mono<KakaoPlaceSearchResponse> upstreamCall = kakaoWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path(KAKAO_LOCAL_SEARCH_PATH)
+                .queryParam("query", keyword)
+                .queryParam("x", longitude)
+                .queryParam("y", latitude)
+                .queryParam("radius", 20000) // 20km 반경으로 늘려서 더 많은 검색 결과 제공
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .build())
+            .retrieve()
+            .bodyToMono(KakaoPlaceSearchResponse.class);
+
+        return kakaoResilience.execute(upstreamCall)
+            .onErrorMap(e -> !(e instanceof ExternalApiException), this::translateException);
+    }
 
+    private ExternalApiException translateException(Throwable e) {
+        if (isTimeout(e)) {
+            log.warn("카카오 API 응답 시간 초과: {}", e.getMessage());
+            return new ExternalApiException(ErrorCode.EXTERNAL_API_TIMEOUT, "카카오 장소 검색 API 응답 시간 초과", e);
+        }
+
+        log.error("카카오 API 호출 실패", e);
+        return new ExternalApiException(ErrorCode.KAKAO_API_ERROR, "카카오 장소 검색 API 호출 실패", e);
+    }
+
+    // 응답 타임아웃(ReadTimeout), 연결 타임아웃, 커넥션 획득 대기 타임아웃을 모두 시간 초과로 취급
+    private boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException
+                || t instanceof io.netty.handler.timeout.TimeoutException
+                || t instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
@@ -0,0 +1,58 @@
+package com.travelapp.backend.infra.kakao;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 카카오 API 전용 WebClient 설정
+ * 요청마다 WebClient 를 만들지 않고 튜닝된 커넥션 풀을 공유하며,
+ * 커넥션 획득 대기열을 제한해 카카오가 느려져도 대기 요청이 무한히 쌓이지 않도록 함
+ */
+@Configuration
+public class KakaoWebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider(KakaoClientProperties properties) {
+        return ConnectionProvider.builder("kakao")
+            .maxConnections(properties.getMaxConnections())
+            .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+            .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+            .evictInBackground(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+            .build();
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(
+        ConnectionProvider kakaoConnectionProvider,
+        KakaoClientProperties properties,
+        @Value("${kakao.rest-api-key}") String kakaoRestApiKey
+    ) {
+        return createWebClient(kakaoConnectionProvider, properties, kakaoRestApiKey);
+    }
+
+    static WebClient createWebClient(
+        ConnectionProvider connectionProvider,
+        KakaoClientProperties properties,
+        String kakaoRestApiKey
+    ) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeoutMs())
+            .responseTimeout(Duration.ofMillis(properties.getResponseTimeoutMs()));
+
+        return WebClient.builder()
+            .baseUrl(properties.getBaseUrl())
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoRestApiKey) // KakaoAK 띄어쓰기 필수!
+            .build();
+    }
+
+}
@@ -1,15 +1,35 @@
 package com.travelapp.backend.infra.kakao.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class KakaoPlaceSearchResponse {
 
     private List<Document> documents;
 
+    // 페이지 정보 (다음 페이지 존재 여부 판단에 사용)
+    private Meta meta;
+
+    /**
+     * 다음 페이지가 있는지 여부 (meta 가 없으면 알 수 없으므로 false)
+     */
+    public boolean hasNextPage() {
+        return meta != null && !meta.is_end;
+    }
+
 
     @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class Document {
        private String id;
        private String place_name;
@@ -23,9 +43,13 @@ public class KakaoPlaceSearchResponse {
     }
 
     @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class Meta {
         private int total_count;
         private int pageable_count;
+        @JsonProperty("is_end")
         private boolean is_end;
     }
 
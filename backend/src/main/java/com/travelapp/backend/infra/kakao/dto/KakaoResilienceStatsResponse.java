@@ -0,0 +1,44 @@
+package com.travelapp.backend.infra.kakao.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "카카오 API 장애 대응 계층 통계 응답 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KakaoResilienceStatsResponse {
+
+    @Schema(description = "서킷 브레이커 상태 (CLOSED, OPEN, HALF_OPEN)", example = "CLOSED")
+    private String circuitState;
+
+    @Schema(description = "슬라이딩 윈도우 실패율 (0.0 ~ 1.0)", example = "0.1")
+    private Double failureRate;
+
+    @Schema(description = "상태별 전환 횟수", example = "{\"OPEN\": 2, \"HALF_OPEN\": 2, \"CLOSED\": 1}")
+    private Map<String, Long> stateTransitions;
+
+    @Schema(description = "서킷 브레이커에 의해 거부된 호출 수", example = "120")
+    private Long rejectedByCircuitBreaker;
+
+    @Schema(description = "속도 제한에 의해 거부된 호출 수", example = "15")
+    private Long rejectedByRateLimiter;
+
+    @Schema(description = "벌크헤드(동시 호출 제한)에 의해 거부된 호출 수", example = "3")
+    private Long rejectedByBulkhead;
+
+    @Schema(description = "현재 허용 호출 속도 (초당)", example = "20.0")
+    private Double currentRatePerSecond;
+
+    @Schema(description = "카카오가 한도 초과(429)로 응답한 횟수", example = "1")
+    private Long throttledResponses;
+
+    @Schema(description = "남은 동시 호출 허용 수", example = "28")
+    private Integer availableBulkheadPermits;
+
+}
@@ -0,0 +1,87 @@
+package com.travelapp.backend.infra.kakao.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 적응형 토큰 버킷 (스레드 안전)
+ * 초당 ratePerSecond 개의 토큰이 최대 burst 개까지 채워지며, 호출마다 토큰 하나를 소비
+ * 업스트림이 한도 초과(429)를 알리면 속도를 절반으로 줄이고, 성공할 때마다 조금씩 최대 속도로 회복 (AIMD)
+ */
+public class AdaptiveRateLimiter {
+
+    private final double maxRatePerSecond;
+    private final double minRatePerSecond;
+    private final double burst;
+    private final LongSupplier nanoTime;
+
+    private double ratePerSecond;
+    private double tokens;
+    private long lastRefill;
+    private long rejectedCalls;
+    private long throttledSignals;
+
+    public AdaptiveRateLimiter(double maxRatePerSecond, double minRatePerSecond, int burst) {
+        this(maxRatePerSecond, minRatePerSecond, burst, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(double maxRatePerSecond, double minRatePerSecond, int burst, LongSupplier nanoTime) {
+        this.maxRatePerSecond = maxRatePerSecond;
+        this.minRatePerSecond = Math.min(minRatePerSecond, maxRatePerSecond);
+        this.burst = burst;
+        this.nanoTime = nanoTime;
+        this.ratePerSecond = maxRatePerSecond;
+        this.tokens = burst;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return true;
+        }
+
+        rejectedCalls++;
+        return false;
+    }
+
+    /**
+     * 업스트림 호출 성공 - 속도를 최대치의 1% 씩 회복
+     */
+    public synchronized void onSuccess() {
+        if (ratePerSecond < maxRatePerSecond) {
+            refill();
+            ratePerSecond = Math.min(maxRatePerSecond, ratePerSecond + maxRatePerSecond / 100);
+        }
+    }
+
+    /**
+     * 업스트림이 한도 초과를 알림 - 속도를 절반으로 줄임
+     */
+    public synchronized void onThrottled() {
+        refill();
+        throttledSignals++;
+        ratePerSecond = Math.max(minRatePerSecond, ratePerSecond / 2);
+    }
+
+    public synchronized double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public synchronized long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+    public synchronized long getThrottledSignals() {
+        return throttledSignals;
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        double elapsedSeconds = (now - lastRefill) / 1_000_000_000.0;
+        tokens = Math.min(burst, tokens + elapsedSeconds * ratePerSecond);
+        lastRefill = now;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.travelapp.backend.infra.kakao.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세마포어 벌크헤드 - 동시 업스트림 호출 수 제한
+ * 대기하지 않고 즉시 거부하여 느린 외부 API 가 요청 처리 자원을 잠식하지 않도록 함
+ */
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final Semaphore semaphore;
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public Bulkhead(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+    }
+
+    public boolean tryAcquire() {
+        if (semaphore.tryAcquire()) {
+            return true;
+        }
+        rejectedCalls.increment();
+        return false;
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.travelapp.backend.infra.kakao.resilience;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 슬라이딩 윈도우 서킷 브레이커 (스레드 안전)
+ * CLOSED: 최근 windowSize 건 중 실패율이 임계치 이상이면 OPEN
+ * OPEN: openDuration 동안 모든 호출을 즉시 거부한 뒤 HALF_OPEN
+ * HALF_OPEN: 시험 호출을 halfOpenPermits 건까지만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermits;
+    private final LongSupplier nanoTime;
+
+    private final boolean[] outcomes;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    private final Map<State, Long> transitions = new EnumMap<>(State.class);
+    private long rejectedCalls;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+        long openDurationMillis, int halfOpenPermits) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDurationMillis, halfOpenPermits, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+        long openDurationMillis, int halfOpenPermits, LongSupplier nanoTime) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenPermits = halfOpenPermits;
+        this.nanoTime = nanoTime;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 확인 (HALF_OPEN 에서는 시험 호출 한 건을 예약)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoTime.getAsLong() - openedAt >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (halfOpenIssued < halfOpenPermits) {
+                    halfOpenIssued++;
+                    yield true;
+                }
+                yield false;
+            }
+        };
+
+        if (!permitted) {
+            rejectedCalls++;
+        }
+        return permitted;
+    }
+
+    /**
+     * 호출이 실행되지 않은 경우 예약한 시험 호출 반환
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenIssued > 0) {
+            halfOpenIssued--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSucceeded >= halfOpenPermits) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && currentFailureRate() >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return currentFailureRate();
+    }
+
+    public synchronized long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+    public synchronized Map<State, Long> getTransitions() {
+        return new EnumMap<>(transitions);
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            // 윈도우가 가득 차면 가장 오래된 결과를 밀어냄
+            if (outcomes[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+
+        outcomes[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private double currentFailureRate() {
+        return recordedCalls == 0 ? 0.0 : (double) failedCalls / recordedCalls;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        transitions.merge(next, 1L, Long::sum);
+
+        switch (next) {
+            case OPEN -> openedAt = nanoTime.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenIssued = 0;
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                windowIndex = 0;
+                recordedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.travelapp.backend.infra.kakao.resilience;
+
+import com.travelapp.backend.global.exception.ExternalApiException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.infra.kakao.dto.KakaoResilienceStatsResponse;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 카카오 API 호출 보호 계층
+ * 서킷 브레이커(빠른 실패) → 토큰 버킷(쿼터 준수) → 벌크헤드(동시 호출 제한) 순서로 호출을 허용하며,
+ * 거부된 호출은 업스트림에 보내지 않고 즉시 ExternalApiException 으로 실패
+ */
+@Slf4j
+@Component
+public class KakaoResilience {
+
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final Bulkhead bulkhead;
+
+    public KakaoResilience(KakaoResilienceProperties properties) {
+        this(
+            new CircuitBreaker(
+                properties.getWindowSize(),
+                properties.getMinimumCalls(),
+                properties.getFailureRateThreshold(),
+                properties.getOpenDurationMs(),
+                properties.getHalfOpenPermits()
+            ),
+            new AdaptiveRateLimiter(
+                properties.getMaxRatePerSecond(),
+                properties.getMinRatePerSecond(),
+                properties.getBurst()
+            ),
+            new Bulkhead(properties.getMaxConcurrentCalls())
+        );
+    }
+
+    KakaoResilience(CircuitBreaker circuitBreaker, AdaptiveRateLimiter rateLimiter, Bulkhead bulkhead) {
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * 보호 계층을 거쳐 업스트림 호출 실행 (구독 시점에 허용 여부 판단)
+     */
+    public <T> Mono<T> execute(Mono<T> upstreamCall) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                log.warn("카카오 API 서킷 브레이커 OPEN - 호출 거부");
+                return Mono.error(new ExternalApiException(ErrorCode.KAKAO_API_UNAVAILABLE, "카카오 API 서킷 브레이커가 열려 있습니다."));
+            }
+
+            if (!rateLimiter.tryAcquire()) {
+                circuitBreaker.releasePermission();
+                log.warn("카카오 API 호출 속도 제한 초과 - 호출 거부");
+                return Mono.error(new ExternalApiException(ErrorCode.KAKAO_API_RATE_LIMITED));
+            }
+
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.releasePermission();
+                log.warn("카카오 API 동시 호출 수 초과 - 호출 거부");
+                return Mono.error(new ExternalApiException(ErrorCode.KAKAO_API_UNAVAILABLE, "카카오 API 동시 호출 한도를 초과했습니다."));
+            }
+
+            return upstreamCall
+                .doOnSuccess(result -> onSuccess())
+                .doOnError(this::onError)
+                .doFinally(signal -> {
+                    bulkhead.release();
+                    if (signal == SignalType.CANCEL) {
+                        circuitBreaker.releasePermission();
+                    }
+                });
+        });
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public KakaoResilienceStatsResponse getStats() {
+        return KakaoResilienceStatsResponse.builder()
+            .circuitState(circuitBreaker.getState().name())
+            .failureRate(circuitBreaker.getFailureRate())
+            .stateTransitions(circuitBreaker.getTransitions().entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue)))
+            .rejectedByCircuitBreaker(circuitBreaker.getRejectedCalls())
+            .rejectedByRateLimiter(rateLimiter.getRejectedCalls())
+            .rejectedByBulkhead(bulkhead.getRejectedCalls())
+            .currentRatePerSecond(rateLimiter.getRatePerSecond())
+            .throttledResponses(rateLimiter.getThrottledSignals())
+            .availableBulkheadPermits(bulkhead.getAvailablePermits())
+            .build();
+    }
+
+    private void onSuccess() {
+        circuitBreaker.onSuccess();
+        rateLimiter.onSuccess();
+    }
+
+    private void onError(Throwable e) {
+        WebClientResponseException response = findResponseException(e);
+
+        if (response != null && response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            rateLimiter.onThrottled();
+            circuitBreaker.onFailure();
+            return;
+        }
+
+        // 잘못된 요청(4xx)은 호출자 문제이므로 장애로 집계하지 않음
+        if (response != null && response.getStatusCode().is4xxClientError()) {
+            circuitBreaker.onSuccess();
+            return;
+        }
+
+        circuitBreaker.onFailure();
+    }
+
+    private WebClientResponseException findResponseException(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException responseException) {
+                return responseException;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.travelapp.backend.infra.kakao.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 API 장애 대응 설정 (kakao.resilience.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kakao.resilience")
+public class KakaoResilienceProperties {
+
+    // 서킷 브레이커: 최근 호출 결과를 집계하는 윈도우 크기
+    private int windowSize = 20;
+
+    // 서킷 브레이커: 실패율을 판단하기 위한 최소 호출 수
+    private int minimumCalls = 10;
+
+    // 서킷 브레이커: OPEN 으로 전환되는 실패율 (0.0 ~ 1.0)
+    private double failureRateThreshold = 0.5;
+
+    // 서킷 브레이커: OPEN 상태 유지 시간
+    private long openDurationMs = 30000;
+
+    // 서킷 브레이커: HALF_OPEN 상태에서 허용하는 시험 호출 수
+    private int halfOpenPermits = 3;
+
+    // 벌크헤드: 동시 업스트림 호출 최대 수
+    private int maxConcurrentCalls = 30;
+
+    // 속도 제한: 초당 최대 호출 수 (카카오 쿼터 기준)
+    private double maxRatePerSecond = 20;
+
+    // 속도 제한: 한도 초과 응답으로 속도를 줄일 때의 하한
+    private double minRatePerSecond = 2;
+
+    // 속도 제한: 순간적으로 허용하는 최대 호출 수
+    private int burst = 40;
+}
@@ -0,0 +1,126 @@
+package com.travelapp.backend.domain.chat.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.chat.exception.ChatRoomAccessDeniedException;
+import com.travelapp.backend.domain.chat.service.ChatRoomService;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * 채팅방 토픽 구독 권한 테스트
+ * 인터셉터를 등록한 inbound 채널과 SimpleBroker 를 동기 채널로 연결해 실제 구독·전달 경로를 확인
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅방 토픽 구독 권한 테스트")
+class ChatSubscriptionInterceptorTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final long PARTICIPANT_ID = 1L;
+    private static final long OUTSIDER_ID = 9L;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    private final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+    private ExecutorSubscribableChannel inboundChannel;
+    private ExecutorSubscribableChannel brokerChannel;
+    private SimpleBrokerMessageHandler broker;
+
+    @BeforeEach
+    void setUp() {
+        inboundChannel = new ExecutorSubscribableChannel();
+        inboundChannel.addInterceptor(new ChatSubscriptionInterceptor(chatRoomService));
+        ExecutorSubscribableChannel outboundChannel = new ExecutorSubscribableChannel();
+        outboundChannel.subscribe(delivered::add);
+        brokerChannel = new ExecutorSubscribableChannel();
+
+        broker = new SimpleBrokerMessageHandler(inboundChannel, outboundChannel, brokerChannel, List.of("/topic"));
+        broker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+    }
+
+    @Test
+    @DisplayName("참여자가 아닌 회원의 채팅방 구독은 거절되어 메시지를 받지 못한다")
+    void outsiderSubscriptionIsRejected() {
+        // given
+        willThrow(new ChatRoomAccessDeniedException()).given(chatRoomService).validateParticipant(ROOM_ID, OUTSIDER_ID);
+        inboundChannel.send(subscribe("participant-session", PARTICIPANT_ID, "/topic/chat/1"));
+
+        // when
+        assertThatThrownBy(() -> inboundChannel.send(subscribe("outsider-session", OUTSIDER_ID, "/topic/chat/1")))
+            .isInstanceOf(MessageDeliveryException.class)
+            .hasCauseInstanceOf(ChatRoomAccessDeniedException.class);
+        brokerChannel.send(broadcast("/topic/chat/1"));
+
+        // then
+        assertThat(delivered)
+            .extracting(message -> SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))
+            .containsExactly("participant-session");
+    }
+
+    @Test
+    @DisplayName("채팅방 하위 토픽 구독도 참여자 여부를 확인한다")
+    void nestedRoomTopicIsChecked() {
+        // given
+        willThrow(new ChatRoomAccessDeniedException()).given(chatRoomService).validateParticipant(ROOM_ID, OUTSIDER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> inboundChannel.send(subscribe("outsider-session", OUTSIDER_ID, "/topic/chat/1/typing")))
+            .isInstanceOf(MessageDeliveryException.class)
+            .hasCauseInstanceOf(ChatRoomAccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("채팅방이 아닌 토픽 구독은 확인하지 않는다")
+    void otherTopicsAreNotChecked() {
+        // when
+        inboundChannel.send(subscribe("session", OUTSIDER_ID, "/topic/notice"));
+
+        // then
+        verify(chatRoomService, never()).validateParticipant(ROOM_ID, OUTSIDER_ID);
+    }
+
+    private Message<byte[]> subscribe(String sessionId, long memberId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        Principal principal = () -> String.valueOf(memberId);
+        accessor.setUser(principal);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> broadcast(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("hello".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.entity.ChatRoom;
+import com.travelapp.backend.domain.chat.repository.ChatRoomRepository;
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.member.repository.MemberRepository;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.trip.repository.TripRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅 메시지 이력 keyset 페이지네이션 벤치마크
+ * 한 채팅방에 100만 건을 넣고 최신/중간/가장 오래된 구간의 페이지 조회 시간을 OFFSET 방식과 비교
+ * 100만 건을 메모리에 올리지 않도록 파일 기반 H2 를 사용 (build/tmp 아래, 테스트 종료 시 테이블 삭제)
+ * 최근 메시지 캐시는 항상 미스로 두어 DB 조회 경로만 측정
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행 (페이지네이션 동작은 ChatHistoryServiceTest)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("채팅 메시지 이력 페이지네이션 벤치마크")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import(ChatHistoryService.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:file:./build/tmp/chat-history-benchmark;"
+    + "MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatHistoryBenchmarkTest {
+
+    private static final long MESSAGE_COUNT = 1_000_000;
+    private static final long INSERT_CHUNK = 100_000;
+    private static final int PAGE_SIZE = 30;
+    private static final int ITERATIONS = 50;
+    private static final int OFFSET_ITERATIONS = 5;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private ChatHistoryService chatHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @MockitoBean
+    private ChatRoomService chatRoomService;
+
+    @MockitoBean
+    private ChatRecentMessageCache chatRecentMessageCache;
+
+    @MockitoBean
+    private ChatReadReceiptService chatReadReceiptService;
+
+    @MockitoBean
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+
+    private Member member;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+            .email("history@example.com")
+            .nickname("이력조회")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+        Trip trip = tripRepository.save(Trip.builder()
+            .member(member)
+            .title("이력 벤치마크 여행")
+            .startDate(LocalDate.of(2025, 1, 1))
+            .endDate(LocalDate.of(2025, 1, 3))
+            .build());
+        room = chatRoomRepository.save(ChatRoom.builder().trip(trip).name("이력 벤치마크").build());
+
+        // 메시지 ID = X, 생성 시각 = 기준 시각 + X/4 초 (같은 시각에 4건씩 있어 ID 로 순서를 정함)
+        for (long from = 1; from <= MESSAGE_COUNT; from += INSERT_CHUNK) {
+            jdbcTemplate.update("INSERT INTO chat_message "
+                    + "(id, chat_room_id, sender_id, message_type, content, created_at, read_count, deleted) "
+                    + "SELECT X, ?, ?, 'TEXT', CONCAT('message ', X), "
+                    + "DATEADD('SECOND', X / 4, TIMESTAMP '2025-01-01 00:00:00'), 0, FALSE "
+                    + "FROM SYSTEM_RANGE(?, ?)",
+                room.getId(), member.getId(), from, Math.min(from + INSERT_CHUNK - 1, MESSAGE_COUNT));
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE TABLE chat_message");
+        chatRoomRepository.deleteAll();
+        tripRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("100만 건 채팅방에서 페이지 조회 시간은 깊이와 관계없이 일정하고 OFFSET 보다 빠르다")
+    void keysetPaging_constantTimeAtAnyDepth() {
+        // given
+        long[] depths = {0, MESSAGE_COUNT / 2, MESSAGE_COUNT - PAGE_SIZE - 1};
+        double[] keysetMillis = new double[depths.length];
+
+        // when
+        for (int i = 0; i < depths.length; i++) {
+            String cursor = depths[i] == 0 ? null : cursorAt(MESSAGE_COUNT - depths[i] + 1);
+            measure(() -> chatHistoryService.getMessages(member.getId(), room.getId(), cursor, PAGE_SIZE), ITERATIONS);
+            keysetMillis[i] = measure(
+                () -> chatHistoryService.getMessages(member.getId(), room.getId(), cursor, PAGE_SIZE), ITERATIONS);
+        }
+        long deepOffset = depths[depths.length - 1];
+        measure(() -> offsetPage(deepOffset), 1);
+        double offsetMillis = measure(() -> offsetPage(deepOffset), OFFSET_ITERATIONS);
+
+        // then
+        String measured = String.format("keyset 최신 %.2f ms, 중간 %.2f ms, 마지막 %.2f ms, OFFSET %d: %.2f ms",
+            keysetMillis[0], keysetMillis[1], keysetMillis[2], deepOffset, offsetMillis);
+        assertThat(keysetMillis[2]).as(measured).isLessThan(keysetMillis[0] * 5 + 5);
+        assertThat(keysetMillis[2]).as(measured).isLessThan(offsetMillis);
+    }
+
+    /**
+     * ID 가 messageId 인 메시지 바로 다음 (더 오래된 쪽) 부터 조회하는 커서
+     */
+    private String cursorAt(long messageId) {
+        return ChatHistoryCursor.after(ChatMessageResponse.builder()
+            .id(messageId)
+            .createdAt(BASE_TIME.plusSeconds(messageId / 4))
+            .build()).encode();
+    }
+
+    private void offsetPage(long offset) {
+        jdbcTemplate.queryForList("SELECT m.id, mb.nickname FROM chat_message m JOIN member mb ON mb.id = m.sender_id "
+                + "WHERE m.chat_room_id = ? ORDER BY m.created_at DESC, m.id DESC LIMIT ? OFFSET ?",
+            room.getId(), PAGE_SIZE + 1, offset);
+    }
+
+    private double measure(Runnable query, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatMessagePageResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.entity.ChatRoom;
+import com.travelapp.backend.domain.chat.repository.ChatRoomRepository;
+import com.travelapp.backend.domain.chat.service.ChatRecentMessageCache.RecentMessages;
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.member.repository.MemberRepository;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.trip.repository.TripRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 채팅 메시지 이력 조회 테스트
+ * 한 채팅방에 MESSAGE_COUNT 건을 넣고 커서 페이지네이션과 최근 메시지 캐시 채우기 조건을 확인
+ * (100만 건 규모의 조회 시간 비교는 ChatHistoryBenchmarkTest)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("채팅 메시지 이력 조회 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import(ChatHistoryService.class)
+class ChatHistoryServiceTest {
+
+    private static final long MESSAGE_COUNT = 200;
+    private static final int PAGE_SIZE = 30;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private ChatHistoryService chatHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @MockitoBean
+    private ChatRoomService chatRoomService;
+
+    @MockitoBean
+    private ChatRecentMessageCache chatRecentMessageCache;
+
+    @MockitoBean
+    private ChatReadReceiptService chatReadReceiptService;
+
+    @MockitoBean
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+
+    private Member member;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+            .email("history@example.com")
+            .nickname("이력조회")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+        Trip trip = tripRepository.save(Trip.builder()
+            .member(member)
+            .title("이력 조회 여행")
+            .startDate(LocalDate.of(2025, 1, 1))
+            .endDate(LocalDate.of(2025, 1, 3))
+            .build());
+        room = chatRoomRepository.save(ChatRoom.builder().trip(trip).name("이력 조회").build());
+
+        // 메시지 ID = X, 생성 시각 = 기준 시각 + X/4 초 (같은 시각에 4건씩 있어 ID 로 순서를 정함)
+        jdbcTemplate.update("INSERT INTO chat_message "
+                + "(id, chat_room_id, sender_id, message_type, content, created_at, read_count, deleted) "
+                + "SELECT X, ?, ?, 'TEXT', CONCAT('message ', X), "
+                + "DATEADD('SECOND', X / 4, TIMESTAMP '2025-01-01 00:00:00'), 0, FALSE "
+                + "FROM SYSTEM_RANGE(1, ?)",
+            room.getId(), member.getId(), MESSAGE_COUNT);
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 같은 시각의 메시지가 있어도 빠짐없이 최신순으로 이어진다")
+    void keysetPaging_continuesWithoutGaps() {
+        // given
+        long start = MESSAGE_COUNT / 2;
+        String cursor = cursorAt(start + 1);
+
+        // when
+        ChatMessagePageResponse first = chatHistoryService.getMessages(member.getId(), room.getId(), cursor, PAGE_SIZE);
+        ChatMessagePageResponse second = chatHistoryService.getMessages(
+            member.getId(), room.getId(), first.getNextCursor(), PAGE_SIZE);
+
+        // then
+        List<Long> expected = LongStream.iterate(start, id -> id - 1).limit(PAGE_SIZE * 2L).boxed().toList();
+        assertThat(first.getContent()).extracting(ChatMessageResponse::getId)
+            .containsExactlyElementsOf(expected.subList(0, PAGE_SIZE));
+        assertThat(second.getContent()).extracting(ChatMessageResponse::getId)
+            .containsExactlyElementsOf(expected.subList(PAGE_SIZE, PAGE_SIZE * 2));
+        assertThat(first.getContent().get(0).getSenderNickname()).isEqualTo("이력조회");
+        assertThat(second.getHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 조회는 (채팅방, 생성 시각) 인덱스를 사용한다")
+    void keysetPaging_usesRoomCreatedIndex() {
+        // when
+        String plan = jdbcTemplate.queryForList("EXPLAIN SELECT id FROM chat_message WHERE chat_room_id = " + room.getId()
+            + " AND created_at <= TIMESTAMP '2025-01-01 00:00:00' ORDER BY created_at DESC, id DESC LIMIT 31",
+            String.class).get(0);
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_chat_room_created");
+    }
+
+    @Test
+    @DisplayName("캐시가 짧으면 DB 에서 이어지는 메시지를 읽어 캐시를 채운다")
+    void firstPage_backfillsShortCache() {
+        // given
+        RecentMessages cached = new RecentMessages(List.of(messageAt(MESSAGE_COUNT)), false, "tail");
+        given(chatRecentMessageCache.read(room.getId(), PAGE_SIZE + 1)).willReturn(cached);
+
+        // when
+        ChatMessagePageResponse page = chatHistoryService.getMessages(member.getId(), room.getId(), null, PAGE_SIZE);
+
+        // then
+        assertThat(page.getContent()).extracting(ChatMessageResponse::getId)
+            .containsExactlyElementsOf(LongStream.iterate(MESSAGE_COUNT, id -> id - 1).limit(PAGE_SIZE).boxed().toList());
+        verify(chatRecentMessageCache).backfill(eq(room.getId()), eq(cached), anyList(), eq(false));
+    }
+
+    @Test
+    @DisplayName("이 노드의 저장 버퍼에 채팅방 메시지가 남아 있으면 DB 에 빠진 구간이 있을 수 있으므로 캐시를 채우지 않는다")
+    void firstPage_skipsBackfillWhileUnflushed() {
+        // given
+        RecentMessages cached = new RecentMessages(List.of(messageAt(MESSAGE_COUNT)), false, "tail");
+        given(chatRecentMessageCache.read(room.getId(), PAGE_SIZE + 1)).willReturn(cached);
+        given(chatMessageWriteBehind.hasUnflushed(room.getId())).willReturn(true);
+
+        // when
+        chatHistoryService.getMessages(member.getId(), room.getId(), null, PAGE_SIZE);
+
+        // then
+        verify(chatRecentMessageCache, never()).backfill(anyLong(), any(), anyList(), anyBoolean());
+    }
+
+    /**
+     * ID 가 messageId 인 메시지 바로 다음 (더 오래된 쪽) 부터 조회하는 커서
+     */
+    private String cursorAt(long messageId) {
+        return ChatHistoryCursor.after(messageAt(messageId)).encode();
+    }
+
+    private ChatMessageResponse messageAt(long messageId) {
+        return ChatMessageResponse.builder()
+            .id(messageId)
+            .chatRoomId(room.getId())
+            .createdAt(BASE_TIME.plusSeconds(messageId / 4))
+            .build();
+    }
+
+}
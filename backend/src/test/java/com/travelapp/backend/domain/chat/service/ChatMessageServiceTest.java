@@ -0,0 +1,87 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.chat.dto.request.ChatMessageRequest;
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.member.exception.MemberNotFoundException;
+import com.travelapp.backend.domain.member.repository.MemberRepository;
+import com.travelapp.backend.global.util.TsidGenerator;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageService 테스트")
+class ChatMessageServiceTest {
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+
+    @Mock
+    private ChatRecentMessageCache chatRecentMessageCache;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisStompRelay redisStompRelay;
+
+    private ChatMessageService chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageService = new ChatMessageService(chatRoomService, chatMessageWriteBehind, chatRecentMessageCache,
+            memberRepository, redisStompRelay, new TsidGenerator(1), 100, 300);
+    }
+
+    @Test
+    @DisplayName("메시지를 저장 버퍼에 추가하고 캐시에 넣은 뒤 채팅방에 전달한다")
+    void send() {
+        // given
+        given(memberRepository.findNicknameById(2L)).willReturn(Optional.of("여행자"));
+
+        // when
+        ChatMessageResponse response = chatMessageService.send(2L, request());
+
+        // then
+        assertThat(response.getSenderNickname()).isEqualTo("여행자");
+        verify(chatMessageWriteBehind).append(any());
+        verify(chatRecentMessageCache).push(response);
+        verify(redisStompRelay).publish("/topic/chat/1", response);
+    }
+
+    @Test
+    @DisplayName("보낸 회원을 찾을 수 없으면 저장 버퍼에 추가하지 않는다")
+    void send_memberNotFound_notAppended() {
+        // given
+        given(memberRepository.findNicknameById(2L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> chatMessageService.send(2L, request())).isInstanceOf(MemberNotFoundException.class);
+        verify(chatMessageWriteBehind, never()).append(any());
+        verify(redisStompRelay, never()).publish(anyString(), any());
+    }
+
+    private ChatMessageRequest request() {
+        return ChatMessageRequest.builder()
+            .chatRoomId(1L)
+            .content("내일 9시에 만나요")
+            .build();
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.travelapp.backend.domain.chat.entity.ChatRoom;
+import com.travelapp.backend.domain.chat.entity.MessageType;
+import com.travelapp.backend.domain.chat.repository.ChatMessageJdbcRepository;
+import com.travelapp.backend.domain.chat.repository.ChatRoomRepository;
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.member.repository.MemberRepository;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.trip.repository.TripRepository;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.global.util.TsidGenerator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅 메시지 지연 일괄 저장 테스트
+ * 스케줄러와 같이 트랜잭션 밖에서 flush 하도록 테스트 트랜잭션 없이 실행하고 테스트마다 데이터를 정리
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("채팅 메시지 일괄 저장 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import(ChatMessageJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatMessageWriteBehindTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Autowired
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    private final TsidGenerator tsidGenerator = new TsidGenerator(1);
+    private Member member;
+    private ChatRoom roomA;
+    private ChatRoom roomB;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+            .email("chat@example.com")
+            .nickname("채팅유저")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+        roomA = saveRoom("제주도 여행");
+        roomB = saveRoom("부산 여행");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM chat_message");
+        chatRoomRepository.deleteAll();
+        tripRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("버퍼의 메시지를 batch-size 단위로 저장하고 채팅방 마지막 메시지 시간은 묶음마다 채팅방당 한 번만 갱신한다")
+    void flush_persistsInBatchesAndCoalescesRoomUpdates() {
+        // given
+        ChatMessageWriteBehind writeBehind = new ChatMessageWriteBehind(
+            chatMessageJdbcRepository, transactionManager, 1000, 50, 3);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            PendingChatMessage message = message(i % 2 == 0 ? roomA : roomB, i);
+            ids.add(message.id());
+            writeBehind.append(message);
+        }
+
+        assertThat(writeBehind.hasUnflushed(roomA.getId())).isTrue();
+
+        // when
+        int flushed = writeBehind.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(120);
+        assertThat(writeBehind.hasUnflushed(roomA.getId())).isFalse();
+        assertThat(writeBehind.hasUnflushed(roomB.getId())).isFalse();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_message ORDER BY id", Long.class))
+            .containsExactlyElementsOf(ids);
+        assertThat(lastMessageAt(roomA)).isEqualTo(BASE_TIME.plusSeconds(118));
+        assertThat(lastMessageAt(roomB)).isEqualTo(BASE_TIME.plusSeconds(119));
+
+        var stats = writeBehind.getStats();
+        assertThat(stats.getFlushes()).isEqualTo(3);
+        assertThat(stats.getPersisted()).isEqualTo(120);
+        assertThat(stats.getRoomUpdates()).isEqualTo(6);
+        assertThat(stats.getBufferedMessages()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 메시지를 거절한다")
+    void append_rejectsWhenBufferIsFull() {
+        // given
+        ChatMessageWriteBehind writeBehind = new ChatMessageWriteBehind(
+            chatMessageJdbcRepository, transactionManager, 2, 50, 3);
+        writeBehind.append(message(roomA, 0));
+        writeBehind.append(message(roomA, 1));
+
+        // when & then
+        assertThatThrownBy(() -> writeBehind.append(message(roomA, 2)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.SERVER_BUSY);
+        assertThat(writeBehind.getStats().getRejected()).isEqualTo(1);
+        assertThat(writeBehind.flush()).isEqualTo(2);
+        assertThat(writeBehind.hasUnflushed(roomA.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 묶음은 다시 저장하고, 반복 실패하면 저장할 수 없는 메시지만 제외한다")
+    void flush_retriesAndIsolatesUnpersistableMessage() {
+        // given
+        ChatMessageWriteBehind writeBehind = new ChatMessageWriteBehind(
+            chatMessageJdbcRepository, transactionManager, 1000, 50, 1);
+        PendingChatMessage valid = message(roomA, 0);
+        PendingChatMessage orphan = new PendingChatMessage(tsidGenerator.next(), Long.MAX_VALUE, member.getId(),
+            MessageType.TEXT, "삭제된 채팅방", null, null, null, BASE_TIME, System.nanoTime());
+        writeBehind.append(valid);
+        writeBehind.append(orphan);
+
+        // when & then - 첫 번째 저장은 묶음 전체가 롤백됨
+        assertThatThrownBy(writeBehind::flush).isInstanceOf(RuntimeException.class);
+        assertThat(countMessages()).isZero();
+        assertThat(writeBehind.hasUnflushed(roomA.getId())).isTrue();
+
+        // when - 재시도는 한 건씩 저장
+        int flushed = writeBehind.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_message", Long.class)).containsExactly(valid.id());
+        assertThat(writeBehind.getStats().getDropped()).isEqualTo(1);
+        assertThat(writeBehind.flush()).isZero();
+        assertThat(writeBehind.hasUnflushed(roomA.getId())).isFalse();
+        assertThat(writeBehind.hasUnflushed(Long.MAX_VALUE)).isFalse();
+    }
+
+    private ChatRoom saveRoom(String title) {
+        Trip trip = tripRepository.save(Trip.builder()
+            .member(member)
+            .title(title)
+            .startDate(LocalDate.of(2025, 6, 1))
+            .endDate(LocalDate.of(2025, 6, 3))
+            .region("제주도")
+            .build());
+        return chatRoomRepository.save(ChatRoom.builder().trip(trip).name(title).build());
+    }
+
+    private PendingChatMessage message(ChatRoom room, int seconds) {
+        return new PendingChatMessage(tsidGenerator.next(), room.getId(), member.getId(), MessageType.TEXT,
+            "메시지 " + seconds, null, null, null, BASE_TIME.plusSeconds(seconds), System.nanoTime());
+    }
+
+    private LocalDateTime lastMessageAt(ChatRoom room) {
+        return chatRoomRepository.findById(room.getId()).orElseThrow().getLastMessageAt();
+    }
+
+    private long countMessages() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_message", Long.class);
+    }
+
+}
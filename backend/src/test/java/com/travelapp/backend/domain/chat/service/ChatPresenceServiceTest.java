@@ -0,0 +1,199 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatPresenceEventResponse;
+import com.travelapp.backend.domain.chat.exception.ChatRoomAccessDeniedException;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 채팅방 접속 상태 테스트
+ * 같은 Redis 를 사용하는 두 서비스 인스턴스로 노드 A/B 를 흉내내어 노드 간 접속 상태를 확인 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("채팅방 접속 상태 테스트")
+class ChatPresenceServiceTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final String ROOM_TOPIC = "/topic/chat/1";
+    private static final long TTL_MILLIS = 1_000;
+    private static final String ROOMS_KEY = "chat:presence:rooms";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private ChatRoomService chatRoomService;
+    private RedisStompRelay relayA;
+    private RedisStompRelay relayB;
+    private ChatPresenceService nodeA;
+    private ChatPresenceService nodeB;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of("chat:presence:" + ROOM_ID, ROOMS_KEY));
+
+        chatRoomService = mock(ChatRoomService.class);
+        relayA = mock(RedisStompRelay.class);
+        relayB = mock(RedisStompRelay.class);
+        given(relayA.getNodeId()).willReturn("node-a");
+        given(relayB.getNodeId()).willReturn("node-b");
+        nodeA = new ChatPresenceService(redisTemplate, chatRoomService, relayA, TTL_MILLIS);
+        nodeB = new ChatPresenceService(redisTemplate, chatRoomService, relayB, TTL_MILLIS);
+    }
+
+    @Test
+    @DisplayName("다른 노드에 세션이 남아 있으면 한 세션이 끊겨도 접속 중으로 유지된다")
+    void disconnect_keepsMemberOnlineWhileAnotherSessionRemains() {
+        // given - 회원 2 가 노드 A/B 에 각각 연결
+        nodeA.connect("s1", 2L);
+        nodeA.subscribe("s1", 2L, "sub-0", ROOM_TOPIC);
+        nodeB.connect("s1", 2L);
+        nodeB.subscribe("s1", 2L, "sub-0", ROOM_TOPIC);
+        nodeB.connect("s2", 3L);
+        nodeB.subscribe("s2", 3L, "sub-0", ROOM_TOPIC);
+        clearInvocations(relayA, relayB);
+
+        // when
+        nodeA.disconnect("s1");
+
+        // then
+        assertThat(nodeA.getPresence(1L, ROOM_ID).getOnlineMemberIds()).containsExactly(2L, 3L);
+        verify(relayA, never()).publish(anyString(), any());
+
+        // when - 마지막 세션이 끊기면 퇴장을 알림
+        nodeB.disconnect("s1");
+
+        // then
+        assertThat(nodeA.getPresence(1L, ROOM_ID).getOnlineMemberIds()).containsExactly(3L);
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(relayB).publish(eq("/topic/chat/1/presence"), event.capture());
+        assertThat(((ChatPresenceEventResponse) event.getValue()).getMemberId()).isEqualTo(2L);
+        assertThat(((ChatPresenceEventResponse) event.getValue()).isOnline()).isFalse();
+    }
+
+    @Test
+    @DisplayName("연장이 멈춘 노드의 세션은 만료되고, 같은 채팅방 세션을 연장하는 노드가 정리하며 퇴장을 알린다")
+    void refresh_expiresSessionsOfStoppedNode() throws InterruptedException {
+        // given
+        nodeA.subscribe("s1", 2L, "sub-0", ROOM_TOPIC);
+        nodeB.subscribe("s2", 3L, "sub-0", ROOM_TOPIC);
+
+        // when - 노드 B 는 연장하지 않음
+        Thread.sleep(TTL_MILLIS / 2);
+        nodeA.refresh();
+        Thread.sleep(TTL_MILLIS / 2 + 200);
+        nodeA.refresh();
+
+        // then
+        assertThat(nodeA.getPresence(1L, ROOM_ID).getOnlineMemberIds()).containsExactly(2L);
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(relayA, times(2)).publish(eq("/topic/chat/1/presence"), event.capture());
+        ChatPresenceEventResponse offline = (ChatPresenceEventResponse) event.getAllValues().get(1);
+        assertThat(offline.getMemberId()).isEqualTo(3L);
+        assertThat(offline.isOnline()).isFalse();
+    }
+
+    @Test
+    @DisplayName("채팅방에 세션이 있는 노드가 없어도 다른 노드의 정리로 만료된 세션의 퇴장을 알리고 채팅방 등록을 해제한다")
+    void sweep_expiresSessionsWithoutLocalSessions() throws InterruptedException {
+        // given - 채팅방 세션은 노드 B 에만 있고, 노드 B 는 연장하지 않음
+        nodeB.subscribe("s2", 3L, "sub-0", ROOM_TOPIC);
+        assertThat(redisTemplate.opsForSet().isMember(ROOMS_KEY, String.valueOf(ROOM_ID))).isTrue();
+
+        // when
+        Thread.sleep(TTL_MILLIS + 200);
+        nodeA.sweep();
+        nodeA.sweep();
+
+        // then - 한 번만 알림
+        assertThat(nodeA.getPresence(1L, ROOM_ID).getOnlineMemberIds()).isEmpty();
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(relayA, times(1)).publish(eq("/topic/chat/1/presence"), event.capture());
+        assertThat(((ChatPresenceEventResponse) event.getValue()).getMemberId()).isEqualTo(3L);
+        assertThat(((ChatPresenceEventResponse) event.getValue()).isOnline()).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(ROOMS_KEY, String.valueOf(ROOM_ID))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 세션이 채팅방을 여러 번 구독하면 마지막 구독을 해제할 때 퇴장한다")
+    void unsubscribe_leavesAfterLastSubscription() {
+        // given
+        nodeA.connect("s1", 2L);
+        nodeA.subscribe("s1", 2L, "sub-0", ROOM_TOPIC);
+        nodeA.subscribe("s1", 2L, "sub-1", ROOM_TOPIC);
+
+        // when
+        nodeA.unsubscribe("s1", "sub-0");
+
+        // then
+        assertThat(nodeA.getPresence(1L, ROOM_ID).getOnlineMemberIds()).containsExactly(2L);
+
+        // when
+        nodeA.unsubscribe("s1", "sub-1");
+
+        // then
+        assertThat(nodeA.getPresence(1L, ROOM_ID).getOnlineMemberIds()).isEmpty();
+        assertThat(redisTemplate.opsForSet().isMember(ROOMS_KEY, String.valueOf(ROOM_ID))).isFalse();
+    }
+
+    @Test
+    @DisplayName("채팅방 하위 토픽 구독이나 참여자가 아닌 회원의 구독은 접속으로 기록하지 않는다")
+    void subscribe_ignoresOtherDestinationsAndNonParticipants() {
+        // given
+        willThrow(new ChatRoomAccessDeniedException()).given(chatRoomService).validateParticipant(ROOM_ID, 9L);
+
+        // when
+        nodeA.subscribe("s1", 2L, "sub-0", "/topic/chat/1/typing");
+        nodeA.subscribe("s2", 9L, "sub-0", ROOM_TOPIC);
+
+        // then
+        assertThat(nodeA.getPresence(1L, ROOM_ID).getOnlineMemberIds()).isEqualTo(List.of());
+        verify(relayA, never()).publish(anyString(), any());
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.dto.response.ChatReadWatermarkResponse;
+import com.travelapp.backend.domain.chat.entity.ChatReadWatermark;
+import com.travelapp.backend.domain.chat.repository.ChatMessageJdbcRepository;
+import com.travelapp.backend.domain.chat.repository.ChatReadWatermarkRepository;
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.global.exception.BusinessException;
+import com.travelapp.backend.global.util.TsidGenerator;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 읽음 워터마크 Lua 스크립트와 스냅샷 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("채팅 읽음 워터마크 테스트")
+class ChatReadReceiptServiceTest {
+
+    private static final long ROOM_ID = 1L;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private ChatReadWatermarkRepository chatReadWatermarkRepository;
+    private RedisStompRelay redisStompRelay;
+    private ChatReadReceiptService service;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of("chat:read:" + ROOM_ID, "chat:read:dirty"));
+
+        chatReadWatermarkRepository = mock(ChatReadWatermarkRepository.class);
+        redisStompRelay = mock(RedisStompRelay.class);
+        service = new ChatReadReceiptService(redisTemplate, mock(ChatRoomService.class), chatReadWatermarkRepository,
+            mock(ChatMessageJdbcRepository.class), mock(ChatRecentMessageCache.class), redisStompRelay,
+            mock(PlatformTransactionManager.class), 3600, 2);
+    }
+
+    @Test
+    @DisplayName("워터마크는 더 큰 메시지 ID 로만 갱신되고, 갱신될 때만 채팅방에 전달한다")
+    void markRead_onlyAdvances() {
+        // when - 자릿수가 다른 ID 도 숫자 크기로 비교
+        service.markRead(2L, ROOM_ID, 10L);
+        service.markRead(2L, ROOM_ID, 9L);
+        service.markRead(2L, ROOM_ID, 10L);
+
+        // then
+        assertThat(service.getWatermarks(ROOM_ID)).containsExactlyEntriesOf(Map.of(2L, 10L));
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(redisStompRelay, times(1)).publish(eq("/topic/chat/1/read"), payload.capture());
+        assertThat(((ChatReadWatermarkResponse) payload.getValue()).getLastReadMessageId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("아직 발급될 수 없는 메시지 ID 로는 읽음 처리할 수 없다")
+    void markRead_rejectsFutureMessageId() {
+        // given
+        long future = new TsidGenerator(0).next() + (60_000L << 22);
+
+        // when & then
+        assertThatThrownBy(() -> service.markRead(2L, ROOM_ID, future)).isInstanceOf(BusinessException.class);
+        verify(redisStompRelay, never()).publish(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 에 워터마크가 없으면 DB 스냅샷에서 복구한 뒤 더 큰 값으로만 갱신한다")
+    void markRead_restoresSnapshot() {
+        // given
+        given(chatReadWatermarkRepository.findByChatRoomId(ROOM_ID))
+            .willReturn(List.of(watermark(2L, 50L), watermark(3L, 40L)));
+
+        // when
+        service.markRead(2L, ROOM_ID, 45L);
+        service.markRead(3L, ROOM_ID, 45L);
+
+        // then
+        assertThat(service.getWatermarks(ROOM_ID)).containsEntry(2L, 50L).containsEntry(3L, 45L);
+        verify(redisStompRelay, times(1)).publish(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("메시지별 읽은 수는 보낸 사람을 제외하고 워터마크가 메시지 ID 이상인 참여자 수다")
+    void applyReadCounts_countsWatermarks() {
+        // given
+        service.markRead(1L, ROOM_ID, 30L);
+        service.markRead(2L, ROOM_ID, 20L);
+        service.markRead(3L, ROOM_ID, 10L);
+        List<ChatMessageResponse> messages = List.of(message(30L, 1L), message(20L, 1L), message(10L, 2L));
+
+        // when
+        service.applyReadCounts(ROOM_ID, messages);
+
+        // then
+        assertThat(messages).extracting(ChatMessageResponse::getReadCount).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("바뀐 채팅방의 워터마크만 DB 에 저장하고 다음 주기에는 다시 저장하지 않는다")
+    void flushDirtyRooms_savesChangedRooms() {
+        // given
+        service.markRead(2L, ROOM_ID, 10L);
+        service.markRead(3L, ROOM_ID, 12L);
+
+        // when
+        int first = service.flushDirtyRooms();
+        int second = service.flushDirtyRooms();
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        verify(chatReadWatermarkRepository).upsert(eq(ROOM_ID), eq(2L), eq(10L), any(LocalDateTime.class));
+        verify(chatReadWatermarkRepository).upsert(eq(ROOM_ID), eq(3L), eq(12L), any(LocalDateTime.class));
+    }
+
+    private ChatReadWatermark watermark(Long memberId, Long lastReadMessageId) {
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(memberId);
+        return ChatReadWatermark.builder().member(member).lastReadMessageId(lastReadMessageId).build();
+    }
+
+    private ChatMessageResponse message(Long id, Long senderId) {
+        return ChatMessageResponse.builder().id(id).chatRoomId(ROOM_ID).senderId(senderId).build();
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.travelapp.backend.domain.chat.dto.response.ChatMessageResponse;
+import com.travelapp.backend.domain.chat.entity.MessageType;
+import com.travelapp.backend.domain.chat.service.ChatRecentMessageCache.RecentMessages;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 최근 메시지 캐시 Lua 스크립트 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("채팅방 최근 메시지 캐시 테스트")
+class ChatRecentMessageCacheTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final int RECENT_SIZE = 60;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private ObjectMapper objectMapper;
+    private ChatRecentMessageCache cache;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // 채우기 유예 없음 (유예는 backfill_skipsWhileSettling 에서 확인)
+        cache = new ChatRecentMessageCache(redisTemplate, objectMapper, RECENT_SIZE, 3600, 0);
+    }
+
+    @Test
+    @DisplayName("보낸 메시지는 최신순으로 쌓이고 최대 크기를 넘으면 오래된 메시지부터 잘린다")
+    void push_keepsNewestMessages() {
+        // given
+        for (long id = 1; id <= RECENT_SIZE + 5; id++) {
+            cache.push(message(id));
+        }
+
+        // when
+        RecentMessages recent = cache.read(ROOM_ID, 3);
+
+        // then
+        assertThat(recent.messages()).extracting(ChatMessageResponse::getId).containsExactly(65L, 64L, 63L);
+        assertThat(recent.complete()).isFalse();
+        assertThat(redisTemplate.opsForList().size("chat:recent:" + ROOM_ID)).isEqualTo(RECENT_SIZE);
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 이전 메시지로 채우면 전체 이력으로 표시되고, 새 메시지가 추가되어도 유지된다")
+    void backfill_marksCompleteHistory() {
+        // given
+        cache.push(message(10));
+        RecentMessages cached = cache.read(ROOM_ID, 31);
+
+        // when
+        cache.backfill(ROOM_ID, cached, List.of(message(9), message(8)), true);
+        cache.push(message(11));
+
+        // then
+        RecentMessages recent = cache.read(ROOM_ID, 31);
+        assertThat(recent.messages()).extracting(ChatMessageResponse::getId).containsExactly(11L, 10L, 9L, 8L);
+        assertThat(recent.complete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 이후 목록이 바뀌었으면 DB 에서 읽은 메시지로 채우지 않는다")
+    void backfill_skipsWhenListChanged() {
+        // given - 빈 목록을 읽은 뒤 만료/삭제되고 새 메시지가 추가됨
+        RecentMessages cached = cache.read(ROOM_ID, 31);
+        cache.push(message(20));
+
+        // when
+        cache.backfill(ROOM_ID, cached, List.of(message(5)), true);
+
+        // then
+        RecentMessages recent = cache.read(ROOM_ID, 31);
+        assertThat(recent.messages()).extracting(ChatMessageResponse::getId).containsExactly(20L);
+        assertThat(recent.complete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("목록이 만료된 뒤 새 메시지가 추가되면 전체 이력 표시를 지운다")
+    void push_afterExpiryClearsCompleteFlag() {
+        // given - 메시지가 없는 채팅방은 전체 이력(빈 목록)으로 표시됨
+        RecentMessages empty = cache.read(ROOM_ID, 31);
+        cache.backfill(ROOM_ID, empty, List.of(), true);
+        assertThat(cache.read(ROOM_ID, 31).complete()).isTrue();
+
+        // when
+        cache.push(message(1));
+
+        // then
+        RecentMessages recent = cache.read(ROOM_ID, 31);
+        assertThat(recent.messages()).extracting(ChatMessageResponse::getId).containsExactly(1L);
+        assertThat(recent.complete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("목록을 삭제하거나 새로 만든 직후에는 저장 버퍼에 남은 메시지가 빠지지 않도록 DB 에서 채우지 않는다")
+    void backfill_skipsWhileSettling() {
+        // given - 메시지 9 는 삭제 전 목록에만 있었고 아직 DB 에 저장되지 않음
+        ChatRecentMessageCache settling = new ChatRecentMessageCache(redisTemplate, objectMapper, RECENT_SIZE, 3600, 60_000);
+        settling.push(message(9));
+        settling.evict(ROOM_ID);
+        settling.push(message(10));
+        RecentMessages cached = settling.read(ROOM_ID, 31);
+
+        // when - DB 에는 메시지 8 까지만 있음
+        settling.backfill(ROOM_ID, cached, List.of(message(8)), true);
+
+        // then
+        RecentMessages recent = settling.read(ROOM_ID, 31);
+        assertThat(recent.messages()).extracting(ChatMessageResponse::getId).containsExactly(10L);
+        assertThat(recent.complete()).isFalse();
+    }
+
+    private ChatMessageResponse message(long id) {
+        return ChatMessageResponse.builder()
+            .id(id)
+            .chatRoomId(ROOM_ID)
+            .senderId(1L)
+            .senderNickname("여행자")
+            .messageType(MessageType.TEXT)
+            .content("메시지 " + id)
+            .createdAt(LocalDateTime.of(2025, 6, 1, 12, 0).plusSeconds(id))
+            .build();
+    }
+
+}
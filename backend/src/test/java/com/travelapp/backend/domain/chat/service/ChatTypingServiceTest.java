@@ -0,0 +1,151 @@
+package com.travelapp.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.chat.dto.response.ChatTypingResponse;
+import com.travelapp.backend.global.websocket.RedisStompRelay;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅 입력 중 표시 테스트")
+class ChatTypingServiceTest {
+
+    private static final long ROOM_ID = 1L;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private RedisStompRelay redisStompRelay;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private ChatTypingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChatTypingService(chatRoomService, redisStompRelay, 3_000, 6_000, now::get);
+    }
+
+    @Test
+    @DisplayName("키 입력마다 알려도 간격 안의 알림은 무시하고, 채팅방 변경은 이벤트 하나로 묶어 전달한다")
+    void typing_rateLimitedAndCoalesced() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            service.typing(2L, ROOM_ID, true);
+            now.addAndGet(100);
+        }
+        service.typing(3L, ROOM_ID, true);
+        service.flush();
+
+        // then
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(redisStompRelay, times(1)).publish(eq("/topic/chat/1/typing"), event.capture());
+        ChatTypingResponse response = (ChatTypingResponse) event.getValue();
+        assertThat(response.getTypingMemberIds()).containsExactly(2L, 3L);
+        assertThat(response.getStoppedMemberIds()).isEmpty();
+        verify(chatRoomService, times(1)).validateParticipant(ROOM_ID, 2L);
+
+        // when - 변경이 없으면 전달하지 않음
+        clearInvocations(redisStompRelay);
+        service.flush();
+
+        // then
+        verify(redisStompRelay, never()).publish(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("같은 주기 안에 입력을 시작했다가 멈추면 멈춤만 전달하고, 전달한 적 없는 멈춤은 무시한다")
+    void typing_stopOverridesStart() {
+        // when
+        service.typing(2L, ROOM_ID, true);
+        service.typing(2L, ROOM_ID, false);
+        service.typing(3L, ROOM_ID, false);
+        service.flush();
+
+        // then
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(redisStompRelay).publish(eq("/topic/chat/1/typing"), event.capture());
+        ChatTypingResponse response = (ChatTypingResponse) event.getValue();
+        assertThat(response.getTypingMemberIds()).isEmpty();
+        assertThat(response.getStoppedMemberIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("간격이 지나면 입력 중을 다시 전달하여 클라이언트의 표시 만료를 연장한다")
+    void typing_refreshesAfterInterval() {
+        // given
+        service.typing(2L, ROOM_ID, true);
+        service.flush();
+        clearInvocations(redisStompRelay);
+
+        // when
+        now.addAndGet(3_000);
+        service.typing(2L, ROOM_ID, true);
+        service.flush();
+
+        // then
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(redisStompRelay).publish(eq("/topic/chat/1/typing"), event.capture());
+        assertThat(((ChatTypingResponse) event.getValue()).getTypingMemberIds()).containsExactly(2L);
+        assertThat(((ChatTypingResponse) event.getValue()).getExpiresInMillis()).isEqualTo(6_000);
+    }
+
+    @Test
+    @DisplayName("flush 와 동시에 들어온 입력 중 알림도 유실되지 않고 다음 이벤트로 전달된다")
+    void typing_concurrentWithFlush_notLost() throws Exception {
+        // given
+        int members = 2_000;
+        Set<Long> delivered = ConcurrentHashMap.newKeySet();
+        willAnswer(invocation -> {
+            delivered.addAll(((ChatTypingResponse) invocation.getArgument(1)).getTypingMemberIds());
+            return null;
+        }).given(redisStompRelay).publish(anyString(), any());
+        AtomicBoolean typingDone = new AtomicBoolean(false);
+
+        // when - 한 스레드가 계속 flush 하는 동안 여러 회원이 동시에 입력 시작
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            Future<?> flusher = executor.submit(() -> {
+                while (!typingDone.get()) {
+                    service.flush();
+                }
+            });
+            List<Future<?>> typers = LongStream.rangeClosed(1, members)
+                .mapToObj(memberId -> executor.submit(() -> service.typing(memberId, ROOM_ID, true)))
+                .toList();
+            for (Future<?> typer : typers) {
+                typer.get(10, TimeUnit.SECONDS);
+            }
+            typingDone.set(true);
+            flusher.get(10, TimeUnit.SECONDS);
+        }
+        service.flush();
+
+        // then
+        assertThat(delivered).hasSize(members);
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.travelapp.backend.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.domain.file.service.ThumbnailGenerator.Spec;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Random;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 썸네일 생성 벤치마크
+ * 12MP(4000x3000), 약 20MB 의 JPEG 원본으로 렌디션 묶음마다
+ * 변경 전 방식(원본 전체를 byte[] 로 읽고 전체 해상도로 디코딩한 뒤 규격마다 축소)과
+ * ThumbnailGenerator(스트림 서브샘플링 디코딩 + 큰 렌디션부터 연쇄 축소)의 최대 힙 사용량과 초당 처리 이미지 수를 비교
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행 (생성 결과 검증은 ThumbnailGeneratorTest)
+ */
+@Tag("benchmark")
+@DisplayName("썸네일 생성 벤치마크")
+class ThumbnailGeneratorBenchmarkTest {
+
+    private static final int SOURCE_WIDTH = 4000;
+    private static final int SOURCE_HEIGHT = 3000;
+    private static final int ITERATIONS = 5;
+
+    private static final Spec SMALL = new Spec(ThumbnailSize.SMALL, 150, 150);
+    private static final Spec MEDIUM = new Spec(ThumbnailSize.MEDIUM, 300, 300);
+    private static final Spec LARGE = new Spec(ThumbnailSize.LARGE, 1080, 1080);
+
+    private static byte[] source;
+
+    private final ThumbnailGenerator generator = new ThumbnailGenerator(0.8, 100_000_000L);
+
+    @BeforeAll
+    static void createSource() throws IOException {
+        source = createJpeg(SOURCE_WIDTH, SOURCE_HEIGHT);
+    }
+
+    @Test
+    @DisplayName("중간 크기만 생성할 때 스트리밍 생성기는 적은 힙으로 더 많은 이미지를 처리한다")
+    void mediumOnly() throws IOException {
+        compare(List.of(MEDIUM));
+    }
+
+    @Test
+    @DisplayName("작은/중간 크기를 생성할 때 스트리밍 생성기는 적은 힙으로 더 많은 이미지를 처리한다")
+    void smallAndMedium() throws IOException {
+        compare(List.of(SMALL, MEDIUM));
+    }
+
+    @Test
+    @DisplayName("세 가지 크기를 모두 생성할 때 스트리밍 생성기는 적은 힙으로 더 많은 이미지를 처리한다")
+    void allRenditions() throws IOException {
+        compare(List.of(SMALL, MEDIUM, LARGE));
+    }
+
+    private void compare(List<Spec> specs) throws IOException {
+        // given
+        legacy(specs);
+        streaming(specs);
+
+        // when
+        Measurement legacy = measure(() -> legacy(specs));
+        Measurement streaming = measure(() -> streaming(specs));
+
+        // then
+        String measured = String.format("원본 %dx%d %.1f MB, 렌디션 %s - 변경 전: 최대 힙 %d MB, %.2f 장/s | 스트리밍: 최대 힙 %d MB, %.2f 장/s",
+            SOURCE_WIDTH, SOURCE_HEIGHT, source.length / 1024.0 / 1024.0,
+            specs.stream().map(Spec::size).toList(),
+            legacy.peakHeapBytes() / 1024 / 1024, legacy.imagesPerSecond(),
+            streaming.peakHeapBytes() / 1024 / 1024, streaming.imagesPerSecond());
+        assertThat(streaming.peakHeapBytes()).as(measured).isLessThan(legacy.peakHeapBytes());
+        assertThat(streaming.imagesPerSecond()).as(measured).isGreaterThan(legacy.imagesPerSecond());
+    }
+
+    /**
+     * 변경 전 방식: 원본 전체를 byte[] 로 읽고 전체 해상도로 디코딩한 뒤 규격마다 원본에서 축소
+     */
+    private void legacy(List<Spec> specs) throws IOException {
+        byte[] bytes = openSource().readAllBytes();
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(bytes));
+        for (Spec spec : specs) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            Thumbnails.of(original)
+                .size(spec.width(), spec.height())
+                .outputFormat("jpg")
+                .outputQuality(0.8)
+                .toOutputStream(output);
+            assertThat(output.size()).isPositive();
+        }
+    }
+
+    private void streaming(List<Spec> specs) throws IOException {
+        generator.generate(openSource(), specs, (spec, jpeg) -> assertThat(jpeg.size()).isPositive());
+    }
+
+    private InputStream openSource() {
+        return new ByteArrayInputStream(source);
+    }
+
+    // 반복마다 GC 후 힙 영역의 최대 사용량을 초기화하고, 반복 중 가장 큰 값을 최대 힙 사용량으로 사용
+    private Measurement measure(ThrowingRunnable action) throws IOException {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+        long peakHeapBytes = 0;
+        long elapsedNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            System.gc();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            long baseline = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+
+            long start = System.nanoTime();
+            action.run();
+            elapsedNanos += System.nanoTime() - start;
+
+            long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            peakHeapBytes = Math.max(peakHeapBytes, peak - baseline);
+        }
+        return new Measurement(peakHeapBytes, ITERATIONS / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    // 휴대폰 사진과 비슷한 크기가 되도록 노이즈를 섞어 최고 품질로 인코딩 (4000x3000 기준 약 20MB)
+    private static byte[] createJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int red = Math.min(255, (x * 255 / width) / 4 + random.nextInt(192));
+                int green = Math.min(255, (y * 255 / height) / 4 + random.nextInt(192));
+                int blue = random.nextInt(256);
+                image.setRGB(x, y, (red << 16) | (green << 8) | blue);
+            }
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(1.0f);
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private record Measurement(long peakHeapBytes, double imagesPerSecond) {
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+
+        void run() throws IOException;
+    }
+
+}
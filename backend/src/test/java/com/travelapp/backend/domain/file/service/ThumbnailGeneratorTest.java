@@ -0,0 +1,129 @@
+package com.travelapp.backend.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.travelapp.backend.domain.file.service.ThumbnailGenerator.Spec;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ThumbnailGenerator 테스트")
+class ThumbnailGeneratorTest {
+
+    private static final List<Spec> SPECS = List.of(
+        new Spec(ThumbnailSize.SMALL, 150, 150),
+        new Spec(ThumbnailSize.MEDIUM, 300, 300),
+        new Spec(ThumbnailSize.LARGE, 1080, 1080)
+    );
+
+    private final ThumbnailGenerator generator = new ThumbnailGenerator(0.8, 100_000_000L);
+
+    @Test
+    @DisplayName("한 번의 디코딩으로 비율을 유지한 세 가지 크기의 JPEG 를 큰 크기부터 생성한다")
+    void generate_allRenditions() throws IOException {
+        // given
+        byte[] original = createJpeg(2000, 1500);
+        List<BufferedImage> renditions = new ArrayList<>();
+        List<ThumbnailSize> order = new ArrayList<>();
+
+        // when
+        generator.generate(new ByteArrayInputStream(original), SPECS, (spec, jpeg) -> {
+            order.add(spec.size());
+            renditions.add(ImageIO.read(jpeg.toInputStream()));
+        });
+
+        // then
+        assertThat(order).containsExactly(ThumbnailSize.LARGE, ThumbnailSize.MEDIUM, ThumbnailSize.SMALL);
+        assertThat(renditions.get(0).getWidth()).isEqualTo(1080);
+        assertThat(renditions.get(0).getHeight()).isEqualTo(810);
+        assertThat(renditions.get(1).getWidth()).isEqualTo(300);
+        assertThat(renditions.get(2).getWidth()).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 규격은 확대하지 않는다")
+    void generate_doesNotUpscale() throws IOException {
+        // given
+        byte[] original = createJpeg(200, 100);
+        List<Integer> widths = new ArrayList<>();
+
+        // when
+        generator.generate(new ByteArrayInputStream(original), SPECS,
+            (spec, jpeg) -> widths.add(ImageIO.read(jpeg.toInputStream()).getWidth()));
+
+        // then
+        assertThat(widths).containsExactly(200, 200, 150);
+    }
+
+    @Test
+    @DisplayName("서브샘플링 배율은 가장 큰 렌디션보다 작아지지 않는 최대 정수이다")
+    void subsamplingFactor() {
+        Spec large = new Spec(ThumbnailSize.LARGE, 1080, 1080);
+
+        assertThat(ThumbnailGenerator.subsamplingFactor(4000, 3000, large)).isEqualTo(3);
+        assertThat(ThumbnailGenerator.subsamplingFactor(2000, 1500, large)).isEqualTo(1);
+        assertThat(ThumbnailGenerator.subsamplingFactor(800, 600, large)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큰 원본은 서브샘플링 디코딩 후 렌디션마다 원본보다 작은 JPEG 로 생성한다")
+    void generate_subsampledSource() throws IOException {
+        // given - 2400x1800 은 2배 서브샘플링(1200x900)으로 디코딩
+        byte[] original = createJpeg(2400, 1800);
+        Map<ThumbnailSize, BufferedImage> renditions = new EnumMap<>(ThumbnailSize.class);
+        Map<ThumbnailSize, Integer> bytes = new EnumMap<>(ThumbnailSize.class);
+
+        // when
+        generator.generate(new ByteArrayInputStream(original), SPECS, (spec, jpeg) -> {
+            bytes.put(spec.size(), jpeg.size());
+            renditions.put(spec.size(), ImageIO.read(jpeg.toInputStream()));
+        });
+
+        // then
+        assertThat(renditions.get(ThumbnailSize.LARGE).getWidth()).isEqualTo(1080);
+        assertThat(renditions.get(ThumbnailSize.LARGE).getHeight()).isEqualTo(810);
+        assertThat(renditions.get(ThumbnailSize.MEDIUM).getHeight()).isEqualTo(225);
+        assertThat(renditions.get(ThumbnailSize.SMALL).getWidth()).isEqualTo(150);
+        assertThat(bytes.get(ThumbnailSize.LARGE)).isLessThan(original.length);
+        assertThat(bytes.get(ThumbnailSize.MEDIUM)).isLessThan(bytes.get(ThumbnailSize.LARGE));
+        assertThat(bytes.get(ThumbnailSize.SMALL)).isLessThan(bytes.get(ThumbnailSize.MEDIUM));
+    }
+
+    @Test
+    @DisplayName("최대 해상도를 넘는 원본은 디코딩하지 않고 예외를 던진다")
+    void generate_rejectsTooLargeSource() throws IOException {
+        // given
+        ThumbnailGenerator limited = new ThumbnailGenerator(0.8, 1_000_000L);
+        byte[] original = createJpeg(1200, 900);
+
+        // when & then
+        assertThatThrownBy(() -> limited.generate(new ByteArrayInputStream(original), SPECS, (spec, jpeg) -> {
+        })).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] createJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        Random random = new Random(width * 31L + height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(32);
+                image.setRGB(x, y, ((x * 255 / width) << 16) | ((y * 255 / height) << 8) | (128 + noise));
+            }
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.travelapp.backend.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.file.entity.FileInfo;
+import com.travelapp.backend.domain.file.entity.FileType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ThumbnailJobDispatcher 테스트")
+class ThumbnailJobDispatcherTest {
+
+    @Mock
+    private ThumbnailJobService thumbnailJobService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    private ThumbnailJobDispatcher dispatcher(Executor executor, int concurrency) {
+        return new ThumbnailJobDispatcher(thumbnailJobService, thumbnailService, executor, concurrency, 5000, 600000);
+    }
+
+    @Test
+    @DisplayName("워커가 모두 바쁘면 작업을 가져오지 않고 DB 에 남겨 둔다")
+    void dispatch_backPressure() {
+        // given
+        List<Runnable> running = new ArrayList<>();
+        ThumbnailJobDispatcher dispatcher = dispatcher(running::add, 1);
+        given(thumbnailJobService.findDueJobIds(1)).willReturn(List.of(1L));
+        given(thumbnailJobService.claim(1L)).willReturn(true);
+
+        // when
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        // then
+        assertThat(running).hasSize(1);
+        verify(thumbnailJobService, times(1)).findDueJobIds(anyInt());
+        assertThat(dispatcher.getStats().getActiveWorkers()).isEqualTo(1);
+        assertThat(dispatcher.getStats().getBackPressureSkips()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("썸네일 생성에 실패하면 재시도를 예약하고 워커를 반환한다")
+    void process_failureSchedulesRetry() throws IOException {
+        // given
+        FileInfo fileInfo = image();
+        ThumbnailJobDispatcher dispatcher = dispatcher(Runnable::run, 1);
+        given(thumbnailJobService.findDueJobIds(1)).willReturn(List.of(1L));
+        given(thumbnailJobService.claim(1L)).willReturn(true);
+        given(thumbnailJobService.findJob(1L)).willReturn(Optional.of(fileInfo));
+        given(thumbnailService.createThumbnails(fileInfo)).willThrow(new IOException("S3 timeout"));
+        given(thumbnailJobService.fail(1L, "S3 timeout", true)).willReturn(true);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(dispatcher.getStats().getRetried()).isEqualTo(1);
+        assertThat(dispatcher.getStats().getActiveWorkers()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행기가 작업을 거부하면 선점을 되돌려 작업을 잃지 않는다")
+    void dispatch_rejectedReleasesClaim() {
+        // given
+        ThumbnailJobDispatcher dispatcher = dispatcher(task -> {
+            throw new RejectedExecutionException("full");
+        }, 2);
+        given(thumbnailJobService.findDueJobIds(2)).willReturn(List.of(1L, 2L));
+        given(thumbnailJobService.claim(1L)).willReturn(true);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(thumbnailJobService).release(1L);
+        assertThat(dispatcher.getStats().getActiveWorkers()).isZero();
+    }
+
+    private FileInfo image() {
+        return FileInfo.builder()
+            .id(1L)
+            .originalName("photo.jpg")
+            .s3Key("uploads/2025/01/01/photo.jpg")
+            .s3Url("https://bucket/uploads/2025/01/01/photo.jpg")
+            .fileSize(2048L)
+            .contentType("image/jpeg")
+            .fileType(FileType.IMAGE)
+            .uploadedBy(1L)
+            .build();
+    }
+
+}
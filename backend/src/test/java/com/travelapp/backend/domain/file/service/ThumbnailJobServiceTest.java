@@ -0,0 +1,200 @@
+package com.travelapp.backend.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.domain.file.entity.FileInfo;
+import com.travelapp.backend.domain.file.entity.FileType;
+import com.travelapp.backend.domain.file.entity.ThumbnailStatus;
+import com.travelapp.backend.domain.file.repository.FileInfoRepository;
+import com.travelapp.backend.domain.file.service.ThumbnailService.ThumbnailUploadResult;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("ThumbnailJobService 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import(ThumbnailJobService.class)
+@TestPropertySource(properties = {
+    "thumbnail.job.max-attempts=2",
+    "thumbnail.job.backoff-base-ms=60000"
+})
+class ThumbnailJobServiceTest {
+
+    @Autowired
+    private ThumbnailJobService thumbnailJobService;
+
+    @Autowired
+    private FileInfoRepository fileInfoRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("대기 중인 작업은 한 번만 선점되고 선점할 때마다 시도 횟수가 증가한다")
+    void claim_onlyOnce() {
+        // given
+        FileInfo fileInfo = saveImage("uploads/2025/01/01/a.jpg", true);
+
+        // when
+        boolean first = thumbnailJobService.claim(fileInfo.getId());
+        boolean second = thumbnailJobService.claim(fileInfo.getId());
+        em.clear();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        FileInfo claimed = fileInfoRepository.findById(fileInfo.getId()).orElseThrow();
+        assertThat(claimed.getThumbnailStatus()).isEqualTo(ThumbnailStatus.PROCESSING);
+        assertThat(claimed.getThumbnailAttempts()).isEqualTo(1);
+        assertThat(thumbnailJobService.findDueJobIds(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 백오프 후 재시도되고 최대 시도 횟수에 도달하면 실패로 종료된다")
+    void fail_retriesWithBackoffThenFails() {
+        // given
+        FileInfo fileInfo = saveImage("uploads/2025/01/01/b.jpg", true);
+        thumbnailJobService.claim(fileInfo.getId());
+        em.clear();
+
+        // when - 첫 번째 실패
+        boolean retried = thumbnailJobService.fail(fileInfo.getId(), "S3 timeout", true);
+        em.flush();
+        em.clear();
+
+        // then - 백오프 동안은 실행 대상이 아님
+        assertThat(retried).isTrue();
+        FileInfo retrying = fileInfoRepository.findById(fileInfo.getId()).orElseThrow();
+        assertThat(retrying.getThumbnailStatus()).isEqualTo(ThumbnailStatus.PENDING);
+        assertThat(retrying.getThumbnailNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+        assertThat(thumbnailJobService.findDueJobIds(10)).isEmpty();
+
+        // when - 두 번째 시도도 실패
+        fileInfoRepository.claimThumbnailJob(fileInfo.getId(), LocalDateTime.now(),
+            ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING);
+        em.clear();
+        boolean retriedAgain = thumbnailJobService.fail(fileInfo.getId(), "S3 timeout", true);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(retriedAgain).isFalse();
+        assertThat(fileInfoRepository.findById(fileInfo.getId()).orElseThrow().getThumbnailStatus())
+            .isEqualTo(ThumbnailStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("완료 처리하면 썸네일 정보가 저장되고 작업이 완료 상태가 된다")
+    void complete() {
+        // given
+        FileInfo fileInfo = saveImage("uploads/2025/01/01/c.jpg", true);
+        thumbnailJobService.claim(fileInfo.getId());
+        em.clear();
+
+        // when
+        thumbnailJobService.complete(fileInfo.getId(), new ThumbnailUploadResult(
+            "thumbnails/2025/01/01/thumb_c.jpg", "https://m", "https://s", "https://l"
+        ));
+        em.flush();
+        em.clear();
+
+        // then
+        FileInfo completed = fileInfoRepository.findById(fileInfo.getId()).orElseThrow();
+        assertThat(completed.getThumbnailStatus()).isEqualTo(ThumbnailStatus.COMPLETED);
+        assertThat(completed.getThumbnailS3Key()).isEqualTo("thumbnails/2025/01/01/thumb_c.jpg");
+        assertThat(completed.getThumbnailSmallUrl()).isEqualTo("https://s");
+        assertThat(completed.getThumbnailLargeUrl()).isEqualTo("https://l");
+    }
+
+    @Test
+    @DisplayName("복구 작업은 오래 처리 중인 작업과 썸네일 없이 완료된 이미지를 다시 대기 상태로 만든다")
+    void recovery() {
+        // given
+        FileInfo stuck = saveImage("uploads/2025/01/01/d.jpg", true);
+        fileInfoRepository.claimThumbnailJob(stuck.getId(), LocalDateTime.now().minusHours(1),
+            ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING);
+        FileInfo lost = saveImage("uploads/2025/01/01/e.jpg", false);
+        FileInfo document = em.persist(FileInfo.builder()
+            .originalName("f.pdf")
+            .s3Key("uploads/2025/01/01/f.pdf")
+            .s3Url("https://bucket/f.pdf")
+            .fileSize(1024L)
+            .contentType("application/pdf")
+            .fileType(FileType.DOCUMENT)
+            .uploadedBy(1L)
+            .build());
+        document.markAsCompleted();
+        em.flush();
+        em.clear();
+
+        // when
+        int released = thumbnailJobService.releaseStaleJobs(Duration.ofMinutes(10));
+        int enqueued = thumbnailJobService.enqueueMissingThumbnails();
+        em.clear();
+
+        // then
+        assertThat(released).isEqualTo(1);
+        assertThat(enqueued).isEqualTo(1);
+        assertThat(thumbnailJobService.findDueJobIds(10)).containsExactlyInAnyOrder(stuck.getId(), lost.getId());
+        assertThat(fileInfoRepository.findById(document.getId()).orElseThrow().getThumbnailStatus()).isNull();
+    }
+
+    @Test
+    @DisplayName("오래 처리 중인 작업이 최대 시도 횟수에 도달했으면 다시 대기시키지 않고 실패로 종료한다")
+    void recovery_failsJobsOutOfAttempts() {
+        // given - 선점 후 중단되기를 최대 시도 횟수(2회)만큼 반복한 작업
+        FileInfo crashing = saveImage("uploads/2025/01/01/g.jpg", true);
+        fileInfoRepository.claimThumbnailJob(crashing.getId(), LocalDateTime.now().minusHours(2),
+            ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING);
+        thumbnailJobService.releaseStaleJobs(Duration.ofMinutes(10));
+        fileInfoRepository.claimThumbnailJob(crashing.getId(), LocalDateTime.now().minusHours(1),
+            ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING);
+        em.clear();
+
+        // when
+        int released = thumbnailJobService.releaseStaleJobs(Duration.ofMinutes(10));
+        em.clear();
+
+        // then
+        assertThat(released).isZero();
+        FileInfo failed = fileInfoRepository.findById(crashing.getId()).orElseThrow();
+        assertThat(failed.getThumbnailStatus()).isEqualTo(ThumbnailStatus.FAILED);
+        assertThat(failed.getThumbnailAttempts()).isEqualTo(2);
+        assertThat(thumbnailJobService.findDueJobIds(10)).isEmpty();
+    }
+
+    private FileInfo saveImage(String s3Key, boolean requestThumbnail) {
+        FileInfo fileInfo = FileInfo.builder()
+            .originalName("photo.jpg")
+            .s3Key(s3Key)
+            .s3Url("https://bucket/" + s3Key)
+            .fileSize(2048L)
+            .contentType("image/jpeg")
+            .fileType(FileType.IMAGE)
+            .uploadedBy(1L)
+            .build();
+        fileInfo.markAsCompleted();
+        if (requestThumbnail) {
+            fileInfo.requestThumbnail();
+        }
+
+        FileInfo saved = em.persist(fileInfo);
+        em.flush();
+        return saved;
+    }
+
+}
@@ -0,0 +1,288 @@
+package com.travelapp.backend.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import com.travelapp.backend.domain.file.dto.request.BatchPresignedUrlRequest;
+import com.travelapp.backend.domain.file.dto.request.PresignedUrlRequest;
+import com.travelapp.backend.domain.file.dto.response.PresignedUrlResponse;
+import com.travelapp.backend.domain.file.entity.TripImage;
+import com.travelapp.backend.domain.file.repository.FileInfoRepository;
+import com.travelapp.backend.domain.file.repository.TripImageRepository;
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.trip.service.TripService;
+import com.travelapp.backend.domain.tripshare.service.TripShareCacheService;
+import com.travelapp.backend.global.concurrent.ConcurrencyLimiter;
+import com.travelapp.backend.global.exception.BusinessException;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * 여행 이미지 Pre-signed URL 일괄 발급 테스트
+ * 프로세스 내 가짜 S3(HttpServer) 를 엔드포인트로 사용하는 싱글톤 S3Presigner 로 URL 을 발급하고,
+ * 발급된 URL 로 실제 PUT 업로드가 해당 키에 저장되는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("여행 이미지 Pre-signed URL 일괄 발급 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import({FileService.class, S3PresignedUrlService.class, TripService.class,
+    TripImageBatchPresignedUrlTest.FakeS3Config.class})
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "aws.s3.bucket-name=test-bucket",
+    "aws.s3.presigned-url-expiration=300",
+    "file.upload.max-file-size=10485760",
+    "file.upload.allowed-types=image/jpeg,image/png"
+})
+class TripImageBatchPresignedUrlTest {
+
+    private static final Map<String, byte[]> FAKE_S3_OBJECTS = new ConcurrentHashMap<>();
+    private static final HttpServer FAKE_S3 = startFakeS3();
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FileInfoRepository fileInfoRepository;
+
+    @Autowired
+    private TripImageRepository tripImageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private ThumbnailJobDispatcher thumbnailJobDispatcher;
+
+    @MockitoBean
+    private TripShareCacheService tripShareCacheService;
+
+    private Statistics statistics;
+    private Member member;
+    private Trip trip;
+
+    @TestConfiguration
+    static class FakeS3Config {
+
+        @Bean
+        S3Presigner s3Presigner() {
+            return S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .endpointOverride(URI.create("http://localhost:" + FAKE_S3.getAddress().getPort()))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        }
+
+        @Bean
+        ConcurrencyLimiter s3IoLimiter() {
+            return new ConcurrencyLimiter("S3", 4, Duration.ofSeconds(1));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        FAKE_S3_OBJECTS.clear();
+
+        member = em.persist(Member.builder()
+            .email("album@example.com")
+            .nickname("앨범업로더")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+
+        trip = em.persist(Trip.builder()
+            .member(member)
+            .title("앨범 업로드 여행")
+            .startDate(LocalDate.of(2025, 5, 1))
+            .endDate(LocalDate.of(2025, 5, 3))
+            .region("제주도")
+            .regionLat(33.4996)
+            .regionLng(126.5312)
+            .build());
+        em.flush();
+        em.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(member.getId(), null, List.of())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterAll
+    static void stopFakeS3() {
+        FAKE_S3.stop(0);
+    }
+
+    @Test
+    @DisplayName("여러 장을 한 번에 발급하면 표시 순서는 한 번만 조회하고 요청 순서대로 이어서 부여된다")
+    void batch_allocatesDisplayOrderOnce() {
+        // given
+        BatchPresignedUrlRequest request = batchRequest(30, -1);
+        statistics.clear();
+
+        // when
+        List<PresignedUrlResponse> responses = fileService.generateTripImagePresignedUrls(request, member.getId());
+        em.flush();
+        em.clear();
+
+        // then - 파일 수와 무관하게 JPQL 조회는 최대 표시 순서 1회
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(responses).hasSize(30);
+        assertThat(fileInfoRepository.count()).isEqualTo(30);
+
+        List<Integer> displayOrders = responses.stream()
+            .map(response -> tripImageRepository.findByFileInfoId(response.getFileId()).orElseThrow())
+            .map(TripImage::getDisplayOrder)
+            .toList();
+        assertThat(displayOrders).containsExactlyElementsOf(IntStream.rangeClosed(1, 30).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("발급된 URL 로 가짜 S3 에 PUT 하면 응답의 S3 키에 저장된다")
+    void batch_presignedUrlsUploadToFakeS3() throws Exception {
+        // given
+        List<PresignedUrlResponse> responses = fileService.generateTripImagePresignedUrls(batchRequest(3, 0),
+            member.getId());
+        HttpClient httpClient = HttpClient.newHttpClient();
+
+        // when
+        for (PresignedUrlResponse response : responses) {
+            HttpResponse<Void> uploaded = httpClient.send(HttpRequest.newBuilder(URI.create(response.getPresignedUrl()))
+                .header("Content-Type", response.getHeaders().getContentType())
+                .PUT(HttpRequest.BodyPublishers.ofString("image-" + response.getFileId()))
+                .build(), HttpResponse.BodyHandlers.discarding());
+            assertThat(uploaded.statusCode()).isEqualTo(200);
+        }
+
+        // then
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getPresignedUrl()).contains("X-Amz-Expires=300");
+            assertThat(FAKE_S3_OBJECTS.get("test-bucket/" + response.getS3Key()))
+                .asString().isEqualTo("image-" + response.getFileId());
+        });
+        TripImage cover = tripImageRepository.findByFileInfoId(responses.get(0).getFileId()).orElseThrow();
+        assertThat(cover.getIsCoverImage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("하나라도 유효하지 않으면 아무것도 저장하지 않는다")
+    void batch_rejectsWholeBatchOnInvalidFile() {
+        // given
+        BatchPresignedUrlRequest request = BatchPresignedUrlRequest.builder()
+            .tripId(trip.getId())
+            .files(List.of(file(1), PresignedUrlRequest.builder()
+                .fileName("script.exe")
+                .fileSize(1024L)
+                .contentType("application/x-msdownload")
+                .build()))
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> fileService.generateTripImagePresignedUrls(request, member.getId()))
+            .isInstanceOf(BusinessException.class);
+        assertThat(fileInfoRepository.count()).isZero();
+        assertThat(FAKE_S3_OBJECTS).isEmpty();
+    }
+
+    private BatchPresignedUrlRequest batchRequest(int count, int coverIndex) {
+        return BatchPresignedUrlRequest.builder()
+            .tripId(trip.getId())
+            .files(IntStream.range(0, count)
+                .mapToObj(i -> i == coverIndex
+                    ? PresignedUrlRequest.builder()
+                        .fileName("photo_" + i + ".jpg")
+                        .fileSize(2048L)
+                        .contentType("image/jpeg")
+                        .isCoverImage(true)
+                        .build()
+                    : file(i))
+                .toList())
+            .build();
+    }
+
+    private PresignedUrlRequest file(int index) {
+        return PresignedUrlRequest.builder()
+            .fileName("photo_" + index + ".jpg")
+            .fileSize(2048L)
+            .contentType("image/jpeg")
+            .build();
+    }
+
+    // PUT /{bucket}/{key} 를 메모리에 저장하는 최소한의 S3 대역 (서명은 검증하지 않음)
+    private static HttpServer startFakeS3() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                if ("PUT".equals(exchange.getRequestMethod())) {
+                    FAKE_S3_OBJECTS.put(exchange.getRequestURI().getPath().substring(1),
+                        exchange.getRequestBody().readAllBytes());
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    exchange.sendResponseHeaders(405, -1);
+                }
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.travelapp.backend.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.file.dto.request.BatchUploadCompleteRequest;
+import com.travelapp.backend.domain.file.dto.request.UploadCompleteRequest;
+import com.travelapp.backend.domain.file.dto.response.FileUploadResponse;
+import com.travelapp.backend.domain.file.entity.FileInfo;
+import com.travelapp.backend.domain.file.entity.FileType;
+import com.travelapp.backend.domain.file.entity.ThumbnailStatus;
+import com.travelapp.backend.domain.file.entity.UploadStatus;
+import com.travelapp.backend.domain.file.repository.FileInfoRepository;
+import com.travelapp.backend.domain.trip.service.TripService;
+import com.travelapp.backend.domain.tripshare.service.TripShareCacheService;
+import com.travelapp.backend.global.exception.BusinessException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 업로드 완료 일괄 처리 테스트
+ * 트랜잭션 밖에서 호출되는 실제 요청과 같도록 테스트 트랜잭션 없이 실행하고 테스트마다 데이터를 정리
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("업로드 완료 일괄 처리 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import({UploadCompletionService.class, FileService.class, TripService.class,
+    UploadCompletionServiceTest.ExecutorConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UploadCompletionServiceTest {
+
+    private static final int PARALLEL_CHECKS = 8;
+
+    @Autowired
+    private UploadCompletionService uploadCompletionService;
+
+    @Autowired
+    private FileInfoRepository fileInfoRepository;
+
+    @MockitoBean
+    private S3PresignedUrlService s3PresignedUrlService;
+
+    @MockitoBean
+    private ThumbnailJobDispatcher thumbnailJobDispatcher;
+
+    @MockitoBean
+    private TripShareCacheService tripShareCacheService;
+
+    @TestConfiguration
+    static class ExecutorConfig {
+
+        @Bean(destroyMethod = "shutdown")
+        ExecutorService uploadCheckExecutor() {
+            return Executors.newFixedThreadPool(16);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileInfoRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("S3 확인은 트랜잭션 밖에서 병렬로 실행되고 상태 변경과 썸네일 작업 등록은 한 번에 반영된다")
+    void completeUploads_checksInParallelOutsideTransaction() {
+        // given - 확인 PARALLEL_CHECKS 건이 동시에 진행 중이어야 모두 통과 (순차 실행이면 대기 시간 초과로 false)
+        List<FileInfo> files = IntStream.range(0, 20)
+            .mapToObj(i -> savePending("uploads/2025/01/01/photo_" + i + ".jpg", FileType.IMAGE))
+            .toList();
+        AtomicBoolean checkedInTransaction = new AtomicBoolean();
+        CountDownLatch concurrentChecks = new CountDownLatch(PARALLEL_CHECKS);
+        given(s3PresignedUrlService.existsInS3(anyString())).willAnswer(invocation -> {
+            checkedInTransaction.compareAndSet(false, TransactionSynchronizationManager.isActualTransactionActive());
+            concurrentChecks.countDown();
+            boolean allArrived = concurrentChecks.await(5, TimeUnit.SECONDS);
+            return allArrived && !invocation.getArgument(0, String.class).endsWith("photo_19.jpg");
+        });
+
+        // when
+        List<FileUploadResponse> responses = uploadCompletionService.completeUploads(
+            batch(files.stream().map(file -> success(file.getId())).toList()), 1L);
+
+        // then
+        assertThat(checkedInTransaction).isFalse();
+        assertThat(concurrentChecks.getCount()).isZero();
+
+        assertThat(responses).extracting(FileUploadResponse::getId)
+            .containsExactlyElementsOf(files.stream().map(FileInfo::getId).toList());
+        assertThat(responses).filteredOn(response -> response.getUploadStatus() == UploadStatus.COMPLETED).hasSize(19);
+        assertThat(responses.get(19).getUploadStatus()).isEqualTo(UploadStatus.FAILED);
+        assertThat(fileInfoRepository.countByThumbnailStatusAndIsDeletedFalse(ThumbnailStatus.PENDING)).isEqualTo(19);
+        verify(thumbnailJobDispatcher, times(1)).signalAfterCommit();
+    }
+
+    @Test
+    @DisplayName("실패로 통지된 파일은 S3 확인 없이 실패 처리되고 커밋 이후 S3에서 삭제된다")
+    void completeUploads_reportedFailure() {
+        // given
+        FileInfo document = savePending("uploads/2025/01/01/report.pdf", FileType.DOCUMENT);
+        FileInfo broken = savePending("uploads/2025/01/01/broken.jpg", FileType.IMAGE);
+        given(s3PresignedUrlService.existsInS3(document.getS3Key())).willReturn(true);
+
+        // when
+        List<FileUploadResponse> responses = uploadCompletionService.completeUploads(batch(List.of(
+            success(document.getId()),
+            UploadCompleteRequest.builder().fileId(broken.getId()).success(false).errorMessage("Network error").build()
+        )), 1L);
+
+        // then
+        assertThat(responses).extracting(FileUploadResponse::getUploadStatus)
+            .containsExactly(UploadStatus.COMPLETED, UploadStatus.FAILED);
+        verify(s3PresignedUrlService, never()).existsInS3(broken.getS3Key());
+        verify(s3PresignedUrlService, timeout(1000)).deleteFileFromS3(broken.getS3Key());
+        // 문서는 썸네일 작업 대상이 아님
+        assertThat(fileInfoRepository.findById(document.getId()).orElseThrow().getThumbnailStatus()).isNull();
+        verify(thumbnailJobDispatcher, never()).signalAfterCommit();
+    }
+
+    @Test
+    @DisplayName("실패로 통지된 파일을 다른 요청이 먼저 완료 처리했으면 S3에서 삭제하지 않는다")
+    void completeUploads_reportedFailureAlreadyCompleted() {
+        // given - 다른 파일의 S3 확인 도중(조회 이후) 다른 요청이 실패 통지된 파일을 완료 처리
+        FileInfo document = savePending("uploads/2025/01/01/report.pdf", FileType.DOCUMENT);
+        FileInfo photo = savePending("uploads/2025/01/01/photo.jpg", FileType.IMAGE);
+        given(s3PresignedUrlService.existsInS3(document.getS3Key())).willAnswer(invocation -> {
+            FileInfo completed = fileInfoRepository.findById(photo.getId()).orElseThrow();
+            completed.markAsCompleted();
+            fileInfoRepository.save(completed);
+            return true;
+        });
+
+        // when
+        List<FileUploadResponse> responses = uploadCompletionService.completeUploads(batch(List.of(
+            success(document.getId()),
+            UploadCompleteRequest.builder().fileId(photo.getId()).success(false).errorMessage("Retry").build()
+        )), 1L);
+
+        // then
+        assertThat(responses).extracting(FileUploadResponse::getUploadStatus)
+            .containsExactly(UploadStatus.COMPLETED, UploadStatus.COMPLETED);
+        verify(s3PresignedUrlService, after(500).never()).deleteFileFromS3(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 파일이 포함되면 아무것도 변경하지 않는다")
+    void completeUploads_rejectsOtherUsersFile() {
+        // given
+        FileInfo mine = savePending("uploads/2025/01/01/mine.jpg", FileType.IMAGE);
+        FileInfo others = fileInfoRepository.save(FileInfo.builder()
+            .originalName("others.jpg")
+            .s3Key("uploads/2025/01/01/others.jpg")
+            .s3Url("https://bucket/uploads/2025/01/01/others.jpg")
+            .fileSize(2048L)
+            .contentType("image/jpeg")
+            .fileType(FileType.IMAGE)
+            .uploadedBy(2L)
+            .build());
+
+        // when & then
+        assertThatThrownBy(() -> uploadCompletionService.completeUploads(
+            batch(List.of(success(mine.getId()), success(others.getId()))), 1L))
+            .isInstanceOf(BusinessException.class);
+        assertThat(fileInfoRepository.findById(mine.getId()).orElseThrow().getUploadStatus())
+            .isEqualTo(UploadStatus.PENDING);
+        verify(s3PresignedUrlService, never()).existsInS3(anyString());
+    }
+
+    private FileInfo savePending(String s3Key, FileType fileType) {
+        return fileInfoRepository.save(FileInfo.builder()
+            .originalName(s3Key.substring(s3Key.lastIndexOf('/') + 1))
+            .s3Key(s3Key)
+            .s3Url("https://bucket/" + s3Key)
+            .fileSize(2048L)
+            .contentType(fileType == FileType.IMAGE ? "image/jpeg" : "application/pdf")
+            .fileType(fileType)
+            .uploadedBy(1L)
+            .build());
+    }
+
+    private BatchUploadCompleteRequest batch(List<UploadCompleteRequest> files) {
+        return BatchUploadCompleteRequest.builder().files(files).build();
+    }
+
+    private UploadCompleteRequest success(Long fileId) {
+        return UploadCompleteRequest.builder().fileId(fileId).success(true).build();
+    }
+
+}
@@ -3,6 +3,7 @@ package com.travelapp.backend.domain.member.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
@@ -216,22 +217,18 @@ public class MemberServiceTest {
     class RefreshToken {
 
         @Test
-        @DisplayName("성공 - 유효한 Refresh Token으로 새 토큰을 발급한다")
+        @DisplayName("성공 - 유효한 Refresh Token으로 새 토큰을 발급한다 (캐시된 이메일 사용, DB 조회 없음)")
         void refreshToken_Success() {
             // given
             String oldRefreshToken = "old.refresh.token";
             String newAccessToken = "new.access.token";
             String newRefreshToken = "new.refresh.token";
 
-            given(jwtUtil.validateToken(oldRefreshToken)).willReturn(true);
-            given(jwtUtil.isRefreshToken(oldRefreshToken)).willReturn(true);
-            given(refreshTokenService.existsRefreshToken(oldRefreshToken)).willReturn(true);
-            given(refreshTokenService.getMemberIdByToken(oldRefreshToken)).willReturn(1L);
-            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
-            given(jwtUtil.generateToken(testMember.getId(), testMember.getEmail())).willReturn(newAccessToken);
-            given(jwtUtil.generateRefreshToken(testMember.getId())).willReturn(newRefreshToken);
-            doNothing().when(refreshTokenService).deleteRefreshToken(oldRefreshToken);
-            doNothing().when(refreshTokenService).saveRefreshToken(newRefreshToken, testMember.getId());
+            given(jwtUtil.parseRefreshToken(oldRefreshToken)).willReturn(1L);
+            given(jwtUtil.generateRefreshToken(1L)).willReturn(newRefreshToken);
+            given(refreshTokenService.rotateRefreshToken(oldRefreshToken, newRefreshToken, 1L))
+                .willReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED, testMember.getEmail()));
+            given(jwtUtil.generateToken(1L, testMember.getEmail())).willReturn(newAccessToken);
 
             // when
             TokenRefreshResponse result = memberService.refreshToken(oldRefreshToken);
@@ -240,43 +237,86 @@ public class MemberServiceTest {
             assertThat(result.getAccessToken()).isEqualTo(newAccessToken);
             assertThat(result.getRefreshToken()).isEqualTo(newRefreshToken);
 
-            verify(jwtUtil).validateToken(oldRefreshToken);
-            verify(jwtUtil).isRefreshToken(oldRefreshToken);
-            verify(refreshTokenService).existsRefreshToken(oldRefreshToken);
-            verify(refreshTokenService).getMemberIdByToken(oldRefreshToken);
+            verify(refreshTokenService).rotateRefreshToken(oldRefreshToken, newRefreshToken, 1L);
+            verify(memberRepository, times(0)).findById(anyLong());
+            verify(refreshTokenService, times(0)).deleteRefreshToken(anyString());
+            verify(refreshTokenService, times(0)).saveRefreshToken(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("성공 - 이메일 캐시 미스 시 DB 에서 조회하고 캐시한다")
+        void refreshToken_Success_EmailCacheMiss() {
+            // given
+            String oldRefreshToken = "old.refresh.token";
+            String newRefreshToken = "new.refresh.token";
+
+            given(jwtUtil.parseRefreshToken(oldRefreshToken)).willReturn(1L);
+            given(jwtUtil.generateRefreshToken(1L)).willReturn(newRefreshToken);
+            given(refreshTokenService.rotateRefreshToken(oldRefreshToken, newRefreshToken, 1L))
+                .willReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED, null));
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(jwtUtil.generateToken(1L, testMember.getEmail())).willReturn("new.access.token");
+
+            // when
+            memberService.refreshToken(oldRefreshToken);
+
+            // then
             verify(memberRepository).findById(1L);
-            verify(refreshTokenService).deleteRefreshToken(oldRefreshToken);
-            verify(refreshTokenService).saveRefreshToken(newRefreshToken, testMember.getId());
+            verify(refreshTokenService).cacheMemberEmail(1L, testMember.getEmail());
         }
 
         @Test
-        @DisplayName("실패 - 유효하지 않은 토큰으로 갱신 시 예외 발생")
-        void refreshToken_Fail_InvalidToken() {
+        @DisplayName("실패 - 이미 사용된 토큰 재사용 시 모든 토큰을 무효화하고 예외 발생")
+        void refreshToken_Fail_Reused() {
             // given
-            String invalidToken = "invalid.token";
-            given(jwtUtil.validateToken(invalidToken)).willReturn(false);
+            String reusedToken = "reused.refresh.token";
+            String newRefreshToken = "new.refresh.token";
+
+            given(jwtUtil.parseRefreshToken(reusedToken)).willReturn(1L);
+            given(jwtUtil.generateRefreshToken(1L)).willReturn(newRefreshToken);
+            given(refreshTokenService.rotateRefreshToken(reusedToken, newRefreshToken, 1L))
+                .willReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.REUSED, null));
 
             // when & then
-            assertThatThrownBy(() -> memberService.refreshToken(invalidToken))
+            assertThatThrownBy(() -> memberService.refreshToken(reusedToken))
+                .isInstanceOf(InvalidValueException.class);
+
+            verify(refreshTokenService).deleteAllRefreshTokensByMemberId(1L);
+            verify(jwtUtil, times(0)).generateToken(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - 저장소에 없는 토큰으로 갱신 시 예외 발생")
+        void refreshToken_Fail_NotStored() {
+            // given
+            String unknownToken = "unknown.refresh.token";
+            String newRefreshToken = "new.refresh.token";
+
+            given(jwtUtil.parseRefreshToken(unknownToken)).willReturn(1L);
+            given(jwtUtil.generateRefreshToken(1L)).willReturn(newRefreshToken);
+            given(refreshTokenService.rotateRefreshToken(unknownToken, newRefreshToken, 1L))
+                .willReturn(new RefreshTokenRotation(RefreshTokenRotation.Status.INVALID, null));
+
+            // when & then
+            assertThatThrownBy(() -> memberService.refreshToken(unknownToken))
                 .isInstanceOf(InvalidValueException.class);
 
-            verify(jwtUtil).validateToken(invalidToken);
+            verify(refreshTokenService, times(0)).deleteAllRefreshTokensByMemberId(anyLong());
         }
 
         @Test
-        @DisplayName("실패 - Access Token으로 갱신 시 예외 발생")
-        void refreshToken_Fail_NotRefreshToken() {
+        @DisplayName("실패 - 유효하지 않거나 Refresh Token 이 아닌 토큰으로 갱신 시 예외 발생")
+        void refreshToken_Fail_InvalidToken() {
             // given
-            String accessToken = "access.token";
-            given(jwtUtil.validateToken(accessToken)).willReturn(true);
-            given(jwtUtil.isRefreshToken(accessToken)).willReturn(false);
+            String invalidToken = "invalid.token";
+            given(jwtUtil.parseRefreshToken(invalidToken)).willReturn(null);
 
             // when & then
-            assertThatThrownBy(() -> memberService.refreshToken(accessToken))
+            assertThatThrownBy(() -> memberService.refreshToken(invalidToken))
                 .isInstanceOf(InvalidValueException.class);
 
-            verify(jwtUtil).validateToken(accessToken);
-            verify(jwtUtil).isRefreshToken(accessToken);
+            verify(jwtUtil).parseRefreshToken(invalidToken);
+            verify(refreshTokenService, times(0)).rotateRefreshToken(anyString(), anyString(), anyLong());
         }
     }
 
@@ -289,14 +329,12 @@ public class MemberServiceTest {
         void logout_Success() {
             // given
             String refreshToken = "valid.refresh.token";
-            given(refreshTokenService.existsRefreshToken(refreshToken)).willReturn(true);
             doNothing().when(refreshTokenService).deleteRefreshToken(refreshToken);
 
             // when
             memberService.logout(refreshToken);
 
             // then
-            verify(refreshTokenService).existsRefreshToken(refreshToken);
             verify(refreshTokenService).deleteRefreshToken(refreshToken);
         }
 
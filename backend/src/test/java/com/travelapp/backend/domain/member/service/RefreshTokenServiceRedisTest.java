@@ -0,0 +1,129 @@
+package com.travelapp.backend.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Refresh Token Lua 스크립트 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RefreshTokenService Redis 스크립트 테스트")
+class RefreshTokenServiceRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        refreshTokenService = new RefreshTokenService(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 회전된 토큰이 다시 제출되면 새 토큰을 하나 더 발급하고 기존 새 토큰도 유지한다")
+    void rotate_allowsConcurrentRefreshWithinGrace() {
+        // given
+        refreshTokenService.saveRefreshToken("old", 1L);
+        assertThat(refreshTokenService.rotateRefreshToken("old", "new-1", 1L).isRotated()).isTrue();
+
+        // when - 다른 탭이 같은 토큰으로 갱신
+        RefreshTokenRotation second = refreshTokenService.rotateRefreshToken("old", "new-2", 1L);
+
+        // then
+        assertThat(second.isRotated()).isTrue();
+        assertThat(refreshTokenService.getMemberIdByToken("new-1")).isEqualTo(1L);
+        assertThat(refreshTokenService.getMemberIdByToken("new-2")).isEqualTo(1L);
+        assertThat(refreshTokenService.getMemberIdByToken("old")).isNull();
+    }
+
+    @Test
+    @DisplayName("유예 시간 안이라도 두 번째 재제출은 재사용으로 판정하고 새 토큰을 발급하지 않는다")
+    void rotate_secondReplayWithinGraceIsReuse() {
+        // given
+        refreshTokenService.saveRefreshToken("old", 1L);
+        refreshTokenService.rotateRefreshToken("old", "new-1", 1L);
+        assertThat(refreshTokenService.rotateRefreshToken("old", "new-2", 1L).isRotated()).isTrue();
+
+        // when
+        RefreshTokenRotation third = refreshTokenService.rotateRefreshToken("old", "new-3", 1L);
+
+        // then
+        assertThat(third.isReused()).isTrue();
+        assertThat(refreshTokenService.getMemberIdByToken("new-3")).isNull();
+        assertThat(redisTemplate.opsForSet().members("member_tokens:1")).containsExactlyInAnyOrder("new-1", "new-2");
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 회전 표시로 다시 제출되면 재사용으로 판정한다")
+    void rotate_reusedAfterGrace() {
+        // given - 유예 시간 이전에 회전된 토큰
+        long rotatedAt = System.currentTimeMillis() - RefreshTokenService.REUSE_GRACE_MILLIS - 60_000;
+        redisTemplate.opsForValue().set("refresh_token_used:old", "1:" + rotatedAt);
+
+        // when
+        RefreshTokenRotation rotation = refreshTokenService.rotateRefreshToken("old", "new", 1L);
+
+        // then
+        assertThat(rotation.isReused()).isTrue();
+        assertThat(refreshTokenService.getMemberIdByToken("new")).isNull();
+    }
+
+    @Test
+    @DisplayName("로그아웃과 모든 기기 로그아웃은 토큰 키와 회원별 인덱스를 함께 정리한다")
+    void delete_cleansTokenAndIndex() {
+        // given
+        refreshTokenService.saveRefreshToken("a", 1L);
+        refreshTokenService.saveRefreshToken("b", 1L);
+        refreshTokenService.saveRefreshToken("c", 1L);
+
+        // when
+        refreshTokenService.deleteRefreshToken("a");
+
+        // then
+        assertThat(redisTemplate.opsForSet().members("member_tokens:1")).containsExactlyInAnyOrder("b", "c");
+
+        // when
+        refreshTokenService.deleteAllRefreshTokensByMemberId(1L);
+
+        // then
+        assertThat(refreshTokenService.getMemberIdByToken("b")).isNull();
+        assertThat(refreshTokenService.getMemberIdByToken("c")).isNull();
+        assertThat(redisTemplate.hasKey("member_tokens:1")).isFalse();
+    }
+
+}
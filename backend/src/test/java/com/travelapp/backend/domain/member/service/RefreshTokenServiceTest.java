@@ -0,0 +1,183 @@
+package com.travelapp.backend.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService 테스트")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Test
+    @DisplayName("토큰 저장 시 토큰 키와 회원별 인덱스를 한 번의 스크립트로 갱신한다")
+    void saveRefreshToken_updatesIndex() {
+        // when
+        refreshTokenService.saveRefreshToken("token", 1L);
+
+        // then
+        verify(redisTemplate).execute(
+            any(RedisScript.class),
+            eq(List.of("refresh_token:token", "member_tokens:1")),
+            eq("1"), eq("token"), anyString()
+        );
+        verify(redisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    @DisplayName("인덱스가 정리 기준을 넘으면 만료된 토큰을 확인할 토큰 키를 모두 KEYS 로 전달한다")
+    void saveRefreshToken_prunesWithDeclaredKeys() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("refresh_token:token", "member_tokens:1")),
+            eq("1"), eq("token"), anyString())).willReturn(21L);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("member_tokens:1")).willReturn(Set.of("expired"));
+
+        // when
+        refreshTokenService.saveRefreshToken("token", 1L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+            eq(List.of("member_tokens:1", "refresh_token:expired")), eq("expired"));
+    }
+
+    @Test
+    @DisplayName("로그아웃은 토큰 키와 회원별 인덱스 키를 모두 KEYS 로 전달하여 삭제한다")
+    void deleteRefreshToken_passesIndexKey() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("refresh_token:token")).willReturn("1");
+
+        // when
+        refreshTokenService.deleteRefreshToken("token");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+            eq(List.of("refresh_token:token", "member_tokens:1")), eq("token"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("모든 기기 로그아웃은 키 공간을 SCAN 하지 않고 회원별 인덱스의 토큰 키를 KEYS 로 전달하여 삭제한다")
+    void deleteAllRefreshTokensByMemberId_usesIndex() {
+        // given
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("member_tokens:1")).willReturn(Set.of("a"));
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("member_tokens:1", "refresh_token:a")), eq("a")))
+            .willReturn(0L);
+
+        // when
+        refreshTokenService.deleteAllRefreshTokensByMemberId(1L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("member_tokens:1", "refresh_token:a")), eq("a"));
+        verify(redisTemplate, never()).scan(any());
+    }
+
+    @Test
+    @DisplayName("인덱스를 읽은 뒤 발급된 토큰이 남아 있으면 다시 읽어 삭제한다")
+    void deleteAllRefreshTokensByMemberId_retriesConcurrentlyIssuedTokens() {
+        // given
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("member_tokens:1")).willReturn(Set.of("a"), Set.of("b"));
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("member_tokens:1", "refresh_token:a")), eq("a")))
+            .willReturn(1L);
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("member_tokens:1", "refresh_token:b")), eq("b")))
+            .willReturn(0L);
+
+        // when
+        refreshTokenService.deleteAllRefreshTokensByMemberId(1L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("member_tokens:1", "refresh_token:b")), eq("b"));
+    }
+
+    @Test
+    @DisplayName("존재 확인과 사용자 ID 조회는 한 번의 GET 으로 처리한다")
+    void getMemberIdByToken_singleGet() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("refresh_token:token")).willReturn("1");
+
+        // when
+        Long memberId = refreshTokenService.getMemberIdByToken("token");
+
+        // then
+        assertThat(memberId).isEqualTo(1L);
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 회전은 검증/소비/교체와 이메일 조회를 한 번의 스크립트로 처리한다")
+    void rotateRefreshToken_singleRoundTrip() {
+        // given
+        List<String> keys = List.of(
+            "refresh_token:old", "refresh_token:new", "refresh_token_used:old",
+            "member_tokens:1", "member_email:1"
+        );
+        given(redisTemplate.execute(any(RedisScript.class), eq(keys), eq("1"), eq("old"), eq("new"), anyString(),
+            eq(String.valueOf(RefreshTokenService.REUSE_GRACE_MILLIS))))
+            .willReturn(List.of("ROTATED", "test@example.com"));
+
+        // when
+        RefreshTokenRotation rotation = refreshTokenService.rotateRefreshToken("old", "new", 1L);
+
+        // then
+        assertThat(rotation.isRotated()).isTrue();
+        assertThat(rotation.email()).isEqualTo("test@example.com");
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("이미 회전된 토큰이 다시 제출되면 재사용으로 판정한다")
+    void rotateRefreshToken_reused() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any(), any(), any()))
+            .willReturn(List.of("REUSED"));
+
+        // when
+        RefreshTokenRotation rotation = refreshTokenService.rotateRefreshToken("old", "new", 1L);
+
+        // then
+        assertThat(rotation.isReused()).isTrue();
+        assertThat(rotation.isRotated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스크립트 결과가 없으면 유효하지 않은 토큰으로 판정한다")
+    void rotateRefreshToken_invalidWhenNoResult() {
+        // when
+        RefreshTokenRotation rotation = refreshTokenService.rotateRefreshToken("old", "new", 1L);
+
+        // then
+        assertThat(rotation.status()).isEqualTo(RefreshTokenRotation.Status.INVALID);
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.travelapp.backend.domain.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.domain.place.entity.Place;
+import com.travelapp.backend.domain.place.repository.PlaceRepository;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse.Document;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("PlaceCatalogService 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import({PlaceCatalogService.class, PlaceSuggestIndex.class})
+class PlaceCatalogServiceTest {
+
+    @Autowired
+    private PlaceCatalogService placeCatalogService;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("카카오 장소 ID 기준으로 일괄 upsert 하여 같은 장소는 한 행으로 갱신한다")
+    void flush_upsertsByKakaoId() {
+        // given
+        placeCatalogService.ingest(response(document("100", "성산일출봉", "126.9425", "33.4581")));
+        placeCatalogService.flush();
+        em.clear();
+
+        // when - 같은 ID 의 정보가 바뀌어 다시 수집됨
+        placeCatalogService.ingest(response(
+            document("100", "성산 일출봉", "126.9425", "33.4581"),
+            document("200", "섭지코지", "126.9306", "33.4240")
+        ));
+        placeCatalogService.flush();
+        em.clear();
+
+        // then
+        assertThat(placeRepository.count()).isEqualTo(2);
+        Place updated = placeRepository.findById("100").orElseThrow();
+        assertThat(updated.getPlaceName()).isEqualTo("성산 일출봉");
+        assertThat(updated.getNameKey()).isEqualTo("성산일출봉");
+        assertThat(placeCatalogService.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("근처 장소를 요청 좌표에서 가까운 순으로 응답하고, 마지막 페이지는 찾은 만큼 응답한다")
+    void searchNearby_rankedByDistance() {
+        // given - 제주 성산 근처 "성산" 으로 시작하는 장소 20곳 (ID 가 클수록 멀리), 서울의 같은 이름 장소 1곳
+        Document[] jeju = IntStream.range(0, 20)
+            .mapToObj(i -> document("J" + String.format("%02d", i), "성산 맛집 " + (19 - i),
+                String.valueOf(126.93 + i * 0.001), "33.46"))
+            .toArray(Document[]::new);
+        placeCatalogService.ingest(response(jeju));
+        placeCatalogService.ingest(response(document("S1", "성산 카페", "126.97", "37.56")));
+        placeCatalogService.flush();
+        em.clear();
+
+        // when
+        Optional<KakaoPlaceSearchResponse> page1 = placeCatalogService.searchNearby("성산", 33.46, 126.93, 1, 15);
+        Optional<KakaoPlaceSearchResponse> page2 = placeCatalogService.searchNearby("성산", 33.46, 126.93, 2, 15);
+        Optional<KakaoPlaceSearchResponse> page3 = placeCatalogService.searchNearby("성산", 33.46, 126.93, 3, 15);
+
+        // then
+        assertThat(page1).isPresent();
+        assertThat(page1.get().getDocuments()).extracting(Document::getId)
+            .startsWith("J00", "J01", "J02").hasSize(15);
+        assertThat(page1.get().hasNextPage()).isTrue();
+        assertThat(page2).isPresent();
+        assertThat(page2.get().getDocuments()).extracting(Document::getId).endsWith("J19").hasSize(5);
+        assertThat(page2.get().hasNextPage()).isFalse();
+        assertThat(page3).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로컬 우선 조회는 요청한 페이지를 모두 채울 수 있을 때만 응답한다")
+    void searchFullPage_onlyWhenPageIsFilled() {
+        // given - 제주 성산 근처 "성산" 으로 시작하는 장소 20곳
+        Document[] jeju = IntStream.range(0, 20)
+            .mapToObj(i -> document("J" + String.format("%02d", i), "성산 맛집 " + i,
+                String.valueOf(126.93 + i * 0.001), "33.46"))
+            .toArray(Document[]::new);
+        placeCatalogService.ingest(response(jeju));
+        placeCatalogService.flush();
+        em.clear();
+
+        // when
+        Optional<KakaoPlaceSearchResponse> page1 = placeCatalogService.searchFullPage("성산", 33.46, 126.93, 1, 15);
+        Optional<KakaoPlaceSearchResponse> page2 = placeCatalogService.searchFullPage("성산", 33.46, 126.93, 2, 15);
+
+        // then
+        assertThat(page1).isPresent();
+        assertThat(page1.get().getDocuments()).extracting(Document::getId).startsWith("J00").hasSize(15);
+        assertThat(page2).isEmpty();
+        assertThat(placeCatalogService.getLocalHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-age 동안 카카오 검색 결과로 다시 확인되지 않은 장소는 응답하지 않는다")
+    void searchNearby_skipsStalePlaces() {
+        // given
+        placeCatalogService.ingest(response(
+            document("1", "성산 카페", "126.94", "33.45"),
+            document("2", "성산 식당", "126.94", "33.45")
+        ));
+        placeCatalogService.flush();
+        em.getEntityManager()
+            .createQuery("UPDATE Place p SET p.updatedAt = :updatedAt WHERE p.id = '2'")
+            .setParameter("updatedAt", LocalDateTime.now().minusDays(30))
+            .executeUpdate();
+        em.clear();
+
+        // when
+        Optional<KakaoPlaceSearchResponse> result = placeCatalogService.searchNearby("성산", 33.45, 126.94, 1, 15);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getDocuments()).extracting(Document::getId).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 문서는 카탈로그에 저장하지 않는다")
+    void ingest_skipsDocumentsWithoutCoordinates() {
+        // when
+        placeCatalogService.ingest(response(document("1", "성산 카페", null, "33.45")));
+
+        // then
+        assertThat(placeCatalogService.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("LIKE 특수문자가 포함된 검색어는 문자 그대로 비교한다")
+    void searchNearby_escapesLikeCharacters() {
+        // given
+        placeCatalogService.ingest(response(document("1", "100% 카페", "126.94", "33.45")));
+        placeCatalogService.ingest(response(document("2", "1000 카페", "126.94", "33.45")));
+        placeCatalogService.flush();
+        em.clear();
+
+        // when
+        Optional<KakaoPlaceSearchResponse> result = placeCatalogService.searchNearby("100%", 33.45, 126.94, 1, 1);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getDocuments()).extracting(Document::getId).containsExactly("1");
+    }
+
+    private KakaoPlaceSearchResponse response(Document... documents) {
+        return KakaoPlaceSearchResponse.builder()
+            .documents(List.of(documents))
+            .build();
+    }
+
+    private Document document(String id, String name, String x, String y) {
+        return Document.builder()
+            .id(id)
+            .place_name(name)
+            .address_name("제주특별자치도")
+            .x(x)
+            .y(y)
+            .build();
+    }
+
+}
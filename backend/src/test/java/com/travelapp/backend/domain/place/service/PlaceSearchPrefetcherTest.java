@@ -0,0 +1,130 @@
+package com.travelapp.backend.domain.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.backend.infra.kakao.KakaoPlaceSearchClient;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceSearchPrefetcher 테스트")
+class PlaceSearchPrefetcherTest {
+
+    private static final String HAS_NEXT_JSON =
+        "{\"documents\":[{\"id\":\"1\",\"place_name\":\"테스트 카페\"}],"
+            + "\"meta\":{\"total_count\":30,\"pageable_count\":30,\"is_end\":false}}";
+    private static final String LAST_PAGE_JSON =
+        "{\"documents\":[{\"id\":\"2\",\"place_name\":\"마지막 카페\"}],"
+            + "\"meta\":{\"total_count\":30,\"pageable_count\":30,\"is_end\":true}}";
+
+    @Mock
+    private KakaoPlaceSearchClient kakaoPlaceSearchClient;
+
+    @Mock
+    private PlaceCatalogService placeCatalogService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlaceSearchCacheService placeSearchCacheService;
+
+    @BeforeEach
+    void setUp() {
+        placeSearchCacheService = new PlaceSearchCacheService(
+            redisTemplate, objectMapper, 100, Duration.ofMinutes(1), Duration.ofMinutes(10), 0.01,
+            100, Duration.ofDays(1), Clock.systemUTC()
+        );
+    }
+
+    private PlaceSearchPrefetcher prefetcher(Executor executor, int budgetPerMinute) {
+        return new PlaceSearchPrefetcher(kakaoPlaceSearchClient, placeSearchCacheService, placeCatalogService, executor, budgetPerMinute);
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 N+1 페이지를 가져와 캐시에 채운다")
+    void prefetchNextPage_fillsCache() throws Exception {
+        // given
+        PlaceSearchPrefetcher prefetcher = prefetcher(Runnable::run, 10);
+        PlaceSearchKey key = placeSearchCacheService.keyOf("카페", 37.5612, 126.9731, 1, 15);
+        KakaoPlaceSearchResponse page1 = objectMapper.readValue(HAS_NEXT_JSON, KakaoPlaceSearchResponse.class);
+        KakaoPlaceSearchResponse page2 = objectMapper.readValue(LAST_PAGE_JSON, KakaoPlaceSearchResponse.class);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(kakaoPlaceSearchClient.searchPlaces("카페:3756:12697:2:15", "카페", 37.5612, 126.9731, 2, 15)).willReturn(page2);
+
+        // when
+        prefetcher.prefetchNextPage(key, 37.5612, 126.9731, page1, 1L);
+
+        // then
+        assertThat(placeSearchCacheService.get(key.nextPage()).getDocuments().get(0).getPlace_name()).isEqualTo("마지막 카페");
+        assertThat(prefetcher.getPrefetchedPages()).isEqualTo(1);
+
+        // 마지막 페이지 이후는 가져오지 않음
+        prefetcher.prefetchNextPage(key.nextPage(), 37.5612, 126.9731, page2, 1L);
+        verify(kakaoPlaceSearchClient, times(1)).searchPlaces(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("사용자별 분당 한도를 넘으면 미리 가져오지 않는다")
+    void prefetchNextPage_budgetExceeded() throws Exception {
+        // given
+        PlaceSearchPrefetcher prefetcher = prefetcher(Runnable::run, 2);
+        KakaoPlaceSearchResponse hasNext = objectMapper.readValue(HAS_NEXT_JSON, KakaoPlaceSearchResponse.class);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(kakaoPlaceSearchClient.searchPlaces(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt())).willReturn(hasNext);
+
+        // when - 서로 다른 검색 3건
+        for (int i = 0; i < 3; i++) {
+            PlaceSearchKey key = placeSearchCacheService.keyOf("카페" + i, 37.5612, 126.9731, 1, 15);
+            prefetcher.prefetchNextPage(key, 37.5612, 126.9731, hasNext, 1L);
+        }
+
+        // then
+        verify(kakaoPlaceSearchClient, times(2)).searchPlaces(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
+        assertThat(prefetcher.getSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행기가 포화되면 요청을 막지 않고 미리 가져오기를 생략한다")
+    void prefetchNextPage_executorSaturated() throws Exception {
+        // given
+        PlaceSearchPrefetcher prefetcher = prefetcher(task -> {
+            throw new RejectedExecutionException("full");
+        }, 10);
+        PlaceSearchKey key = placeSearchCacheService.keyOf("카페", 37.5612, 126.9731, 1, 15);
+        KakaoPlaceSearchResponse hasNext = objectMapper.readValue(HAS_NEXT_JSON, KakaoPlaceSearchResponse.class);
+
+        // when
+        prefetcher.prefetchNextPage(key, 37.5612, 126.9731, hasNext, 1L);
+
+        // then
+        verify(kakaoPlaceSearchClient, never()).searchPlaces(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
+        assertThat(prefetcher.getSkipped()).isEqualTo(1);
+    }
+
+}
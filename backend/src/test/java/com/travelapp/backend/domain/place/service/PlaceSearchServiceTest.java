@@ -0,0 +1,222 @@
+package com.travelapp.backend.domain.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.backend.domain.place.dto.response.PlaceSearchCacheStatsResponse;
+import com.travelapp.backend.domain.tripplace.service.TripPlaceService;
+import com.travelapp.backend.global.exception.ExternalApiException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.infra.kakao.KakaoPlaceSearchClient;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceSearchService 캐시 테스트")
+class PlaceSearchServiceTest {
+
+    private static final String RESPONSE_JSON =
+        "{\"documents\":[{\"id\":\"1\",\"place_name\":\"테스트 카페\",\"x\":\"126.97\",\"y\":\"37.56\"}]}";
+
+    @Mock
+    private KakaoPlaceSearchClient kakaoPlaceSearchClient;
+
+    @Mock
+    private TripPlaceService tripPlaceService;
+
+    @Mock
+    private PlaceSearchPrefetcher placeSearchPrefetcher;
+
+    @Mock
+    private PlaceCatalogService placeCatalogService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlaceSearchCacheService placeSearchCacheService;
+    private PlaceSearchService placeSearchService;
+
+    @BeforeEach
+    void setUp() {
+        placeSearchCacheService = new PlaceSearchCacheService(
+            redisTemplate, objectMapper, 100, Duration.ofMinutes(1), Duration.ofMinutes(10), 0.01,
+            100, Duration.ofDays(1), Clock.systemUTC()
+        );
+        placeSearchService = new PlaceSearchService(kakaoPlaceSearchClient, placeSearchCacheService, placeSearchPrefetcher, placeCatalogService, tripPlaceService);
+    }
+
+    @Test
+    @DisplayName("같은 격자 셀에서의 같은 검색은 로컬 캐시에서 응답하고 카카오를 다시 호출하지 않는다")
+    void search_sameCell_servedFromLocalCache() throws Exception {
+        // given
+        KakaoPlaceSearchResponse upstream = objectMapper.readValue(RESPONSE_JSON, KakaoPlaceSearchResponse.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(kakaoPlaceSearchClient.searchPlacesAsync(anyString(), eq("카페"), anyDouble(), anyDouble(), eq(1), eq(15)))
+            .willReturn(Mono.just(upstream));
+
+        // when - 같은 셀 안의 약간 다른 좌표, 대소문자/공백만 다른 검색어
+        placeSearchService.search("카페", 37.5612, 126.9731, 1, 15).join();
+        KakaoPlaceSearchResponse second = placeSearchService.search("  카페 ", 37.5655, 126.9779, 1, 15).join();
+
+        // then
+        assertThat(second.getDocuments()).hasSize(1);
+        verify(kakaoPlaceSearchClient, times(1)).searchPlacesAsync(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
+        // 셀 중심이 아닌 처음 요청한 위치로 검색
+        verify(kakaoPlaceSearchClient).searchPlacesAsync("카페:3756:12697:1:15", "카페", 37.5612, 126.9731, 1, 15);
+        verify(valueOperations).set(eq("place_search:카페:3756:12697:1:15"), anyString(), eq(Duration.ofMinutes(10)));
+
+        PlaceSearchCacheStatsResponse stats = placeSearchCacheService.getStats();
+        assertThat(stats.getLocalHits()).isEqualTo(1);
+        assertThat(stats.getUpstreamCalls()).isEqualTo(1);
+        assertThat(stats.getSavedUpstreamCalls()).isEqualTo(1);
+        verify(placeCatalogService, never()).searchNearby(anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Redis 에 있는 결과는 카카오 호출 없이 반환하고 로컬 캐시에 채운다")
+    void search_redisHit_populatesLocalCache() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("place_search:카페:3756:12697:1:15")).willReturn(RESPONSE_JSON);
+
+        // when
+        placeSearchService.search("카페", 37.5612, 126.9731, 1, 15).join();
+        placeSearchService.search("카페", 37.5612, 126.9731, 1, 15).join();
+
+        // then
+        verify(kakaoPlaceSearchClient, never()).searchPlacesAsync(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
+        verify(valueOperations, times(1)).get(anyString());
+
+        PlaceSearchCacheStatsResponse stats = placeSearchCacheService.getStats();
+        assertThat(stats.getRedisHits()).isEqualTo(1);
+        assertThat(stats.getLocalHits()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("카카오 호출이 실패하면 보관 중인 만료된 결과로 응답한다")
+    void search_upstreamUnavailable_servesStale() throws Exception {
+        // given - 로컬 캐시 TTL 0 : 매번 만료되어 업스트림을 다시 호출
+        PlaceSearchCacheService expiringCache = new PlaceSearchCacheService(
+            redisTemplate, objectMapper, 100, Duration.ZERO, Duration.ofMinutes(10), 0.01,
+            100, Duration.ofDays(1), Clock.systemUTC()
+        );
+        PlaceSearchService service = new PlaceSearchService(kakaoPlaceSearchClient, expiringCache, placeSearchPrefetcher, placeCatalogService, tripPlaceService);
+        KakaoPlaceSearchResponse upstream = objectMapper.readValue(RESPONSE_JSON, KakaoPlaceSearchResponse.class);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(kakaoPlaceSearchClient.searchPlacesAsync(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt()))
+            .willReturn(Mono.just(upstream))
+            .willReturn(Mono.error(new ExternalApiException(ErrorCode.KAKAO_API_UNAVAILABLE)));
+
+        // when
+        service.search("카페", 37.5612, 126.9731, 1, 15).join();
+        KakaoPlaceSearchResponse stale = service.search("카페", 37.5612, 126.9731, 1, 15).join();
+
+        // then
+        assertThat(stale.getDocuments()).hasSize(1);
+        assertThat(expiringCache.getStats().getStaleHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 중인 결과가 없으면 카카오 오류를 그대로 전달한다")
+    void search_upstreamUnavailable_noStale() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(kakaoPlaceSearchClient.searchPlacesAsync(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt()))
+            .willReturn(Mono.error(new ExternalApiException(ErrorCode.KAKAO_API_UNAVAILABLE)));
+
+        // when & then
+        assertThatThrownBy(() -> placeSearchService.search("카페", 37.5612, 126.9731, 1, 15).join())
+            .hasCauseInstanceOf(ExternalApiException.class);
+    }
+
+    @Test
+    @DisplayName("보관 중인 결과도 없으면 로컬 카탈로그의 근처 장소로 응답한다")
+    void search_upstreamUnavailable_servesCatalog() throws Exception {
+        // given
+        KakaoPlaceSearchResponse local = objectMapper.readValue(RESPONSE_JSON, KakaoPlaceSearchResponse.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(kakaoPlaceSearchClient.searchPlacesAsync(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt()))
+            .willReturn(Mono.error(new ExternalApiException(ErrorCode.KAKAO_API_UNAVAILABLE)));
+        given(placeCatalogService.searchNearby("카페", 37.5612, 126.9731, 1, 15)).willReturn(Optional.of(local));
+
+        // when
+        KakaoPlaceSearchResponse response = placeSearchService.search("카페", 37.5612, 126.9731, 1, 15).join();
+
+        // then
+        assertThat(response).isSameAs(local);
+    }
+
+    @Test
+    @DisplayName("여행 지역 근처 검색은 카탈로그로 페이지를 채울 수 있으면 카카오를 호출하지 않는다")
+    void searchNearTrip_catalogFillsPage_skipsKakao() throws Exception {
+        // given
+        KakaoPlaceSearchResponse local = objectMapper.readValue(RESPONSE_JSON, KakaoPlaceSearchResponse.class);
+        given(placeCatalogService.searchFullPage("카페", 37.5612, 126.9731, 1, 15)).willReturn(Optional.of(local));
+
+        // when
+        KakaoPlaceSearchResponse response = placeSearchService.searchNearTrip("카페", 37.5612, 126.9731, 1, 15).join();
+
+        // then
+        assertThat(response).isSameAs(local);
+        verify(kakaoPlaceSearchClient, never()).searchPlacesAsync(anyString(), anyString(), anyDouble(), anyDouble(), anyInt(), anyInt());
+        assertThat(placeSearchCacheService.getStats().getUpstreamCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("여행 지역 근처 검색은 카탈로그로 페이지를 채우지 못하면 카카오로 검색한다")
+    void searchNearTrip_catalogCannotFillPage_callsKakao() throws Exception {
+        // given
+        KakaoPlaceSearchResponse upstream = objectMapper.readValue(RESPONSE_JSON, KakaoPlaceSearchResponse.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(placeCatalogService.searchFullPage("카페", 37.5612, 126.9731, 1, 15)).willReturn(Optional.empty());
+        given(kakaoPlaceSearchClient.searchPlacesAsync("카페:3756:12697:1:15", "카페", 37.5612, 126.9731, 1, 15)).willReturn(Mono.just(upstream));
+
+        // when
+        KakaoPlaceSearchResponse response = placeSearchService.searchNearTrip("카페", 37.5612, 126.9731, 1, 15).join();
+
+        // then
+        assertThat(response.getDocuments()).hasSize(1);
+        verify(kakaoPlaceSearchClient).searchPlacesAsync("카페:3756:12697:1:15", "카페", 37.5612, 126.9731, 1, 15);
+    }
+
+    @Test
+    @DisplayName("다른 격자 셀의 검색은 별도의 키를 갖는다")
+    void keyOf_differentCell() {
+        // when
+        PlaceSearchKey seoul = placeSearchCacheService.keyOf("카페", 37.5612, 126.9731, 1, 15);
+        PlaceSearchKey busan = placeSearchCacheService.keyOf("카페", 35.1712, 129.0731, 1, 15);
+
+        // then
+        assertThat(seoul).isNotEqualTo(busan);
+        assertThat(seoul.latCell()).isEqualTo(3756);
+        assertThat(seoul.lngCell()).isEqualTo(12697);
+    }
+
+}
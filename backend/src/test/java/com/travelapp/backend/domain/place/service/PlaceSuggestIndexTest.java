@@ -0,0 +1,131 @@
+package com.travelapp.backend.domain.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.travelapp.backend.domain.place.dto.response.PlaceSuggestionResponse;
+import com.travelapp.backend.domain.place.repository.PlaceRepository;
+import com.travelapp.backend.domain.tripplace.repository.TripPlaceRepository;
+import com.travelapp.backend.global.util.HangulJamo;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PlaceSuggestIndex 테스트")
+class PlaceSuggestIndexTest {
+
+    private PlaceSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceSuggestIndex(mock(TripPlaceRepository.class), mock(PlaceRepository.class), 100_000, 0);
+    }
+
+    @Test
+    @DisplayName("한글 음절은 겹받침/겹모음까지 입력 순서대로 자모 분해된다")
+    void decompose() {
+        assertThat(HangulJamo.decompose("닭갈비")).isEqualTo("ㄷㅏㄹㄱㄱㅏㄹㅂㅣ");
+        assertThat(HangulJamo.decompose("광안리")).isEqualTo("ㄱㅗㅏㅇㅇㅏㄴㄹㅣ");
+        assertThat(HangulJamo.decompose("cafe 1")).isEqualTo("cafe 1");
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 글자도 자모 단위로 접두사 일치한다")
+    void suggest_partialSyllable() {
+        // given
+        index.add("성산일출봉", "1", 1);
+        index.add("서귀포 매일올레시장", "2", 1);
+        index.add("제주도립미술관", "3", 1);
+
+        // when & then
+        assertThat(names(index.suggest("서", 10))).containsExactly("성산일출봉", "서귀포 매일올레시장");
+        assertThat(names(index.suggest("성ㅅ", 10))).containsExactly("성산일출봉");
+        assertThat(names(index.suggest("제주ㄷ", 10))).containsExactly("제주도립미술관");
+        assertThat(names(index.suggest("서귀포매", 10))).containsExactly("서귀포 매일올레시장");
+        assertThat(index.suggest("부산", 10)).isEmpty();
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여행지로 저장된 장소가 검색 결과에만 노출된 장소보다 앞에 온다")
+    void suggest_rankedByScore() {
+        // given
+        index.add("해운대 해수욕장", "1", PlaceSuggestIndex.SEARCH_RESULT_WEIGHT);
+        index.add("해운대 시장", "2", PlaceSuggestIndex.SEARCH_RESULT_WEIGHT);
+        index.add("해운대 블루라인파크", "3", PlaceSuggestIndex.SEARCH_RESULT_WEIGHT);
+
+        // when
+        index.recordTripPlace("해운대 블루라인파크", "3");
+
+        // then
+        List<PlaceSuggestionResponse> suggestions = index.suggest("해운대", 2);
+        assertThat(names(suggestions)).containsExactly("해운대 블루라인파크", "해운대 시장");
+        assertThat(suggestions.get(0).getScore())
+            .isEqualTo(PlaceSuggestIndex.SEARCH_RESULT_WEIGHT + PlaceSuggestIndex.TRIP_PLACE_WEIGHT);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상위 후보를 미리 저장하지 않는 깊은 접두사도 점수 순으로 조회된다")
+    void suggest_deepPrefix() {
+        // given
+        for (int i = 0; i < 30; i++) {
+            index.add("스타벅스 강남" + i + "호점", String.valueOf(i), i);
+        }
+
+        // when
+        List<PlaceSuggestionResponse> suggestions = index.suggest("스타벅스강남", 3);
+
+        // then
+        assertThat(names(suggestions)).containsExactly("스타벅스 강남29호점", "스타벅스 강남28호점", "스타벅스 강남27호점");
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘는 새 이름은 버리고 기존 이름의 점수는 계속 올린다")
+    void add_maxEntries() {
+        // given
+        PlaceSuggestIndex small = new PlaceSuggestIndex(mock(TripPlaceRepository.class), mock(PlaceRepository.class), 1, 0);
+        small.add("경복궁", "1", 1);
+
+        // when
+        small.add("창덕궁", "2", 1);
+        small.add("경복궁", "1", 1);
+
+        // then
+        assertThat(small.size()).isEqualTo(1);
+        assertThat(small.getDroppedEntries()).isEqualTo(1);
+        assertThat(small.suggest("경복", 10).get(0).getScore()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("10만 개 이름에서도 접두사가 일치하는 이름만 점수 순으로 조회된다")
+    void suggest_largeIndex() {
+        // given
+        String[] regions = {"서울", "부산", "제주", "강릉", "경주", "전주", "여수", "속초", "대구", "인천"};
+        String[] kinds = {"카페", "식당", "호텔", "게스트하우스", "박물관", "공원", "시장", "해변", "전망대", "서점"};
+        for (int i = 0; i < 100_000; i++) {
+            index.add(regions[i % regions.length] + " " + kinds[(i / 10) % kinds.length] + " " + i, null, i % 97);
+        }
+
+        // when
+        List<PlaceSuggestionResponse> hotels = index.suggest("강릉 호", 10);
+        List<PlaceSuggestionResponse> viewpoints = index.suggest("속초 전망대 5", 10);
+
+        // then
+        assertThat(index.size()).isEqualTo(100_000);
+        assertThat(hotels).hasSize(10);
+        assertThat(names(hotels)).allMatch(name -> name.startsWith("강릉 호텔 "));
+        assertThat(hotels).extracting(PlaceSuggestionResponse::getScore).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(hotels.get(0).getScore()).isEqualTo(96);
+        assertThat(names(viewpoints)).isNotEmpty().allMatch(name -> name.startsWith("속초 전망대 5"));
+        assertThat(index.suggest("여수해변", 10)).isNotEmpty();
+        assertThat(index.suggest("대전", 10)).isEmpty();
+    }
+
+    private List<String> names(List<PlaceSuggestionResponse> suggestions) {
+        return suggestions.stream().map(PlaceSuggestionResponse::getPlaceName).toList();
+    }
+
+}
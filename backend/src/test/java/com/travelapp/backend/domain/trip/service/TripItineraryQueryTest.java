@@ -0,0 +1,170 @@
+package com.travelapp.backend.domain.trip.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.trip.dto.response.TripItineraryResponse;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.tripday.entity.TripDay;
+import com.travelapp.backend.domain.tripplace.entity.TripPlace;
+import com.travelapp.backend.domain.tripshare.service.TripShareCacheService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("여행 전체 일정 조회 쿼리 수 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import(TripService.class)
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+public class TripItineraryQueryTest {
+
+    private static final int PLACES_PER_DAY = 3;
+
+    @Autowired
+    private TripService tripService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockitoBean
+    private TripShareCacheService tripShareCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        member = em.persist(Member.builder()
+            .email("itinerary@example.com")
+            .nickname("일정테스터")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(member.getId(), null, List.of())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("일자 수가 늘어나도 실행되는 쿼리 수는 일정하다")
+    void getItinerary_constantStatementCount() {
+        // given
+        Long shortTripId = createTrip(2);
+        Long longTripId = createTrip(20);
+
+        // when
+        long shortTripStatements = countStatements(shortTripId);
+        long longTripStatements = countStatements(longTripId);
+
+        // then
+        assertThat(longTripStatements).isEqualTo(shortTripStatements);
+        assertThat(shortTripStatements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일자와 장소가 순서대로 조립된다")
+    void getItinerary_assemblesDaysInOrder() {
+        // given
+        Long tripId = createTrip(3);
+        em.clear();
+
+        // when
+        TripItineraryResponse response = tripService.getItinerary(tripId);
+
+        // then
+        assertThat(response.getTrip().getId()).isEqualTo(tripId);
+        assertThat(response.getCoverImage()).isNull();
+        assertThat(response.getDays()).extracting(TripItineraryResponse.DayItinerary::getDay)
+            .containsExactly(1, 2, 3);
+        assertThat(response.getDays().get(0).getPlaces())
+            .extracting("visitOrder")
+            .containsExactly(1, 2, 3);
+    }
+
+    private long countStatements(Long tripId) {
+        em.clear();
+        statistics.clear();
+
+        TripItineraryResponse response = tripService.getItinerary(tripId);
+        assertThat(response.getDays()).isNotEmpty();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createTrip(int dayCount) {
+        LocalDate startDate = LocalDate.of(2025, 5, 1);
+
+        Trip trip = em.persist(Trip.builder()
+            .member(member)
+            .title(dayCount + "일 여행")
+            .startDate(startDate)
+            .endDate(startDate.plusDays(dayCount - 1))
+            .region("제주도")
+            .regionLat(33.4996)
+            .regionLng(126.5312)
+            .build());
+
+        for (int day = 1; day <= dayCount; day++) {
+            TripDay tripDay = em.persist(TripDay.builder()
+                .trip(trip)
+                .day(day)
+                .date(startDate.plusDays(day - 1))
+                .build());
+
+            // 방문 순서 역순으로 저장하여 정렬 여부까지 확인
+            for (int order = PLACES_PER_DAY; order >= 1; order--) {
+                em.persist(TripPlace.builder()
+                    .tripDay(tripDay)
+                    .placeName("장소 " + day + "-" + order)
+                    .address("제주특별자치도")
+                    .latitude(33.45)
+                    .longitude(126.57)
+                    .visitTime(LocalTime.of(9 + order, 0))
+                    .visitOrder(order)
+                    .build());
+            }
+        }
+        em.flush();
+
+        return trip.getId();
+    }
+
+}
@@ -18,6 +18,7 @@ import com.travelapp.backend.domain.trip.entity.Trip;
 import com.travelapp.backend.domain.trip.exception.TripAccessDeniedException;
 import com.travelapp.backend.domain.trip.exception.TripNotFoundException;
 import com.travelapp.backend.domain.trip.repository.TripRepository;
+import com.travelapp.backend.domain.tripshare.service.TripShareCacheService;
 import com.travelapp.backend.global.util.SecurityUtil;
 import java.time.LocalDate;
 import java.util.List;
@@ -43,6 +44,9 @@ public class TripServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private TripShareCacheService tripShareCacheService;
+
     @InjectMocks
     private TripService tripService;
 
@@ -0,0 +1,260 @@
+package com.travelapp.backend.domain.tripplace.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.place.service.PlaceSuggestIndex;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.trip.service.TripService;
+import com.travelapp.backend.domain.tripday.entity.TripDay;
+import com.travelapp.backend.domain.tripplace.dto.request.TripPlaceReorderRequest;
+import com.travelapp.backend.domain.tripplace.dto.request.VisitOrderUpdateRequest;
+import com.travelapp.backend.domain.tripplace.dto.response.TripPlaceResponse;
+import com.travelapp.backend.domain.tripplace.entity.TripPlace;
+import com.travelapp.backend.domain.tripshare.service.TripShareCacheService;
+import com.travelapp.backend.domain.tripplace.exception.InvalidVisitOrderException;
+import com.travelapp.backend.domain.tripplace.repository.TripPlaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 방문 순서 변경 시 실행되는 SQL 수 비교
+ * 기존 방식(행마다 save)과 일괄 변경 방식(offset + CASE UPDATE)을 50개 이상의 여행지로 비교
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("여행지 순서 변경 쿼리 수 벤치마크")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import({TripPlaceService.class, TripService.class, PlaceSuggestIndex.class})
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+public class TripPlaceReorderBenchmarkTest {
+
+    private static final int PLACE_COUNT = 60;
+
+    @Autowired
+    private TripPlaceService tripPlaceService;
+
+    @Autowired
+    private TripPlaceRepository tripPlaceRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockitoBean
+    private TripShareCacheService tripShareCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member member;
+    private Trip trip;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        member = em.persist(Member.builder()
+            .email("reorder@example.com")
+            .nickname("순서테스터")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+
+        trip = em.persist(Trip.builder()
+            .member(member)
+            .title("순서 변경 테스트 여행")
+            .startDate(LocalDate.of(2025, 5, 1))
+            .endDate(LocalDate.of(2025, 5, 3))
+            .region("제주도")
+            .regionLat(33.4996)
+            .regionLng(126.5312)
+            .build());
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(member.getId(), null, List.of())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("일괄 변경은 여행지 수와 무관하게 일정한 쿼리 수로 처리되고 기존 방식보다 적다")
+    void reorder_statementCountComparedToPerRowPath() {
+        // given - 기존 방식은 연속된 순서에서 유니크 제약이 충돌하므로 간격을 둔 순서로 측정
+        TripDay legacyDay = createDay(1, PLACE_COUNT, 10);
+        TripDay smallDay = createDay(2, 10, 1);
+        TripDay largeDay = createDay(3, PLACE_COUNT, 1);
+
+        // when
+        long legacyStatements = countStatements(() -> legacyMoveToFirst(legacyDay.getId()));
+        long smallStatements = countStatements(() -> reverse(smallDay.getId()));
+        long largeStatements = countStatements(() -> reverse(largeDay.getId()));
+
+        // then
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(largeStatements).isLessThanOrEqualTo(5);
+        assertThat(legacyStatements).isGreaterThanOrEqualTo(PLACE_COUNT);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 후 방문 순서가 요청한 순서대로 1부터 정규화된다")
+    void reorder_normalizesVisitOrders() {
+        // given
+        TripDay tripDay = createDay(1, PLACE_COUNT, 1);
+        em.clear();
+
+        // when
+        List<Long> reversed = reverse(tripDay.getId());
+
+        // then
+        em.clear();
+        List<Long> stored = tripPlaceRepository.findByTripDay_Id(tripDay.getId()).stream()
+            .sorted(Comparator.comparing(TripPlace::getVisitOrder))
+            .map(TripPlace::getId)
+            .toList();
+        assertThat(stored).containsExactlyElementsOf(reversed);
+    }
+
+    @Test
+    @DisplayName("단건 순서 변경도 일괄 변경 경로로 처리된다")
+    void updateVisitOrder_movesPlace() {
+        // given
+        TripDay tripDay = createDay(1, 5, 1);
+        em.clear();
+        List<Long> ids = orderedIds(tripDay.getId());
+
+        // when
+        TripPlaceResponse response = tripPlaceService.updateVisitOrder(ids.get(4), new VisitOrderUpdateRequest(2));
+
+        // then
+        em.clear();
+        assertThat(response.getVisitOrder()).isEqualTo(2);
+        assertThat(orderedIds(tripDay.getId()))
+            .containsExactly(ids.get(0), ids.get(4), ids.get(1), ids.get(2), ids.get(3));
+    }
+
+    @Test
+    @DisplayName("해당 일자의 여행지가 누락되거나 중복되면 예외가 발생한다")
+    void reorder_invalidOrder() {
+        // given
+        TripDay tripDay = createDay(1, 3, 1);
+        em.clear();
+        List<Long> ids = orderedIds(tripDay.getId());
+
+        // when & then
+        assertThatThrownBy(() -> tripPlaceService.reorderTripPlaces(tripDay.getId(),
+            new TripPlaceReorderRequest(List.of(ids.get(0), ids.get(1)))))
+            .isInstanceOf(InvalidVisitOrderException.class);
+
+        assertThatThrownBy(() -> tripPlaceService.reorderTripPlaces(tripDay.getId(),
+            new TripPlaceReorderRequest(List.of(ids.get(0), ids.get(0), ids.get(1)))))
+            .isInstanceOf(InvalidVisitOrderException.class);
+    }
+
+    private List<Long> reverse(Long tripDayId) {
+        List<Long> reversed = new ArrayList<>(orderedIds(tripDayId));
+        Collections.reverse(reversed);
+
+        tripPlaceService.reorderTripPlaces(tripDayId, new TripPlaceReorderRequest(reversed));
+        return reversed;
+    }
+
+    /**
+     * 변경 전 TripPlaceService.updateVisitOrder 의 행 단위 처리 방식 (마지막 여행지를 맨 앞으로 이동)
+     */
+    private void legacyMoveToFirst(Long tripDayId) {
+        List<TripPlace> places = tripPlaceRepository.findByTripDay_Id(tripDayId);
+        TripPlace moving = places.stream().max(Comparator.comparing(TripPlace::getVisitOrder)).orElseThrow();
+
+        Integer oldOrder = moving.getVisitOrder();
+        Integer newOrder = places.stream().mapToInt(TripPlace::getVisitOrder).min().orElseThrow();
+
+        for (TripPlace place : places) {
+            if (place.getId().equals(moving.getId())) continue;
+
+            Integer currentOrder = place.getVisitOrder();
+            if (currentOrder >= newOrder && currentOrder < oldOrder) {
+                place.visitOrderUpdate(new VisitOrderUpdateRequest(currentOrder + 1));
+                tripPlaceRepository.save(place);
+            }
+        }
+
+        moving.visitOrderUpdate(new VisitOrderUpdateRequest(newOrder));
+        tripPlaceRepository.save(moving);
+        em.flush();
+    }
+
+    private long countStatements(Runnable action) {
+        em.clear();
+        statistics.clear();
+
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> orderedIds(Long tripDayId) {
+        return tripPlaceRepository.findByTripDay_Id(tripDayId).stream()
+            .sorted(Comparator.comparing(TripPlace::getVisitOrder))
+            .map(TripPlace::getId)
+            .toList();
+    }
+
+    private TripDay createDay(int day, int placeCount, int orderStep) {
+        TripDay tripDay = em.persist(TripDay.builder()
+            .trip(trip)
+            .day(day)
+            .date(trip.getStartDate().plusDays(day - 1))
+            .build());
+
+        for (int i = 1; i <= placeCount; i++) {
+            em.persist(TripPlace.builder()
+                .tripDay(tripDay)
+                .placeName("장소 " + i)
+                .address("제주특별자치도")
+                .latitude(33.45)
+                .longitude(126.57)
+                .visitTime(LocalTime.of(9, 0))
+                .visitOrder(i * orderStep)
+                .build());
+        }
+        em.flush();
+
+        return tripDay;
+    }
+
+}
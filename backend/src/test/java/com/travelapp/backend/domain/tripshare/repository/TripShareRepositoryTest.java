@@ -0,0 +1,89 @@
+package com.travelapp.backend.domain.tripshare.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.tripshare.entity.TripShare;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("TripShareRepository 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+public class TripShareRepositoryTest {
+
+    @Autowired
+    private TripShareRepository tripShareRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder()
+            .email("share@example.com")
+            .nickname("공유테스터")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+    }
+
+    @Test
+    @DisplayName("누적 조회수를 여러 공유에 한 번에 반영한다")
+    void addViewCounts() {
+        // given
+        TripShare first = createShare("첫 번째 여행", 10);
+        TripShare second = createShare("두 번째 여행", 0);
+        TripShare untouched = createShare("세 번째 여행", 5);
+        em.flush();
+        em.clear();
+
+        // when
+        int updated = tripShareRepository.addViewCounts(Map.of(
+            first.getId(), 3,
+            second.getId(), 7
+        ));
+        em.clear();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(tripShareRepository.findById(first.getId()).orElseThrow().getViewCount()).isEqualTo(13);
+        assertThat(tripShareRepository.findById(second.getId()).orElseThrow().getViewCount()).isEqualTo(7);
+        assertThat(tripShareRepository.findById(untouched.getId()).orElseThrow().getViewCount()).isEqualTo(5);
+    }
+
+    private TripShare createShare(String title, int viewCount) {
+        Trip trip = em.persist(Trip.builder()
+            .member(member)
+            .title(title)
+            .startDate(LocalDate.of(2025, 3, 1))
+            .endDate(LocalDate.of(2025, 3, 3))
+            .region("부산")
+            .build());
+
+        return em.persist(TripShare.builder()
+            .trip(trip)
+            .shareToken(UUID.randomUUID().toString())
+            .viewCount(viewCount)
+            .build());
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.travelapp.backend.domain.member.entity.Member;
+import com.travelapp.backend.domain.member.entity.Role;
+import com.travelapp.backend.domain.trip.entity.Trip;
+import com.travelapp.backend.domain.tripshare.dto.response.PublicTripFeedResponse;
+import com.travelapp.backend.domain.tripshare.dto.response.TripShareResponse;
+import com.travelapp.backend.domain.tripshare.entity.TripShare;
+import com.travelapp.backend.domain.tripshare.exception.InvalidFeedCursorException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("PublicTripFeedService 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan("com.travelapp.backend.domain")
+@EnableJpaRepositories("com.travelapp.backend.domain")
+@Import(PublicTripFeedService.class)
+class PublicTripFeedServiceTest {
+
+    private static final int PUBLIC_SHARE_COUNT = 25;
+
+    @Autowired
+    private PublicTripFeedService publicTripFeedService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        publicTripFeedService.invalidate();
+
+        member = em.persist(Member.builder()
+            .email("feed@example.com")
+            .nickname("피드테스터")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build());
+
+        LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < PUBLIC_SHARE_COUNT; i++) {
+            // 같은 조회수/생성 시각이 섞이도록 하여 id 타이브레이커까지 검증
+            createShare(true, i % 5, baseTime.plusMinutes(i / 2), null);
+        }
+        createShare(false, 100, baseTime, null);
+        createShare(true, 100, baseTime, LocalDateTime.now().minusDays(1));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("인기순 커서로 끝까지 조회하면 중복/누락 없이 정렬된 전체 공개 여행을 반환한다")
+    void getFeed_popular_pagesThroughAll() {
+        // when
+        List<TripShareResponse> all = readAll("popular", 10);
+
+        // then
+        assertThat(all).hasSize(PUBLIC_SHARE_COUNT);
+        assertThat(all).extracting(TripShareResponse::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < all.size(); i++) {
+            TripShareResponse prev = all.get(i - 1);
+            TripShareResponse current = all.get(i);
+            assertThat(prev.getViewCount() > current.getViewCount()
+                || (prev.getViewCount().equals(current.getViewCount()) && prev.getId() > current.getId()))
+                .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 경로와 DB 경로의 결과가 같다")
+    void getFeed_snapshotMatchesDatabase() {
+        // given
+        List<Long> fromDatabase = readAll("latest", 7).stream().map(TripShareResponse::getId).toList();
+
+        // when
+        publicTripFeedService.refreshSnapshots();
+        List<Long> fromSnapshot = readAll("latest", 7).stream().map(TripShareResponse::getId).toList();
+
+        // then
+        assertThat(fromSnapshot).containsExactlyElementsOf(fromDatabase);
+    }
+
+    @Test
+    @DisplayName("정렬 기준과 맞지 않는 커서는 예외가 발생한다")
+    void getFeed_invalidCursor() {
+        // given
+        String popularCursor = publicTripFeedService.getFeed("popular", null, 5).getNextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> publicTripFeedService.getFeed("latest", popularCursor, 5))
+            .isInstanceOf(InvalidFeedCursorException.class);
+        assertThatThrownBy(() -> publicTripFeedService.getFeed("latest", "not-a-cursor", 5))
+            .isInstanceOf(InvalidFeedCursorException.class);
+    }
+
+    private List<TripShareResponse> readAll(String sortBy, int size) {
+        List<TripShareResponse> all = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            PublicTripFeedResponse page = publicTripFeedService.getFeed(sortBy, cursor, size);
+            all.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        return all;
+    }
+
+    private void createShare(boolean isPublic, int viewCount, LocalDateTime createdAt, LocalDateTime expiryDate) {
+        Trip trip = em.persist(Trip.builder()
+            .member(member)
+            .title("공개 여행")
+            .startDate(LocalDate.of(2025, 2, 1))
+            .endDate(LocalDate.of(2025, 2, 3))
+            .region("강릉")
+            .build());
+
+        em.persist(TripShare.builder()
+            .trip(trip)
+            .shareToken(UUID.randomUUID().toString())
+            .isPublic(isPublic)
+            .viewCount(viewCount)
+            .createdAt(createdAt)
+            .expiryDate(expiryDate)
+            .build());
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.travelapp.backend.domain.trip.dto.response.TripResponse;
+import com.travelapp.backend.domain.tripshare.dto.response.TripShareResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripShareCacheService 테스트")
+class TripShareCacheServiceTest {
+
+    private static final String TOKEN = "a1b2c3d4-e5f6-7890-abcd-ef1234567890";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ObjectMapper objectMapper;
+    private TripShareCacheService tripShareCacheService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        tripShareCacheService = new TripShareCacheService(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(tripShareCacheService, "ttlSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 후 적중 시 통계가 누적된다")
+    void get_recordsHitAndMiss() throws Exception {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("trip_share:" + TOKEN))
+            .willReturn(null)
+            .willReturn(objectMapper.writeValueAsString(createResponse(null)));
+
+        // when
+        Optional<TripShareResponse> first = tripShareCacheService.get(TOKEN);
+        Optional<TripShareResponse> second = tripShareCacheService.get(TOKEN);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isPresent();
+        assertThat(second.get().getTrip().getTitle()).isEqualTo("제주도 여행");
+        assertThat(tripShareCacheService.getStats().getHits()).isEqualTo(1);
+        assertThat(tripShareCacheService.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL은 공유 만료 시각을 넘지 않는다")
+    void put_ttlCappedByExpiryDate() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        TripShareResponse response = createResponse(LocalDateTime.now().plusSeconds(60));
+
+        // when
+        tripShareCacheService.put(response);
+
+        // then
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(eq("trip_share:" + TOKEN), anyString(), ttl.capture());
+        assertThat(ttl.getValue()).isLessThanOrEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 공유는 캐싱하지 않는다")
+    void put_expiredShareNotCached() {
+        // given
+        TripShareResponse response = createResponse(LocalDateTime.now().minusMinutes(1));
+
+        // when
+        tripShareCacheService.put(response);
+
+        // then
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    private TripShareResponse createResponse(LocalDateTime expiryDate) {
+        return TripShareResponse.builder()
+            .id(1L)
+            .shareToken(TOKEN)
+            .shareUrl("http://localhost:3000/shared/" + TOKEN)
+            .isPublic(true)
+            .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+            .expiryDate(expiryDate)
+            .viewCount(10)
+            .trip(TripResponse.builder()
+                .id(1L)
+                .title("제주도 여행")
+                .startDate(LocalDate.of(2025, 1, 10))
+                .endDate(LocalDate.of(2025, 1, 12))
+                .region("제주도")
+                .build())
+            .isExpired(false)
+            .build();
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.travelapp.backend.domain.tripshare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.domain.tripshare.repository.TripShareRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripShareViewCountService 테스트")
+class TripShareViewCountServiceTest {
+
+    private static final String PENDING_KEY = "trip_share:view_count:pending";
+    private static final String FLUSHING_INDEX_KEY = "trip_share:view_count:flushing";
+    private static final String FLUSHING_PREFIX = "trip_share:view_count:flushing:";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private TripShareRepository tripShareRepository;
+
+    private TripShareViewCountService tripShareViewCountService;
+
+    @BeforeEach
+    void setUp() {
+        tripShareViewCountService = new TripShareViewCountService(redisTemplate, tripShareRepository, 600_000);
+    }
+
+    @Test
+    @DisplayName("조회 시 Redis 해시에 조회수를 누적한다")
+    void increment() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+
+        // when
+        tripShareViewCountService.increment(1L);
+
+        // then
+        verify(hashOperations).increment(PENDING_KEY, "1", 1);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 한 번의 벌크 업데이트로 반영하고 반영 중 키를 정리한다")
+    void flush() {
+        // given
+        givenScripts(keys -> isClaim(keys) ? 1L : null);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(startsWith(FLUSHING_PREFIX))).willReturn(Map.of("1", "3", "2", "10"));
+
+        // when
+        tripShareViewCountService.flush();
+
+        // then
+        verify(tripShareRepository).addViewCounts(Map.of(1L, 3, 2L, 10));
+        verify(redisTemplate).execute(any(RedisScript.class), keysMatching(TripShareViewCountServiceTest::isComplete));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), keysMatching(TripShareViewCountServiceTest::isRestore));
+    }
+
+    @Test
+    @DisplayName("누적된 조회수가 없으면 DB를 갱신하지 않는다")
+    void flush_nothingPending() {
+        // when
+        tripShareViewCountService.flush();
+
+        // then
+        verify(tripShareRepository, never()).addViewCounts(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 증분을 누적 해시로 되돌린다")
+    void flush_restoresWhenDbFails() {
+        // given
+        givenScripts(keys -> isClaim(keys) || isRestore(keys) ? 1L : null);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(startsWith(FLUSHING_PREFIX))).willReturn(Map.of("1", "3"));
+        willThrow(new IllegalStateException("db down")).given(tripShareRepository).addViewCounts(any());
+
+        // when & then
+        assertThatThrownBy(() -> tripShareViewCountService.flush()).isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keysMatching(TripShareViewCountServiceTest::isRestore));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), keysMatching(TripShareViewCountServiceTest::isComplete));
+    }
+
+    @Test
+    @DisplayName("DB 반영 후 키 정리에 실패하면 증분을 되돌리지 않고 다음 주기에 같은 키를 다시 정리한다")
+    void flush_doesNotRestoreWhenCleanupFails() {
+        // given - 첫 주기에만 누적 해시가 있고, 첫 정리는 실패
+        AtomicInteger claims = new AtomicInteger();
+        AtomicInteger completes = new AtomicInteger();
+        givenScripts(keys -> {
+            if (isClaim(keys)) {
+                return claims.getAndIncrement() == 0 ? 1L : 0L;
+            }
+            if (isComplete(keys) && completes.getAndIncrement() == 0) {
+                throw new RedisConnectionFailureException("down");
+            }
+            return 1L;
+        });
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(startsWith(FLUSHING_PREFIX))).willReturn(Map.of("1", "3"));
+
+        // when
+        tripShareViewCountService.flush();
+        tripShareViewCountService.flush();
+
+        // then
+        verify(tripShareRepository, times(1)).addViewCounts(Map.of(1L, 3));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), keysMatching(TripShareViewCountServiceTest::isRestore));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, atLeastOnce()).execute(any(RedisScript.class), keys.capture());
+        List<List<String>> completed = keys.getAllValues().stream()
+            .filter(TripShareViewCountServiceTest::isComplete)
+            .toList();
+        assertThat(completed).hasSize(2);
+        assertThat(completed.get(1)).isEqualTo(completed.get(0));
+    }
+
+    @Test
+    @DisplayName("반영 도중 노드가 죽어 남은 증분은 누적 해시로 되돌린다")
+    void flush_recoversOrphans() {
+        // given
+        String orphan = FLUSHING_PREFIX + "dead-node";
+        givenScripts(keys -> keys.equals(List.of(FLUSHING_INDEX_KEY)) ? List.of(orphan) : null);
+
+        // when
+        tripShareViewCountService.flush();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(orphan, PENDING_KEY, FLUSHING_INDEX_KEY)));
+    }
+
+    /**
+     * 스크립트 실행을 KEYS 에 따라 응답 (선점, 정리, 복구, orphan 조회가 같은 execute 를 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private void givenScripts(Function<List<String>, Object> answer) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+            .willAnswer(invocation -> answer.apply((List<String>) invocation.getArgument(1)));
+    }
+
+    private static List<String> keysMatching(ArgumentMatcher<List<String>> matcher) {
+        return argThat(matcher);
+    }
+
+    private static boolean isClaim(List<String> keys) {
+        return keys.size() == 3 && PENDING_KEY.equals(keys.get(0));
+    }
+
+    private static boolean isComplete(List<String> keys) {
+        return keys.size() == 2 && keys.get(0).startsWith(FLUSHING_PREFIX);
+    }
+
+    private static boolean isRestore(List<String> keys) {
+        return keys.size() == 3 && PENDING_KEY.equals(keys.get(1));
+    }
+
+}
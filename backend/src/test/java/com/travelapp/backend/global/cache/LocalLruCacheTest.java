@@ -0,0 +1,95 @@
+package com.travelapp.backend.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LocalLruCache 테스트")
+class LocalLruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void put_evictsLeastRecentlyUsed() {
+        // given
+        LocalLruCache<String, String> cache = new LocalLruCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+
+        // when
+        cache.put("c", "C");
+
+        // then
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회되지 않고 제거된다")
+    void get_expiredEntry() {
+        // given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        MutableClock clock = new MutableClock(now);
+        LocalLruCache<String, String> cache = new LocalLruCache<>(10, Duration.ofSeconds(30), clock);
+        cache.put("a", "A");
+
+        // when
+        clock.instant = now.plusSeconds(30);
+
+        // then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("항목마다 지정한 만료 시각이 기본 TTL 보다 우선하고, 이미 만료된 값은 저장하지 않는다")
+    void put_withExpiresAt() {
+        // given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        MutableClock clock = new MutableClock(now);
+        LocalLruCache<String, String> cache = new LocalLruCache<>(10, Duration.ofMinutes(10), clock);
+
+        // when
+        cache.put("a", "A", now.plusSeconds(5));
+        cache.put("expired", "E", now);
+
+        // then
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.size()).isEqualTo(1);
+
+        clock.instant = now.plusSeconds(5);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.travelapp.backend.global.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BoundedVirtualThreadExecutor 테스트")
+class BoundedVirtualThreadExecutorTest {
+
+    @Test
+    @DisplayName("동시 실행 수를 제한하고 대기 한도를 넘으면 거부한다")
+    void execute_boundsConcurrencyAndPending() throws Exception {
+        // given
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 2, 3);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Runnable task = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+                completed.countDown();
+            }
+        };
+
+        // when - 두 작업이 실행 중인 동안 세 번째 작업은 대기
+        executor.execute(task);
+        executor.execute(task);
+        executor.execute(task);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThatThrownBy(() -> executor.execute(task)).isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.travelapp.backend.global.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource 테스트")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    @DisplayName("허용량을 넘으면 커넥션을 닫을 때까지 기다렸다가 얻는다")
+    void getConnection_waitsForClose() throws Exception {
+        // given
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(5));
+        Connection first = dataSource.getConnection();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Connection> second = executor.submit(() -> dataSource.getConnection());
+
+            // when
+            first.close();
+
+            // then
+            assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(dataSource.getAvailablePermits()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 허용량을 얻지 못하면 SQLTransientConnectionException 을 던진다")
+    void getConnection_timeout() throws Exception {
+        // given
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("커넥션을 여러 번 닫아도 허용량은 한 번만 반환한다")
+    void close_releasesOnce() throws Exception {
+        // given
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+        Connection connection = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("unwrap 으로 꺼낸 커넥션을 닫아도 허용량을 반환한다")
+    void unwrap_returnsLimitedConnection() throws Exception {
+        // given
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+        Connection connection = dataSource.getConnection();
+
+        // when
+        Connection unwrapped = connection.unwrap(Connection.class);
+        unwrapped.close();
+
+        // then
+        assertThat(connection.isWrapperFor(Connection.class)).isTrue();
+        assertThat(unwrapped).isSameAs(connection);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.travelapp.backend.global.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.global.config.AsyncConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 가상 스레드 / 플랫폼 스레드 부하 비교
+ * 요청 처리 스레드를 Tomcat 기본 최대 스레드 수(200)의 플랫폼 스레드 풀과 Spring 의 가상 스레드 실행기로 바꿔 가며
+ * DB · S3 · CPU 작업이 섞인 요청을 한꺼번에 보내 처리량과 p99 지연 시간을 비교
+ * - DB: H2 + HikariCP (커넥션 10개), 가상 스레드 모드에서는 VirtualThreadConfig 와 같이 ConcurrencyLimitedDataSource 로 감쌈
+ * - S3: s3IoLimiter 와 같은 ConcurrencyLimiter 아래에서 블로킹 호출, 일부 요청은 AsyncConfig 의 uploadCheckExecutor 로 나눠 확인
+ * - CPU: SHA-256 반복
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행 (실행기/DataSource 동작은 각 단위 테스트)
+ */
+@Tag("benchmark")
+@DisplayName("가상 스레드 부하 테스트")
+class VirtualThreadLoadTest {
+
+    private static final int REQUESTS = 4_000;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int DB_POOL_SIZE = 10;
+    private static final int UPLOAD_CHECK_CONCURRENCY = 16;
+    private static final int UPLOAD_BATCH_SIZE = 2;
+    private static final long DB_ROUND_TRIP_MILLIS = 2;
+    private static final long S3_LATENCY_MILLIS = 25;
+
+    private static HikariDataSource pool;
+
+    @BeforeAll
+    static void createDatabase() throws Exception {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:virtual-thread-load;DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(DB_POOL_SIZE);
+        pool.setConnectionTimeout(30_000);
+
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE trip_place (id BIGINT PRIMARY KEY, trip_id BIGINT, name VARCHAR(100))");
+            statement.execute("INSERT INTO trip_place SELECT X, X % 100, CONCAT('place ', X) FROM SYSTEM_RANGE(1, 10000)");
+            statement.execute("CREATE INDEX idx_trip_place_trip ON trip_place (trip_id)");
+        }
+    }
+
+    @AfterAll
+    static void closeDatabase() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("혼합 부하에서 가상 스레드는 DB 커넥션 수를 지키면서 플랫폼 스레드 풀 이상의 처리량을 낸다")
+    void mixedWorkload() throws Exception {
+        // given
+        run(false, WARMUP_REQUESTS);
+        run(true, WARMUP_REQUESTS);
+
+        // when
+        Result platform = run(false, REQUESTS);
+        Result virtual = run(true, REQUESTS);
+
+        // then
+        String measured = String.format("요청 %d 건 - 플랫폼(%d): %.0f req/s, p99 %d ms | 가상 스레드: %.0f req/s, p99 %d ms",
+            REQUESTS, TOMCAT_MAX_THREADS, platform.throughput(), platform.p99Millis(),
+            virtual.throughput(), virtual.p99Millis());
+        assertThat(platform.completed()).as(measured).isEqualTo(REQUESTS);
+        assertThat(virtual.completed()).as(measured).isEqualTo(REQUESTS);
+        assertThat(platform.maxDbConcurrency()).as(measured).isLessThanOrEqualTo(DB_POOL_SIZE);
+        assertThat(virtual.maxDbConcurrency()).as(measured).isLessThanOrEqualTo(DB_POOL_SIZE);
+        assertThat(virtual.throughput()).as(measured).isGreaterThan(platform.throughput() * 0.8);
+    }
+
+    private Result run(boolean virtualThreads, int requests) throws Exception {
+        AsyncTaskExecutor requestExecutor = requestExecutor(virtualThreads);
+        Executor uploadCheckExecutor = new AsyncConfig(virtualThreads).uploadCheckExecutor(UPLOAD_CHECK_CONCURRENCY);
+        DataSource dataSource = virtualThreads
+            ? new ConcurrencyLimitedDataSource(pool, DB_POOL_SIZE, Duration.ofSeconds(30))
+            : pool;
+        ConcurrencyLimiter s3 = new ConcurrencyLimiter("S3", 64, Duration.ofSeconds(30));
+        AtomicInteger dbInUse = new AtomicInteger();
+        AtomicInteger maxDbInUse = new AtomicInteger();
+
+        long[] latencies = new long[requests];
+        List<Future<?>> futures = new ArrayList<>(requests);
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                long submittedAt = System.nanoTime();
+                futures.add(requestExecutor.submit(() -> {
+                    handleRequest(index, dataSource, s3, uploadCheckExecutor, dbInUse, maxDbInUse);
+                    latencies[index] = System.nanoTime() - submittedAt;
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            shutdown(requestExecutor);
+            shutdown(uploadCheckExecutor);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(
+            requests * 1_000_000_000.0 / elapsedNanos,
+            TimeUnit.NANOSECONDS.toMillis(latencies[(int) Math.ceil(requests * 0.99) - 1]),
+            maxDbInUse.get(),
+            futures.size()
+        );
+    }
+
+    // 플랫폼 모드: Tomcat 과 같은 크기의 스레드 풀, 가상 스레드 모드: Spring Boot 가 쓰는 가상 스레드 실행기
+    private AsyncTaskExecutor requestExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("request-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(TOMCAT_MAX_THREADS);
+        executor.setMaxPoolSize(TOMCAT_MAX_THREADS);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("request-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 요청 하나: DB 조회 1회 + (5%) S3 HEAD 일괄 확인 + (15%) S3 HEAD 1회 + CPU 작업
+    private void handleRequest(int index, DataSource dataSource, ConcurrencyLimiter s3, Executor uploadCheckExecutor,
+        AtomicInteger dbInUse, AtomicInteger maxDbInUse) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM trip_place WHERE trip_id = ?")) {
+            maxDbInUse.accumulateAndGet(dbInUse.incrementAndGet(), Math::max);
+            try {
+                statement.setLong(1, index % 100);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                }
+                Thread.sleep(DB_ROUND_TRIP_MILLIS);
+            } finally {
+                dbInUse.decrementAndGet();
+            }
+        }
+
+        if (index % 20 == 0) {
+            checkUploads(s3, uploadCheckExecutor);
+        } else if (index % 20 >= 17) {
+            headObject(s3);
+        }
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] payload = ("request-" + index).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < 200; i++) {
+            payload = digest.digest(payload);
+        }
+    }
+
+    // UploadCompletionService 와 같이 실행기로 나눠 확인하고, 거부되면 호출 스레드에서 직접 확인
+    private void checkUploads(ConcurrencyLimiter s3, Executor uploadCheckExecutor) {
+        List<CompletableFuture<Void>> checks = new ArrayList<>(UPLOAD_BATCH_SIZE);
+        for (int i = 0; i < UPLOAD_BATCH_SIZE; i++) {
+            try {
+                checks.add(CompletableFuture.runAsync(() -> headObject(s3), uploadCheckExecutor));
+            } catch (RejectedExecutionException e) {
+                headObject(s3);
+            }
+        }
+        checks.forEach(CompletableFuture::join);
+    }
+
+    private void headObject(ConcurrencyLimiter s3) {
+        s3.call(() -> {
+            try {
+                Thread.sleep(S3_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+    }
+
+    private void shutdown(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    private record Result(double throughput, long p99Millis, int maxDbConcurrency, int completed) {
+    }
+
+}
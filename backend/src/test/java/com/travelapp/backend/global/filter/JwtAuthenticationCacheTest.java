@@ -0,0 +1,88 @@
+package com.travelapp.backend.global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.global.util.JwtPrincipal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JwtAuthenticationCache 테스트")
+class JwtAuthenticationCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(2, clock);
+        cache.put("a", principal(1L, Duration.ofMinutes(10)));
+        cache.put("b", principal(2L, Duration.ofMinutes(10)));
+
+        // when - a 를 조회하여 최근 사용으로 갱신한 뒤 c 추가
+        cache.get("a");
+        cache.put("c", principal(3L, Duration.ofMinutes(10)));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시에서 조회되지 않는다")
+    void expiredEntryIsNotReturned() {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(10, clock);
+        cache.put("token", principal(1L, Duration.ofMinutes(1)));
+
+        // when
+        clock.advance(Duration.ofMinutes(1));
+
+        // then
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private JwtPrincipal principal(Long memberId, Duration ttl) {
+        return new JwtPrincipal(memberId, "user" + memberId + "@example.com", NOW.plus(ttl));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.travelapp.backend.global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.global.config.JwtProperties;
+import com.travelapp.backend.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.time.Clock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthenticationFilter 처리량 벤치마크
+ * 같은 토큰으로 변경 전 경로(요청마다 키/파서를 새로 만들어 3회 파싱), 단일 파싱 경로(캐시 미스),
+ * 단일 파싱 + 인증 정보 캐시 경로(캐시 적중)를 반복 측정
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행 (필터 동작은 JwtAuthenticationFilterTest)
+ */
+@Tag("benchmark")
+@DisplayName("JwtAuthenticationFilter 처리량 벤치마크")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURE_ITERATIONS = 50_000;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(3_600_000L);
+
+        jwtUtil = new JwtUtil(jwtProperties);
+        filter = new JwtAuthenticationFilter(jwtUtil, new JwtAuthenticationCache(1_000, Clock.systemUTC()));
+        accessToken = jwtUtil.generateToken(1L, "bench@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("단일 파싱 경로와 캐시 경로는 변경 전 3회 파싱 경로보다 처리량이 높다")
+    void throughputComparedToLegacyPath() throws Exception {
+        // given
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            legacyAuthenticate(accessToken);
+            singleParse(accessToken);
+            runFilter(accessToken);
+        }
+
+        // when
+        double legacy = opsPerMillis(() -> legacyAuthenticate(accessToken));
+        double single = opsPerMillis(() -> singleParse(accessToken));
+        double cached = opsPerMillis(() -> runFilter(accessToken));
+
+        // then
+        String measured = String.format("변경 전 3회 파싱 %.1f ops/ms, 단일 파싱 %.1f ops/ms, 단일 파싱 + 캐시 %.1f ops/ms",
+            legacy, single, cached);
+        assertThat(single).as(measured).isGreaterThan(legacy);
+        assertThat(cached).as(measured).isGreaterThan(single);
+    }
+
+    /**
+     * 변경 전 필터 경로: validateToken, getMemberIdFromToken, getEmailFromToken 이 각각 키와 파서를 새로 만들어 파싱
+     */
+    private void legacyAuthenticate(String token) {
+        MockHttpServletRequest request = request(token);
+        String bearer = request.getHeader("Authorization").substring("Bearer ".length());
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(bearer)
+                .getPayload();
+            assertThat(claims.getSubject()).isNotNull();
+        }
+    }
+
+    /**
+     * 캐시 미스 경로: 미리 만든 파서로 한 번만 파싱
+     */
+    private void singleParse(String token) {
+        MockHttpServletRequest request = request(token);
+        String bearer = request.getHeader("Authorization").substring("Bearer ".length());
+        assertThat(jwtUtil.parseAccessToken(bearer)).isNotNull();
+    }
+
+    private void runFilter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trips");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private double opsPerMillis(ThrowingRunnable action) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            action.run();
+        }
+        return MEASURE_ITERATIONS / ((System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+
+        void run() throws Exception;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.travelapp.backend.global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.travelapp.backend.global.config.JwtProperties;
+import com.travelapp.backend.global.util.JwtUtil;
+import java.time.Clock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "filter-test-secret-key-filter-test-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationCache jwtAuthenticationCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(3_600_000L);
+
+        jwtUtil = spy(new JwtUtil(jwtProperties));
+        jwtAuthenticationCache = new JwtAuthenticationCache(1_000, Clock.systemUTC());
+        filter = new JwtAuthenticationFilter(jwtUtil, jwtAuthenticationCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("필터는 토큰으로 인증 정보를 설정하고, 리프레시 토큰은 인증하지 않는다")
+    void filter_authenticates() throws Exception {
+        // when
+        Authentication authentication = runFilter(jwtUtil.generateToken(1L, "user@example.com"));
+
+        // then
+        assertThat(authentication.getPrincipal()).isEqualTo(1L);
+
+        // when & then
+        assertThat(runFilter(jwtUtil.generateRefreshToken(1L))).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 요청하면 캐시에서 인증 정보를 가져와 다시 파싱하지 않는다")
+    void filter_cacheHit() throws Exception {
+        // given
+        String token = jwtUtil.generateToken(1L, "user@example.com");
+
+        // when
+        Authentication first = runFilter(token);
+        Authentication second = runFilter(token);
+
+        // then
+        assertThat(first.getPrincipal()).isEqualTo(1L);
+        assertThat(second.getPrincipal()).isEqualTo(1L);
+        verify(jwtUtil, times(1)).parseAccessToken(token);
+        assertThat(jwtAuthenticationCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 토큰은 파싱하고, 유효하지 않은 토큰은 캐시하지 않는다")
+    void filter_cacheMiss() throws Exception {
+        // given
+        String first = jwtUtil.generateToken(1L, "user1@example.com");
+        String second = jwtUtil.generateToken(2L, "user2@example.com");
+        String refresh = jwtUtil.generateRefreshToken(1L);
+
+        // when
+        Authentication firstAuthentication = runFilter(first);
+        Authentication secondAuthentication = runFilter(second);
+        runFilter(refresh);
+        runFilter(refresh);
+
+        // then
+        assertThat(firstAuthentication.getPrincipal()).isEqualTo(1L);
+        assertThat(secondAuthentication.getPrincipal()).isEqualTo(2L);
+        verify(jwtUtil, times(4)).parseAccessToken(anyString());
+        assertThat(jwtAuthenticationCache.size()).isEqualTo(2);
+    }
+
+    private Authentication runFilter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trips");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.travelapp.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TsidGenerator 테스트")
+class TsidGeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-06-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스를 모두 쓰거나 시계가 뒤로 가도 항상 증가하는 ID 를 발급한다")
+    void next_isMonotonic() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidGenerator generator = new TsidGenerator(7, clock::get);
+
+        // when - 한 밀리초에 4096 개를 넘게 발급하고 시계를 되돌림
+        long previous = generator.next();
+        for (int i = 0; i < 5000; i++) {
+            if (i == 4500) {
+                clock.set(NOW - 1000);
+            }
+            long next = generator.next();
+
+            // then
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("ID 에서 발급 시각과 노드 ID 를 꺼낼 수 있다")
+    void timestampOf_returnsIssuedMillis() {
+        // given
+        TsidGenerator generator = new TsidGenerator(TsidGenerator.MAX_NODE_ID, () -> NOW);
+
+        // when
+        long id = generator.next();
+
+        // then
+        assertThat(TsidGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(TsidGenerator.nodeIdOf(id)).isEqualTo(TsidGenerator.MAX_NODE_ID);
+        assertThat(id).isPositive();
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 범위를 벗어나면 생성할 수 없다")
+    void constructor_rejectsInvalidNodeId() {
+        assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
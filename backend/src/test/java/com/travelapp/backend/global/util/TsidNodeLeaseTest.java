@@ -0,0 +1,93 @@
+package com.travelapp.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * TSID 노드 ID 임대 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("TsidNodeLease 테스트")
+class TsidNodeLeaseTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("카운터가 한 바퀴 돌아 같은 위치에서 시작해도 사용 중인 노드 ID 는 건너뛴다")
+    void acquire_skipsLeasedNodeIds() {
+        // given
+        TsidNodeLease first = new TsidNodeLease(redisTemplate, TTL_MILLIS);
+        redisTemplate.opsForValue().set("tsid:node-seq", String.valueOf(TsidGenerator.MAX_NODE_ID + 1));
+
+        // when - 다음 카운터 값이 다시 첫 노드의 위치를 가리킴
+        TsidNodeLease second = new TsidNodeLease(redisTemplate, TTL_MILLIS);
+
+        // then
+        assertThat(first.getNodeId()).isEqualTo(1);
+        assertThat(second.getNodeId()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연장은 내 임대만 연장하고, 반납한 노드 ID 는 다른 노드가 다시 사용할 수 있다")
+    void renewAndRelease() {
+        // given
+        TsidNodeLease lease = new TsidNodeLease(redisTemplate, TTL_MILLIS);
+        String key = "tsid:node:" + lease.getNodeId();
+        redisTemplate.expire(key, Duration.ofSeconds(1));
+
+        // when
+        lease.renew();
+
+        // then
+        assertThat(redisTemplate.getExpire(key)).isGreaterThan(30);
+
+        // when
+        lease.destroy();
+
+        // then
+        assertThat(redisTemplate.hasKey(key)).isFalse();
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.travelapp.backend.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.global.config.RedisConfig;
+import com.travelapp.backend.global.config.WebSocketConfig;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 다중 노드 STOMP 중계 테스트
+ * 같은 Redis 를 사용하는 두 애플리케이션 컨텍스트(노드 A/B)를 띄우고,
+ * 노드 A 에서 발행한 메시지가 노드 B 에 연결된 STOMP 세션까지 전달되는지 확인 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Redis STOMP 중계 다중 노드 테스트")
+class RedisStompRelayMultiNodeTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        SecurityAutoConfiguration.class,
+        SecurityFilterAutoConfiguration.class,
+        UserDetailsServiceAutoConfiguration.class
+    })
+    @Import({WebSocketConfig.class, RedisConfig.class, RedisStompRelay.class})
+    static class RelayNode {
+    }
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("노드 A 에서 발행한 채팅방 메시지를 노드 A/B 에 연결된 세션이 모두 한 번씩 받는다")
+    void publish_fansOutToEveryNode() throws Exception {
+        // given
+        BlockingQueue<Map<?, ?>> receivedOnA = new LinkedBlockingQueue<>();
+        BlockingQueue<Map<?, ?>> receivedOnB = new LinkedBlockingQueue<>();
+        StompSession sessionA = subscribe(nodeA, "/topic/chat/1", receivedOnA);
+        StompSession sessionB = subscribe(nodeB, "/topic/chat/1", receivedOnB);
+        RedisStompRelay relayA = nodeA.getBean(RedisStompRelay.class);
+        RedisStompRelay relayB = nodeB.getBean(RedisStompRelay.class);
+        long remoteBefore = relayB.getRemoteDeliveries();
+        long localBefore = relayA.getLocalDeliveries();
+
+        // when
+        relayA.publish("/topic/chat/1", Map.of("chatRoomId", 1, "content", "안녕하세요"));
+
+        // then
+        Map<?, ?> messageOnB = receivedOnB.poll(5, TimeUnit.SECONDS);
+        Map<?, ?> messageOnA = receivedOnA.poll(5, TimeUnit.SECONDS);
+        assertThat(messageOnB).containsEntry("content", "안녕하세요");
+        assertThat(messageOnA).containsEntry("content", "안녕하세요");
+        assertThat(receivedOnA.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(relayB.getRemoteDeliveries() - remoteBefore).isEqualTo(1);
+        assertThat(relayA.getLocalDeliveries() - localBefore).isEqualTo(1);
+
+        sessionA.disconnect();
+        sessionB.disconnect();
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 채팅방 메시지는 전달되지 않는다")
+    void publish_onlyToSubscribedDestination() throws Exception {
+        // given
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        StompSession session = subscribe(nodeB, "/topic/chat/2", received);
+
+        // when
+        nodeA.getBean(RedisStompRelay.class).publish("/topic/chat/3", Map.of("content", "다른 방"));
+        nodeA.getBean(RedisStompRelay.class).publish("/topic/chat/2", Map.of("content", "같은 방"));
+
+        // then
+        assertThat(received.poll(5, TimeUnit.SECONDS)).containsEntry("content", "같은 방");
+        assertThat(received.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+        session.disconnect();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(RelayNode.class)
+            .properties(
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "spring.redis.host=" + REDIS.getHost(),
+                "spring.redis.port=" + REDIS.getMappedPort(6379)
+            )
+            .run();
+    }
+
+    private StompSession subscribe(ConfigurableApplicationContext node, String destination,
+        BlockingQueue<Map<?, ?>> received) throws Exception {
+        WebSocketStompClient client = new WebSocketStompClient(
+            new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        StompSession session = client.connectAsync("http://localhost:" + port + "/ws/chat",
+            new StompSessionHandlerAdapter() {
+            }).get(5, TimeUnit.SECONDS);
+
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<?, ?>) payload);
+            }
+        });
+
+        // SUBSCRIBE 프레임이 브로커에 등록될 때까지 대기
+        Thread.sleep(300);
+        return session;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.travelapp.backend.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStompRelay 테스트")
+class RedisStompRelayTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisStompRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RedisStompRelay(redisTemplate, messagingTemplate, objectMapper, listenerContainer, "stomp:relay");
+    }
+
+    @Test
+    @DisplayName("발행은 Redis 채널로만 하고 로컬 브로커에는 Redis 에서 돌아온 메시지로 전달한다")
+    void publish_goesThroughRedis() {
+        // when
+        relay.publish("/topic/chat/1", Map.of("content", "hi"));
+
+        // then
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("stomp:relay"), envelope.capture());
+        verify(messagingTemplate, never()).send(anyString(), any());
+
+        // when - 같은 노드가 Redis 에서 메시지를 받음
+        relay.onMessage(new DefaultMessage("stomp:relay".getBytes(StandardCharsets.UTF_8),
+            envelope.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        ArgumentCaptor<Message> delivered = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/chat/1"), delivered.capture());
+        assertThat(new String((byte[]) delivered.getValue().getPayload(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"content\":\"hi\"}");
+        assertThat(relay.getLocalDeliveries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 발행에 실패하면 같은 노드의 세션에는 바로 전달한다")
+    void publish_fallsBackToLocalBroker() {
+        // given
+        willThrow(new RedisConnectionFailureException("down"))
+            .given(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // when
+        relay.publishToUser("1", "/queue/read-receipts", Map.of("roomId", 1));
+
+        // then
+        verify(messagingTemplate).send(eq("/user/1/queue/read-receipts"), any());
+        assertThat(relay.getPublishFailures()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.travelapp.backend.infra.kakao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.travelapp.backend.global.exception.ExternalApiException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import com.travelapp.backend.infra.kakao.dto.KakaoPlaceSearchResponse;
+import com.travelapp.backend.infra.kakao.resilience.KakaoResilience;
+import com.travelapp.backend.infra.kakao.resilience.KakaoResilienceProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+@DisplayName("KakaoPlaceSearchClient 스텁 서버 테스트")
+class KakaoPlaceSearchClientTest {
+
+    private KakaoStubServer stubServer;
+    private ConnectionProvider connectionProvider;
+    private KakaoClientProperties properties;
+    private KakaoResilienceProperties resilienceProperties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new KakaoStubServer();
+
+        properties = new KakaoClientProperties();
+        properties.setBaseUrl(stubServer.baseUrl());
+        properties.setResponseTimeoutMs(500);
+        resilienceProperties = new KakaoResilienceProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        stubServer.close();
+    }
+
+    private KakaoPlaceSearchClient createClient() {
+        connectionProvider = new KakaoWebClientConfig().kakaoConnectionProvider(properties);
+        return new KakaoPlaceSearchClient(
+            KakaoWebClientConfig.createWebClient(connectionProvider, properties, "test-key"),
+            new KakaoResilience(resilienceProperties)
+        );
+    }
+
+    @Test
+    @DisplayName("스텁 응답을 KakaoPlaceSearchResponse 로 변환한다")
+    void searchPlaces_success() {
+        // given
+        KakaoPlaceSearchClient client = createClient();
+
+        // when
+        KakaoPlaceSearchResponse response = client.searchPlaces("카페", 37.56, 126.97, 1, 15);
+
+        // then
+        assertThat(response.getDocuments()).hasSize(1);
+        assertThat(response.getDocuments().get(0).getPlace_name()).isEqualTo("스텁 카페");
+        assertThat(stubServer.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃을 넘기면 10초를 기다리지 않고 EXTERNAL_API_TIMEOUT 으로 실패한다")
+    void searchPlaces_slowUpstream_timesOut() {
+        // given
+        stubServer.delay(3000);
+        KakaoPlaceSearchClient client = createClient();
+
+        // when & then - 스텁이 응답하기 전에 타임아웃으로 실패
+        assertThatThrownBy(() -> client.searchPlaces("카페", 37.56, 126.97, 1, 15))
+            .isInstanceOf(ExternalApiException.class)
+            .extracting(e -> ((ExternalApiException) e).getErrorCode())
+            .isEqualTo(ErrorCode.EXTERNAL_API_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("느린 응답을 기다리는 동안 호출 스레드를 점유하지 않아 요청들이 동시에 진행된다")
+    void searchPlacesAsync_doesNotBlockCaller() throws Exception {
+        // given - 스텁은 release 가 열릴 때까지 응답을 보류
+        CountDownLatch release = new CountDownLatch(1);
+        stubServer.hold(release);
+        properties.setResponseTimeoutMs(5000);
+        KakaoPlaceSearchClient client = createClient();
+        int requests = 20;
+
+        // when - 단일 스레드에서 20개의 요청을 모두 발행
+        List<CompletableFuture<KakaoPlaceSearchResponse>> futures = IntStream.range(0, requests)
+            .mapToObj(i -> client.searchPlacesAsync("카페" + i, 37.56, 126.97, 1, 15).toFuture())
+            .toList();
+
+        // then - 응답을 기다리지 않고 발행이 끝나며, 모든 요청이 동시에 스텁에 도착
+        assertThat(futures).noneMatch(CompletableFuture::isDone);
+        assertThat(stubServer.awaitRequests(requests, 5000)).isTrue();
+
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(futures).allSatisfy(f -> assertThat(f.join().getDocuments()).hasSize(1));
+        assertThat(stubServer.requestCount()).isEqualTo(requests);
+    }
+
+    @Test
+    @DisplayName("커넥션 획득 대기열이 가득 차면 대기하지 않고 즉시 실패한다")
+    void searchPlacesAsync_boundedPendingQueue() {
+        // given
+        stubServer.delay(500);
+        properties.setResponseTimeoutMs(5000);
+        properties.setMaxConnections(2);
+        properties.setPendingAcquireMaxCount(2);
+        properties.setPendingAcquireTimeoutMs(5000);
+        KakaoPlaceSearchClient client = createClient();
+
+        // when
+        List<CompletableFuture<KakaoPlaceSearchResponse>> futures = IntStream.range(0, 10)
+            .mapToObj(i -> client.searchPlacesAsync("카페" + i, 37.56, 126.97, 1, 15).toFuture())
+            .toList();
+        long failed = futures.stream()
+            .map(f -> f.handle((response, e) -> e != null))
+            .map(CompletableFuture::join)
+            .filter(Boolean::booleanValue)
+            .count();
+
+        // then - 커넥션 2 + 대기 2 를 넘는 요청은 거부됨
+        assertThat(failed).isGreaterThanOrEqualTo(6);
+        assertThat(stubServer.requestCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 500개의 같은 검색은 하나의 업스트림 요청을 공유한다")
+    void searchPlacesAsync_coalescesIdenticalConcurrentSearches() throws Exception {
+        // given
+        stubServer.delay(1000);
+        properties.setResponseTimeoutMs(5000);
+        KakaoPlaceSearchClient client = createClient();
+        int callers = 500;
+        int threads = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<CompletableFuture<KakaoPlaceSearchResponse>> futures = new ArrayList<>();
+
+        try {
+            // when - 50개 스레드가 동시에 각각 10개씩, 공백만 다른 같은 검색을 발행
+            List<CompletableFuture<List<CompletableFuture<KakaoPlaceSearchResponse>>>> submitted = IntStream.range(0, threads)
+                .mapToObj(t -> CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(startGate);
+                    return IntStream.range(0, callers / threads)
+                        .mapToObj(i -> client.searchPlacesAsync(i % 2 == 0 ? "카페" : " 카페 ", 37.56, 126.97, 1, 15).toFuture())
+                        .toList();
+                }, executor))
+                .toList();
+            startGate.countDown();
+            submitted.forEach(s -> futures.addAll(s.join()));
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(futures).hasSize(callers);
+        assertThat(futures).allSatisfy(f -> assertThat(f.join().getDocuments()).hasSize(1));
+        assertThat(stubServer.requestCount()).isEqualTo(1);
+        assertThat(client.getCoalescedCount()).isEqualTo(callers - 1);
+        assertThat(client.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 병합 키의 검색은 좌표가 조금 달라도 하나의 업스트림 요청을 공유한다")
+    void searchPlacesAsync_coalescesByRequestKey() {
+        // given
+        stubServer.delay(200);
+        KakaoPlaceSearchClient client = createClient();
+
+        // when - 같은 격자 셀 안의 서로 다른 좌표
+        CompletableFuture<KakaoPlaceSearchResponse> first =
+            client.searchPlacesAsync("카페:3756:12697:1:15", "카페", 37.5612, 126.9731, 1, 15).toFuture();
+        CompletableFuture<KakaoPlaceSearchResponse> second =
+            client.searchPlacesAsync("카페:3756:12697:1:15", "카페", 37.5655, 126.9779, 1, 15).toFuture();
+
+        // then
+        assertThat(first.join().getDocuments()).hasSize(1);
+        assertThat(second.join()).isSameAs(first.join());
+        assertThat(stubServer.requestCount()).isEqualTo(1);
+        assertThat(client.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 끝나면 이후 같은 검색은 새 업스트림 요청을 보낸다")
+    void searchPlaces_afterCompletion_sendsNewRequest() {
+        // given
+        KakaoPlaceSearchClient client = createClient();
+
+        // when
+        client.searchPlaces("카페", 37.56, 126.97, 1, 15);
+        client.searchPlaces("카페", 37.56, 126.97, 1, 15);
+
+        // then
+        assertThat(stubServer.requestCount()).isEqualTo(2);
+        assertThat(client.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("업스트림 오류가 누적되면 서킷이 열려 이후 호출은 업스트림에 보내지 않고 즉시 실패한다")
+    void searchPlaces_failingUpstream_opensCircuit() {
+        // given
+        stubServer.respond(500, "{}");
+        resilienceProperties.setMinimumCalls(5);
+        resilienceProperties.setWindowSize(5);
+        KakaoPlaceSearchClient client = createClient();
+
+        for (int i = 0; i < 5; i++) {
+            String keyword = "카페" + i;
+            assertThatThrownBy(() -> client.searchPlaces(keyword, 37.56, 126.97, 1, 15))
+                .isInstanceOf(ExternalApiException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> client.searchPlaces("카페", 37.56, 126.97, 1, 15))
+            .isInstanceOf(ExternalApiException.class)
+            .extracting(e -> ((ExternalApiException) e).getErrorCode())
+            .isEqualTo(ErrorCode.KAKAO_API_UNAVAILABLE);
+
+        assertThat(stubServer.requestCount()).isEqualTo(5);
+        assertThat(client.getResilienceStats().getCircuitState()).isEqualTo("OPEN");
+        assertThat(client.getResilienceStats().getRejectedByCircuitBreaker()).isEqualTo(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.travelapp.backend.infra.kakao;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카카오 로컬 API 를 흉내 내는 테스트용 스텁 서버
+ * 응답 지연/보류와 수신 요청 수를 제어/확인할 수 있음
+ */
+class KakaoStubServer implements AutoCloseable {
+
+    static final String DEFAULT_BODY = """
+        {"documents":[{"id":"1","place_name":"스텁 카페","x":"126.97","y":"37.56"}],
+         "meta":{"total_count":1,"pageable_count":1,"is_end":true}}
+        """;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(64);
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile long delayMillis;
+    private volatile CountDownLatch hold;
+    private volatile int status = 200;
+    private volatile String body = DEFAULT_BODY;
+
+    KakaoStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/local/search/keyword.json", exchange -> {
+            synchronized (requestCount) {
+                requestCount.incrementAndGet();
+                requestCount.notifyAll();
+            }
+            try {
+                CountDownLatch currentHold = hold;
+                if (currentHold != null) {
+                    currentHold.await(10, TimeUnit.SECONDS);
+                }
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ignored) {
+                // 클라이언트가 타임아웃으로 연결을 끊은 경우
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    KakaoStubServer delay(long millis) {
+        this.delayMillis = millis;
+        return this;
+    }
+
+    /**
+     * release 가 열릴 때까지 응답을 보류 (최대 10초)
+     */
+    KakaoStubServer hold(CountDownLatch release) {
+        this.hold = release;
+        return this;
+    }
+
+    KakaoStubServer respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+        return this;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * 요청이 count 개 이상 들어올 때까지 대기
+     */
+    boolean awaitRequests(int count, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (requestCount) {
+            while (requestCount.get() < count) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                requestCount.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.travelapp.backend.infra.kakao.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.travelapp.backend.global.exception.ExternalApiException;
+import com.travelapp.backend.global.exception.dto.ErrorCode;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@DisplayName("KakaoResilience 테스트")
+class KakaoResilienceTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN, 대기 후 HALF_OPEN 시험 호출이 모두 성공하면 CLOSED")
+    void circuitBreaker_stateTransitions() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 0.5, 1000, 2, nanoTime::get);
+
+        // when - 4건 중 2건 실패 (50%)
+        recordCall(circuitBreaker, true);
+        recordCall(circuitBreaker, false);
+        recordCall(circuitBreaker, true);
+        recordCall(circuitBreaker, false);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        // when - OPEN 유지 시간 경과
+        nanoTime.addAndGet(1_000_000_000L);
+
+        // then - 시험 호출 2건만 허용
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getTransitions())
+            .containsEntry(CircuitBreaker.State.OPEN, 1L)
+            .containsEntry(CircuitBreaker.State.HALF_OPEN, 1L)
+            .containsEntry(CircuitBreaker.State.CLOSED, 1L);
+        assertThat(circuitBreaker.getRejectedCalls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void circuitBreaker_halfOpenFailure() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 2, 0.5, 1000, 1, nanoTime::get);
+        recordCall(circuitBreaker, false);
+        recordCall(circuitBreaker, false);
+        nanoTime.addAndGet(1_000_000_000L);
+
+        // when
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("벌크헤드 한도를 넘는 동시 호출은 업스트림에 보내지 않고 즉시 거부한다")
+    void execute_bulkheadFull_rejects() {
+        // given
+        KakaoResilience resilience = new KakaoResilience(
+            new CircuitBreaker(10, 10, 0.5, 1000, 1, nanoTime::get),
+            new AdaptiveRateLimiter(100, 1, 100, nanoTime::get),
+            new Bulkhead(2)
+        );
+        Disposable first = resilience.execute(Mono.never()).subscribe();
+        Disposable second = resilience.execute(Mono.never()).subscribe();
+
+        // when
+        Throwable rejected = resilience.execute(Mono.just("ok")).materialize().block().getThrowable();
+
+        // then
+        assertThat(rejected).isInstanceOf(ExternalApiException.class);
+        assertThat(((ExternalApiException) rejected).getErrorCode()).isEqualTo(ErrorCode.KAKAO_API_UNAVAILABLE);
+        assertThat(resilience.getStats().getRejectedByBulkhead()).isEqualTo(1);
+
+        // 취소되면 허용 수가 반환됨
+        first.dispose();
+        second.dispose();
+        assertThat(resilience.getStats().getAvailableBulkheadPermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰이 소진되면 거부하고, 시간이 지나면 설정된 속도로 다시 채워진다")
+    void rateLimiter_tokenBucket() {
+        // given - 초당 2개, 최대 2개
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(2, 1, 2, nanoTime::get);
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+
+        nanoTime.addAndGet(500_000_000L);
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.getRejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도 초과(429) 응답을 받으면 속도를 절반으로 줄이고, 성공할수록 회복한다")
+    void rateLimiter_adaptsToThrottling() {
+        // given
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(20, 2, 20, nanoTime::get);
+
+        // when
+        rateLimiter.onThrottled();
+        rateLimiter.onThrottled();
+
+        // then
+        assertThat(rateLimiter.getRatePerSecond()).isEqualTo(5.0);
+
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onSuccess();
+        }
+        assertThat(rateLimiter.getRatePerSecond()).isEqualTo(20.0);
+    }
+
+    private void recordCall(CircuitBreaker circuitBreaker, boolean success) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        if (success) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+
+}
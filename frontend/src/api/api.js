@@ -339,9 +339,11 @@ const tripShareApi = {
     return authApi.get('/trip-shares/my-shares');
   },
 
-  // 공개 공유 여행 목록 조회 (페이징, 인증 불필요)
-  getPublicSharedTrips: (page = 0, size = 20, sortBy = 'latest') => {
-    return api.get(`/trip-shares/public?page=${page}&size=${size}&sortBy=${sortBy}`);
+  // 공개 공유 여행 목록 조회 (커서 페이징, 인증 불필요)
+  getPublicSharedTrips: (cursor = null, size = 20, sortBy = 'latest') => {
+    const params = { size, sortBy };
+    if (cursor) params.cursor = cursor;
+    return api.get('/trip-shares/public', { params });
   },
 
   // 여행 공유 설정 수정